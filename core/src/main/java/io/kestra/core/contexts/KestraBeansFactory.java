@@ -4,6 +4,7 @@ import io.kestra.core.exceptions.KestraRuntimeException;
 import io.kestra.core.plugins.DefaultPluginRegistry;
 import io.kestra.core.plugins.PluginCatalogService;
 import io.kestra.core.plugins.PluginRegistry;
+import io.kestra.core.storages.ContentAddressedStorage;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.StorageInterfaceFactory;
 import io.micronaut.context.annotation.Bean;
@@ -38,6 +39,9 @@ public class KestraBeansFactory {
     @Value("${kestra.storage.type}")
     protected Optional<String> storageType;
 
+    @Value("${kestra.storage.deduplication.enabled:false}")
+    protected boolean storageDeduplicationEnabled;
+
     @Singleton
     public PluginCatalogService pluginCatalogService(@Client("api") HttpClient httpClient) {
         return new PluginCatalogService(httpClient, false, true);
@@ -59,7 +63,8 @@ public class KestraBeansFactory {
     @Bean(preDestroy = "close")
     public StorageInterface storageInterface(final StorageInterfaceFactory storageInterfaceFactory) throws IOException {
         String pluginId = getStoragePluginId(storageInterfaceFactory);
-        return storageInterfaceFactory.make(null, pluginId, storageConfig.getStorageConfig(pluginId));
+        StorageInterface storageInterface = storageInterfaceFactory.make(null, pluginId, storageConfig.getStorageConfig(pluginId));
+        return storageDeduplicationEnabled ? new ContentAddressedStorage(storageInterface) : storageInterface;
     }
 
     public String getStoragePluginId(StorageInterfaceFactory storageInterfaceFactory) {
@@ -1,17 +1,23 @@
 package io.kestra.core.encryption;
 
-import com.google.common.primitives.Bytes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import javax.crypto.*;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
-import java.util.Arrays;
 import java.util.Base64;
 
 /**
  * Service for encryption and decryption of secrets.
+ * <p>
+ * An instance holds the parsed key and one {@link Cipher} per thread, use {@link #of(String)} to get a cached instance
+ * for a key. The static methods are kept for compatibility and use the cached instances.
  */
 public class EncryptionService {
     private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
@@ -20,20 +26,50 @@ public class EncryptionService {
     private static final int AUTH_TAG_LENGTH = 128;
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
+    // streams are split in segments, each one encrypted with an IV made of a random prefix and the segment index
+    private static final int STREAM_SEGMENT_SIZE = 64 * 1024;
+    private static final int STREAM_PREFIX_LENGTH = IV_LENGTH - Integer.BYTES;
+    private static final byte STREAM_SEGMENT = 0;
+    private static final byte STREAM_LAST_SEGMENT = 1;
+
+    private static final Cache<String, EncryptionService> INSTANCES = Caffeine.newBuilder()
+        .maximumSize(100)
+        .build();
+
+    private final SecretKey secretKey;
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(EncryptionService::newCipher);
+
+    /**
+     * Creates a service for the provided key, the key must be base64 encoded.
+     *
+     * @throws IllegalArgumentException when the key cannot be BASE64 decoded.
+     */
+    public EncryptionService(String key) {
+        this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(key), KEY_ALGORITHM);
+    }
+
+    /**
+     * Returns a cached service for the provided key, the key must be base64 encoded.
+     *
+     * @throws IllegalArgumentException when the key cannot be BASE64 decoded.
+     */
+    public static EncryptionService of(String key) {
+        return INSTANCES.get(key, EncryptionService::new);
+    }
+
     /**
      * Encrypt a String using the AES/GCM/NoPadding algorithm and the provided key.
      * The key must be base64 encoded.
      * The IV is concatenated at the beginning of the string.
      *
-     * @see #encrypt(String, byte[])
+     * @see #encrypt(String)
      */
     public static String encrypt(String key, String plainText) throws GeneralSecurityException {
         if (plainText == null || plainText.isEmpty()) {
             return plainText;
         }
 
-        byte[] output = encrypt(key, plainText.getBytes());
-        return Base64.getEncoder().encodeToString(output);
+        return of(key).encrypt(plainText);
     }
 
     /**
@@ -41,21 +77,14 @@ public class EncryptionService {
      * The key must be base64 encoded.
      * The IV is concatenated at the beginning of the string.
      *
-     * @see #encrypt(String, String)
+     * @see #encrypt(byte[])
      */
     public static byte[] encrypt(String key, byte[] plainText) throws GeneralSecurityException {
         if (plainText == null) {
             return plainText;
         }
 
-        byte[] keyBytes = Base64.getDecoder().decode(key);
-        SecretKey secretKey = new SecretKeySpec(keyBytes, KEY_ALGORITHM);
-        Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
-        byte[] iv = generateIv();
-        GCMParameterSpec ivParameter= new GCMParameterSpec(AUTH_TAG_LENGTH, iv);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameter);
-        byte[] encrypted = cipher.doFinal(plainText);
-        return Bytes.concat(iv, encrypted);
+        return of(key).encrypt(plainText);
     }
 
     /**
@@ -63,7 +92,7 @@ public class EncryptionService {
      * The key must be base64 encoded.
      * The IV is recovered from the beginning of the string.
      *
-     * @see #decrypt(String, byte[])
+     * @see #decrypt(String)
      * @throws IllegalArgumentException when the cipherText cannot be BASE64 decoded.
      *         This may indicate that the cipherText was not encrypted at first so a caller may use this as an indication as it tries to decode a text that was not encoded.
      */
@@ -72,9 +101,7 @@ public class EncryptionService {
             return cipherText;
         }
 
-        byte[] input = Base64.getDecoder().decode(cipherText);
-        byte[] plainText = decrypt(key, input);
-        return new String(plainText);
+        return of(key).decrypt(cipherText);
     }
 
     /**
@@ -82,21 +109,102 @@ public class EncryptionService {
      * The key must be base64 encoded.
      * The IV is recovered from the beginning of the byte array.
      *
-     * @see #decrypt(String, String)
+     * @see #decrypt(byte[])
      */
     public static byte[] decrypt(String key, byte[] cipherText) throws GeneralSecurityException {
         if (cipherText == null) {
             return cipherText;
         }
 
-        byte[] keyBytes = Base64.getDecoder().decode(key);
-        SecretKey secretKey = new SecretKeySpec(keyBytes, KEY_ALGORITHM);
-        byte[] iv = Arrays.copyOf(cipherText, IV_LENGTH);
-        byte[] encrypted =Arrays.copyOfRange(cipherText, IV_LENGTH, cipherText.length);
-        Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
-        GCMParameterSpec ivParameter= new GCMParameterSpec(AUTH_TAG_LENGTH, iv);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameter);
-        return cipher.doFinal(encrypted);
+        return of(key).decrypt(cipherText);
+    }
+
+    /**
+     * Encrypt a String, the IV is concatenated at the beginning of the base64 encoded result.
+     */
+    public String encrypt(String plainText) throws GeneralSecurityException {
+        if (plainText == null || plainText.isEmpty()) {
+            return plainText;
+        }
+
+        return Base64.getEncoder().encodeToString(encrypt(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Encrypt a byte array, the IV is concatenated at the beginning of the result.
+     */
+    public byte[] encrypt(byte[] plainText) throws GeneralSecurityException {
+        if (plainText == null) {
+            return plainText;
+        }
+
+        Cipher cipher = ciphers.get();
+        byte[] iv = generateIv();
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(AUTH_TAG_LENGTH, iv));
+
+        byte[] output = new byte[IV_LENGTH + cipher.getOutputSize(plainText.length)];
+        System.arraycopy(iv, 0, output, 0, IV_LENGTH);
+        cipher.doFinal(plainText, 0, plainText.length, output, IV_LENGTH);
+        return output;
+    }
+
+    /**
+     * Decrypt a base64 encoded String, the IV is recovered from its beginning.
+     *
+     * @throws IllegalArgumentException when the cipherText cannot be BASE64 decoded.
+     */
+    public String decrypt(String cipherText) throws GeneralSecurityException, IllegalArgumentException {
+        if (cipherText == null || cipherText.isEmpty()) {
+            return cipherText;
+        }
+
+        return new String(decrypt(Base64.getDecoder().decode(cipherText)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decrypt a byte array, the IV is recovered from its beginning.
+     */
+    public byte[] decrypt(byte[] cipherText) throws GeneralSecurityException {
+        if (cipherText == null) {
+            return cipherText;
+        }
+
+        if (cipherText.length < IV_LENGTH) {
+            throw new AEADBadTagException("Cipher text is too short");
+        }
+
+        Cipher cipher = ciphers.get();
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(AUTH_TAG_LENGTH, cipherText, 0, IV_LENGTH));
+        return cipher.doFinal(cipherText, IV_LENGTH, cipherText.length - IV_LENGTH);
+    }
+
+    /**
+     * Returns a stream that encrypts everything written to it into the provided output stream.
+     * <p>
+     * The data is encrypted by segments, so large payloads are never buffered in memory. The result can only be
+     * decrypted with {@link #decrypt(InputStream)}, closing the returned stream writes the last segment and closes the
+     * provided output stream.
+     */
+    public OutputStream encrypt(OutputStream output) throws IOException {
+        byte[] prefix = new byte[STREAM_PREFIX_LENGTH];
+        SECURE_RANDOM.nextBytes(prefix);
+        output.write(prefix);
+
+        return new EncryptingOutputStream(output, prefix);
+    }
+
+    /**
+     * Returns a stream that decrypts a stream encrypted with {@link #encrypt(OutputStream)}.
+     * <p>
+     * Each segment is authenticated before being returned, a truncated stream is detected when reaching its end.
+     */
+    public InputStream decrypt(InputStream input) throws IOException {
+        byte[] prefix = input.readNBytes(STREAM_PREFIX_LENGTH);
+        if (prefix.length != STREAM_PREFIX_LENGTH) {
+            throw new IOException("Invalid encrypted stream, missing header");
+        }
+
+        return new DecryptingInputStream(new DataInputStream(input), prefix);
     }
 
     private static byte[] generateIv() {
@@ -104,4 +212,158 @@ public class EncryptionService {
         SECURE_RANDOM.nextBytes(iv);
         return iv;
     }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(CIPHER_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to create the '" + CIPHER_ALGORITHM + "' cipher", e);
+        }
+    }
+
+    private static GCMParameterSpec segmentIv(byte[] prefix, int index) {
+        return new GCMParameterSpec(AUTH_TAG_LENGTH, ByteBuffer.allocate(IV_LENGTH).put(prefix).putInt(index).array());
+    }
+
+    private class EncryptingOutputStream extends FilterOutputStream {
+        private final Cipher cipher = newCipher();
+        private final byte[] prefix;
+        private final byte[] buffer = new byte[STREAM_SEGMENT_SIZE];
+        private int length;
+        private int index;
+        private boolean closed;
+
+        private EncryptingOutputStream(OutputStream output, byte[] prefix) {
+            super(output);
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                // a full segment is only written once more data comes, so that the last one can always be flagged
+                if (length == buffer.length) {
+                    writeSegment(STREAM_SEGMENT);
+                }
+
+                int copied = Math.min(len, buffer.length - length);
+                System.arraycopy(b, off, buffer, length, copied);
+                length += copied;
+                off += copied;
+                len -= copied;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            try {
+                writeSegment(STREAM_LAST_SEGMENT);
+            } finally {
+                super.close();
+            }
+        }
+
+        private void writeSegment(byte flag) throws IOException {
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, segmentIv(prefix, index++));
+                cipher.updateAAD(new byte[]{flag});
+                byte[] encrypted = cipher.doFinal(buffer, 0, length);
+
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeByte(flag);
+                data.writeInt(encrypted.length);
+                data.write(encrypted);
+                length = 0;
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Unable to encrypt the stream", e);
+            }
+        }
+    }
+
+    private class DecryptingInputStream extends InputStream {
+        private final Cipher cipher = newCipher();
+        private final DataInputStream input;
+        private final byte[] prefix;
+        private byte[] segment = new byte[0];
+        private int position;
+        private int index;
+        private boolean last;
+
+        private DecryptingInputStream(DataInputStream input, byte[] prefix) {
+            this.input = input;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            while (position == segment.length) {
+                if (last) {
+                    return -1;
+                }
+
+                readSegment();
+            }
+
+            int read = Math.min(len, segment.length - position);
+            System.arraycopy(segment, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return segment.length - position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        private void readSegment() throws IOException {
+            try {
+                byte flag = input.readByte();
+                int length = input.readInt();
+                if (length < 0 || length > STREAM_SEGMENT_SIZE + AUTH_TAG_LENGTH / 8) {
+                    throw new IOException("Invalid encrypted stream, bad segment length " + length);
+                }
+
+                byte[] encrypted = input.readNBytes(length);
+                if (encrypted.length != length) {
+                    throw new EOFException();
+                }
+
+                cipher.init(Cipher.DECRYPT_MODE, secretKey, segmentIv(prefix, index++));
+                cipher.updateAAD(new byte[]{flag});
+                segment = cipher.doFinal(encrypted);
+                position = 0;
+                last = flag == STREAM_LAST_SEGMENT;
+            } catch (EOFException e) {
+                throw new IOException("Invalid encrypted stream, it has been truncated", e);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Unable to decrypt the stream", e);
+            }
+        }
+    }
 }
@@ -42,6 +42,7 @@ import org.apache.hc.core5.util.Timeout;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.*;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
@@ -54,6 +55,8 @@ import javax.net.ssl.SSLHandshakeException;
 
 @Slf4j
 public class HttpClient implements Closeable {
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private transient CloseableHttpClient client;
     private final RunContext runContext;
     private final HttpConfiguration configuration;
@@ -250,6 +253,47 @@ public class HttpClient implements Closeable {
         });
     }
 
+    /**
+     * Send a request, streaming the response body into an output stream without buffering it in memory.
+     * <p>
+     * The body is read as decoded by the client, so chunked and compressed responses are handled transparently
+     * and the maximum size applies to the decoded body.
+     *
+     * @param request the request
+     * @param output the output stream to write the body to
+     * @param maxSize the maximum number of bytes of the body, or <code>null</code> for no limit
+     * @return the response with the number of bytes written as body
+     */
+    public HttpResponse<Long> request(HttpRequest request, OutputStream output, @Nullable Long maxSize) throws HttpClientException, IllegalVariableEvaluationException {
+        HttpClientContext httpClientContext = this.clientContext(request);
+
+        return this.request(request, httpClientContext, r -> {
+            long size = 0;
+
+            if (r.getEntity() != null) {
+                try (InputStream input = r.getEntity().getContent()) {
+                    byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                    int read;
+                    while ((read = input.read(buffer)) != -1) {
+                        size += read;
+                        if (maxSize != null && size > maxSize) {
+                            throw new HttpClientResponseException(
+                                "Response body is larger than the maximum size of " + maxSize + " bytes",
+                                HttpResponse.from(r, null, request, httpClientContext)
+                            );
+                        }
+
+                        output.write(buffer, 0, read);
+                    }
+                }
+            }
+
+            output.flush();
+
+            return HttpResponse.from(r, size, request, httpClientContext);
+        });
+    }
+
     /**
      * Send a request and expect a json response
      *
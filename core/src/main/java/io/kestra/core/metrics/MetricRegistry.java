@@ -23,6 +23,10 @@ public class MetricRegistry {
     public static final String METRIC_WORKER_JOB_RUNNING_COUNT_DESCRIPTION = "The number of jobs (tasks or triggers) currently running inside the Worker";
     public static final String METRIC_WORKER_JOB_THREAD_COUNT = "worker.job.thread";
     public static final String METRIC_WORKER_JOB_THREAD_COUNT_DESCRIPTION = "The number of worker threads";
+    public static final String METRIC_WORKER_JOB_CLAIM_DURATION = "worker.job.claim.duration";
+    public static final String METRIC_WORKER_JOB_CLAIM_DURATION_DESCRIPTION = "Duration to claim (mark as running) all the jobs of a queue poll by the Worker";
+    public static final String METRIC_WORKER_JOB_CLAIM_COUNT = "worker.job.claim.count";
+    public static final String METRIC_WORKER_JOB_CLAIM_COUNT_DESCRIPTION = "The total number of jobs (tasks or triggers) claimed by the Worker";
     public static final String METRIC_WORKER_RUNNING_COUNT = "worker.running.count";
     public static final String METRIC_WORKER_RUNNING_COUNT_DESCRIPTION = "The number of tasks currently running inside the Worker";
     public static final String METRIC_WORKER_QUEUED_DURATION = "worker.queued.duration";
@@ -49,6 +53,8 @@ public class MetricRegistry {
     public static final String METRIC_WORKER_TRIGGER_EXECUTION_COUNT_DESCRIPTION = "The total number of triggers evaluated by the Worker";
     public static final String METRIC_WORKER_KILLED_COUNT = "worker.killed.count";
     public static final String METRIC_WORKER_KILLED_COUNT_DESCRIPTION = "The total number of executions killed events received the Executor";
+    public static final String METRIC_WORKER_METRIC_DROPPED_COUNT = "worker.metric.dropped.count";
+    public static final String METRIC_WORKER_METRIC_DROPPED_COUNT_DESCRIPTION = "The total number of task metrics that the Worker failed to send";
 
     public static final String METRIC_EXECUTOR_THREAD_COUNT = "executor.thread.count";
     public static final String METRIC_EXECUTOR_THREAD_COUNT_DESCRIPTION = "The number of executor threads";
@@ -80,6 +86,10 @@ public class MetricRegistry {
     public static final String METRIC_EXECUTOR_EXECUTION_DELAY_ENDED_COUNT_DESCRIPTION = "The total number of execution delays ended (resumed) by the Executor";
     public static final String METRIC_EXECUTOR_WORKER_JOB_RESUBMIT_COUNT = "executor.worker.job.resubmit.count";
     public static final String METRIC_EXECUTOR_WORKER_JOB_RESUBMIT_COUNT_DESCRIPTION = "The total number of worker jobs resubmitted to the Worker by the Executor";
+    public static final String METRIC_EXECUTOR_EXECUTION_COALESCED_COUNT = "executor.execution.coalesced.count";
+    public static final String METRIC_EXECUTOR_EXECUTION_COALESCED_COUNT_DESCRIPTION = "The total number of execution messages coalesced with another message of the same execution by the Executor";
+    public static final String METRIC_EXECUTOR_WORKER_TASK_RESULT_COALESCED_COUNT = "executor.worker.task.result.coalesced.count";
+    public static final String METRIC_EXECUTOR_WORKER_TASK_RESULT_COALESCED_COUNT_DESCRIPTION = "The total number of worker task results coalesced with another result of the same execution by the Executor";
     public static final String METRIC_EXECUTOR_EXECUTION_QUEUED_COUNT = "executor.execution.queued.count";
     public static final String METRIC_EXECUTOR_EXECUTION_QUEUED_COUNT_DESCRIPTION = "The total number of executions queued by the Executor";
     public static final String METRIC_EXECUTOR_EXECUTION_POPPED_COUNT = "executor.execution.popped.count";
@@ -127,11 +137,22 @@ public class MetricRegistry {
     public static final String METRIC_QUEUE_BIG_MESSAGE_COUNT_DESCRIPTION = "Total number of big messages";
     public static final String METRIC_QUEUE_PRODUCE_COUNT = "queue.produce.count";
     public static final String METRIC_QUEUE_PRODUCE_COUNT_DESCRIPTION = "Total number of produced messages";
+    public static final String METRIC_QUEUE_ASYNC_DROPPED_COUNT = "queue.async.dropped.count";
+    public static final String METRIC_QUEUE_ASYNC_DROPPED_COUNT_DESCRIPTION = "Total number of messages that failed to be produced asynchronously";
     public static final String METRIC_QUEUE_RECEIVE_DURATION = "queue.receive.duration";
     public static final String METRIC_QUEUE_RECEIVE_DURATION_DESCRIPTION = "Queue duration to receive and consume a batch of messages";
     public static final String METRIC_QUEUE_POLL_SIZE = "queue.poll.size";
     public static final String METRIC_QUEUE_POLL_SIZE_DESCRIPTION = "Size of a poll to the queue (message batch size)";
 
+    public static final String METRIC_KV_SWEEPER_SWEPT_COUNT = "kv.sweeper.swept.count";
+    public static final String METRIC_KV_SWEEPER_SWEPT_COUNT_DESCRIPTION = "Total number of expired KV entries purged by the KV expiration sweeper";
+    public static final String METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT = "kv.sweeper.storage.error.count";
+    public static final String METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT_DESCRIPTION = "Total number of values of purged KV entries the KV expiration sweeper failed to delete from the storage";
+    public static final String METRIC_KV_SWEEPER_DURATION = "kv.sweeper.duration";
+    public static final String METRIC_KV_SWEEPER_DURATION_DESCRIPTION = "Duration of a run of the KV expiration sweeper";
+    public static final String METRIC_KV_SWEEPER_LAG = "kv.sweeper.lag";
+    public static final String METRIC_KV_SWEEPER_LAG_DESCRIPTION = "Time in seconds since the oldest expired KV entry that is not purged yet expired, measured after each run of the KV expiration sweeper";
+
     public static final String TAG_TASK_TYPE = "task_type";
     public static final String TAG_TRIGGER_TYPE = "trigger_type";
     public static final String TAG_FLOW_ID = "flow_id";
@@ -5,5 +5,26 @@ public enum AggregationType {
     MAX,
     MIN,
     SUM,
-    COUNT
+    COUNT,
+    P50(0.5),
+    P90(0.9),
+    P95(0.95),
+    P99(0.99);
+
+    private final Double percentile;
+
+    AggregationType() {
+        this(null);
+    }
+
+    AggregationType(Double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * @return the percentile computed by this aggregation, between 0 and 1, or <code>null</code> if it's not a percentile.
+     */
+    public Double getPercentile() {
+        return percentile;
+    }
 }
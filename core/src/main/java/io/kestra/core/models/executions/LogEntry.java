@@ -64,6 +64,14 @@ public class LogEntry implements DeletedInterface, TenantInterface {
     @Nullable
     ExecutionKind executionKind;
 
+    /**
+     * A monotonic sequence, set when the log is received from the queue, used to order and deduplicate the logs of
+     * an execution and to resume a follow.
+     * It is <code>null</code> for logs that didn't go through the queue.
+     */
+    @Nullable
+    Long sequence;
+
     public static List<Level> findLevelsByMin(Level minLevel) {
         if (minLevel == null) {
             return Arrays.asList(Level.values());
@@ -1,11 +1,16 @@
 package io.kestra.core.models.hierarchies;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.utils.GraphUtils;
 import lombok.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Value
@@ -36,6 +41,61 @@ public class FlowGraph {
             .build();
     }
 
+    /**
+     * Returns a copy of this graph where the task runs and the trigger states are replaced by their latest version.
+     * <p>
+     * The structure of a graph only depends on which task runs exist, not on their state, so a graph can be cached
+     * and this method used to serve it with the current state. Task and trigger nodes are always copied, so the cached
+     * graph is never modified by the caller (for example by {@link #forExecution()}).
+     *
+     * @param taskRuns the latest task runs by id
+     * @param triggers the latest trigger states by trigger node uid
+     */
+    public FlowGraph withState(Map<String, TaskRun> taskRuns, Map<String, Trigger> triggers) {
+        return this.toBuilder()
+            .nodes(this.nodes
+                .stream()
+                .map(node -> withState(node, taskRuns, triggers))
+                .toList()
+            )
+            .clusters(this.clusters
+                .stream()
+                .map(cluster -> cluster.getCluster() instanceof GraphCluster graphCluster && graphCluster.getTaskNode() != null ?
+                    new Cluster(
+                        graphCluster.withTaskNode((AbstractGraphTask) withState(graphCluster.getTaskNode(), taskRuns, triggers)),
+                        cluster.getNodes(),
+                        cluster.getParents(),
+                        cluster.getStart(),
+                        cluster.getEnd()
+                    ) :
+                    cluster
+                )
+                .toList()
+            )
+            .build();
+    }
+
+    private static AbstractGraph withState(AbstractGraph node, Map<String, TaskRun> taskRuns, Map<String, Trigger> triggers) {
+        AbstractGraph copy;
+        if (node instanceof SubflowGraphTask subflowGraphTask) {
+            copy = new SubflowGraphTask(subflowGraphTask.uid, subflowGraphTask.executableTask(), latest(subflowGraphTask.getTaskRun(), taskRuns), subflowGraphTask.getValues(), subflowGraphTask.getRelationType());
+        } else if (node instanceof GraphTask graphTask && graphTask.getTask() instanceof Task task) {
+            copy = new GraphTask(graphTask.uid, task, latest(graphTask.getTaskRun(), taskRuns), graphTask.getValues(), graphTask.getRelationType());
+        } else if (node instanceof GraphTrigger graphTrigger && graphTrigger.getTriggerDeclaration() instanceof AbstractTrigger declaration) {
+            copy = new GraphTrigger(declaration, triggers.getOrDefault(graphTrigger.getUid(), graphTrigger.getTrigger()));
+        } else {
+            return node;
+        }
+
+        copy.uid = node.uid;
+        copy.branchType = node.branchType;
+        return copy;
+    }
+
+    private static TaskRun latest(TaskRun taskRun, Map<String, TaskRun> taskRuns) {
+        return taskRun == null ? null : taskRuns.getOrDefault(taskRun.getId(), taskRun);
+    }
+
     /**
      * This method is used to clean the graph for informations
      * people with only EXECUTION - READ permission should not have access to.
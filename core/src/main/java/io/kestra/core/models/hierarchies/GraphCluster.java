@@ -93,6 +93,17 @@ public class GraphCluster extends AbstractGraph {
         this.addEdge(this.getAfterExecution(), this.getEnd(), new Relation());
     }
 
+    /**
+     * Returns a detached copy of this cluster with another task node, only meant to be serialized as it has no children.
+     */
+    GraphCluster withTaskNode(AbstractGraphTask taskNode) {
+        GraphCluster copy = new GraphCluster(taskNode, this.uid, this.relationType);
+        copy.type = this.type;
+        copy.branchType = this.branchType;
+
+        return copy;
+    }
+
     public void addNode(AbstractGraph node) {
         this.addNode(node, true);
     }
@@ -13,11 +13,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.annotation.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.function.Function;
@@ -101,16 +99,14 @@ public class Data {
             if (URIFetcher.supports(renderedString)) {
                 var uri = URIFetcher.of(runContext.render(str));
                 try {
-                    var reader = new BufferedReader(new InputStreamReader(uri.fetch(runContext)), FileSerde.BUFFER_SIZE);
-                    return FileSerde.readAll(reader, clazz)
-                        .publishOn(Schedulers.boundedElastic())
-                        .doFinally(signalType -> {
-                            try {
-                                reader.close();
-                            } catch (IOException e) {
-                                throw new UncheckedIOException(e);
-                            }
-                        });
+                    // items are decoded ahead of the consumer, and the input stream is closed once read or cancelled
+                    var input = new BufferedInputStream(uri.fetch(runContext), FileSerde.BUFFER_SIZE);
+                    try {
+                        return FileSerde.readAllPrefetched(input, clazz);
+                    } catch (IOException e) {
+                        input.close();
+                        throw e;
+                    }
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
                 }
@@ -12,19 +12,20 @@ import com.google.common.annotations.VisibleForTesting;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextProperty;
+import io.kestra.core.runners.VariableRenderer;
 import io.kestra.core.serializers.JacksonMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.NoArgsConstructor;
 
 import java.io.IOException;
 import java.io.Serial;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
@@ -35,8 +36,6 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
  */
 @JsonDeserialize(using = Property.PropertyDeserializer.class)
 @JsonSerialize(using = Property.PropertySerializer.class)
-@Builder
-@AllArgsConstructor(access = AccessLevel.PACKAGE)
 @Schema(
     oneOf = {
         Object.class,
@@ -52,8 +51,14 @@ public class Property<T> {
         .configure(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS, false);
 
     private final boolean skipCache;
-    private String expression;
-    private T value;
+    private final String expression;
+    private final Kind kind;
+    // the value of a property built with ofValue(), it is never rendered
+    private final T value;
+
+    // the last rendered value, it's only reused for the same run context without additional variables, as a property can
+    // be shared by concurrent runs (or rendered with different variables in a loop)
+    private final AtomicReference<Rendered<T>> rendered = new AtomicReference<>();
 
     /**
      * @deprecated use {@link #ofExpression(String)} instead.
@@ -65,8 +70,15 @@ public class Property<T> {
     }
 
     private Property(String expression, boolean skipCache) {
-        this.expression = expression;
+        this(skipCache, expression, null);
+    }
+
+    @Builder
+    Property(boolean skipCache, String expression, T value) {
         this.skipCache = skipCache;
+        this.expression = expression;
+        this.kind = Kind.of(expression);
+        this.value = value;
     }
 
     /**
@@ -75,9 +87,12 @@ public class Property<T> {
     @VisibleForTesting
     @Deprecated
     public Property(Map<?, ?> map) {
+        this(false, writeValueAsString(map), null);
+    }
+
+    private static String writeValueAsString(Map<?, ?> map) {
         try {
-            expression = MAPPER.writeValueAsString(map);
-            this.skipCache = false;
+            return MAPPER.writeValueAsString(map);
         } catch (JsonProcessingException e) {
             throw new IllegalArgumentException(e);
         }
@@ -97,6 +112,14 @@ public class Property<T> {
         return new Property<>(expression, true);
     }
 
+    /**
+     * Returns a property holding a rendered value, so the value can be validated against the constraints of the property it
+     * was rendered from. Unlike {@link #ofValue(Object)}, the value is not serialized.
+     */
+    public static <V> Property<V> ofRendered(V value) {
+        return new Property<>(false, null, value);
+    }
+
     /**
      * Build a new Property object with a value already set.<br>
      * <p>
@@ -126,9 +149,7 @@ public class Property<T> {
             }
         }
 
-        Property<V> p = new Property<>(expression);
-        p.value = value;
-        return p;
+        return new Property<>(false, expression, value);
     }
 
     /**
@@ -173,12 +194,7 @@ public class Property<T> {
      * @see RunContextProperty#as(Class, Map)
      */
     public static <T> T as(Property<T> property, PropertyContext context, Class<T> clazz, Map<String, Object> variables) throws IllegalVariableEvaluationException {
-        if (property.skipCache || property.value == null) {
-            String rendered = context.render(property.expression, variables);
-            property.value = deserialize(rendered, clazz);
-        }
-
-        return property.value;
+        return property.render(context, variables, clazz, () -> deserialize(context.render(property.expression, variables), clazz));
     }
 
     private static <T> T deserialize(Object rendered, Class<T> clazz) throws IllegalVariableEvaluationException {
@@ -233,18 +249,17 @@ public class Property<T> {
      */
     @SuppressWarnings("unchecked")
     public static <T, I> T asList(Property<T> property, PropertyContext context, Class<I> itemClazz, Map<String, Object> variables) throws IllegalVariableEvaluationException {
-        if (property.skipCache || property.value == null) {
+        return property.render(context, variables, List.of(List.class, itemClazz), () -> {
             JavaType type = MAPPER.getTypeFactory().constructCollectionLikeType(List.class, itemClazz);
-            String trimmedExpression = property.expression.trim();
             // We need to detect if the expression is already a list or if it's a pebble expression (for eg. referencing a variable containing a list).
             // Doing that allows us to, if it's an expression, first render then read it as a list.
-            if (trimmedExpression.startsWith("{{") && trimmedExpression.endsWith("}}")) {
-                property.value = deserialize(context.render(property.expression, variables), type);
+            if (property.kind == Kind.EXPRESSION) {
+                return deserialize(context.render(property.expression, variables), type);
             }
             // Otherwise, if it's already a list, we read it as a list first then render it from run context which handle list rendering by rendering each item of the list
             else {
                 List<?> asRawList = deserialize(property.expression, List.class);
-                property.value = (T) asRawList.stream()
+                return (T) asRawList.stream()
                     .map(throwFunction(item -> {
                         Object rendered = null;
                         if (item instanceof String str) {
@@ -261,9 +276,7 @@ public class Property<T> {
                     }))
                     .toList();
             }
-        }
-
-        return property.value;
+        });
     }
 
     /**
@@ -280,34 +293,78 @@ public class Property<T> {
     /**
      * Render a property with additional variables, then convert it as a map of target types.<br>
      * <p>
-     * This method is safe to be used as many times as you want as the rendering and conversion will be cached.
-     * Warning, due to the caching mechanism, this method is not thread-safe.
+     * This method is safe to be used as many times as you want as the rendering and conversion will be cached
+     * for the same run context and variables.
      *
      * @see RunContextProperty#asMap(Class, Class, Map)
      */
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static <T, K, V> T asMap(Property<T> property, RunContext runContext, Class<K> keyClass, Class<V> valueClass, Map<String, Object> variables) throws IllegalVariableEvaluationException {
-        if (property.skipCache || property.value == null) {
+        return property.render(runContext, variables, List.of(Map.class, keyClass, valueClass), () -> {
             JavaType targetMapType = MAPPER.getTypeFactory().constructMapType(Map.class, keyClass, valueClass);
 
             try {
-                String trimmedExpression = property.expression.trim();
                 // We need to detect if the expression is already a map or if it's a pebble expression (for eg. referencing a variable containing a map).
                 // Doing that allows us to, if it's an expression, first render then read it as a map.
-                if (trimmedExpression.startsWith("{{") && trimmedExpression.endsWith("}}")) {
-                    property.value = deserialize(runContext.render(property.expression, variables), targetMapType);
+                if (property.kind == Kind.EXPRESSION) {
+                    return deserialize(runContext.render(property.expression, variables), targetMapType);
                 }
                 // Otherwise if it's already a map we read it as a map first then render it from run context which handle map rendering by rendering each entry of the map (otherwise it will fail with nested expressions in values for eg.)
                 else {
                     Map asRawMap = MAPPER.readValue(property.expression, Map.class);
-                    property.value = deserialize(runContext.render(asRawMap, variables), targetMapType);
+                    return deserialize(runContext.render(asRawMap, variables), targetMapType);
                 }
             } catch (JsonProcessingException e) {
                 throw new IllegalVariableEvaluationException(e);
             }
+        });
+    }
+
+    /**
+     * Returns the value of the property, rendering it only if needed.
+     * <p>
+     * A literal (without any Pebble expression) is converted once and reused everywhere, as an unmodifiable value;
+     * otherwise, the rendered value is only reused for the same run context without additional variables, so a value
+     * rendered for a run never leaks in another one.
+     */
+    private T render(Object context, Map<String, Object> variables, Object target, Renderer<T> renderer) throws IllegalVariableEvaluationException {
+        if (this.value != null && !this.skipCache) {
+            return this.value;
+        }
+
+        // additional variables usually change on each call (in a loop for ex.) and can be mutated in place by the caller
+        if (this.skipCache || (this.kind != Kind.LITERAL && variables != null && !variables.isEmpty())) {
+            return renderer.render();
+        }
+
+        Rendered<T> last = this.rendered.get();
+        if (last != null && last.matches(context, target)) {
+            return last.value();
+        }
+
+        T result = renderer.render();
+        if (this.kind == Kind.LITERAL) {
+            // shared by all the runs, so none of them can alter it
+            result = unmodifiable(result);
+            this.rendered.set(new Rendered<>(null, target, result));
+        } else {
+            this.rendered.set(new Rendered<>(new WeakReference<>(context), target, result));
         }
 
-        return property.value;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmodifiable(T value) {
+        if (value instanceof List<?> list) {
+            return (T) Collections.unmodifiableList(list);
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            return (T) Collections.unmodifiableMap(map);
+        }
+
+        return value;
     }
 
     @Override
@@ -327,9 +384,49 @@ public class Property<T> {
         return Objects.hash(expression);
     }
 
-    // used only by the value extractor
+    // used only by the value extractor, so a rendered value can be validated
     T getValue() {
-        return value;
+        if (value != null) {
+            return value;
+        }
+
+        Rendered<T> last = this.rendered.get();
+        return last == null ? null : last.value();
+    }
+
+    enum Kind {
+        // no Pebble expression, so rendering it is a no-op
+        LITERAL,
+        // a single expression, like '{{ inputs.list }}'
+        EXPRESSION,
+        TEMPLATE;
+
+        static Kind of(String expression) {
+            if (expression == null || !VariableRenderer.isTemplate(expression)) {
+                return LITERAL;
+            }
+
+            String trimmed = expression.trim();
+            return trimmed.startsWith("{{") && trimmed.endsWith("}}") ? EXPRESSION : TEMPLATE;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Renderer<T> {
+        T render() throws IllegalVariableEvaluationException;
+    }
+
+    /**
+     * A rendered value with the run context it was rendered with, which is <code>null</code> for a literal.
+     */
+    private record Rendered<T>(WeakReference<Object> context, Object target, T value) {
+        boolean matches(Object context, Object target) {
+            if (!this.target.equals(target)) {
+                return false;
+            }
+
+            return this.context == null || this.context.get() == context;
+        }
     }
 
     static class PropertyDeserializer extends StdDeserializer<Property<?>> {
@@ -15,6 +15,19 @@ public interface QueueInterface<T> extends Closeable, Pauseable {
 
     void emit(String consumerGroup, T message) throws QueueException;
 
+    default void emit(List<T> messages) throws QueueException {
+        emit(null, messages);
+    }
+
+    /**
+     * Emit a list of messages, implementations may send them in a single batch.
+     */
+    default void emit(String consumerGroup, List<T> messages) throws QueueException {
+        for (T message : messages) {
+            emit(consumerGroup, message);
+        }
+    }
+
     default void emitAsync(T message) throws QueueException {
         emitAsync(null, message);
     }
@@ -33,4 +33,18 @@ public class QueueService {
             throw new IllegalArgumentException("Unknown type '" + object.getClass().getName() + "'");
         }
     }
+
+    /**
+     * Attaches the offset of a message in the queue to the message, for the types that keep it.
+     * <p>
+     * The offset of a {@link LogEntry} is used as its sequence.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T withOffset(T object, long offset) {
+        if (object instanceof LogEntry logEntry && logEntry.getSequence() == null) {
+            return (T) logEntry.toBuilder().sequence(offset).build();
+        }
+
+        return object;
+    }
 }
@@ -19,6 +19,12 @@ public class ArrayListTotal<T> extends ArrayList<T> {
 
     private long total;
 
+    /**
+     * The encoded {@link ContinuationToken} to fetch the next page when using keyset pagination,
+     * <code>null</code> if there is no next page or if paginating by offset.
+     */
+    private String continuationToken;
+
     public static <T> ArrayListTotal<T> of(Pageable pageable, List<T> list) {
         int from = (pageable.getNumber() - 1) * pageable.getSize();
         int to = from + pageable.getSize();
@@ -39,10 +45,18 @@ public class ArrayListTotal<T> extends ArrayList<T> {
         this.total = total;
     }
 
+    public ArrayListTotal(List<T> list, long total, String continuationToken) {
+        this(list, total);
+        this.continuationToken = continuationToken;
+    }
+
     public <R> ArrayListTotal<R> map(Function<T, R> map) {
-        return this
+        ArrayListTotal<R> mapped = this
             .stream()
             .map(map)
             .collect(toCollection(() -> new ArrayListTotal<R>(this.total)));
+        mapped.continuationToken = this.continuationToken;
+
+        return mapped;
     }
 }
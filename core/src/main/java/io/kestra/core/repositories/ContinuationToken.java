@@ -0,0 +1,42 @@
+package io.kestra.core.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.kestra.core.serializers.JacksonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * An opaque token used for keyset (seek) pagination: it points to the last item of a page,
+ * so the next page is fetched with <code>WHERE (sort, key) > (last sort, last key)</code> instead of an <code>OFFSET</code>.
+ *
+ * @param sort       the sort column of the page, or <code>null</code> if only sorted by key.
+ * @param descending whether the sort is descending.
+ * @param value      the sort value of the last item of the page, <code>null</code> if only sorted by key or if the value is null.
+ * @param key        the key of the last item of the page.
+ */
+public record ContinuationToken(String sort, boolean descending, Object value, String key) {
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(JacksonMapper.ofJson().writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode the continuation token", e);
+        }
+    }
+
+    public static ContinuationToken decode(String token) {
+        ContinuationToken decoded;
+        try {
+            decoded = JacksonMapper.ofJson().readValue(Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.UTF_8)), ContinuationToken.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid continuation token '" + token + "'", e);
+        }
+
+        if (decoded == null || decoded.key() == null) {
+            throw new IllegalArgumentException("Invalid continuation token '" + token + "'");
+        }
+
+        return decoded;
+    }
+}
@@ -7,6 +7,8 @@ import io.kestra.core.models.dashboards.DataFilterKPI;
 import io.kestra.core.models.dashboards.charts.DataChart;
 import io.kestra.core.models.dashboards.charts.DataChartKPI;
 import io.micronaut.data.model.Pageable;
+import jakarta.validation.ConstraintViolationException;
+import reactor.core.publisher.Flux;
 import jakarta.annotation.Nullable;
 
 import java.io.IOException;
@@ -40,9 +42,22 @@ public interface DashboardRepositoryInterface {
 
     Dashboard save(@Nullable Dashboard previousDashboard, Dashboard dashboard, String source);
 
+    /**
+     * Validates that the charts of a dashboard only use aggregations this repository can compute.
+     *
+     * @throws ConstraintViolationException if a chart uses an unsupported aggregation.
+     */
+    default void validate(Dashboard dashboard) throws ConstraintViolationException {
+    }
+
     Dashboard delete(String tenantId, String id);
 
     <F extends Enum<F>> ArrayListTotal<Map<String, Object>> generate(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) throws IOException;
 
+    /**
+     * Generates the data of a chart as a reactive stream, without pagination and up to <code>maxRows</code> rows.
+     */
+    <F extends Enum<F>> Flux<Map<String, Object>> generateAsync(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, int maxRows) throws IOException;
+
     <F extends Enum<F>> List<Map<String, Object>> generateKPI(String tenantId, DataChartKPI<?, DataFilterKPI<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate) throws IOException;
 }
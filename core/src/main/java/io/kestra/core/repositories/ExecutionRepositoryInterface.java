@@ -60,6 +60,20 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
         @Nullable List<QueryFilter> filters
     );
 
+    /**
+     * Finds a page of executions using keyset pagination.
+     *
+     * @param continuationToken the {@link ContinuationToken} returned with the previous page, <code>null</code> for the first page.
+     * @param withTotal         whether to count all the matching executions, otherwise the total is <code>-1</code>.
+     */
+    ArrayListTotal<Execution> find(
+        Pageable pageable,
+        @Nullable String continuationToken,
+        boolean withTotal,
+        @Nullable String tenantId,
+        @Nullable List<QueryFilter> filters
+    );
+
     default Flux<Execution> find(
         @Nullable String query,
         @Nullable String tenantId,
@@ -91,6 +105,26 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
         boolean allowDeleted
     );
 
+    /**
+     * Finds a page of the executions to purge, deleted ones included, ordered by id.
+     * <p>
+     * Only the fields needed to purge an execution are loaded: id, tenant, namespace, flow, kind, current state and start date.
+     * The returned executions must not be used for anything else.
+     *
+     * @param afterId the id of the last execution of the previous page, <code>null</code> for the first page.
+     * @param size    the maximum number of executions of the page.
+     */
+    List<Execution> findPurgeablePage(
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable String afterId,
+        int size
+    );
+
     Flux<Execution> findAllAsync(@Nullable String tenantId);
 
     Flux<Execution> findAsync(String tenantId, List<QueryFilter> filters);
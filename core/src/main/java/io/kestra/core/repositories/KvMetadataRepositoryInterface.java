@@ -4,8 +4,10 @@ import io.kestra.core.models.FetchVersion;
 import io.kestra.core.models.QueryFilter;
 import io.kestra.core.models.kv.PersistedKvMetadata;
 import io.micronaut.data.model.Pageable;
+import jakarta.annotation.Nullable;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,10 +41,38 @@ public interface KvMetadataRepositoryInterface extends SaveRepositoryInterface<P
         return this.save(persistedKvMetadata.toBuilder().deleted(true).build());
     }
 
+    /**
+     * Save a new version of the kv metadata only if the current last version is the expected one.
+     * The check and the write are atomic: when concurrent writers expect the same version, only one of them succeeds.
+     *
+     * @param kvMetadata the kv metadata to save, its version is computed from the expected one
+     * @param expectedVersion the version of the current last kv metadata, deleted or not, or <code>null</code> if the key never existed
+     * @return the saved kv metadata, or {@link Optional#empty()} if the current version is not the expected one
+     */
+    Optional<PersistedKvMetadata> saveIfVersion(PersistedKvMetadata kvMetadata, @Nullable Integer expectedVersion);
+
     /**
      * Purge (hard delete) a list of persisted kv metadata. If no version is specified, all versions are purged.
      * @param persistedKvsMetadata the list of persisted kv metadata to purge
      * @return the number of purged persisted kv metadata
      */
     Integer purge(List<PersistedKvMetadata> persistedKvsMetadata);
+
+    /**
+     * Purge a batch of keys whose last version expired: the previous versions are hard deleted, the last one is marked as deleted
+     * and kept, so the version numbers of the key keep increasing. Concurrent callers claim different keys, so it can safely run
+     * on several instances.
+     * The values are not removed from the storage, the caller must do it once this method returned so the storage is never
+     * accessed while the keys are locked.
+     *
+     * @param expiredBefore the keys that expired before this date are purged
+     * @param batchSize the maximum number of keys to purge
+     * @return all the versions of the purged keys, as they were before the purge
+     */
+    List<PersistedKvMetadata> purgeExpired(Instant expiredBefore, int batchSize);
+
+    /**
+     * Find the oldest expiration date of the keys that expired before the given date and are not purged yet.
+     */
+    Optional<Instant> findOldestExpirationDate(Instant expiredBefore);
 }
@@ -73,12 +73,83 @@ public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry
 
     ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, Pageable pageable);
 
+    /**
+     * Finds the log entries of an execution with a sequence greater than the given one, ordered by sequence.
+     * <p>
+     * This method will verify the current user's permissions.
+     *
+     * @param tenantId      The tenant's ID.
+     * @param executionId   The execution's ID.
+     * @param minLevel      The minimum log-level.
+     * @param afterSequence The sequence of the last log entry already known.
+     * @param limit         The maximum number of log entries.
+     * @return The list of log entries.
+     * @see LogEntry#getSequence()
+     */
+    List<LogEntry> findByExecutionIdAfterSequence(String tenantId, String executionId, @Nullable Level minLevel, long afterSequence, int limit);
+
+    /**
+     * Finds the log entries of an execution that have no sequence, ordered by timestamp.
+     * These are the log entries indexed before the sequence was introduced.
+     * <p>
+     * This method will verify the current user's permissions.
+     *
+     * @param tenantId    The tenant's ID.
+     * @param executionId The execution's ID.
+     * @param minLevel    The minimum log-level.
+     * @return The list of log entries.
+     */
+    List<LogEntry> findByExecutionIdWithoutSequence(String tenantId, String executionId, @Nullable Level minLevel);
+
+    /**
+     * Finds a page of the log entries of an execution, ordered by timestamp, using keyset pagination.
+     * <p>
+     * Unlike the other <code>findByExecutionId</code> methods, the cost of a page doesn't depend on its position,
+     * so it can be used to go through all the logs of a large execution one page at a time.
+     *
+     * @param tenantId          The tenant's ID.
+     * @param executionId       The execution's ID.
+     * @param minLevel          The minimum log-level.
+     * @param taskRunId         Only the log entries of this task run, if not <code>null</code>.
+     * @param taskIds           Only the log entries of these tasks, if not <code>null</code> nor empty.
+     * @param attempt           Only the log entries of this attempt, if not <code>null</code>.
+     * @param size              The size of the page.
+     * @param continuationToken The continuation token returned with the previous page, <code>null</code> for the first page.
+     * @param withAccessControl Whether the current user's permissions must be verified.
+     * @return The page of log entries, with the continuation token of the next page if any.
+     */
+    ArrayListTotal<LogEntry> findPageByExecutionId(
+        String tenantId,
+        String executionId,
+        @Nullable Level minLevel,
+        @Nullable String taskRunId,
+        @Nullable List<String> taskIds,
+        @Nullable Integer attempt,
+        int size,
+        @Nullable String continuationToken,
+        boolean withAccessControl
+    );
+
     ArrayListTotal<LogEntry> find(
         Pageable pageable,
         @Nullable String tenantId,
         List<QueryFilter> filters
         );
 
+    /**
+     * Finds a page of logs using keyset pagination.
+     *
+     * @param continuationToken the {@link ContinuationToken} returned with the previous page, <code>null</code> for the first page.
+     * @param withTotal         whether to count all the matching logs, otherwise the total is <code>-1</code>.
+     */
+    ArrayListTotal<LogEntry> find(
+        Pageable pageable,
+        @Nullable String continuationToken,
+        boolean withTotal,
+        @Nullable String tenantId,
+        List<QueryFilter> filters
+    );
+
     Flux<LogEntry> findAsync(
         @Nullable String tenantId,
         List<QueryFilter> filters
@@ -4,6 +4,7 @@ import io.kestra.core.models.dashboards.ColumnDescriptor;
 import io.kestra.core.models.dashboards.DataFilter;
 import io.kestra.core.models.dashboards.DataFilterKPI;
 import io.micronaut.data.model.Pageable;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.time.ZonedDateTime;
@@ -20,5 +21,13 @@ public interface QueryBuilderInterface<F extends Enum<F>> {
 
     ArrayListTotal<Map<String, Object>> fetchData(String tenantId, DataFilter<F, ? extends ColumnDescriptor<F>> filter, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) throws IOException;
 
+    /**
+     * Fetches the data without pagination as a reactive stream, up to <code>maxRows</code> rows.
+     * Implementations should override it to avoid loading all the rows in memory.
+     */
+    default Flux<Map<String, Object>> fetchDataAsync(String tenantId, DataFilter<F, ? extends ColumnDescriptor<F>> filter, ZonedDateTime startDate, ZonedDateTime endDate, int maxRows) throws IOException {
+        return Flux.fromIterable(fetchData(tenantId, filter, startDate, endDate, null)).take(maxRows);
+    }
+
     Double fetchValue(String tenantId, DataFilterKPI<F, ? extends ColumnDescriptor<F>> descriptors, ZonedDateTime startDate, ZonedDateTime endDate, boolean numeratorFilter) throws IOException;
 }
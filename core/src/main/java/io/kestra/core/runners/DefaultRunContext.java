@@ -359,6 +359,19 @@ public class DefaultRunContext extends RunContext {
         }
     }
 
+    /**
+     * Validates a value against the constraints of a property of a bean, without reading the property from the bean.
+     */
+    @SuppressWarnings("unchecked")
+    <T> void validate(T bean, String property, Object value) {
+        // It can be null in unit test as init() is not always called there
+        Validator theValidator = validator != null ? validator : applicationContext.getBean(Validator.class);
+        Set<ConstraintViolation<T>> violations = theValidator.validateValue((Class<T>) bean.getClass(), property, value);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
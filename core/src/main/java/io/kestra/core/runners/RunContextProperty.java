@@ -6,7 +6,11 @@ import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.triggers.AbstractTrigger;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -19,6 +23,22 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
  */
 @Slf4j
 public class RunContextProperty<T> {
+    // the property fields of each task or trigger class, to find the name of a property to validate
+    private static final ClassValue<List<Field>> PROPERTY_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Property.class.isAssignableFrom(field.getType()) && !Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        }
+    };
+
     private final Property<T> property;
     private final RunContext runContext;
     private final Task task;
@@ -38,15 +58,46 @@ public class RunContextProperty<T> {
         this.skipCache = skipCache;
     }
 
-    private void validate() {
-        if (task != null) {
-            runContext.validate(task);
-        } else if (trigger != null) {
-            runContext.validate(trigger);
-        } else if (log.isTraceEnabled()) {
-            // this should never happen, but it happens a lot on unit test
-            log.trace("Unable to do validation: no task or trigger found");
+    /**
+     * Validates the rendered value against the constraints of the property, not the value cached on the property
+     * as it can be rendered concurrently by another run, or not cached at all when rendered with additional variables.
+     */
+    private void validate(Object rendered) {
+        // a missing property is checked when the flow is validated
+        if (this.property == null) {
+            return;
+        }
+
+        Object bean = task != null ? task : trigger;
+        if (bean == null) {
+            if (log.isTraceEnabled()) {
+                // this should never happen, but it happens a lot on unit test
+                log.trace("Unable to do validation: no task or trigger found");
+            }
+            return;
+        }
+
+        Optional<String> name = propertyName(bean);
+        if (name.isPresent() && runContext instanceof DefaultRunContext defaultRunContext) {
+            defaultRunContext.validate(bean, name.get(), Property.ofRendered(rendered));
+        } else {
+            // a property of a nested object, only the whole bean can be validated
+            runContext.validate(bean);
+        }
+    }
+
+    private Optional<String> propertyName(Object bean) {
+        for (Field field : PROPERTY_FIELDS.get(bean.getClass())) {
+            try {
+                if (field.get(bean) == this.property) {
+                    return Optional.of(field.getName());
+                }
+            } catch (IllegalAccessException e) {
+                // not accessible, so it can't be this property
+            }
         }
+
+        return Optional.empty();
     }
     
     /**
@@ -67,14 +118,14 @@ public class RunContextProperty<T> {
      *
      * Validation will only occur if the runContext has been created with a Task or an AbstractTrigger.<br>
      *
-     * This method is safe to be used as many times as you want as the rendering and conversion will be cached.
-     * Warning, due to the caching mechanism, this method is not thread-safe.
+     * This method is safe to be used as many times as you want as the rendering and conversion will be cached
+     * for the same run context.
      */
     public Optional<T> as(Class<T> clazz) throws IllegalVariableEvaluationException {
         var as = Optional.ofNullable(getProperty())
             .map(throwFunction(prop -> Property.as(prop, this.runContext, clazz)));
 
-        validate();
+        validate(as.orElse(null));
         return as;
     }
     
@@ -83,14 +134,13 @@ public class RunContextProperty<T> {
      *
      * Validation will only occur if the runContext has been created with a Task or an AbstractTrigger.<br>
      *
-     * This method is safe to be used as many times as you want as the rendering and conversion will be cached.
-     * Warning, due to the caching mechanism, this method is not thread-safe.
+     * The property is rendered on each call, as the additional variables usually change between calls.
      */
     public Optional<T> as(Class<T> clazz, Map<String, Object> variables) throws IllegalVariableEvaluationException {
         var as = Optional.ofNullable(getProperty())
             .map(throwFunction(prop -> Property.as(prop, this.runContext, clazz, variables)));
 
-        validate();
+        validate(as.orElse(null));
         return as;
     }
 
@@ -100,8 +150,8 @@ public class RunContextProperty<T> {
      *
      * Validation will only occur if the runContext has been created with a Task or an AbstractTrigger.<br>
      *
-     * This method is safe to be used as many times as you want as the rendering and conversion will be cached.
-     * Warning, due to the caching mechanism, this method is not thread-safe.
+     * This method is safe to be used as many times as you want as the rendering and conversion will be cached
+     * for the same run context.
      */
     @SuppressWarnings("unchecked")
     public <I> T asList(Class<I> itemClazz) throws IllegalVariableEvaluationException {
@@ -109,7 +159,7 @@ public class RunContextProperty<T> {
             .map(throwFunction(prop -> Property.asList(prop, this.runContext, itemClazz)))
             .orElse((T) Collections.emptyList());
 
-        validate();
+        validate(as);
         return as;
     }
 
@@ -119,8 +169,7 @@ public class RunContextProperty<T> {
      *
      * Validation will only occur if the runContext has been created with a Task or an AbstractTrigger.<br>
      *
-     * This method is safe to be used as many times as you want as the rendering and conversion will be cached.
-     * Warning, due to the caching mechanism, this method is not thread-safe.
+     * The property is rendered on each call, as the additional variables usually change between calls.
      */
     @SuppressWarnings("unchecked")
     public <I> T asList(Class<I> itemClazz, Map<String, Object> variables) throws IllegalVariableEvaluationException {
@@ -128,7 +177,7 @@ public class RunContextProperty<T> {
             .map(throwFunction(prop -> Property.asList(prop, this.runContext, itemClazz, variables)))
             .orElse((T) Collections.emptyList());
 
-        validate();
+        validate(as);
         return as;
     }
 
@@ -138,8 +187,8 @@ public class RunContextProperty<T> {
      *
      * Validation will only occur if the runContext has been created with a Task or an AbstractTrigger.<br>
      *
-     * This method is safe to be used as many times as you want as the rendering and conversion will be cached.
-     * Warning, due to the caching mechanism, this method is not thread-safe.
+     * This method is safe to be used as many times as you want as the rendering and conversion will be cached
+     * for the same run context.
      */
     @SuppressWarnings("unchecked")
     public <K,V> T asMap(Class<K> keyClass, Class<V> valueClass) throws IllegalVariableEvaluationException {
@@ -147,7 +196,7 @@ public class RunContextProperty<T> {
             .map(throwFunction(prop -> Property.asMap(prop, this.runContext, keyClass, valueClass)))
             .orElse((T) Collections.emptyMap());
 
-        validate();
+        validate(as);
         return as;
     }
 
@@ -157,8 +206,7 @@ public class RunContextProperty<T> {
      *
      * Validation will only occur if the runContext has been created with a Task or an AbstractTrigger.<br>
      *
-     * This method is safe to be used as many times as you want as the rendering and conversion will be cached.
-     * Warning, due to the caching mechanism, this method is not thread-safe.
+     * The property is rendered on each call, as the additional variables usually change between calls.
      */
     @SuppressWarnings("unchecked")
     public <K,V> T asMap(Class<K> keyClass, Class<V> valueClass, Map<String, Object> variables) throws IllegalVariableEvaluationException {
@@ -166,7 +214,7 @@ public class RunContextProperty<T> {
             .map(throwFunction(prop -> Property.asMap(prop, this.runContext, keyClass, valueClass, variables)))
             .orElse((T) Collections.emptyMap());
 
-        validate();
+        validate(as);
         return as;
     }
     
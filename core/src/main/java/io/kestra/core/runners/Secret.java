@@ -13,17 +13,17 @@ import java.util.function.Supplier;
 
 final class Secret {
 
-    private final Optional<String> secretKey;
+    private final Optional<EncryptionService> encryptionService;
     private final  Supplier<Logger> logger;
 
     Secret(final Optional<String> secretKey, final Supplier<Logger> logger) {
-        this.secretKey = Objects.requireNonNull(secretKey, "secretKey cannot be null");
+        this.encryptionService = Objects.requireNonNull(secretKey, "secretKey cannot be null").map(EncryptionService::of);
         this.logger = Objects.requireNonNull(logger, "logger cannot be null");
     }
 
     String decrypt(final String encrypted) throws GeneralSecurityException {
-        if (secretKey.isPresent()) {
-            return EncryptionService.decrypt(secretKey.get(), encrypted);
+        if (encryptionService.isPresent()) {
+            return encryptionService.get().decrypt(encrypted);
         } else {
             logger.get().warn("Unable to decrypt the output as encryption is not configured");
             return encrypted;
@@ -31,8 +31,8 @@ final class Secret {
     }
 
     String encrypt(final String plaintext) throws GeneralSecurityException {
-        if (secretKey.isPresent()) {
-            return EncryptionService.encrypt(secretKey.get(), plaintext);
+        if (encryptionService.isPresent()) {
+            return encryptionService.get().encrypt(plaintext);
         } else {
             logger.get().warn("Unable to encrypt the output as encryption is not configured");
             return plaintext;
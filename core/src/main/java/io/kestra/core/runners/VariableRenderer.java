@@ -8,6 +8,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.pebbletemplates.pebble.PebbleEngine;
 import io.pebbletemplates.pebble.error.AttributeNotFoundException;
 import io.pebbletemplates.pebble.error.PebbleException;
+import io.pebbletemplates.pebble.extension.writer.SpecializedWriter;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -32,8 +33,12 @@ public class VariableRenderer {
     }
     
     public VariableRenderer(PebbleEngineFactory pebbleEngineFactory, @Nullable VariableConfiguration variableConfiguration) {
+        this(pebbleEngineFactory.create(), variableConfiguration);
+    }
+
+    public VariableRenderer(PebbleEngine pebbleEngine, @Nullable VariableConfiguration variableConfiguration) {
         this.variableConfiguration = variableConfiguration != null ? variableConfiguration : new VariableConfiguration();
-        this.pebbleEngine = pebbleEngineFactory.create();
+        this.pebbleEngine = pebbleEngine;
     }
     
     public void setPebbleEngine(final PebbleEngine pebbleEngine) {
@@ -69,7 +74,7 @@ public class VariableRenderer {
             return null;
         }
 
-        if (inline instanceof String inlineStr && inlineStr.indexOf('{') == -1) {
+        if (inline instanceof String inlineStr && !isTemplate(inlineStr)) {
             // it's not a Pebble template so we short-circuit rendering
             return inline;
         }
@@ -78,7 +83,7 @@ public class VariableRenderer {
             ? renderRecursively(inline, variables, stringify)
             : renderOnce(inline, variables, stringify);
 
-        if (render instanceof String renderStr) {
+        if (render instanceof String renderStr && renderStr.contains("{%")) {
             return RAW_PATTERN.matcher(renderStr).replaceAll("$2");
         }
 
@@ -86,9 +91,24 @@ public class VariableRenderer {
     }
 
     public Object renderOnce(Object inline, Map<String, Object> variables, boolean stringify) throws IllegalVariableEvaluationException {
+        if (inline instanceof String inlineStr) {
+            if (!isTemplate(inlineStr)) {
+                return inline;
+            }
+
+            // a single variable path is resolved directly, it is written the same way Pebble would print it
+            VariablePathExpression expression = VariablePathExpression.parse(inlineStr);
+            Optional<Object> value = expression == null ? Optional.empty() : expression.resolve(variables);
+            if (value.isPresent()) {
+                OutputWriter writer = stringify ? new JsonWriter() : new TypedObjectWriter();
+                ((SpecializedWriter) writer).write(value.get());
+                return writer.output();
+            }
+        }
+
         Object result = inline;
         Map<String, String> replacers = null;
-        if (inline instanceof String inlineStr) {
+        if (inline instanceof String inlineStr && inlineStr.contains("{%")) {
             // pre-process raw tags
             Matcher rawMatcher = RAW_PATTERN.matcher(inlineStr);
             replacers = new HashMap<>((int) Math.ceil(rawMatcher.groupCount() / 0.75));
@@ -121,6 +141,13 @@ public class VariableRenderer {
         return result;
     }
 
+    /**
+     * Whether a string contains a Pebble delimiter, otherwise Pebble would output it as is.
+     */
+    public static boolean isTemplate(String inline) {
+        return inline.indexOf('{') != -1 && (inline.contains("{{") || inline.contains("{%") || inline.contains("{#"));
+    }
+
     /**
      * This method can be used in fallback for rendering an input string.
      *
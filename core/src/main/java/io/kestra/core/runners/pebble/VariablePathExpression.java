@@ -0,0 +1,99 @@
+package io.kestra.core.runners.pebble;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A template made only of a variable path, like <code>{{ inputs.foo }}</code> or <code>{{ outputs.task.value }}</code>,
+ * that can be resolved directly against the variables without going through Pebble.
+ * <p>
+ * Only the paths that Pebble would resolve to the same non-null value are handled: each part must exist in a
+ * {@link Map}. In all the other cases (missing variable, null value, attribute of a bean or a list, ...),
+ * {@link #resolve(Map)} returns an empty result and the template must be rendered by Pebble.
+ */
+public final class VariablePathExpression {
+    private static final Set<String> KEYWORDS = Set.of(
+        "true", "false", "null", "none", "and", "or", "not", "is", "in", "contains", "equals"
+    );
+
+    private final String[] path;
+
+    private VariablePathExpression(String[] path) {
+        this.path = path;
+    }
+
+    /**
+     * Parses a template, returns <code>null</code> if it's not a single variable path.
+     */
+    @Nullable
+    public static VariablePathExpression parse(String template) {
+        int length = template.length();
+        if (length < 5 || !template.startsWith("{{") || !template.endsWith("}}")) {
+            return null;
+        }
+
+        int start = 2;
+        int end = length - 2;
+        while (start < end && Character.isWhitespace(template.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(template.charAt(end - 1))) {
+            end--;
+        }
+
+        if (start == end) {
+            return null;
+        }
+
+        List<String> parts = new ArrayList<>(4);
+        int partStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || template.charAt(i) == '.') {
+                if (i == partStart) {
+                    return null;
+                }
+
+                parts.add(template.substring(partStart, i));
+                partStart = i + 1;
+            } else {
+                char c = template.charAt(i);
+                boolean valid = c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (i != partStart && c >= '0' && c <= '9');
+                if (!valid) {
+                    return null;
+                }
+            }
+        }
+
+        // literals, operators and special variables like '_context' are handled by Pebble
+        String root = parts.getFirst();
+        if (KEYWORDS.contains(root) || root.startsWith("_")) {
+            return null;
+        }
+
+        return new VariablePathExpression(parts.toArray(String[]::new));
+    }
+
+    /**
+     * Resolves the path against the variables, returns an empty result if Pebble must be used instead.
+     */
+    public Optional<Object> resolve(Map<String, Object> variables) {
+        Object current = variables;
+        for (String part : path) {
+            if (!(current instanceof Map<?, ?> map) || !map.containsKey(part)) {
+                return Optional.empty();
+            }
+
+            current = map.get(part);
+            if (current == null) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(current);
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Objects;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.*;
 import java.util.function.Consumer;
@@ -23,7 +24,13 @@ public final class FileSerde {
      */
     public static final int BUFFER_SIZE = 32 * 1024;
 
+    /**
+     * Number of values decoded ahead of their consumer by the {@code readAllPrefetched} methods.
+     */
+    public static final int PREFETCH = 1024;
+
     private static final ObjectMapper DEFAULT_OBJECT_MAPPER = JacksonMapper.ofIon();
+    private static final ObjectMapper BINARY_OBJECT_MAPPER = JacksonMapper.ofIonBinary();
     private static final ObjectMapper JSON_OBJECT_MAPPER = JacksonMapper.ofJson();
     private static final TypeReference<Object> DEFAULT_TYPE_REFERENCE = new TypeReference<>(){};
 
@@ -75,21 +82,22 @@ public final class FileSerde {
     }
 
     public static void reader(BufferedReader input, Consumer<Object> consumer) throws IOException {
-        String row;
-        while ((row = input.readLine()) != null) {
-            consumer.accept(convert(row));
+        // a single parser streams all the values instead of one parser by row
+        MappingIterator<Object> mappingIterator = DEFAULT_OBJECT_MAPPER.readerFor(DEFAULT_TYPE_REFERENCE).readValues(input);
+        while (mappingIterator.hasNextValue()) {
+            consumer.accept(mappingIterator.nextValue());
         }
     }
 
     public static boolean reader(BufferedReader input, int maxLines, Consumer<Object> consumer) throws IOException {
-        String row;
+        MappingIterator<Object> mappingIterator = DEFAULT_OBJECT_MAPPER.readerFor(DEFAULT_TYPE_REFERENCE).readValues(input);
         int nbLines = 0;
-        while ((row = input.readLine()) != null) {
+        while (mappingIterator.hasNextValue()) {
             if (nbLines >= maxLines) {
                 return true;
             }
 
-            consumer.accept(convert(row));
+            consumer.accept(mappingIterator.nextValue());
             nbLines ++;
         }
 
@@ -156,6 +164,58 @@ public final class FileSerde {
             .doFinally(throwConsumer(ignored -> mappingIterator.close()));
     }
 
+    /**
+     * Reads text or binary ION, values are decoded on a {@link Schedulers#boundedElastic()} thread, up to {@link #PREFETCH} values
+     * ahead of their consumer, and are emitted on another {@link Schedulers#boundedElastic()} worker.
+     * For performance, it is advised to wrap the input stream inside a BufferedInputStream, see {@link #BUFFER_SIZE}.
+     */
+    public static Flux<Object> readAllPrefetched(InputStream input) throws IOException {
+        return readAllPrefetched(createMappingIterator(input, DEFAULT_TYPE_REFERENCE), PREFETCH);
+    }
+
+    /**
+     * Reads text or binary ION, values are decoded on a {@link Schedulers#boundedElastic()} thread, up to {@link #PREFETCH} values
+     * ahead of their consumer, and are emitted on another {@link Schedulers#boundedElastic()} worker.
+     * For performance, it is advised to wrap the input stream inside a BufferedInputStream, see {@link #BUFFER_SIZE}.
+     */
+    public static <T> Flux<T> readAllPrefetched(InputStream input, TypeReference<T> type) throws IOException {
+        return readAllPrefetched(createMappingIterator(input, type), PREFETCH);
+    }
+
+    /**
+     * Reads text or binary ION, values are decoded on a {@link Schedulers#boundedElastic()} thread, up to {@link #PREFETCH} values
+     * ahead of their consumer, and are emitted on another {@link Schedulers#boundedElastic()} worker.
+     * For performance, it is advised to wrap the input stream inside a BufferedInputStream, see {@link #BUFFER_SIZE}.
+     */
+    public static <T> Flux<T> readAllPrefetched(InputStream input, Class<T> type) throws IOException {
+        return readAllPrefetched(createMappingIterator(input, type), PREFETCH);
+    }
+
+    /**
+     * The iterator is closed by the generator once it's done, so never while it is decoding a value, even when the
+     * subscription is cancelled from another thread.
+     */
+    public static <T> Flux<T> readAllPrefetched(MappingIterator<T> mappingIterator, int prefetch) {
+        return Flux.<T, MappingIterator<T>>generate(
+                () -> mappingIterator,
+                (iterator, sink) -> {
+                    try {
+                        if (iterator.hasNextValue()) {
+                            sink.next(iterator.nextValue());
+                        } else {
+                            sink.complete();
+                        }
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                    return iterator;
+                },
+                throwConsumer(MappingIterator::close)
+            )
+            .subscribeOn(Schedulers.boundedElastic())
+            .publishOn(Schedulers.boundedElastic(), prefetch);
+    }
+
     /**
      * For performance, it is advised to wrap the writer inside a BufferedWriter, see {@link #BUFFER_SIZE}.
      */
@@ -191,6 +251,30 @@ public final class FileSerde {
         }
     }
 
+    /**
+     * Reads text or binary ION with a single parser, the input stream is closed with the iterator.
+     */
+    public static <T> MappingIterator<T> createMappingIterator(InputStream input, TypeReference<T> type) throws IOException {
+        return DEFAULT_OBJECT_MAPPER.readerFor(type).readValues(input);
+    }
+
+    /**
+     * Reads text or binary ION with a single parser, the input stream is closed with the iterator.
+     */
+    public static <T> MappingIterator<T> createMappingIterator(InputStream input, Class<T> type) throws IOException {
+        return DEFAULT_OBJECT_MAPPER.readerFor(type).readValues(input);
+    }
+
+    /**
+     * Writes values with a single generator, text ION puts each value on its own line.
+     * Binary ION is smaller and faster to encode and decode, but can only be read from an input stream, not from a reader.
+     * The writer must be closed to complete a binary output, the output stream is closed with it.
+     * For performance, it is advised to wrap the output stream inside a BufferedOutputStream, see {@link #BUFFER_SIZE}.
+     */
+    public static SequenceWriter createSequenceWriter(OutputStream output, boolean binary) throws IOException {
+        return (binary ? BINARY_OBJECT_MAPPER : DEFAULT_OBJECT_MAPPER).writerFor(DEFAULT_TYPE_REFERENCE).writeValues(output);
+    }
+
     public static <T> SequenceWriter createSequenceWriter(ObjectMapper objectMapper, Writer writer, TypeReference<T> type) throws IOException {
         return objectMapper.writerFor(type).writeValues(writer);
     }
@@ -128,12 +128,20 @@ public final class JacksonMapper {
         }
     }
 
-    private static final ObjectMapper ION_MAPPER = createIonObjectMapper();
+    private static final ObjectMapper ION_MAPPER = createIonObjectMapper(false);
+    private static final ObjectMapper ION_BINARY_MAPPER = createIonObjectMapper(true);
 
     public static ObjectMapper ofIon() {
         return ION_MAPPER;
     }
 
+    /**
+     * Writes binary ION, it reads both binary and text ION from bytes or input streams.
+     */
+    public static ObjectMapper ofIonBinary() {
+        return ION_BINARY_MAPPER;
+    }
+
     private static ObjectMapper configure(ObjectMapper mapper) {
         SimpleModule durationDeserialization = new SimpleModule();
         durationDeserialization.addDeserializer(Duration.class, new DurationDeserializer());
@@ -151,8 +159,11 @@ public final class JacksonMapper {
             .setTimeZone(TimeZone.getDefault());
     }
 
-    private static ObjectMapper createIonObjectMapper() {
-        return configure(new IonObjectMapper(new IonFactory(createIonSystem())))
+    private static ObjectMapper createIonObjectMapper(boolean binary) {
+        IonFactory ionFactory = new IonFactory(createIonSystem());
+        ionFactory.setCreateBinaryWriters(binary);
+
+        return configure(new IonObjectMapper(ionFactory))
             .setDefaultPropertyInclusion(JsonInclude.Include.ALWAYS)
             .registerModule(new IonModule());
     }
@@ -3,12 +3,12 @@ package io.kestra.core.serializers.ion;
 import com.amazon.ion.IonReader;
 import com.amazon.ion.IonSystem;
 import com.amazon.ion.IonWriter;
-import com.amazon.ion.system.IonSystemBuilder;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.io.IOContext;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.Serial;
 
@@ -22,7 +22,21 @@ public class IonFactory extends com.fasterxml.jackson.dataformat.ion.IonFactory
 
     @Override
     protected JsonParser _createParser(Reader r, IOContext ctxt) throws IOException {
-        IonReader ionReader = IonSystemBuilder.standard().build().newReader(r);
+        // the system is thread-safe and costly to build, it is shared by all the parsers
+        IonReader ionReader = _system.newReader(r);
+        return new IonParser(ionReader, ctxt);
+    }
+
+    @Override
+    protected JsonParser _createParser(InputStream in, IOContext ctxt) throws IOException {
+        // detects text or binary ION
+        IonReader ionReader = _system.newReader(in);
+        return new IonParser(ionReader, ctxt);
+    }
+
+    @Override
+    protected JsonParser _createParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException {
+        IonReader ionReader = _system.newReader(data, offset, len);
         return new IonParser(ionReader, ctxt);
     }
 
@@ -1,18 +1,32 @@
 package io.kestra.core.services;
 
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 import java.util.stream.Stream;
 
 /**
@@ -20,7 +34,8 @@ import java.util.stream.Stream;
  */
 @Singleton
 public class ExecutionLogService {
-   
+    private static final int STREAM_PAGE_SIZE = 1000;
+
     private final LogRepositoryInterface logRepository;
     
     @Inject
@@ -56,6 +71,12 @@ public class ExecutionLogService {
         return logRepository.findByExecutionId(tenantId, executionId, Level.ERROR, Pageable.from(1, 25, Sort.of(Sort.Order.asc("timestamp"))));
     }
     
+    /**
+     * Returns the logs of an execution as plain text, one log entry per line.
+     * <p>
+     * The logs are fetched lazily, one page at a time, while the stream is read,
+     * so the memory used doesn't depend on the number of logs of the execution.
+     */
     public InputStream getExecutionLogsAsStream(String tenantId,
                                                 String executionId,
                                                 Level minLevel,
@@ -63,59 +84,178 @@ public class ExecutionLogService {
                                                 List<String> taskIds,
                                                 Integer attempt,
                                                 boolean withAccessControl) {
-        List<LogEntry> logs = getExecutionLogs(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl);
-        return new ByteArrayInputStream(logs.stream().map(LogEntry::toPrettyString).collect(Collectors.joining("\n")).getBytes());
+        return getExecutionLogsAsStream(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl, false);
     }
 
-    public List<LogEntry> getExecutionLogs(String tenantId,
+    /**
+     * Returns the logs of an execution as plain text, one log entry per line, optionally compressed with gzip.
+     *
+     * @see #getExecutionLogsAsStream(String, String, Level, String, List, Integer, boolean)
+     */
+    public InputStream getExecutionLogsAsStream(String tenantId,
+                                                String executionId,
+                                                Level minLevel,
+                                                String taskRunId,
+                                                List<String> taskIds,
+                                                Integer attempt,
+                                                boolean withAccessControl,
+                                                boolean gzip) {
+        Iterator<List<LogEntry>> pages = pages(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl);
+        return new SequenceInputStream(new LogChunks(pages, gzip));
+    }
+
+    /**
+     * Returns the logs of an execution, ordered by timestamp.
+     * <p>
+     * The logs are fetched one page at a time when requested by the subscriber,
+     * so the memory used doesn't depend on the number of logs of the execution.
+     */
+    public Flux<LogEntry> streamExecutionLogs(String tenantId,
+                                              String executionId,
+                                              Level minLevel,
+                                              String taskRunId,
+                                              List<String> taskIds,
+                                              Integer attempt,
+                                              boolean withAccessControl) {
+        return Flux
+            .fromIterable(() -> pages(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, withAccessControl))
+            .concatMapIterable(Function.identity(), 1)
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Sends the stored logs of an execution with a sequence greater than the given one, ordered by sequence,
+     * one page at a time.
+     * <p>
+     * If no sequence is given, the logs without sequence, indexed before it was introduced, are sent first ordered by timestamp.
+     *
+     * @param afterSequence the sequence of the last log already known, <code>null</code> to send all the logs.
+     * @see LogEntry#getSequence()
+     */
+    public void replayExecutionLogs(String tenantId,
+                                    String executionId,
+                                    Level minLevel,
+                                    Long afterSequence,
+                                    Consumer<LogEntry> consumer) {
+        if (afterSequence == null) {
+            logRepository.findByExecutionIdWithoutSequence(tenantId, executionId, minLevel).forEach(consumer);
+        }
+
+        long last = afterSequence == null ? -1 : afterSequence;
+        List<LogEntry> page;
+        do {
+            page = logRepository.findByExecutionIdAfterSequence(tenantId, executionId, minLevel, last, STREAM_PAGE_SIZE);
+            page.forEach(consumer);
+            if (!page.isEmpty()) {
+                last = page.getLast().getSequence();
+            }
+        } while (page.size() == STREAM_PAGE_SIZE);
+    }
+
+    /**
+     * Returns a page of the logs of an execution, ordered by timestamp, using keyset pagination.
+     *
+     * @param continuationToken the continuation token returned with the previous page, <code>null</code> for the first page.
+     */
+    public ArrayListTotal<LogEntry> getExecutionLogsPage(String tenantId,
+                                                         String executionId,
+                                                         Level minLevel,
+                                                         String taskRunId,
+                                                         List<String> taskIds,
+                                                         Integer attempt,
+                                                         int size,
+                                                         String continuationToken,
+                                                         boolean withAccessControl) {
+        return logRepository.findPageByExecutionId(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, size, continuationToken, withAccessControl);
+    }
+
+    private Iterator<List<LogEntry>> pages(String tenantId,
                                            String executionId,
                                            Level minLevel,
                                            String taskRunId,
                                            List<String> taskIds,
                                            Integer attempt,
                                            boolean withAccessControl) {
-        // Get by Execution ID and TaskID.
-        if (taskIds != null) {
-            if (taskIds.size() == 1) {
-                return withAccessControl ?
-                    logRepository.findByExecutionIdAndTaskId(tenantId, executionId, taskIds.getFirst(), minLevel) :
-                    logRepository.findByExecutionIdAndTaskIdWithoutAcl(tenantId, executionId, taskIds.getFirst(), minLevel);
-            } else {
-                return getExecutionLogs(tenantId, executionId, minLevel, taskIds, withAccessControl).toList();
+        return new Iterator<>() {
+            private List<LogEntry> next;
+            private String continuationToken;
+            private boolean last = false;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !last) {
+                    ArrayListTotal<LogEntry> page = getExecutionLogsPage(tenantId, executionId, minLevel, taskRunId, taskIds, attempt, STREAM_PAGE_SIZE, continuationToken, withAccessControl);
+                    continuationToken = page.getContinuationToken();
+                    last = continuationToken == null;
+                    next = page.isEmpty() ? null : page;
+                }
+
+                return next != null;
             }
-        }
 
-        // Get by Execution ID, TaskRunID, and attempt.
-        if (taskRunId != null) {
-            if (attempt != null) {
-                return withAccessControl ?
-                    logRepository.findByExecutionIdAndTaskRunIdAndAttempt(tenantId, executionId, taskRunId, minLevel, attempt) :
-                    logRepository.findByExecutionIdAndTaskRunIdAndAttemptWithoutAcl(tenantId, executionId, taskRunId, minLevel, attempt);
-            } else {
-                return withAccessControl ?
-                    logRepository.findByExecutionIdAndTaskRunId(tenantId, executionId, taskRunId, minLevel) :
-                    logRepository.findByExecutionIdAndTaskRunIdWithoutAcl(tenantId, executionId, taskRunId, minLevel);
+            @Override
+            public List<LogEntry> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                List<LogEntry> current = next;
+                next = null;
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Converts pages of logs into chunks of text, one page at a time, so that only one page is in memory.
+     */
+    private static final class LogChunks implements Enumeration<InputStream> {
+        private final Iterator<List<LogEntry>> pages;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final OutputStream output;
+        private boolean first = true;
+        private boolean finished = false;
+
+        private LogChunks(Iterator<List<LogEntry>> pages, boolean gzip) {
+            this.pages = pages;
+            try {
+                this.output = gzip ? new GZIPOutputStream(buffer) : buffer;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
         }
 
-        // Get by Execution ID
-        return withAccessControl ?
-             logRepository.findByExecutionId(tenantId, executionId, minLevel) :
-             logRepository.findByExecutionIdWithoutAcl(tenantId, executionId, minLevel);
-    }
+        @Override
+        public boolean hasMoreElements() {
+            return !finished;
+        }
 
-    public Stream<LogEntry> getExecutionLogs(String tenantId,
-                                             String executionId,
-                                             Level minLevel,
-                                             List<String> taskIds,
-                                             boolean withAccessControl) {
+        @Override
+        public InputStream nextElement() {
+            if (finished) {
+                throw new NoSuchElementException();
+            }
 
-        List<LogEntry> results = withAccessControl ?
-            logRepository.findByExecutionId(tenantId, executionId, minLevel) :
-            logRepository.findByExecutionIdWithoutAcl(tenantId, executionId, minLevel);
+            try {
+                if (pages.hasNext()) {
+                    for (LogEntry logEntry : pages.next()) {
+                        if (!first) {
+                            output.write('\n');
+                        }
+                        output.write(LogEntry.toPrettyString(logEntry).getBytes(StandardCharsets.UTF_8));
+                        first = false;
+                    }
+                } else {
+                    output.close();
+                    finished = true;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
 
-        return results
-            .stream()
-            .filter(data -> taskIds.isEmpty() || taskIds.contains(data.getTaskId()));
+            InputStream chunk = new ByteArrayInputStream(buffer.toByteArray());
+            buffer.reset();
+            return chunk;
+        }
     }
 }
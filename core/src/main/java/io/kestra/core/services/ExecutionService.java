@@ -46,6 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.net.URI;
@@ -53,6 +54,7 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -62,6 +64,7 @@ import static io.kestra.core.utils.Rethrow.*;
 @Singleton
 @Slf4j
 public class ExecutionService {
+    public static final int DEFAULT_PURGE_STORAGE_CONCURRENCY = 8;
 
     @Inject
     private FlowRepositoryInterface flowRepositoryInterface;
@@ -452,61 +455,101 @@ public class ExecutionService {
         @Nullable List<State.Type> state,
         int batchSize
     ) throws IOException {
-        PurgeResult purgeResult = this.executionRepository
-            .find(
-                null,
-                tenantId,
-                null,
-                namespace,
-                flowId,
-                startDate,
-                endDate,
-                state,
-                null,
-                null,
-                null,
-                true
-            )
-            .buffer(batchSize)
-            .map(throwFunction(executions -> {
-                PurgeResult.PurgeResultBuilder<?, ?> builder = PurgeResult.builder();
+        return this.purge(
+            purgeExecution,
+            purgeLog,
+            purgeMetric,
+            purgeStorage,
+            tenantId,
+            namespace,
+            flowId,
+            startDate,
+            endDate,
+            state,
+            batchSize,
+            DEFAULT_PURGE_STORAGE_CONCURRENCY,
+            null,
+            checkpoint -> {}
+        );
+    }
 
-                if (purgeExecution) {
-                    builder.executionsCount(this.executionRepository.purge(executions));
-                }
+    /**
+     * Purges the executions matching the filters page by page, and their logs, metrics and storage files.
+     * <p>
+     * Pages are read by id with only the fields needed for the purge, and the logs, metrics and executions of a page
+     * are deleted in bulk. The execution is deleted last so that a page interrupted midway is purged again on resume.
+     *
+     * @param storageConcurrency the number of executions whose storage files are deleted in parallel.
+     * @param checkpoint         the checkpoint of an interrupted purge to resume, <code>null</code> to start from the beginning.
+     * @param onCheckpoint       called after each page with the checkpoint to persist to be able to resume the purge.
+     */
+    public PurgeResult purge(
+        Boolean purgeExecution,
+        Boolean purgeLog,
+        Boolean purgeMetric,
+        Boolean purgeStorage,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        int batchSize,
+        int storageConcurrency,
+        @Nullable PurgeCheckpoint checkpoint,
+        Consumer<PurgeCheckpoint> onCheckpoint
+    ) throws IOException {
+        String afterId = checkpoint == null ? null : checkpoint.lastId();
+        PurgeResult result = checkpoint == null ? PurgeResult.builder().build() : checkpoint.result();
+
+        List<Execution> executions;
+        do {
+            executions = this.executionRepository.findPurgeablePage(tenantId, namespace, flowId, startDate, endDate, state, afterId, batchSize);
+            if (executions.isEmpty()) {
+                break;
+            }
 
-                if (purgeLog) {
-                    builder.logsCount(this.logRepository.purge(executions));
-                }
+            PurgeResult.PurgeResultBuilder<?, ?> builder = result.toBuilder();
 
-                if (purgeMetric) {
-                    builder.metricsCount(this.metricRepository.purge(executions));
-                }
+            if (purgeStorage) {
+                builder.storagesCount(result.getStoragesCount() + this.purgeStorage(executions, storageConcurrency));
+            }
 
-                if (purgeStorage) {
-                    executions.forEach(throwConsumer(execution -> {
-                        URI uri = StorageContext.forExecution(execution).getExecutionStorageURI(StorageContext.KESTRA_SCHEME);
-                        builder.storagesCount(storageInterface.deleteByPrefix(execution.getTenantId(), execution.getNamespace(), uri).size());
-                    }));
-                }
+            if (purgeLog) {
+                builder.logsCount(result.getLogsCount() + this.logRepository.purge(executions));
+            }
 
-                return (PurgeResult) builder.build();
-            }))
-            .reduce((a, b) -> a
-                .toBuilder()
-                .executionsCount(a.getExecutionsCount() + b.getExecutionsCount())
-                .logsCount(a.getLogsCount() + b.getLogsCount())
-                .storagesCount(a.getStoragesCount() + b.getStoragesCount())
-                .metricsCount(a.getMetricsCount() + b.getMetricsCount())
-                .build()
+            if (purgeMetric) {
+                builder.metricsCount(result.getMetricsCount() + this.metricRepository.purge(executions));
+            }
+
+            if (purgeExecution) {
+                builder.executionsCount(result.getExecutionsCount() + this.executionRepository.purge(executions));
+            }
+
+            result = builder.build();
+            afterId = executions.getLast().getId();
+            onCheckpoint.accept(new PurgeCheckpoint(afterId, result));
+        } while (executions.size() == batchSize);
+
+        return result;
+    }
+
+    private int purgeStorage(List<Execution> executions, int concurrency) {
+        Integer count = Flux.fromIterable(executions)
+            .flatMap(
+                execution -> Mono
+                    .fromCallable(() -> {
+                        URI uri = StorageContext.forExecution(execution).getExecutionStorageURI(StorageContext.KESTRA_SCHEME);
+                        return storageInterface.deleteByPrefix(execution.getTenantId(), execution.getNamespace(), uri).size();
+                    })
+                    .subscribeOn(Schedulers.boundedElastic()),
+                concurrency
             )
+            .reduce(0, Integer::sum)
             .block();
 
-        if (purgeResult != null) {
-            return purgeResult;
-        }
-
-        return PurgeResult.builder().build();
+        return count == null ? 0 : count;
     }
 
     public void delete(
@@ -762,6 +805,12 @@ public class ExecutionService {
         return newExecution;
     }
 
+    /**
+     * The progress of a purge: the id of the last purged execution and the counts so far.
+     */
+    public record PurgeCheckpoint(String lastId, PurgeResult result) {
+    }
+
     @Getter
     @SuperBuilder(toBuilder = true)
     public static class PurgeResult {
@@ -1,8 +1,11 @@
 package io.kestra.core.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.kestra.core.exceptions.FlowProcessingException;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.models.hierarchies.*;
 import io.kestra.core.models.tasks.ExecutableTask;
@@ -13,13 +16,19 @@ import io.kestra.core.repositories.TriggerRepositoryInterface;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.utils.GraphUtils;
+import io.kestra.core.utils.ListUtils;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.data.model.Pageable;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -36,16 +45,107 @@ public class GraphService {
     @Inject
     private RunContextFactory runContextFactory;
 
+    @Value("${kestra.graph.cache.maximum-size:1000}")
+    private int cacheMaximumSize;
+
+    @Value("${kestra.graph.cache.expire-after-write:5m}")
+    private Duration cacheExpireAfterWrite;
+
+    private Cache<GraphKey, CachedGraph> cache;
+
+    @PostConstruct
+    void initCache() {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheExpireAfterWrite)
+            .build();
+    }
+
     public FlowGraph flowGraph(FlowWithSource flow, List<String> expandedSubflows) throws IllegalVariableEvaluationException, FlowProcessingException {
         return this.flowGraph(flow, expandedSubflows, null);
     }
 
+    /**
+     * Returns the graph of a flow, optionally for an execution.
+     * <p>
+     * The structure of the graph is cached by flow revision, expanded subflows and existing task runs; the current
+     * task run and trigger states are overlaid on each call. Expanded subflows without a fixed revision are
+     * refreshed when the cache entry expires.
+     */
     public FlowGraph flowGraph(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException, FlowProcessingException {
-        return FlowGraph.of(this.of(flow, Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList()), new HashMap<>(), execution));
+        List<String> subflows = Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList());
+
+        GraphKey key = GraphKey.of(flow, subflows, execution);
+        CachedGraph cached = cache.getIfPresent(key);
+        if (cached == null) {
+            GraphCluster graphCluster = this.of(flow, subflows, new HashMap<>(), execution);
+            cached = new CachedGraph(FlowGraph.of(graphCluster), triggerUids(graphCluster));
+            cache.put(key, cached);
+        }
+
+        Map<String, TaskRun> taskRuns = execution == null ? Collections.emptyMap() : ListUtils.emptyOnNull(execution.getTaskRunList())
+            .stream()
+            .collect(Collectors.toMap(TaskRun::getId, Function.identity(), (a, b) -> b));
+
+        Map<String, Trigger> triggers = new HashMap<>();
+        if (!cached.triggerUids().isEmpty()) {
+            Map<String, Trigger> triggersById = triggerRepository.find(Pageable.UNPAGED, null, flow.getTenantId(), flow.getNamespace(), flow.getId(), null)
+                .stream()
+                .collect(Collectors.toMap(
+                    Trigger::getTriggerId,
+                    Function.identity(),
+                    (a, b) -> a.getNamespace().length() <= b.getNamespace().length() ? a : b
+                ));
+            cached.triggerUids().forEach((uid, triggerId) -> {
+                if (triggersById.containsKey(triggerId)) {
+                    triggers.put(uid, triggersById.get(triggerId));
+                }
+            });
+        }
+
+        return cached.graph().withState(taskRuns, triggers);
     }
 
     public FlowGraph executionGraph(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException, FlowProcessingException {
-        return FlowGraph.of(this.of(flow, Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList()), new HashMap<>(), execution));
+        return this.flowGraph(flow, expandedSubflows, execution);
+    }
+
+    /**
+     * Returns the uid of the trigger nodes of the flow itself (not the ones of expanded subflows) with their trigger id.
+     */
+    private static Map<String, String> triggerUids(GraphCluster graphCluster) {
+        return graphCluster.getGraph().nodes()
+            .stream()
+            .filter(node -> node instanceof GraphCluster && !(node instanceof SubflowGraphCluster))
+            .flatMap(node -> ((GraphCluster) node).getGraph().nodes().stream())
+            .filter(node -> node instanceof AbstractGraphTrigger graphTrigger && graphTrigger.getTriggerDeclaration() != null)
+            .collect(Collectors.toMap(
+                AbstractGraph::getUid,
+                node -> ((AbstractGraphTrigger) node).getTriggerDeclaration().getId(),
+                (a, b) -> a
+            ));
+    }
+
+    private record CachedGraph(FlowGraph graph, Map<String, String> triggerUids) {
+    }
+
+    /**
+     * The structure of a graph depends on the flow source, the expanded subflows and the task runs that exist
+     * (loops create one node per iteration), but not on their state.
+     */
+    private record GraphKey(String tenantId, String namespace, String flowId, Integer revision, String source, Set<String> expandedSubflows, String executionId, List<String> taskRunIds) {
+        static GraphKey of(FlowWithSource flow, List<String> expandedSubflows, Execution execution) {
+            return new GraphKey(
+                flow.getTenantId(),
+                flow.getNamespace(),
+                flow.getId(),
+                flow.getRevision(),
+                flow.getSource(),
+                Set.copyOf(expandedSubflows),
+                execution == null ? null : execution.getId(),
+                execution == null ? null : ListUtils.emptyOnNull(execution.getTaskRunList()).stream().map(TaskRun::getId).toList()
+            );
+        }
     }
 
     public GraphCluster of(FlowWithSource flow, List<String> expandedSubflows, Map<String, FlowWithSource> flowByUid, Execution execution) throws IllegalVariableEvaluationException, FlowProcessingException {
@@ -4,17 +4,26 @@ import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.micronaut.http.sse.Event;
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.Pair;
 import reactor.core.publisher.FluxSink;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -23,13 +32,29 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * Consumers need first to register themselves via {@link #registerSubscriber(String, String, FluxSink, List)},
  * then unregister (ideally in a finally block to avoid any memory leak) via {@link #unregisterSubscriber(String, String)}.
+ * <p>
+ * Consumers that also send the stored logs must register via {@link #registerReplayingSubscriber(String, String, FluxSink, List, Long)}
+ * <b>before</b> reading the stored logs: the logs received in the meantime are buffered, then sent once the stored logs are replayed.
+ * The stored logs and the buffered ones are sent in sequence order, a log sent by the replay is not sent again when received
+ * from the queue, and the event id is the sequence, so a client can resume from the last event it received.
+ * <p>
+ * Sequences are queue offsets, they are not received in order: a log can be received or indexed up to {@link #UNORDERED_DELAY}
+ * after a log with a higher sequence. So the recent stored logs are read twice to get the ones indexed during the replay,
+ * and a resumed follow replays the logs from this delay before its last event, which may send some events again.
  */
 @Slf4j
 @Singleton
 public class LogStreamingService {
-    private final Map<String, Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>>> subscribers = new ConcurrentHashMap<>();
+    static final Duration UNORDERED_DELAY = Duration.ofSeconds(30);
+    private static final Duration HISTORY_RETENTION = Duration.ofMinutes(10);
+
+    private final Map<String, Map<String, Subscriber>> subscribers = new ConcurrentHashMap<>();
     private final Object subscriberLock = new Object();
 
+    // the highest sequence received over time, sampled every second, oldest first
+    private final Deque<Watermark> watermarks = new ArrayDeque<>();
+    private volatile long lastReceived = -1;
+
     @Inject
     @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
     protected QueueInterface<LogEntry> logQueue;
@@ -45,23 +70,20 @@ public class LogStreamingService {
             }
 
             LogEntry current = either.getLeft();
+            if (current.getSequence() != null) {
+                this.received(current.getSequence());
+            }
+
             if (current.getExecutionId() == null) {
                 // some logs are not about any execution, we skip them
                 return;
             }
 
             // Get all subscribers for this execution
-            Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>> executionSubscribers = subscribers.get(current.getExecutionId());
+            Map<String, Subscriber> executionSubscribers = subscribers.get(current.getExecutionId());
 
             if (executionSubscribers != null && !executionSubscribers.isEmpty()) {
-                executionSubscribers.values().forEach(pair -> {
-                    var sink = pair.getLeft();
-                    var levels = pair.getRight();
-
-                    if (levels.contains(current.getLevel().name())) {
-                        sink.next(Event.of(current).id("progress"));
-                    }
-                });
+                executionSubscribers.values().forEach(subscriber -> subscriber.receive(current));
             }
         });
     }
@@ -71,10 +93,83 @@ public class LogStreamingService {
      * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
      */
     public void registerSubscriber(String executionId, String subscriberId, FluxSink<Event<LogEntry>> sink, List<String> levels) {
+        register(executionId, subscriberId, new Subscriber(sink, levels));
+    }
+
+    /**
+     * Register a subscriber to an execution logs that will first replay the stored logs.
+     * The logs received from the queue are buffered until {@link Replay#complete()} is called.
+     * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
+     *
+     * @param lastSequence the sequence of the last log already sent to the client, to resume following from it.
+     * @return the replay to send the stored logs to.
+     */
+    public Replay registerReplayingSubscriber(String executionId, String subscriberId, FluxSink<Event<LogEntry>> sink, List<String> levels, @Nullable Long lastSequence) {
+        Subscriber subscriber;
+        synchronized (watermarks) {
+            // a log received long enough before the registration is indexed, and will not be received again
+            long recheckAfter = receivedBefore(Instant.now().minus(UNORDERED_DELAY)).orElse(-1L);
+            Long replayAfter = lastSequence == null ? null : Math.min(lastSequence, resumeAfter(lastSequence));
+            subscriber = new Subscriber(sink, levels, replayAfter, Math.max(recheckAfter, replayAfter == null ? -1 : replayAfter), lastReceived);
+        }
+
+        register(executionId, subscriberId, subscriber);
+        return subscriber;
+    }
+
+    private void received(long sequence) {
+        synchronized (watermarks) {
+            lastReceived = Math.max(lastReceived, sequence);
+
+            Instant now = Instant.now();
+            Watermark newest = watermarks.peekLast();
+            if (newest != null && newest.date().isAfter(now.minusSeconds(1))) {
+                watermarks.removeLast();
+                watermarks.addLast(new Watermark(newest.date(), lastReceived));
+            } else {
+                watermarks.addLast(new Watermark(now, lastReceived));
+            }
+
+            while (watermarks.size() > 1 && watermarks.peekFirst().date().isBefore(now.minus(HISTORY_RETENTION))) {
+                watermarks.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Returns the highest sequence received at a date, empty if it's older than the history.
+     */
+    private Optional<Long> receivedBefore(Instant date) {
+        Long received = null;
+        for (Watermark watermark : watermarks) {
+            if (watermark.date().isAfter(date)) {
+                break;
+            }
+            received = watermark.sequence();
+        }
+
+        return Optional.ofNullable(received);
+    }
+
+    /**
+     * Returns the sequence after which a follow resumed after a given sequence must replay the stored logs:
+     * the highest sequence received {@link #UNORDERED_DELAY} before it, or the sequence itself if it's older than the history.
+     */
+    private long resumeAfter(long lastSequence) {
+        for (Watermark watermark : watermarks) {
+            if (watermark.sequence() >= lastSequence) {
+                return receivedBefore(watermark.date().minus(UNORDERED_DELAY)).orElse(lastSequence);
+            }
+        }
+
+        return lastSequence;
+    }
+
+    private void register(String executionId, String subscriberId, Subscriber subscriber) {
         // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
         synchronized (subscriberLock) {
             subscribers.computeIfAbsent(executionId, k -> new ConcurrentHashMap<>())
-                .put(subscriberId, Pair.of(sink, levels));
+                .put(subscriberId, subscriber);
         }
     }
 
@@ -85,7 +180,7 @@ public class LogStreamingService {
     public void unregisterSubscriber(String executionId, String subscriberId) {
         // it needs to be synchronized as we get and remove if empty, so we must be sure that nobody else is adding a new one in-between
         synchronized (subscriberLock) {
-            Map<String, Pair<FluxSink<Event<LogEntry>>, List<String>>> executionSubscribers = subscribers.get(executionId);
+            Map<String, Subscriber> executionSubscribers = subscribers.get(executionId);
             if (executionSubscribers != null) {
                 executionSubscribers.remove(subscriberId);
                 if (executionSubscribers.isEmpty()) {
@@ -101,4 +196,140 @@ public class LogStreamingService {
             queueConsumer.run();
         }
     }
+
+    /**
+     * The replay of the stored logs of a subscriber.
+     * <p>
+     * The stored logs with a sequence greater than {@link #replayAfter()} must be sent, then the ones with a sequence
+     * greater than {@link #recheckAfter()} must be sent again: the logs received from the queue just before the registration
+     * may have been indexed during the first read. The logs already sent are skipped.
+     */
+    public interface Replay {
+        /**
+         * Returns the sequence after which the stored logs must be sent, <code>null</code> to send all of them.
+         */
+        @Nullable
+        Long replayAfter();
+
+        /**
+         * Returns the sequence after which the stored logs must be sent again once all of them are sent, before {@link #complete()}.
+         */
+        long recheckAfter();
+
+        /**
+         * Sends a stored log, stored logs must be sent in sequence order.
+         */
+        void send(LogEntry logEntry);
+
+        /**
+         * Ends the replay, then sends the logs received from the queue in the meantime.
+         */
+        void complete();
+    }
+
+    private record Watermark(Instant date, long sequence) {
+    }
+
+    private static final class Subscriber implements Replay {
+        private final FluxSink<Event<LogEntry>> sink;
+        private final List<String> levels;
+        private final Long replayAfter;
+        private final long recheckAfter;
+        // the highest sequence received from the queue before the registration
+        private final long received;
+        // the logs received from the queue while the stored logs are replayed
+        private List<LogEntry> pending;
+        // the sequences sent by the replay that can still be read again or received from the queue
+        private final Set<Long> replayed;
+
+        private Subscriber(FluxSink<Event<LogEntry>> sink, List<String> levels) {
+            this.sink = sink;
+            this.levels = levels;
+            this.replayAfter = null;
+            this.recheckAfter = -1;
+            this.received = -1;
+            this.pending = null;
+            this.replayed = null;
+        }
+
+        private Subscriber(FluxSink<Event<LogEntry>> sink, List<String> levels, @Nullable Long replayAfter, long recheckAfter, long received) {
+            this.sink = sink;
+            this.levels = levels;
+            this.replayAfter = replayAfter;
+            this.recheckAfter = recheckAfter;
+            this.received = received;
+            this.pending = new ArrayList<>();
+            this.replayed = new HashSet<>();
+        }
+
+        @Override
+        public Long replayAfter() {
+            return replayAfter;
+        }
+
+        @Override
+        public long recheckAfter() {
+            return recheckAfter;
+        }
+
+        private synchronized void receive(LogEntry logEntry) {
+            if (!levels.contains(logEntry.getLevel().name())) {
+                return;
+            }
+
+            if (pending != null) {
+                pending.add(logEntry);
+            } else {
+                received(logEntry);
+            }
+        }
+
+        @Override
+        public synchronized void send(LogEntry logEntry) {
+            Long sequence = logEntry.getSequence();
+            if (sequence != null) {
+                // already sent before the client resumed
+                if (replayAfter != null && sequence <= replayAfter) {
+                    return;
+                }
+
+                // older logs are neither read again nor received from the queue, so they are not tracked
+                if (sequence > recheckAfter && !replayed.add(sequence)) {
+                    return;
+                }
+            }
+
+            next(logEntry);
+        }
+
+        @Override
+        public synchronized void complete() {
+            if (pending == null) {
+                return;
+            }
+
+            pending.stream()
+                .sorted(Comparator.comparing(LogEntry::getSequence, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(this::received);
+            pending = null;
+
+            // the logs received before the registration will not be received again
+            replayed.removeIf(sequence -> sequence <= received);
+        }
+
+        private void received(LogEntry logEntry) {
+            // offsets are not received in order, so only the logs sent by the replay are skipped, not the ones with a lower sequence
+            Long sequence = logEntry.getSequence();
+            if (sequence != null && replayed != null && replayed.remove(sequence)) {
+                return;
+            }
+
+            next(logEntry);
+        }
+
+        private void next(LogEntry logEntry) {
+            Long sequence = logEntry.getSequence();
+            sink.next(Event.of(logEntry).id(sequence == null ? "progress" : String.valueOf(sequence)));
+        }
+    }
 }
@@ -0,0 +1,410 @@
+package io.kestra.core.services;
+
+import io.kestra.core.utils.Rethrow;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a file concurrently, producing exactly the same files as the sequential split of {@link StorageService}.
+ * <p>
+ * The file is cut into segments of about {@code segmentSize} bytes, each one starting right after a newline found by sampling
+ * the file at regular offsets, so a row, and thus a value of a line-delimited ION file, never spans two segments.
+ * The segments are read with ranged reads and processed concurrently:
+ * <ul>
+ *     <li>by rows: the rows of each segment are counted, then the offsets of the first row of each file are located,
+ *     and each file is written from its own byte range.</li>
+ *     <li>by bytes: the offsets of the first row of each file depend on the size of all the previous rows, they are located by a single scan
+ *     that neither decodes nor writes anything, then each file is written from its own byte range. If a row contains malformed characters,
+ *     its decoded size differs from its size in the file and the sequential split must be used instead.</li>
+ *     <li>by partitions or regex: each segment writes its rows to its own piece of each file, then the pieces are concatenated in order.</li>
+ * </ul>
+ * Rows are decoded and written the same way as the sequential split does, with the same line terminators: LF, CR or CRLF.
+ */
+public class ParallelFileSplitter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RangeReader reader;
+    private final long size;
+    private final String separator;
+    private final Rethrow.SupplierChecked<Path, IOException> fileFactory;
+    private final int parallelism;
+    private final long segmentSize;
+
+    /**
+     * @param reader      reads a byte range of the file to split.
+     * @param size        the size of the file to split.
+     * @param separator   the separator written after each row.
+     * @param fileFactory creates the files to write, including the temporary pieces.
+     * @param parallelism the maximum number of segments or files processed concurrently.
+     * @param segmentSize the approximate size of a segment.
+     */
+    public ParallelFileSplitter(RangeReader reader, long size, String separator, Rethrow.SupplierChecked<Path, IOException> fileFactory, int parallelism, long segmentSize) {
+        if (parallelism < 1 || segmentSize < 1) {
+            throw new IllegalArgumentException("The parallelism and segment size must be positive, got " + parallelism + " and " + segmentSize);
+        }
+
+        this.reader = reader;
+        this.size = size;
+        this.separator = separator;
+        this.fileFactory = fileFactory;
+        this.parallelism = parallelism;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Splits the file into files of {@code rows} rows.
+     */
+    public List<Path> splitByRows(int rows) throws IOException {
+        List<Segment> segments = segments();
+        List<Long> counts = parallel(segments, this::count);
+
+        List<Long> firstRows = new ArrayList<>();
+        long total = 0;
+        for (long count : counts) {
+            firstRows.add(total);
+            total += count;
+        }
+
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            indexes.add(i);
+        }
+
+        // the offsets of the rows whose index is a multiple of the number of rows start a new file
+        List<List<Long>> offsets = parallel(indexes, index -> {
+            long firstRow = firstRows.get(index);
+            long lastRow = firstRow + counts.get(index) - 1;
+            List<Long> segmentOffsets = new ArrayList<>();
+            if (counts.get(index) == 0 || Math.ceilDiv(firstRow, rows) > lastRow / rows) {
+                return segmentOffsets;
+            }
+
+            long[] row = {firstRow};
+            scan(segments.get(index), (start, length) -> {
+                if (row[0] % rows == 0) {
+                    segmentOffsets.add(start);
+                }
+                row[0]++;
+            });
+
+            return segmentOffsets;
+        });
+
+        List<Long> starts = offsets.stream().flatMap(List::stream).toList();
+        return parallel(ranges(starts), range -> write(range, null));
+    }
+
+    /**
+     * Splits the file into files of at least {@code bytes} bytes, except the last one.
+     *
+     * @throws MalformedRowException if a row contains malformed characters, the sequential split must be used.
+     */
+    public List<Path> splitByBytes(long bytes) throws IOException {
+        byte[] separatorBytes = separator.getBytes(StandardCharsets.UTF_8);
+        List<Long> starts = new ArrayList<>();
+        List<Long> expectedSizes = new ArrayList<>();
+        long[] written = {0};
+
+        scan(new Segment(0, size), (start, length) -> {
+            if (starts.isEmpty() || written[0] >= bytes) {
+                if (!starts.isEmpty()) {
+                    expectedSizes.add(written[0]);
+                }
+                starts.add(start);
+                written[0] = 0;
+            }
+            written[0] += length + separatorBytes.length;
+        });
+        if (!starts.isEmpty()) {
+            expectedSizes.add(written[0]);
+        }
+
+        List<Segment> ranges = ranges(starts);
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            indexes.add(i);
+        }
+
+        return parallel(indexes, index -> write(ranges.get(index), expectedSizes.get(index)));
+    }
+
+    /**
+     * Splits the file into {@code partitions} files, dispatching the rows in turn.
+     */
+    public List<Path> partition(int partitions) throws IOException {
+        List<Segment> segments = segments();
+        List<Long> counts = parallel(segments, this::count);
+
+        List<Integer> indexes = new ArrayList<>();
+        long total = 0;
+        List<Long> firstRows = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            indexes.add(i);
+            firstRows.add(total);
+            total += counts.get(i);
+        }
+
+        List<Map<Integer, Path>> pieces = parallel(indexes, index -> {
+            long[] row = {firstRows.get(index)};
+            return writePieces(segments.get(index), line -> {
+                int partition = (int) (row[0] % partitions);
+                row[0]++;
+                return partition;
+            });
+        });
+
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            keys.add(i);
+        }
+
+        return concat(keys, pieces);
+    }
+
+    /**
+     * Splits the file by the first capture group of the pattern, rows not matching the pattern are ignored.
+     */
+    public List<Path> splitByRegex(String regexPattern) throws IOException {
+        Pattern pattern = Pattern.compile(regexPattern);
+        List<Segment> segments = segments();
+
+        // an optional group may not match, its rows still share the same file
+        List<Map<Optional<String>, Path>> pieces = parallel(segments, segment -> writePieces(segment, line -> {
+            Matcher matcher = pattern.matcher(line);
+            return matcher.find() && matcher.groupCount() > 0 ? Optional.ofNullable(matcher.group(1)) : null;
+        }));
+
+        // the files are ordered by the first row of their key
+        Set<Optional<String>> keys = new LinkedHashSet<>();
+        pieces.forEach(segmentPieces -> keys.addAll(segmentPieces.keySet()));
+
+        return concat(new ArrayList<>(keys), pieces);
+    }
+
+    List<Segment> segments() throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        long start = 0;
+        while (start < size) {
+            long end = start + segmentSize >= size ? size : nextLineStart(start + segmentSize);
+            segments.add(new Segment(start, end));
+            start = end;
+        }
+
+        return segments;
+    }
+
+    private long nextLineStart(long offset) throws IOException {
+        try (InputStream inputStream = reader.read(offset, size - offset)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long position = offset;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        return position + i + 1;
+                    }
+                }
+                position += read;
+            }
+        }
+
+        return size;
+    }
+
+    private long count(Segment segment) throws IOException {
+        long[] count = {0};
+        scan(segment, (start, length) -> count[0]++);
+
+        return count[0];
+    }
+
+    /**
+     * Reports each row of the segment with its offset and its length in the file, line terminator excluded,
+     * the same rows {@link BufferedReader#readLine()} reads.
+     */
+    private void scan(Segment segment, RowVisitor visitor) throws IOException {
+        try (InputStream inputStream = reader.read(segment.start(), segment.length())) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long position = segment.start();
+            long rowStart = segment.start();
+            boolean carriageReturn = false;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    byte b = buffer[i];
+                    if (carriageReturn) {
+                        carriageReturn = false;
+                        if (b == '\n') {
+                            // the row was already reported on the carriage return
+                            rowStart = position + i + 1;
+                            continue;
+                        }
+                    }
+
+                    if (b == '\n' || b == '\r') {
+                        visitor.row(rowStart, position + i - rowStart);
+                        rowStart = position + i + 1;
+                        carriageReturn = b == '\r';
+                    }
+                }
+                position += read;
+            }
+
+            if (rowStart < segment.end()) {
+                visitor.row(rowStart, segment.end() - rowStart);
+            }
+        }
+    }
+
+    private List<Segment> ranges(List<Long> starts) {
+        List<Segment> ranges = new ArrayList<>();
+        for (int i = 0; i < starts.size(); i++) {
+            ranges.add(new Segment(starts.get(i), i + 1 < starts.size() ? starts.get(i + 1) : size));
+        }
+
+        return ranges;
+    }
+
+    private Path write(Segment range, Long expectedSize) throws IOException {
+        Path path = fileFactory.get();
+        long written = 0;
+        try (
+            BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(reader.read(range.start(), range.length())));
+            OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)
+        ) {
+            String row;
+            while ((row = bufferedReader.readLine()) != null) {
+                byte[] bytes = (row + separator).getBytes(StandardCharsets.UTF_8);
+                outputStream.write(bytes);
+                written += bytes.length;
+            }
+        }
+
+        if (expectedSize != null && written != expectedSize) {
+            throw new MalformedRowException("The rows from offset " + range.start() + " have a different size once decoded, they contain malformed characters");
+        }
+
+        return path;
+    }
+
+    /**
+     * Writes each row of the segment to the piece of its key, rows without key are ignored.
+     */
+    private <K> Map<K, Path> writePieces(Segment segment, Rethrow.FunctionChecked<String, K, IOException> router) throws IOException {
+        Map<K, Path> pieces = new LinkedHashMap<>();
+        Map<K, OutputStream> outputStreams = new HashMap<>();
+        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(reader.read(segment.start(), segment.length())))) {
+            String row;
+            while ((row = bufferedReader.readLine()) != null) {
+                K key = router.apply(row);
+                if (key == null) {
+                    continue;
+                }
+
+                OutputStream outputStream = outputStreams.get(key);
+                if (outputStream == null) {
+                    Path path = fileFactory.get();
+                    pieces.put(key, path);
+                    outputStream = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+                    outputStreams.put(key, outputStream);
+                }
+
+                outputStream.write((row + separator).getBytes(StandardCharsets.UTF_8));
+            }
+        } finally {
+            for (OutputStream outputStream : outputStreams.values()) {
+                outputStream.close();
+            }
+        }
+
+        return pieces;
+    }
+
+    private <K> List<Path> concat(List<K> keys, List<Map<K, Path>> pieces) throws IOException {
+        List<Path> files = parallel(keys, key -> {
+            Path path = fileFactory.get();
+            try (FileChannel outChannel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (Map<K, Path> segmentPieces : pieces) {
+                    Path piece = segmentPieces.get(key);
+                    if (piece == null) {
+                        continue;
+                    }
+
+                    try (FileChannel inChannel = FileChannel.open(piece, StandardOpenOption.READ)) {
+                        long position = 0;
+                        long pieceSize = inChannel.size();
+                        while (position < pieceSize) {
+                            position += inChannel.transferTo(position, pieceSize - position, outChannel);
+                        }
+                    }
+                    Files.delete(piece);
+                }
+            }
+
+            return path;
+        });
+
+        return files.stream().filter(path -> path.toFile().length() > 0).toList();
+    }
+
+    private <T, R> List<R> parallel(List<T> items, Rethrow.FunctionChecked<T, R, IOException> function) throws IOException {
+        try {
+            return Flux.fromIterable(items)
+                .flatMapSequential(item -> Mono.fromCallable(() -> function.apply(item)).subscribeOn(Schedulers.boundedElastic()), parallelism)
+                .collectList()
+                .block();
+        } catch (RuntimeException e) {
+            if (Exceptions.unwrap(e) instanceof IOException ioException) {
+                throw ioException;
+            }
+
+            throw e;
+        }
+    }
+
+    record Segment(long start, long end) {
+        long length() {
+            return end - start;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowVisitor {
+        void row(long start, long length);
+    }
+
+    @FunctionalInterface
+    public interface RangeReader {
+        InputStream read(long offset, long length) throws IOException;
+    }
+
+    public static class MalformedRowException extends RuntimeException {
+        public MalformedRowException(String message) {
+            super(message);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.kestra.core.services;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.storages.StorageSplitInterface;
+import io.kestra.core.utils.Rethrow;
 import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
 
 import java.io.BufferedReader;
@@ -26,42 +27,90 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
 
 public abstract class StorageService {
 
+    // below this size, splitting is fast enough on a single thread
+    private static final long PARALLEL_SPLIT_THRESHOLD = 128 * 1024 * 1024;
+    private static final long MIN_SEGMENT_SIZE = 8 * 1024 * 1024;
+
     public static List<URI> split(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from) throws IOException, IllegalVariableEvaluationException {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        long size = runContext.storage().getAttributes(from).getSize();
+        // each segment is read from its offset, on a storage that can't do it, every segment would read the file from the start
+        if (parallelism == 1 || size < PARALLEL_SPLIT_THRESHOLD || !runContext.storage().supportsRangedReads()) {
+            return split(runContext, storageSplitInterface, from, 1, size);
+        }
+
+        return split(runContext, storageSplitInterface, from, parallelism, Math.max(MIN_SEGMENT_SIZE, size / (parallelism * 4L)));
+    }
+
+    /**
+     * @param parallelism the number of threads splitting the file, 1 to split the file sequentially.
+     * @param segmentSize the approximate size of the segments of the file split concurrently.
+     */
+    static List<URI> split(RunContext runContext, StorageSplitInterface storageSplitInterface, URI from, int parallelism, long segmentSize) throws IOException, IllegalVariableEvaluationException {
         String fromPath = from.getPath();
         String extension = ".tmp";
         if (fromPath.indexOf('.') >= 0) {
             extension = fromPath.substring(fromPath.lastIndexOf('.'));
         }
 
-        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(from)))) {
-            List<Path> splited;
-
-            if (storageSplitInterface.getRegexPattern() != null) {
-                String renderedPattern = runContext.render(storageSplitInterface.getRegexPattern()).as(String.class).orElseThrow();
-                String separator = runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow();
-                splited = StorageService.splitByRegex(runContext, extension, separator, bufferedReader, renderedPattern);
-            } else if (storageSplitInterface.getBytes() != null) {
-                ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
-                Number convert = readableBytesTypeConverter.convert(runContext.render(storageSplitInterface.getBytes()).as(String.class).orElseThrow(), Number.class)
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + storageSplitInterface.getBytes() + "'"));
-
-                splited = StorageService.split(runContext, extension, runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow(),
-                    bufferedReader, (bytes, size) -> bytes >= convert.longValue());
-            } else if (storageSplitInterface.getPartitions() != null) {
-                splited = StorageService.partition(runContext, extension, runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow(),
-                    bufferedReader, runContext.render(storageSplitInterface.getPartitions()).as(Integer.class).orElseThrow());
-            } else if (storageSplitInterface.getRows() != null) {
-                Integer renderedRows = runContext.render(storageSplitInterface.getRows()).as(Integer.class).orElseThrow();
-                splited = StorageService.split(runContext, extension, runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow(),
-                    bufferedReader, (bytes, size) -> size >= renderedRows);
+        String separator = runContext.render(storageSplitInterface.getSeparator()).as(String.class).orElseThrow();
+        String tempFileExtension = extension;
+        ParallelFileSplitter splitter = parallelism > 1 ? new ParallelFileSplitter(
+            (offset, length) -> runContext.storage().getFile(from, offset, length),
+            runContext.storage().getAttributes(from).getSize(),
+            separator,
+            () -> runContext.workingDir().createTempFile(tempFileExtension),
+            parallelism,
+            segmentSize
+        ) : null;
+
+        List<Path> splited;
+        if (storageSplitInterface.getRegexPattern() != null) {
+            String renderedPattern = runContext.render(storageSplitInterface.getRegexPattern()).as(String.class).orElseThrow();
+            splited = splitter != null ?
+                splitter.splitByRegex(renderedPattern) :
+                sequential(runContext, from, bufferedReader -> StorageService.splitByRegex(runContext, tempFileExtension, separator, bufferedReader, renderedPattern));
+        } else if (storageSplitInterface.getBytes() != null) {
+            ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
+            Number convert = readableBytesTypeConverter.convert(runContext.render(storageSplitInterface.getBytes()).as(String.class).orElseThrow(), Number.class)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + storageSplitInterface.getBytes() + "'"));
+
+            Rethrow.FunctionChecked<BufferedReader, List<Path>, IOException> sequentialSplit = bufferedReader -> StorageService.split(runContext, tempFileExtension, separator,
+                bufferedReader, (bytes, rows) -> bytes >= convert.longValue());
+            if (splitter != null) {
+                try {
+                    splited = splitter.splitByBytes(convert.longValue());
+                } catch (ParallelFileSplitter.MalformedRowException e) {
+                    runContext.logger().debug("Unable to split the file in parallel, splitting it sequentially: {}", e.getMessage());
+                    splited = sequential(runContext, from, sequentialSplit);
+                }
             } else {
-                throw new IllegalArgumentException("Invalid configuration with no size, count, rows, nor regexPattern");
+                splited = sequential(runContext, from, sequentialSplit);
             }
+        } else if (storageSplitInterface.getPartitions() != null) {
+            Integer renderedPartitions = runContext.render(storageSplitInterface.getPartitions()).as(Integer.class).orElseThrow();
+            splited = splitter != null ?
+                splitter.partition(renderedPartitions) :
+                sequential(runContext, from, bufferedReader -> StorageService.partition(runContext, tempFileExtension, separator, bufferedReader, renderedPartitions));
+        } else if (storageSplitInterface.getRows() != null) {
+            Integer renderedRows = runContext.render(storageSplitInterface.getRows()).as(Integer.class).orElseThrow();
+            splited = splitter != null ?
+                splitter.splitByRows(renderedRows) :
+                sequential(runContext, from, bufferedReader -> StorageService.split(runContext, tempFileExtension, separator,
+                    bufferedReader, (bytes, rows) -> rows >= renderedRows));
+        } else {
+            throw new IllegalArgumentException("Invalid configuration with no size, count, rows, nor regexPattern");
+        }
 
-            return splited
-                .stream()
-                .map(throwFunction(path -> runContext.storage().putFile(path.toFile())))
-                .toList();
+        return splited
+            .stream()
+            .map(throwFunction(path -> runContext.storage().putFile(path.toFile())))
+            .toList();
+    }
+
+    private static List<Path> sequential(RunContext runContext, URI from, Rethrow.FunctionChecked<BufferedReader, List<Path>, IOException> splitter) throws IOException {
+        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(from)))) {
+            return splitter.apply(bufferedReader);
         }
     }
 
@@ -1,10 +1,22 @@
 package io.kestra.core.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
 import io.kestra.core.models.executions.Variables;
 import io.kestra.core.models.tasks.Output;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.InternalStorage;
+import io.kestra.core.storages.NamespaceFactory;
 import io.kestra.core.storages.StorageContext;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.MapUtils;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 
@@ -12,10 +24,28 @@ import java.util.Map;
  * Service for working with {@link Variables}.
  * It allows easily creating a {@link Variables} object.
  * <p>
- * Note: Outputs in internal storage is an EE feature so on OSS it always return an InMemory variable.
+ * When the claim-check mode is enabled (<code>kestra.variables.outputs-storage.enabled</code>),
+ * outputs whose serialized size exceeds <code>kestra.variables.outputs-storage.threshold</code> bytes are stored once
+ * inside the internal storage and only referenced by their URI inside the execution.
+ * They are then lazily loaded back when accessed, for example, from a Pebble expression.
+ * Otherwise, it always returns an InMemory variable.
  */
+@Slf4j
 @Singleton
 public class VariablesService {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    @Value("${kestra.variables.outputs-storage.enabled:false}")
+    private boolean outputsStorageEnabled;
+
+    @Value("${kestra.variables.outputs-storage.threshold:1048576}")
+    private long outputsStorageThreshold;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private NamespaceFactory namespaceFactory;
 
     /**
      * Creates a {@link Variables} from a StorageContext and an Output.
@@ -26,8 +56,30 @@ public class VariablesService {
 
     /**
      * Creates a {@link Variables} from a StorageContext and an Output map.
+     * The outputs are offloaded to the internal storage if they exceed the configured threshold.
      */
     public Variables of(StorageContext context, Map<String, Object> outputs) {
-        return Variables.inMemory(outputs);
+        if (!outputsStorageEnabled || MapUtils.isEmpty(outputs) || storageInterface == null) {
+            return Variables.inMemory(outputs);
+        }
+
+        long size = serializedSize(outputs);
+        if (size <= outputsStorageThreshold) {
+            return Variables.inMemory(outputs);
+        }
+
+        log.debug("Storing outputs of size {} bytes inside the internal storage for '{}'", size, context.getContextStorageURI());
+        return Variables.inStorage(new InternalStorage(context, storageInterface, namespaceFactory), outputs);
+    }
+
+    private static long serializedSize(Map<String, Object> outputs) {
+        // only count the bytes, we don't want to keep a copy of the serialized outputs
+        try (CountingOutputStream counting = new CountingOutputStream(ByteStreams.nullOutputStream())) {
+            MAPPER.writeValue(counting, outputs);
+            return counting.getCount();
+        } catch (IOException e) {
+            // unable to compute the size, keep the outputs in memory as before
+            return 0L;
+        }
     }
 }
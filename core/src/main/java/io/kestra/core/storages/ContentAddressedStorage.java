@@ -0,0 +1,585 @@
+package io.kestra.core.storages;
+
+import com.google.common.util.concurrent.Striped;
+import io.kestra.core.utils.IdUtils;
+import jakarta.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A {@link StorageInterface} decorator storing identical files only once.
+ * <p>
+ * Each file is hashed while spooled to a local temporary file, then its content is stored once per tenant as a blob named after
+ * its SHA-256 digest, under the {@value #BLOBS_DIRECTORY} directory. The file URI only holds an empty record whose metadata
+ * points to the blob, and the blob keeps one reference entry per record: the blob is deleted along with its last record.
+ * Files written before the decorator was enabled have no such metadata and are served as they are.
+ * <p>
+ * Several instances can share the storage without any lock between them: a writer writes its reference before checking
+ * that the blob exists, while a deleter moves the blob to a tombstone before checking the references again, and restores it
+ * if a reference appeared meanwhile. So either the deleter sees the reference, or the writer sees the blob missing and writes it again.
+ * {@link #garbageCollect(String, Duration)} removes what interrupted writes and deletions leave behind.
+ * Instance resources are not deduplicated.
+ */
+public class ContentAddressedStorage implements StorageInterface {
+    public static final String BLOBS_DIRECTORY = ".blobs";
+    static final String DIGEST_METADATA = "kestra-blob-digest";
+    static final String SIZE_METADATA = "kestra-blob-size";
+
+    private static final String REFERENCES_SUFFIX = ".refs";
+    private static final String TOMBSTONE_SEPARATOR = ".deleted-";
+    private static final Duration DEFAULT_GRACE_PERIOD = Duration.ofHours(1);
+
+    private final StorageInterface delegate;
+    // only avoids concurrent writes of the same blob inside this instance, the consistency doesn't rely on it
+    private final Striped<Lock> locks = Striped.lock(64);
+    private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+    public ContentAddressedStorage(StorageInterface delegate) {
+        this.delegate = delegate;
+    }
+
+    public StorageInterface getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return the tenants this instance wrote files for since it started.
+     */
+    public Set<String> getTenants() {
+        return Set.copyOf(tenants);
+    }
+
+    @Override
+    public void init() throws IOException {
+        delegate.init();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public InputStream get(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        StorageObject storageObject = delegate.getWithMetadata(tenantId, namespace, uri);
+        String digest = digest(storageObject.metadata());
+        if (digest == null) {
+            return storageObject.inputStream();
+        }
+
+        storageObject.inputStream().close();
+        return delegate.get(tenantId, null, blobUri(digest));
+    }
+
+    @Override
+    public boolean supportsRangedReads() {
+        return delegate.supportsRangedReads();
+    }
+
+    @Override
+    public InputStream get(String tenantId, @Nullable String namespace, URI uri, long offset, long length) throws IOException {
+        String digest = digest(tenantId, namespace, uri);
+        if (digest == null) {
+            return delegate.get(tenantId, namespace, uri, offset, length);
+        }
+
+        return delegate.get(tenantId, null, blobUri(digest), offset, length);
+    }
+
+    @Override
+    public InputStream getInstanceResource(@Nullable String namespace, URI uri) throws IOException {
+        return delegate.getInstanceResource(namespace, uri);
+    }
+
+    @Override
+    public StorageObject getWithMetadata(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        StorageObject storageObject = delegate.getWithMetadata(tenantId, namespace, uri);
+        String digest = digest(storageObject.metadata());
+        if (digest == null) {
+            return storageObject;
+        }
+
+        storageObject.inputStream().close();
+        return new StorageObject(userMetadata(storageObject.metadata()), delegate.get(tenantId, null, blobUri(digest)));
+    }
+
+    @Override
+    public List<URI> allByPrefix(String tenantId, @Nullable String namespace, URI prefix, boolean includeDirectories) throws IOException {
+        return delegate.allByPrefix(tenantId, namespace, prefix, includeDirectories)
+            .stream()
+            .filter(uri -> !isBlob(uri))
+            .toList();
+    }
+
+    @Override
+    public List<FileAttributes> list(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        boolean root = getPath(uri).isEmpty();
+        List<FileAttributes> list = new ArrayList<>();
+        for (FileAttributes attributes : delegate.list(tenantId, namespace, uri)) {
+            if (!(root && BLOBS_DIRECTORY.equals(attributes.getFileName()))) {
+                list.add(recordAttributes(attributes));
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public List<FileAttributes> listInstanceResource(@Nullable String namespace, URI uri) throws IOException {
+        return delegate.listInstanceResource(namespace, uri);
+    }
+
+    @Override
+    public boolean exists(String tenantId, @Nullable String namespace, URI uri) {
+        return delegate.exists(tenantId, namespace, uri);
+    }
+
+    @Override
+    public boolean existsInstanceResource(@Nullable String namespace, URI uri) {
+        return delegate.existsInstanceResource(namespace, uri);
+    }
+
+    @Override
+    public FileAttributes getAttributes(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        return recordAttributes(delegate.getAttributes(tenantId, namespace, uri));
+    }
+
+    @Override
+    public FileAttributes getInstanceAttributes(@Nullable String namespace, URI uri) throws IOException {
+        return delegate.getInstanceAttributes(namespace, uri);
+    }
+
+    @Override
+    public URI put(String tenantId, @Nullable String namespace, URI uri, StorageObject storageObject) throws IOException {
+        reservedPathGuard(uri);
+        tenants.add(tenantId);
+
+        Path spooled = Files.createTempFile("kestra-blob-", ".tmp");
+        try {
+            MessageDigest messageDigest = sha256();
+            long size;
+            try (InputStream data = new DigestInputStream(storageObject.inputStream(), messageDigest)) {
+                size = Files.copy(data, spooled, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String digest = HexFormat.of().formatHex(messageDigest.digest());
+            String previousDigest = digest(tenantId, namespace, uri);
+
+            // the blob is referenced before the record is written, so it cannot be deleted in between
+            reference(tenantId, uri, digest, spooled);
+
+            Map<String, String> metadata = new HashMap<>();
+            if (storageObject.metadata() != null) {
+                metadata.putAll(storageObject.metadata());
+            }
+            metadata.put(DIGEST_METADATA, digest);
+            metadata.put(SIZE_METADATA, String.valueOf(size));
+            URI stored = delegate.put(tenantId, namespace, uri, new StorageObject(metadata, InputStream.nullInputStream()));
+
+            if (!getPath(stored).equals(getPath(uri))) {
+                // the storage renamed the file, so the reference must follow it
+                reference(tenantId, stored, digest, null);
+                release(tenantId, uri, digest);
+            }
+            if (previousDigest != null && !previousDigest.equals(digest)) {
+                release(tenantId, uri, previousDigest);
+            }
+
+            return stored;
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    @Override
+    public URI putInstanceResource(@Nullable String namespace, URI uri, StorageObject storageObject) throws IOException {
+        return delegate.putInstanceResource(namespace, uri, storageObject);
+    }
+
+    @Override
+    public boolean delete(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        reservedPathGuard(uri);
+
+        Map<URI, String> digests = digests(tenantId, namespace, uri);
+        boolean deleted = delegate.delete(tenantId, namespace, uri);
+        for (Map.Entry<URI, String> entry : digests.entrySet()) {
+            release(tenantId, entry.getKey(), entry.getValue());
+        }
+
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteInstanceResource(@Nullable String namespace, URI uri) throws IOException {
+        return delegate.deleteInstanceResource(namespace, uri);
+    }
+
+    @Override
+    public URI createDirectory(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        return delegate.createDirectory(tenantId, namespace, uri);
+    }
+
+    @Override
+    public URI createInstanceDirectory(String namespace, URI uri) throws IOException {
+        return delegate.createInstanceDirectory(namespace, uri);
+    }
+
+    @Override
+    public URI move(String tenantId, @Nullable String namespace, URI from, URI to) throws IOException {
+        reservedPathGuard(from);
+        reservedPathGuard(to);
+
+        Map<URI, String> digests = digests(tenantId, namespace, from);
+        URI moved = delegate.move(tenantId, namespace, from, to);
+
+        String fromPath = getPath(from);
+        String toPath = getPath(to);
+        for (Map.Entry<URI, String> entry : digests.entrySet()) {
+            URI target = toUri(toPath + getPath(entry.getKey()).substring(fromPath.length()));
+            reference(tenantId, target, entry.getValue(), null);
+            release(tenantId, entry.getKey(), entry.getValue());
+        }
+
+        return moved;
+    }
+
+    @Override
+    public List<URI> deleteByPrefix(String tenantId, @Nullable String namespace, URI storagePrefix) throws IOException {
+        Map<URI, String> digests = new LinkedHashMap<>();
+        for (URI uri : allByPrefix(tenantId, namespace, storagePrefix, false)) {
+            String digest = digest(tenantId, namespace, uri);
+            if (digest != null) {
+                digests.put(uri, digest);
+            }
+        }
+
+        List<URI> deleted = delegate.deleteByPrefix(tenantId, namespace, storagePrefix)
+            .stream()
+            .filter(uri -> !isBlob(uri))
+            .toList();
+        for (Map.Entry<URI, String> entry : digests.entrySet()) {
+            release(tenantId, entry.getKey(), entry.getValue());
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Runs {@link #garbageCollect(String, Duration)} with a grace period of one hour.
+     */
+    public List<URI> garbageCollect(String tenantId) throws IOException {
+        return garbageCollect(tenantId, DEFAULT_GRACE_PERIOD);
+    }
+
+    /**
+     * Deletes the references whose record no longer points to their blob, then the blobs of the tenant without any reference left.
+     * This is only needed when records were deleted without this decorator, or when a write or a deletion was interrupted.
+     * <p>
+     * A reference is written before its record, so only the references older than the grace period are checked,
+     * as well as the tombstones left by interrupted deletions.
+     *
+     * @param tenantId    the tenant identifier
+     * @param gracePeriod the minimal age of the references and tombstones to check, longer than any write
+     * @return the URIs of the deleted blobs
+     * @throws IOException if the blobs cannot be listed or deleted
+     */
+    public List<URI> garbageCollect(String tenantId, Duration gracePeriod) throws IOException {
+        long before = System.currentTimeMillis() - gracePeriod.toMillis();
+        List<URI> deleted = new ArrayList<>();
+        for (URI uri : delegate.allByPrefix(tenantId, null, URI.create("/" + BLOBS_DIRECTORY + "/"), false)) {
+            String[] segments = getPath(uri).split("/");
+            if (segments.length != 3) {
+                // a reference entry, handled with its blob
+                continue;
+            }
+
+            String name = segments[2];
+            int tombstone = name.indexOf(TOMBSTONE_SEPARATOR);
+            if (tombstone >= 0) {
+                // moving the blob may keep its modification time, so the tombstone holds its creation time
+                String digest = name.substring(0, tombstone);
+                String createdAt = name.substring(tombstone + TOMBSTONE_SEPARATOR.length(), name.indexOf('-', tombstone + TOMBSTONE_SEPARATOR.length()));
+                if (Long.parseLong(createdAt) <= before) {
+                    if (!isReferenced(tenantId, digest)) {
+                        delegate.delete(tenantId, null, uri);
+                    } else {
+                        restore(tenantId, digest, uri);
+                    }
+                }
+                continue;
+            }
+
+            String digest = name;
+            Lock lock = locks.get(digest);
+            lock.lock();
+            try {
+                for (URI reference : references(tenantId, digest)) {
+                    if (delegate.getAttributes(tenantId, null, reference).getLastModifiedTime() > before) {
+                        continue;
+                    }
+
+                    String record;
+                    try (InputStream inputStream = delegate.get(tenantId, null, reference)) {
+                        record = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+                    }
+
+                    if (!digest.equals(digest(tenantId, null, toUri(record)))) {
+                        delegate.delete(tenantId, null, reference);
+                    }
+                }
+
+                if (deleteIfUnreferenced(tenantId, digest)) {
+                    deleted.add(blobUri(digest));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return deleted;
+    }
+
+    private void reference(String tenantId, URI uri, String digest, @Nullable Path content) throws IOException {
+        Lock lock = locks.get(digest);
+        lock.lock();
+        try {
+            // the entry holds the path of its record, for the garbage collection
+            // it must be written before the blob is checked, see deleteIfUnreferenced()
+            delegate.put(tenantId, null, referenceUri(digest, uri), new ByteArrayInputStream(getPath(uri).getBytes(StandardCharsets.UTF_8)));
+
+            if (content != null && !delegate.exists(tenantId, null, blobUri(digest))) {
+                try (InputStream data = new FileInputStream(content.toFile())) {
+                    delegate.put(tenantId, null, blobUri(digest), data);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(String tenantId, URI uri, String digest) throws IOException {
+        Lock lock = locks.get(digest);
+        lock.lock();
+        try {
+            delegate.delete(tenantId, null, referenceUri(digest, uri));
+            deleteIfUnreferenced(tenantId, digest);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the blob if it has no reference left.
+     * <p>
+     * The blob is moved to a tombstone before the references are checked again: a writer referencing the blob meanwhile
+     * is either seen by this second check, and the blob is restored, or it finds the blob missing and writes it again.
+     *
+     * @return <code>true</code> if the blob was deleted.
+     */
+    private boolean deleteIfUnreferenced(String tenantId, String digest) throws IOException {
+        if (isReferenced(tenantId, digest)) {
+            return false;
+        }
+
+        URI tombstone = URI.create(blobUri(digest) + TOMBSTONE_SEPARATOR + System.currentTimeMillis() + "-" + IdUtils.create());
+        try {
+            delegate.move(tenantId, null, blobUri(digest), tombstone);
+        } catch (FileNotFoundException e) {
+            // already deleted by another instance
+            return false;
+        }
+
+        if (!isReferenced(tenantId, digest)) {
+            delegate.delete(tenantId, null, tombstone);
+            return true;
+        }
+
+        restore(tenantId, digest, tombstone);
+        return false;
+    }
+
+    private void restore(String tenantId, String digest, URI tombstone) throws IOException {
+        if (delegate.exists(tenantId, null, blobUri(digest))) {
+            // a writer already wrote it again
+            delegate.delete(tenantId, null, tombstone);
+        } else {
+            delegate.move(tenantId, null, tombstone, blobUri(digest));
+        }
+    }
+
+    private boolean isReferenced(String tenantId, String digest) throws IOException {
+        try {
+            // a single reference is enough, so the references are not all listed
+            return !delegate.list(tenantId, null, referencesUri(digest), 1).isEmpty();
+        } catch (FileNotFoundException e) {
+            return false;
+        }
+    }
+
+    private List<URI> references(String tenantId, String digest) throws IOException {
+        try {
+            return delegate.list(tenantId, null, referencesUri(digest))
+                .stream()
+                .map(attributes -> URI.create(referencesUri(digest) + "/" + attributes.getFileName()))
+                .toList();
+        } catch (FileNotFoundException e) {
+            return List.of();
+        }
+    }
+
+    private Map<URI, String> digests(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        FileAttributes attributes;
+        try {
+            attributes = delegate.getAttributes(tenantId, namespace, uri);
+        } catch (FileNotFoundException e) {
+            return Map.of();
+        }
+
+        List<URI> files = attributes.getType() == FileAttributes.FileType.Directory ?
+            allByPrefix(tenantId, namespace, uri, false) :
+            List.of(uri);
+
+        Map<URI, String> digests = new LinkedHashMap<>();
+        for (URI file : files) {
+            String digest = digest(tenantId, namespace, file);
+            if (digest != null) {
+                digests.put(file, digest);
+            }
+        }
+
+        return digests;
+    }
+
+    @Nullable
+    private String digest(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        try {
+            StorageObject storageObject = delegate.getWithMetadata(tenantId, namespace, uri);
+            storageObject.inputStream().close();
+            return digest(storageObject.metadata());
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static String digest(@Nullable Map<String, String> metadata) {
+        return metadata == null ? null : metadata.get(DIGEST_METADATA);
+    }
+
+    @Nullable
+    private static Map<String, String> userMetadata(Map<String, String> metadata) {
+        Map<String, String> userMetadata = new HashMap<>(metadata);
+        userMetadata.remove(DIGEST_METADATA);
+        userMetadata.remove(SIZE_METADATA);
+
+        return userMetadata.isEmpty() ? null : userMetadata;
+    }
+
+    private FileAttributes recordAttributes(FileAttributes attributes) throws IOException {
+        if (attributes.getType() != FileAttributes.FileType.File) {
+            return attributes;
+        }
+
+        Map<String, String> metadata = attributes.getMetadata();
+        if (digest(metadata) == null) {
+            return attributes;
+        }
+
+        return new RecordAttributes(attributes, Long.parseLong(metadata.get(SIZE_METADATA)), userMetadata(metadata));
+    }
+
+    private boolean isBlob(URI uri) {
+        String path = getPath(uri);
+        return path.equals(BLOBS_DIRECTORY) || path.startsWith(BLOBS_DIRECTORY + "/");
+    }
+
+    private void reservedPathGuard(URI uri) {
+        if (isBlob(uri)) {
+            throw new IllegalArgumentException("The '" + BLOBS_DIRECTORY + "' directory is reserved for deduplicated contents.");
+        }
+    }
+
+    private static URI blobUri(String digest) {
+        return URI.create("/" + BLOBS_DIRECTORY + "/" + digest.substring(0, 2) + "/" + digest);
+    }
+
+    private static URI referencesUri(String digest) {
+        return URI.create(blobUri(digest) + REFERENCES_SUFFIX);
+    }
+
+    private URI referenceUri(String digest, URI uri) {
+        // the record path is hashed so that any path fits in a single file name
+        String key = HexFormat.of().formatHex(sha256().digest(getPath(uri).getBytes(StandardCharsets.UTF_8)));
+        return URI.create(referencesUri(digest) + "/" + key);
+    }
+
+    private static URI toUri(String path) {
+        try {
+            return new URI(null, null, "/" + path, null);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record RecordAttributes(FileAttributes record, long size, @Nullable Map<String, String> metadata) implements FileAttributes {
+        @Override
+        public String getFileName() {
+            return record.getFileName();
+        }
+
+        @Override
+        public long getLastModifiedTime() {
+            return record.getLastModifiedTime();
+        }
+
+        @Override
+        public long getCreationTime() {
+            return record.getCreationTime();
+        }
+
+        @Override
+        public FileType getType() {
+            return record.getType();
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public Map<String, String> getMetadata() {
+            return metadata;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.kestra.core.storages;
+
+import io.kestra.core.tenant.TenantService;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Periodically runs the garbage collection of the {@link ContentAddressedStorage}, for the default tenant and the tenants
+ * this instance wrote files for.
+ * <p>
+ * The garbage collection is safe to run on every instance at the same time.
+ */
+@Singleton
+@Requires(property = "kestra.storage.deduplication.enabled", value = "true")
+@Requires(property = "kestra.server-type")
+@Slf4j
+public class ContentAddressedStorageCollector {
+    private final StorageInterface storageInterface;
+    private final TenantService tenantService;
+    private final Duration gracePeriod;
+
+    @Inject
+    public ContentAddressedStorageCollector(
+        StorageInterface storageInterface,
+        TenantService tenantService,
+        @Value("${kestra.storage.deduplication.gc.grace-period:1h}") Duration gracePeriod
+    ) {
+        this.storageInterface = storageInterface;
+        this.tenantService = tenantService;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(initialDelay = "${kestra.storage.deduplication.gc.initial-delay:15m}", fixedDelay = "${kestra.storage.deduplication.gc.fixed-delay:1h}")
+    public void run() {
+        if (!(storageInterface instanceof ContentAddressedStorage storage)) {
+            return;
+        }
+
+        Set<String> tenants = new TreeSet<>(storage.getTenants());
+        tenants.add(tenantService.resolveTenant());
+        for (String tenant : tenants) {
+            try {
+                List<URI> deleted = storage.garbageCollect(tenant, gracePeriod);
+                if (!deleted.isEmpty()) {
+                    log.info("Deleted {} unreferenced blobs of tenant '{}'", deleted.size(), tenant);
+                }
+            } catch (Exception e) {
+                log.warn("Unable to collect the unreferenced blobs of tenant '{}'", tenant, e);
+            }
+        }
+    }
+}
@@ -100,6 +100,24 @@ public class InternalStorage implements Storage {
 
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public InputStream getFile(final URI uri, long offset, long length) throws IOException {
+        uriGuard(uri);
+
+        return this.storage.get(context.getTenantId(), context.getNamespace(), uri, offset, length);
+    }
+
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public boolean supportsRangedReads() {
+        return this.storage.supportsRangedReads();
+    }
+
     @Override
     public FileAttributes getAttributes(URI uri) throws IOException {
         uriGuard(uri);
@@ -48,6 +48,29 @@ public interface Storage {
      */
     InputStream getFile(URI uri) throws IOException;
 
+    /**
+     * Retrieve an {@link InputStream} for a byte range of the given file URI.
+     * The range is truncated to the end of the file.
+     *
+     * @param uri    the file URI.
+     * @param offset the position of the first byte to read.
+     * @param length the maximum number of bytes to read.
+     * @return the {@link InputStream}.
+     * @throws IllegalArgumentException if the given {@link URI} is {@code null} or invalid.
+     * @throws IOException              if an error happens while accessing the file.
+     */
+    InputStream getFile(URI uri, long offset, long length) throws IOException;
+
+    /**
+     * Whether {@link #getFile(URI, long, long)} reads a byte range without reading the bytes before it,
+     * so a file can be read concurrently by ranges.
+     *
+     * @return <code>true</code> if the underlying storage supports ranged reads.
+     */
+    default boolean supportsRangedReads() {
+        return false;
+    }
+
     /**
      * Retrieves the metadata attributes for the given URI.
      *
@@ -4,6 +4,8 @@ import io.kestra.core.annotations.Retryable;
 import io.kestra.core.models.Plugin;
 import io.kestra.core.models.executions.Execution;
 import jakarta.annotation.Nullable;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.lang3.RandomStringUtils;
 
 import java.io.BufferedInputStream;
@@ -56,6 +58,51 @@ public interface StorageInterface extends AutoCloseable, Plugin {
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class, NoSuchFileException.class})
     InputStream get(String tenantId, @Nullable String namespace, URI uri) throws IOException;
 
+    /**
+     * Whether {@link #get(String, String, URI, long, long)} reads a byte range without reading the bytes before it.
+     * Callers should only read an object concurrently by ranges when it does.
+     *
+     * @return <code>true</code> if the storage overrides the ranged get to read from an offset.
+     */
+    default boolean supportsRangedReads() {
+        return false;
+    }
+
+    /**
+     * Retrieves an input stream of a byte range for the given storage URI.
+     * The range is truncated to the end of the object, so the stream is empty when the offset is past the end.
+     * <p>
+     * The default implementation skips the first bytes of the whole object;
+     * storage implementations able to read from an offset should override it, and {@link #supportsRangedReads()}.
+     *
+     * @param tenantId  the tenant identifier
+     * @param namespace the namespace of the object (may be null)
+     * @param uri       the URI of the object to retrieve
+     * @param offset    the position of the first byte to read
+     * @param length    the maximum number of bytes to read
+     * @return an InputStream to read the range of the object's contents
+     * @throws IOException if the object cannot be read
+     */
+    @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class, NoSuchFileException.class})
+    default InputStream get(String tenantId, @Nullable String namespace, URI uri, long offset, long length) throws IOException {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("The offset and length of a range must be positive, got " + offset + " and " + length);
+        }
+
+        InputStream inputStream = get(tenantId, namespace, uri);
+        try {
+            IOUtils.skip(inputStream, offset);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+
+        return BoundedInputStream.builder()
+            .setInputStream(inputStream)
+            .setMaxCount(length)
+            .get();
+    }
+
     /**
      * Retrieves an input stream of a instance resource for the given storage URI.
      * An instance resource is a resource stored outside any tenant storage, accessible for the whole instance
@@ -105,6 +152,24 @@ public interface StorageInterface extends AutoCloseable, Plugin {
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class, NoSuchFileException.class})
     List<FileAttributes> list(String tenantId, @Nullable String namespace, URI uri) throws IOException;
 
+    /**
+     * Lists the attributes of at most <code>limit</code> files and directories under the given URI, in no particular order.
+     * <p>
+     * The default implementation lists all of them; storage implementations able to stop listing early should override it.
+     *
+     * @param tenantId  the tenant identifier
+     * @param namespace the namespace (may be null)
+     * @param uri       the URI to list
+     * @param limit     the maximum number of files and directories to list
+     * @return a list of file attributes
+     * @throws IOException if the listing fails
+     */
+    @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class, NoSuchFileException.class})
+    default List<FileAttributes> list(String tenantId, @Nullable String namespace, URI uri, int limit) throws IOException {
+        List<FileAttributes> list = list(tenantId, namespace, uri);
+        return list.size() > limit ? list.subList(0, limit) : list;
+    }
+
     /**
      * Lists the attributes of all instance files and instance directories under the given URI.
      * An instance resource is a resource stored outside any tenant storage, accessible for the whole instance
@@ -18,11 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -37,6 +39,8 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
 @Slf4j
 public class InternalKVStore implements KVStore {
 
+    private static final int MAX_INCREMENT_ATTEMPTS = 100;
+
     private static final Pattern DURATION_PATTERN = Pattern.compile("^P(?=[^T]|T.)(?:\\d*D)?(?:T(?=.)(?:\\d*H)?(?:\\d*M)?(?:\\d*S)?)?$");
 
     private final String namespace;
@@ -78,23 +82,132 @@ public class InternalKVStore implements KVStore {
                 "Cannot set value for key '%s'. Key already exists and `overwrite` is set to `false`.", key));
         }
 
-        Object actualValue = value.value();
-        byte[] serialized = actualValue instanceof Duration ? actualValue.toString().getBytes(StandardCharsets.UTF_8) : JacksonMapper.ofIon().writeValueAsBytes(actualValue);
+        PersistedKvMetadata saved = this.kvMetadataRepository.save(this.metadata(key, value.metadata()));
+        this.putValue(key, saved.getVersion(), value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<KVEntry> putIfVersion(String key, KVValueAndMetadata value, int expectedVersion) throws IOException {
+        KVStore.validateKey(key);
+
+        Optional<PersistedKvMetadata> maybeCurrent = this.kvMetadataRepository.findByName(this.tenant, this.namespace, key);
+        if (this.version(maybeCurrent) != expectedVersion) {
+            return Optional.empty();
+        }
+
+        Optional<PersistedKvMetadata> maybeSaved = this.kvMetadataRepository.saveIfVersion(
+            this.metadata(key, value.metadata()),
+            maybeCurrent.map(PersistedKvMetadata::getVersion).orElse(null)
+        );
+        if (maybeSaved.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // the version is owned by this writer, so the value can be written after the metadata
+        this.putValue(key, maybeSaved.get().getVersion(), value);
+        return Optional.of(KVEntry.from(maybeSaved.get()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Number increment(String key, Number delta, @Nullable KVMetadata metadata) throws IOException {
+        KVStore.validateKey(key);
+        Objects.requireNonNull(delta, "delta cannot be null");
+
+        for (int attempt = 1; attempt <= MAX_INCREMENT_ATTEMPTS; attempt++) {
+            Optional<PersistedKvMetadata> maybeCurrent = this.kvMetadataRepository.findByName(this.tenant, this.namespace, key);
+            int version = this.version(maybeCurrent);
+
+            Optional<Number> updated = Optional.of(add(key, 0L, delta));
+            KVMetadata updatedMetadata = metadata;
+            if (version > 0) {
+                // the metadata may be saved before the value is written by a concurrent writer, in this case we retry
+                updated = this.readValue(key, version).map(current -> add(key, current.value(), delta));
+                updatedMetadata = new KVMetadata(maybeCurrent.get().getDescription(), maybeCurrent.get().getExpirationDate());
+            }
+
+            if (updated.isPresent() && this.putIfVersion(key, new KVValueAndMetadata(updatedMetadata, updated.get()), version).isPresent()) {
+                return updated.get();
+            }
+
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(1, Math.min(attempt, 10) * 5L + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KVStoreException("Interrupted while incrementing the value of key '" + key + "'", e);
+            }
+        }
+
+        throw new KVStoreException(String.format(
+            "Cannot increment the value of key '%s', it was concurrently updated more than %d times.", key, MAX_INCREMENT_ATTEMPTS));
+    }
+
+    /**
+     * The version of the current entry as seen by the users: deleted and expired entries have no version.
+     */
+    private int version(Optional<PersistedKvMetadata> maybeMetadata) {
+        return maybeMetadata
+            .filter(metadata -> !metadata.isDeleted())
+            .filter(metadata -> Optional.ofNullable(metadata.getExpirationDate()).map(Instant.now()::isBefore).orElse(true))
+            .map(PersistedKvMetadata::getVersion)
+            .orElse(0);
+    }
 
-        PersistedKvMetadata saved = this.kvMetadataRepository.save(PersistedKvMetadata.builder()
+    private PersistedKvMetadata metadata(String key, @Nullable KVMetadata metadata) {
+        return PersistedKvMetadata.builder()
             .tenantId(this.tenant)
             .namespace(this.namespace)
             .name(key)
-            .description(Optional.ofNullable(value.metadata()).map(KVMetadata::getDescription).orElse(null))
-            .expirationDate(Optional.ofNullable(value.metadata()).map(KVMetadata::getExpirationDate).orElse(null))
+            .description(Optional.ofNullable(metadata).map(KVMetadata::getDescription).orElse(null))
+            .expirationDate(Optional.ofNullable(metadata).map(KVMetadata::getExpirationDate).orElse(null))
             .deleted(false)
-            .build());
-        this.storage.put(this.tenant, this.namespace, this.storageUri(key, saved.getVersion()), new StorageObject(
+            .build();
+    }
+
+    private void putValue(String key, int version, KVValueAndMetadata value) throws IOException {
+        Object actualValue = value.value();
+        byte[] serialized = actualValue instanceof Duration ? actualValue.toString().getBytes(StandardCharsets.UTF_8) : JacksonMapper.ofIon().writeValueAsBytes(actualValue);
+
+        this.storage.put(this.tenant, this.namespace, this.storageUri(key, version), new StorageObject(
             value.metadataAsMap(),
             new ByteArrayInputStream(serialized)
         ));
     }
 
+    private Optional<KVValue> readValue(String key, int version) throws IOException {
+        StorageObject withMetadata;
+        try {
+            withMetadata = this.storage.getWithMetadata(this.tenant, this.namespace, this.storageUri(key, version));
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        }
+
+        String raw = (String) KVValueAndMetadata.from(withMetadata).value();
+        return Optional.of(new KVValue(JacksonMapper.ofIon().readValue(raw, Object.class)));
+    }
+
+    private static Number add(String key, Object current, Number delta) {
+        if (!(current instanceof Number number)) {
+            throw new KVStoreException(String.format(
+                "Cannot increment the value of key '%s', the current value is not a number.", key));
+        }
+
+        if (isIntegral(number) && isIntegral(delta)) {
+            return Math.addExact(number.longValue(), delta.longValue());
+        }
+
+        return new BigDecimal(number.toString()).add(new BigDecimal(delta.toString()));
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -206,15 +319,8 @@ public class InternalKVStore implements KVStore {
         long actualDeletedEntries = kvEntries.stream()
             .map(KVEntry::key)
             .map(this::storageUri)
-            .map(throwFunction(uri -> {
-                boolean deleted = this.storage.delete(tenant, namespace, uri);
-                URI metadataURI = URI.create(uri.getPath() + ".metadata");
-                if (this.storage.exists(this.tenant, this.namespace, metadataURI)) {
-                    this.storage.delete(this.tenant, this.namespace, metadataURI);
-                }
-
-                return deleted;
-            })).filter(Boolean::booleanValue)
+            .map(throwFunction(this::deleteValue))
+            .filter(Boolean::booleanValue)
             .count();
 
         if (actualDeletedEntries != purgedMetadataCount) {
@@ -223,4 +329,30 @@ public class InternalKVStore implements KVStore {
 
         return purgedMetadataCount;
     }
+
+    /**
+     * Deletes the values of the given versions from the storage, the versions must belong to this K/V store.
+     *
+     * @return the number of values that were actually deleted.
+     */
+    public long deleteValues(List<PersistedKvMetadata> versions) throws IOException {
+        long deleted = 0;
+        for (PersistedKvMetadata version : versions) {
+            if (this.deleteValue(this.storageUri(version.getName(), version.getVersion()))) {
+                deleted++;
+            }
+        }
+
+        return deleted;
+    }
+
+    private boolean deleteValue(URI uri) throws IOException {
+        boolean deleted = this.storage.delete(this.tenant, this.namespace, uri);
+        URI metadataURI = URI.create(uri.getPath() + ".metadata");
+        if (this.storage.exists(this.tenant, this.namespace, metadataURI)) {
+            this.storage.delete(this.tenant, this.namespace, metadataURI);
+        }
+
+        return deleted;
+    }
 }
@@ -6,6 +6,7 @@ import io.kestra.core.models.QueryFilter;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.storages.StorageContext;
 import io.micronaut.data.model.Pageable;
+import jakarta.annotation.Nullable;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -62,6 +63,42 @@ public interface KVStore {
      */
     void put(String key, KVValueAndMetadata value, boolean overwrite) throws IOException;
 
+    /**
+     * Puts the given K/V entry only if the current entry has the expected version.
+     * The check and the write are atomic, so concurrent writers expecting the same version cannot overwrite each other.
+     *
+     * @param key             The entry key - cannot be {@code null}.
+     * @param value           The entry value - cannot be {@code null}.
+     * @param expectedVersion The expected version of the current entry, {@code 0} if no entry must exist for the given key.
+     * @return The new {@link KVEntry}, otherwise {@link Optional#empty()} if the current entry doesn't have the expected version.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    Optional<KVEntry> putIfVersion(String key, KVValueAndMetadata value, int expectedVersion) throws IOException;
+
+    /**
+     * Puts the given K/V entry only if no entry exists for the given key, deleted and expired entries are considered as absent.
+     *
+     * @param key   The entry key - cannot be {@code null}.
+     * @param value The entry value - cannot be {@code null}.
+     * @return The new {@link KVEntry}, otherwise {@link Optional#empty()} if an entry already exists.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    default Optional<KVEntry> putIfAbsent(String key, KVValueAndMetadata value) throws IOException {
+        return putIfVersion(key, value, 0);
+    }
+
+    /**
+     * Atomically adds the given delta to the numeric value of the K/V entry.
+     *
+     * @param key      The entry key - cannot be {@code null}.
+     * @param delta    The delta to add - cannot be {@code null}.
+     * @param metadata The metadata of the entry if it doesn't exist yet, an existing entry keeps its metadata.
+     * @return The new value.
+     * @throws IOException      if an error occurred while executing the operation on the K/V store.
+     * @throws KVStoreException if the current value is not a number or if the entry is updated concurrently too many times.
+     */
+    Number increment(String key, Number delta, @Nullable KVMetadata metadata) throws IOException;
+
     /**
      * Finds the entry value for the given key.
      *
@@ -0,0 +1,297 @@
+package io.kestra.core.topologies;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowInterface;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.ExecutableTask;
+import io.kestra.core.utils.ListUtils;
+import io.kestra.plugin.core.condition.ExecutionFlow;
+import io.kestra.plugin.core.condition.ExecutionNamespace;
+import io.kestra.plugin.core.condition.FlowCondition;
+import io.kestra.plugin.core.condition.FlowNamespaceCondition;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * An inverted index of the flow dependencies, used to only compare a flow with the flows that may depend on it or
+ * that it may depend on when computing its {@link io.kestra.core.models.topologies.FlowTopology}.
+ * <p>
+ * For each flow, it indexes the targets of its subflow tasks and what the conditions of its flow triggers can match
+ * (a flow, a namespace, a namespace prefix or suffix, or any flow when it cannot be known statically).
+ * The candidates returned are always a superset of the real dependencies, the relations must still be checked with
+ * {@link FlowTopologyService#isChild(Flow, Flow)}.
+ * <p>
+ * The index is maintained incrementally with {@link #upsert(FlowWithSource)} and {@link #remove(FlowInterface)}.
+ */
+@Slf4j
+public class FlowTopologyIndex {
+    private final Map<FlowKey, Entry> flows = new HashMap<>();
+    private final Map<NamespaceKey, Set<FlowKey>> flowsByNamespace = new HashMap<>();
+    private final Map<String, Set<FlowKey>> flowsByTenant = new HashMap<>();
+
+    private final Map<FlowKey, Set<FlowKey>> subflowParents = new HashMap<>();
+
+    private final Map<FlowKey, Set<FlowKey>> triggersByFlow = new HashMap<>();
+    private final Map<NamespaceKey, Set<FlowKey>> triggersByNamespace = new HashMap<>();
+    private final Map<NamespaceKey, Set<FlowKey>> triggersByNamespacePrefix = new HashMap<>();
+    private final Map<NamespaceKey, Set<FlowKey>> triggersByNamespaceSuffix = new HashMap<>();
+    private final Map<String, Set<FlowKey>> triggersAnyFlow = new HashMap<>();
+
+    public static FlowTopologyIndex of(Collection<FlowWithSource> flows) {
+        FlowTopologyIndex index = new FlowTopologyIndex();
+        flows.forEach(index::upsert);
+
+        return index;
+    }
+
+    public synchronized void upsert(FlowWithSource flow) {
+        this.remove(flow);
+
+        FlowKey key = FlowKey.of(flow);
+        Entry entry = new Entry(flow, subflowTargets(flow), triggerMatchers(flow));
+        flows.put(key, entry);
+        add(flowsByNamespace, new NamespaceKey(key.tenantId(), key.namespace()), key);
+        add(flowsByTenant, key.tenantId(), key);
+
+        entry.subflowTargets().forEach(target -> add(subflowParents, target, key));
+        entry.triggerMatchers().forEach(matcher -> add(key, matcher));
+    }
+
+    public synchronized void remove(FlowInterface flow) {
+        FlowKey key = FlowKey.of(flow);
+        Entry entry = flows.remove(key);
+        if (entry == null) {
+            return;
+        }
+
+        remove(flowsByNamespace, new NamespaceKey(key.tenantId(), key.namespace()), key);
+        remove(flowsByTenant, key.tenantId(), key);
+
+        entry.subflowTargets().forEach(target -> remove(subflowParents, target, key));
+        entry.triggerMatchers().forEach(matcher -> {
+            switch (matcher.type()) {
+                case FLOW -> remove(triggersByFlow, new FlowKey(key.tenantId(), matcher.namespace(), matcher.flowId()), key);
+                case NAMESPACE -> remove(triggersByNamespace, new NamespaceKey(key.tenantId(), matcher.namespace()), key);
+                case NAMESPACE_PREFIX -> remove(triggersByNamespacePrefix, new NamespaceKey(key.tenantId(), matcher.namespace()), key);
+                case NAMESPACE_SUFFIX -> remove(triggersByNamespaceSuffix, new NamespaceKey(key.tenantId(), matcher.namespace()), key);
+                case ANY -> remove(triggersAnyFlow, key.tenantId(), key);
+            }
+        });
+    }
+
+    /**
+     * Returns the flows of the same tenant that may be a parent or a child of the provided flow.
+     * <p>
+     * The dependencies of the provided flow are read from it and not from the index, so it doesn't need to be indexed
+     * yet.
+     */
+    public synchronized List<FlowWithSource> candidates(FlowWithSource flow) {
+        FlowKey key = FlowKey.of(flow);
+        Set<FlowKey> candidates = new HashSet<>();
+
+        // the flow is the child: parents with a subflow task on it, or flows matched by its flow triggers
+        candidates.addAll(subflowParents.getOrDefault(key, Collections.emptySet()));
+        triggerMatchers(flow).forEach(matcher -> {
+            switch (matcher.type()) {
+                case FLOW -> candidates.add(new FlowKey(key.tenantId(), matcher.namespace(), matcher.flowId()));
+                case NAMESPACE -> candidates.addAll(flowsByNamespace.getOrDefault(new NamespaceKey(key.tenantId(), matcher.namespace()), Collections.emptySet()));
+                default -> flowsByTenant.getOrDefault(key.tenantId(), Collections.emptySet())
+                    .stream()
+                    .filter(candidate -> matcher.matches(candidate.namespace()))
+                    .forEach(candidates::add);
+            }
+        });
+
+        // the flow is the parent: the targets of its subflow tasks, or flows with a flow trigger matching it
+        candidates.addAll(subflowTargets(flow));
+        candidates.addAll(triggersByFlow.getOrDefault(key, Collections.emptySet()));
+        candidates.addAll(triggersByNamespace.getOrDefault(new NamespaceKey(key.tenantId(), key.namespace()), Collections.emptySet()));
+        for (int i = 0; i <= key.namespace().length(); i++) {
+            candidates.addAll(triggersByNamespacePrefix.getOrDefault(new NamespaceKey(key.tenantId(), key.namespace().substring(0, i)), Collections.emptySet()));
+            candidates.addAll(triggersByNamespaceSuffix.getOrDefault(new NamespaceKey(key.tenantId(), key.namespace().substring(i)), Collections.emptySet()));
+        }
+        candidates.addAll(triggersAnyFlow.getOrDefault(key.tenantId(), Collections.emptySet()));
+
+        return candidates.stream()
+            .map(flows::get)
+            .filter(Objects::nonNull)
+            .map(Entry::flow)
+            .toList();
+    }
+
+    private void add(FlowKey key, Matcher matcher) {
+        switch (matcher.type()) {
+            case FLOW -> add(triggersByFlow, new FlowKey(key.tenantId(), matcher.namespace(), matcher.flowId()), key);
+            case NAMESPACE -> add(triggersByNamespace, new NamespaceKey(key.tenantId(), matcher.namespace()), key);
+            case NAMESPACE_PREFIX -> add(triggersByNamespacePrefix, new NamespaceKey(key.tenantId(), matcher.namespace()), key);
+            case NAMESPACE_SUFFIX -> add(triggersByNamespaceSuffix, new NamespaceKey(key.tenantId(), matcher.namespace()), key);
+            case ANY -> add(triggersAnyFlow, key.tenantId(), key);
+        }
+    }
+
+    private static <K> void add(Map<K, Set<FlowKey>> map, K key, FlowKey value) {
+        map.computeIfAbsent(key, k -> new HashSet<>()).add(value);
+    }
+
+    private static <K> void remove(Map<K, Set<FlowKey>> map, K key, FlowKey value) {
+        Set<FlowKey> values = map.get(key);
+        if (values != null) {
+            values.remove(value);
+            if (values.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static Set<FlowKey> subflowTargets(Flow flow) {
+        try {
+            Set<FlowKey> targets = new HashSet<>();
+            flow.allTasksWithChilds()
+                .stream()
+                .filter(t -> t instanceof ExecutableTask)
+                .map(t -> ((ExecutableTask<?>) t).subflowId())
+                .filter(Objects::nonNull)
+                .forEach(subflowId -> targets.add(new FlowKey(flow.getTenantId(), subflowId.namespace(), subflowId.flowId())));
+
+            return targets;
+        } catch (Exception e) {
+            log.warn("Failed to detect flow task on namespace:'{}', flowId:'{}'", flow.getNamespace(), flow.getId(), e);
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Returns what the flow triggers of a flow can match, following {@link FlowTopologyService#isTriggerChild(Flow, Flow)}:
+     * all the conditions must match, so any restricting condition is enough. Otherwise, if all the flow triggers have
+     * preconditions, it's the union of their upstream flows.
+     */
+    private static List<Matcher> triggerMatchers(Flow flow) {
+        List<io.kestra.plugin.core.trigger.Flow> flowTriggers = ListUtils.emptyOnNull(flow.getTriggers())
+            .stream()
+            .filter(t -> t instanceof io.kestra.plugin.core.trigger.Flow)
+            .map(t -> (io.kestra.plugin.core.trigger.Flow) t)
+            .toList();
+
+        if (flowTriggers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Optional<Matcher> restriction = flowTriggers.stream()
+            .flatMap(trigger -> ListUtils.emptyOnNull(trigger.getConditions()).stream())
+            .map(FlowTopologyIndex::matcher)
+            .filter(Objects::nonNull)
+            .findFirst();
+
+        if (restriction.isPresent()) {
+            return List.of(restriction.get());
+        }
+
+        if (flowTriggers.stream().anyMatch(trigger -> trigger.getPreconditions() == null)) {
+            return List.of(Matcher.ANY);
+        }
+
+        return flowTriggers.stream()
+            .flatMap(trigger -> ListUtils.emptyOnNull(trigger.getPreconditions().getFlows()).stream())
+            .map(upstreamFlow -> {
+                if (upstreamFlow.getNamespace() == null) {
+                    return Matcher.ANY;
+                }
+
+                return upstreamFlow.getFlowId() == null ?
+                    new Matcher(MatcherType.NAMESPACE, upstreamFlow.getNamespace(), null) :
+                    new Matcher(MatcherType.FLOW, upstreamFlow.getNamespace(), upstreamFlow.getFlowId());
+            })
+            .distinct()
+            .toList();
+    }
+
+    private static Matcher matcher(Condition condition) {
+        if (condition instanceof ExecutionFlow executionFlow) {
+            String namespace = staticValue(executionFlow.getNamespace());
+            String flowId = staticValue(executionFlow.getFlowId());
+            return namespace == null || flowId == null ? null : new Matcher(MatcherType.FLOW, namespace, flowId);
+        }
+
+        if (condition instanceof FlowCondition flowCondition && flowCondition.getNamespace() != null && flowCondition.getFlowId() != null) {
+            return new Matcher(MatcherType.FLOW, flowCondition.getNamespace(), flowCondition.getFlowId());
+        }
+
+        if (condition instanceof FlowNamespaceCondition flowNamespaceCondition && flowNamespaceCondition.getNamespace() != null) {
+            return new Matcher(
+                Boolean.TRUE.equals(flowNamespaceCondition.getPrefix()) ? MatcherType.NAMESPACE_PREFIX : MatcherType.NAMESPACE,
+                flowNamespaceCondition.getNamespace(),
+                null
+            );
+        }
+
+        if (condition instanceof ExecutionNamespace executionNamespace) {
+            String namespace = staticValue(executionNamespace.getNamespace());
+            String comparison = staticValue(executionNamespace.getComparison());
+            String prefix = staticValue(executionNamespace.getPrefix());
+            if (namespace == null || (executionNamespace.getComparison() != null && comparison == null) || (executionNamespace.getPrefix() != null && prefix == null)) {
+                return null;
+            }
+
+            if (comparison == null) {
+                comparison = Boolean.parseBoolean(prefix) ? ExecutionNamespace.Comparison.PREFIX.name() : ExecutionNamespace.Comparison.EQUALS.name();
+            }
+
+            return switch (comparison) {
+                case "EQUALS" -> new Matcher(MatcherType.NAMESPACE, namespace, null);
+                case "PREFIX" -> new Matcher(MatcherType.NAMESPACE_PREFIX, namespace, null);
+                case "SUFFIX" -> new Matcher(MatcherType.NAMESPACE_SUFFIX, namespace, null);
+                default -> null;
+            };
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the value of a property if it's not a template, as it would be rendered as is.
+     */
+    private static String staticValue(Property<?> property) {
+        if (property == null) {
+            return null;
+        }
+
+        String value = property.toString();
+        return value == null || value.contains("{") ? null : value;
+    }
+
+    private record Entry(FlowWithSource flow, Set<FlowKey> subflowTargets, List<Matcher> triggerMatchers) {
+    }
+
+    private record FlowKey(String tenantId, String namespace, String flowId) {
+        static FlowKey of(FlowInterface flow) {
+            return new FlowKey(flow.getTenantId(), flow.getNamespace(), flow.getId());
+        }
+    }
+
+    private record NamespaceKey(String tenantId, String namespace) {
+    }
+
+    private enum MatcherType {
+        FLOW,
+        NAMESPACE,
+        NAMESPACE_PREFIX,
+        NAMESPACE_SUFFIX,
+        ANY
+    }
+
+    private record Matcher(MatcherType type, String namespace, String flowId) {
+        static final Matcher ANY = new Matcher(MatcherType.ANY, null, null);
+
+        boolean matches(String candidateNamespace) {
+            return switch (type) {
+                case NAMESPACE_PREFIX -> candidateNamespace.startsWith(namespace);
+                case NAMESPACE_SUFFIX -> candidateNamespace.endsWith(namespace);
+                case ANY -> true;
+                default -> throw new IllegalStateException("Unexpected matcher " + type);
+            };
+        }
+    }
+}
@@ -113,6 +113,13 @@ public class FlowTopologyService {
             .build();
     }
 
+    /**
+     * Computes the topology of a flow, only comparing it with the candidates of the index instead of all the flows.
+     */
+    public Stream<FlowTopology> topology(FlowWithSource child, FlowTopologyIndex index) {
+        return this.topology(child, index.candidates(child));
+    }
+
     public Stream<FlowTopology> topology(FlowWithSource child, List<FlowWithSource> allFlows) {
         return allFlows.stream()
             .flatMap(parent -> Stream.concat(
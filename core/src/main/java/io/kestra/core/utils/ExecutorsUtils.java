@@ -50,6 +50,28 @@ public class ExecutorsUtils {
         );
     }
 
+    /**
+     * Same as {@link #maxCachedThreadPool(int, String)} but with at most <code>maxQueued</code> pending tasks,
+     * a task submitted when the queue is full is rejected with a {@link RejectedExecutionException}.
+     */
+    public ExecutorService maxCachedThreadPool(int maxThread, int maxQueued, String name) {
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+            maxThread,
+            maxThread,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(maxQueued),
+            ThreadMainFactoryBuilder.build(name + "_%d")
+        );
+
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+        return this.wrap(
+            name,
+            threadPoolExecutor
+        );
+    }
+
     public ExecutorService singleThreadExecutor(String name) {
         return this.wrap(
             name,
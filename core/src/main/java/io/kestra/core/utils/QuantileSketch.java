@@ -0,0 +1,134 @@
+package io.kestra.core.utils;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A mergeable sketch estimating the quantiles of a distribution with a bounded relative error, following DDSketch.
+ * <p>
+ * Values are counted in buckets whose bounds grow geometrically, so any quantile is estimated within the relative accuracy
+ * of its exact value, whatever the distribution and the number of values. Sketches with the same relative accuracy can be merged,
+ * which allows computing the quantiles of several groups of values without keeping the values.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class QuantileSketch {
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    // values closer to zero are counted as zero, they are not worth their own bucket
+    private static final double MIN_INDEXABLE_VALUE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final NavigableMap<Integer, Long> positiveBuckets = new TreeMap<>();
+    private final NavigableMap<Integer, Long> negativeBuckets = new TreeMap<>();
+    private long zeroCount = 0;
+    private long count = 0;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * @param relativeAccuracy the maximum relative error of the estimated quantiles, between 0 and 1 exclusive.
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("The relative accuracy must be between 0 and 1 exclusive, got " + relativeAccuracy);
+        }
+
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Cannot add a non-finite value to a sketch, got " + value);
+        }
+
+        if (value > MIN_INDEXABLE_VALUE) {
+            positiveBuckets.merge(index(value), 1L, Long::sum);
+        } else if (value < -MIN_INDEXABLE_VALUE) {
+            negativeBuckets.merge(index(-value), 1L, Long::sum);
+        } else {
+            zeroCount++;
+        }
+
+        count++;
+    }
+
+    /**
+     * Adds all the values of another sketch to this one, both must have the same relative accuracy.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != this.relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different relative accuracies: " + this.relativeAccuracy + " and " + other.relativeAccuracy);
+        }
+
+        other.positiveBuckets.forEach((index, bucketCount) -> positiveBuckets.merge(index, bucketCount, Long::sum));
+        other.negativeBuckets.forEach((index, bucketCount) -> negativeBuckets.merge(index, bucketCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Estimates the value at the given quantile.
+     *
+     * @param quantile the quantile, between 0 and 1.
+     * @return the estimated value, or <code>null</code> if the sketch is empty.
+     */
+    @Nullable
+    public Double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("The quantile must be between 0 and 1, got " + quantile);
+        }
+
+        if (count == 0) {
+            return null;
+        }
+
+        double rank = quantile * (count - 1);
+        long seen = 0;
+
+        // the negative values are sorted from the largest absolute value
+        for (Map.Entry<Integer, Long> bucket : negativeBuckets.descendingMap().entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return -value(bucket.getKey());
+            }
+        }
+
+        seen += zeroCount;
+        if (seen > rank) {
+            return 0.0;
+        }
+
+        for (Map.Entry<Integer, Long> bucket : positiveBuckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return value(bucket.getKey());
+            }
+        }
+
+        throw new IllegalStateException("The rank " + rank + " is greater than the count " + count);
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private double value(int index) {
+        // the bucket [gamma^(index - 1), gamma^index] is represented by the value with the same relative error to both bounds
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+}
@@ -2,20 +2,33 @@ package io.kestra.plugin.core.execution;
 
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
 import io.kestra.core.runners.DefaultRunContext;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.services.ExecutionService;
+import io.kestra.core.storages.kv.KVEntry;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SuperBuilder
 @ToString
@@ -24,7 +37,9 @@ import java.util.List;
 @NoArgsConstructor
 @Schema(
     title = "Purge executions, logs, metrics, and storage files.",
-    description = "This task can be used to purge flow executions data for all flows, for a specific namespace, or for a specific flow."
+    description = "This task can be used to purge flow executions data for all flows, for a specific namespace, or for a specific flow.\n\n" +
+        "The progress is saved after each batch in the KV store of the flow namespace, so an interrupted purge is resumed by the next run of the task.\n\n" +
+        "The progress is shared by all the executions of the task: while a running execution is purging, the purge of the other executions is skipped."
 )
 @Plugin(
     examples = {
@@ -109,6 +124,23 @@ public class PurgeExecutions extends Task implements RunnableTask<PurgeExecution
     @NotNull
     private Property<Integer> batchSize = Property.ofValue(100);
 
+    @Schema(
+        title = "The number of executions whose storage files are deleted in parallel"
+    )
+    @Builder.Default
+    @NotNull
+    private Property<Integer> storageConcurrency = Property.ofValue(ExecutionService.DEFAULT_PURGE_STORAGE_CONCURRENCY);
+
+    @Schema(
+        title = "Flag specifying whether to resume an interrupted purge",
+        description = """
+            If the previous run of this task was interrupted, it's resumed from its last batch before purging with the current properties.
+            If disabled, the progress is not saved and the purge starts from the beginning."""
+    )
+    @Builder.Default
+    @NotNull
+    private Property<Boolean> resume = Property.ofValue(true);
+
     @Override
     public PurgeExecutions.Output run(RunContext runContext) throws Exception {
         ExecutionService executionService = ((DefaultRunContext)runContext).getApplicationContext().getBean(ExecutionService.class);
@@ -122,20 +154,159 @@ public class PurgeExecutions extends Task implements RunnableTask<PurgeExecution
             runContext.acl().allowNamespace(renderedNamespace).check();
         }
 
-        ExecutionService.PurgeResult purgeResult = executionService.purge(
+        Filters filters = new Filters(
             runContext.render(this.purgeExecution).as(Boolean.class).orElseThrow(),
             runContext.render(this.purgeLog).as(Boolean.class).orElseThrow(),
             runContext.render(this.purgeMetric).as(Boolean.class).orElseThrow(),
             runContext.render(this.purgeStorage).as(Boolean.class).orElseThrow(),
-            flowInfo.tenantId(),
             renderedNamespace,
             runContext.render(flowId).as(String.class).orElse(null),
-            runContext.render(startDate).as(String.class).map(ZonedDateTime::parse).orElse(null),
-            ZonedDateTime.parse(runContext.render(endDate).as(String.class).orElseThrow()),
-            this.states == null ? null : runContext.render(this.states).asList(State.Type.class),
-            runContext.render(this.batchSize).as(Integer.class).orElseThrow()
+            runContext.render(startDate).as(String.class).orElse(null),
+            runContext.render(endDate).as(String.class).orElseThrow(),
+            this.states == null ? null : runContext.render(this.states).asList(State.Type.class)
         );
+        int renderedBatchSize = runContext.render(this.batchSize).as(Integer.class).orElseThrow();
+        int renderedStorageConcurrency = runContext.render(this.storageConcurrency).as(Integer.class).orElseThrow();
+
+        if (!runContext.render(this.resume).as(Boolean.class).orElseThrow()) {
+            return output(executionService.purge(
+                filters.purgeExecution(),
+                filters.purgeLog(),
+                filters.purgeMetric(),
+                filters.purgeStorage(),
+                flowInfo.tenantId(),
+                filters.namespace(),
+                filters.flowId(),
+                filters.startDate() == null ? null : ZonedDateTime.parse(filters.startDate()),
+                ZonedDateTime.parse(filters.endDate()),
+                filters.states(),
+                renderedBatchSize,
+                renderedStorageConcurrency,
+                null,
+                checkpoint -> {}
+            ));
+        }
+
+        KVStore kvStore = runContext.namespaceKv(flowInfo.namespace());
+        String checkpointKey = "purge_executions." + flowInfo.id() + "." + this.getId();
+        String executionId = executionId(runContext);
+        Optional<KVEntry> entry = kvStore.get(checkpointKey);
+        Optional<Checkpoint> previous = entry.isEmpty() ? Optional.empty() : kvStore.getValue(checkpointKey).map(value -> JacksonMapper.toMap(value.value(), Checkpoint.class));
+
+        // the checkpoint is shared by all the executions of this task, so a running execution keeps it until its purge ends
+        if (previous.isPresent() && previous.get().executionId() != null && !previous.get().executionId().equals(executionId)) {
+            ExecutionRepositoryInterface executionRepository = ((DefaultRunContext)runContext).getApplicationContext().getBean(ExecutionRepositoryInterface.class);
+            Optional<Execution> owner = executionRepository.findById(flowInfo.tenantId(), previous.get().executionId());
+            if (owner.isPresent() && !owner.get().getState().isTerminated()) {
+                runContext.logger().warn("Skipping the purge, the execution '{}' is already purging", previous.get().executionId());
+                return output(ExecutionService.PurgeResult.builder().build());
+            }
+        }
+
+        // claim the checkpoint, a concurrent execution that claimed it first makes the version check fail
+        Checkpoint claimed = previous.map(checkpoint -> checkpoint.withExecutionId(executionId)).orElse(new Checkpoint(filters, null, 0, 0, 0, 0, executionId));
+        Optional<KVEntry> claim = kvStore.putIfVersion(checkpointKey, checkpointValue(claimed), entry.map(KVEntry::version).orElse(0));
+        if (claim.isEmpty()) {
+            runContext.logger().warn("Skipping the purge, another execution started purging concurrently");
+            return output(ExecutionService.PurgeResult.builder().build());
+        }
+        AtomicInteger checkpointVersion = new AtomicInteger(claim.get().version());
+
+        ExecutionService.PurgeResult resumed = ExecutionService.PurgeResult.builder().build();
+        if (previous.isPresent() && !previous.get().filters().equals(filters)) {
+            runContext.logger().info("Resuming the interrupted purge of executions ending before {}", previous.get().filters().endDate());
+            resumed = this.purge(executionService, flowInfo.tenantId(), claimed, renderedBatchSize, renderedStorageConcurrency, kvStore, checkpointKey, checkpointVersion);
+            previous = Optional.empty();
+        } else if (previous.isPresent()) {
+            runContext.logger().info("Resuming the interrupted purge after the execution '{}'", previous.get().lastId());
+        }
 
+        ExecutionService.PurgeResult purgeResult = this.purge(
+            executionService,
+            flowInfo.tenantId(),
+            previous.isPresent() ? claimed : new Checkpoint(filters, null, 0, 0, 0, 0, executionId),
+            renderedBatchSize,
+            renderedStorageConcurrency,
+            kvStore,
+            checkpointKey,
+            checkpointVersion
+        );
+        kvStore.delete(checkpointKey);
+
+        return output(purgeResult.toBuilder()
+            .executionsCount(purgeResult.getExecutionsCount() + resumed.getExecutionsCount())
+            .logsCount(purgeResult.getLogsCount() + resumed.getLogsCount())
+            .storagesCount(purgeResult.getStoragesCount() + resumed.getStoragesCount())
+            .metricsCount(purgeResult.getMetricsCount() + resumed.getMetricsCount())
+            .build()
+        );
+    }
+
+    private ExecutionService.PurgeResult purge(
+        ExecutionService executionService,
+        String tenantId,
+        Checkpoint from,
+        int batchSize,
+        int storageConcurrency,
+        KVStore kvStore,
+        String checkpointKey,
+        AtomicInteger checkpointVersion
+    ) throws IOException {
+        Filters filters = from.filters();
+
+        return executionService.purge(
+            filters.purgeExecution(),
+            filters.purgeLog(),
+            filters.purgeMetric(),
+            filters.purgeStorage(),
+            tenantId,
+            filters.namespace(),
+            filters.flowId(),
+            filters.startDate() == null ? null : ZonedDateTime.parse(filters.startDate()),
+            ZonedDateTime.parse(filters.endDate()),
+            filters.states(),
+            batchSize,
+            storageConcurrency,
+            from.lastId() == null ? null : new ExecutionService.PurgeCheckpoint(from.lastId(), ExecutionService.PurgeResult.builder()
+                .executionsCount(from.executionsCount())
+                .logsCount(from.logsCount())
+                .storagesCount(from.storagesCount())
+                .metricsCount(from.metricsCount())
+                .build()
+            ),
+            checkpoint -> {
+                Checkpoint progress = new Checkpoint(
+                    filters,
+                    checkpoint.lastId(),
+                    checkpoint.result().getExecutionsCount(),
+                    checkpoint.result().getLogsCount(),
+                    checkpoint.result().getStoragesCount(),
+                    checkpoint.result().getMetricsCount(),
+                    from.executionId()
+                );
+
+                try {
+                    KVEntry saved = kvStore.putIfVersion(checkpointKey, checkpointValue(progress), checkpointVersion.get())
+                        .orElseThrow(() -> new IllegalStateException("The progress of the purge was updated by another execution"));
+                    checkpointVersion.set(saved.version());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        );
+    }
+
+    private static KVValueAndMetadata checkpointValue(Checkpoint checkpoint) {
+        return new KVValueAndMetadata(new KVMetadata("Progress of the purge of executions", (Duration) null), JacksonMapper.toMap(checkpoint));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String executionId(RunContext runContext) {
+        var execution = (Map<String, Object>) runContext.getVariables().get("execution");
+        return execution != null ? (String) execution.get("id") : null;
+    }
+
+    private static Output output(ExecutionService.PurgeResult purgeResult) {
         return Output.builder()
             .executionsCount(purgeResult.getExecutionsCount())
             .logsCount(purgeResult.getLogsCount())
@@ -144,6 +315,25 @@ public class PurgeExecutions extends Task implements RunnableTask<PurgeExecution
             .build();
     }
 
+    record Filters(
+        boolean purgeExecution,
+        boolean purgeLog,
+        boolean purgeMetric,
+        boolean purgeStorage,
+        String namespace,
+        String flowId,
+        String startDate,
+        String endDate,
+        List<State.Type> states
+    ) {
+    }
+
+    record Checkpoint(Filters filters, String lastId, int executionsCount, int logsCount, int storagesCount, int metricsCount, String executionId) {
+        Checkpoint withExecutionId(String executionId) {
+            return new Checkpoint(filters, lastId, executionsCount, logsCount, storagesCount, metricsCount, executionId);
+        }
+    }
+
     @SuperBuilder(toBuilder = true)
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -5,8 +5,11 @@ import io.kestra.core.http.HttpRequest;
 import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.EncryptedString;
@@ -17,11 +20,16 @@ import lombok.experimental.SuperBuilder;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
@@ -37,7 +45,7 @@ import java.util.OptionalInt;
         This task makes an API call to a specified URL of an HTTP server and stores the response as an output.
         Kestra offers hundreds of plugins. Before using the generic HTTP task, check if a dedicated plugin fits your use case — it's recommended to use plugins first and only fall back to HTTP when needed.
         By default, the maximum length of the response is limited to 10MB, but it can be increased to at most 2GB by using the `options.maxContentLength` property.
-        Note that the response is added as an output of the task. If you need to process large API payloads, we recommend using the `Download` task instead.
+        Note that the response is added as an output of the task. If you need to process large API payloads, set `storeBody` to `true` to stream the response into Kestra's internal storage, or use the `Download` task instead.
         """
 )
 @Plugin(
@@ -311,6 +319,11 @@ import java.util.OptionalInt;
                 """
         )
     },
+    metrics = {
+        @Metric(name = "response.length", type = Counter.TYPE, unit = "bytes", description = "The length of the response body stored in internal storage, only when `storeBody` is true"),
+        @Metric(name = "response.throughput", type = Counter.TYPE, unit = "bytes/s", description = "The download throughput of the response body, only when `storeBody` is true"),
+        @Metric(name = "response.duration", type = Timer.TYPE, description = "The time taken to download the response body, only when `storeBody` is true")
+    },
     aliases = "io.kestra.plugin.fs.http.Request"
 )
 public class Request extends AbstractHttp implements RunnableTask<Request.Output> {
@@ -324,10 +337,27 @@ public class Request extends AbstractHttp implements RunnableTask<Request.Output
     )
     private Property<Boolean> encryptBody = Property.ofValue(false);
 
+    @Builder.Default
+    @Schema(
+        title = "If true, the HTTP response body will be streamed to Kestra's internal storage instead of being stored in the outputs.",
+        description = "The body is never fully loaded in memory, the `bodyUri` output contains the URI of the stored file and the `body` output is empty. Chunked and compressed responses are supported."
+    )
+    private Property<Boolean> storeBody = Property.ofValue(false);
+
+    @Schema(
+        title = "The maximum size of the response body in bytes when `storeBody` is true.",
+        description = "The task fails if the decoded response body is larger. No limit by default."
+    )
+    private Property<Long> maxBodySize;
+
     public Output run(RunContext runContext) throws Exception {
         try (HttpClient client = this.client(runContext)) {
             HttpRequest request = this.request(runContext);
 
+            if (runContext.render(this.storeBody).as(Boolean.class).orElseThrow()) {
+                return this.storeBody(runContext, client, request);
+            }
+
             HttpResponse<Byte[]> response = client.request(request, Byte[].class);
 
             String body = null;
@@ -351,6 +381,32 @@ public class Request extends AbstractHttp implements RunnableTask<Request.Output
         }
     }
 
+    private Output storeBody(RunContext runContext, HttpClient client, HttpRequest request) throws Exception {
+        Long rMaxBodySize = runContext.render(this.maxBodySize).as(Long.class).orElse(null);
+        Path tempFile = runContext.workingDir().createTempFile();
+
+        long start = System.nanoTime();
+        HttpResponse<Long> response;
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            response = client.request(request, output, rMaxBodySize);
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        long length = response.getBody();
+        runContext.metric(Counter.of("response.length", length));
+        runContext.metric(Timer.of("response.duration", duration));
+        if (!duration.isZero()) {
+            runContext.metric(Counter.of("response.throughput", length / (duration.toNanos() / 1_000_000_000D)));
+        }
+
+        return Output.builder()
+            .code(response.getStatus().getCode())
+            .headers(response.getHeaders().map())
+            .uri(request.getUri())
+            .bodyUri(runContext.storage().putFile(tempFile.toFile()))
+            .build();
+    }
+
     private static byte[] getResponseBytes(HttpResponse<Byte[]> response) {
         byte[] bytes = ArrayUtils.toPrimitive(response.getBody());
         if (bytes.length > MAX_OUTPUT_BODY_BYTES) {
@@ -404,6 +460,12 @@ public class Request extends AbstractHttp implements RunnableTask<Request.Output
         )
         private EncryptedString encryptedBody;
 
+        @Schema(
+            title = "The URI of the response body in Kestra's internal storage",
+            description = "Only set when the `storeBody` property is set to `true`."
+        )
+        private URI bodyUri;
+
         @Schema(
             title = "The form data to be sent in the request body",
             description = "When sending a file, you can pass a list of maps (i.e., a list of key-value pairs) with a key 'name' and value of the filename, as well as 'content' key with the file's content as value (e.g., passed from flow inputs or outputs from another task)."
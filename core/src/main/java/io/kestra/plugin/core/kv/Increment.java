@@ -0,0 +1,104 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Duration;
+
+@SuperBuilder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Atomically increment the numeric value of a Key-Value pair.",
+    description = "Concurrent increments of the same KV pair are never lost. If the KV pair doesn't exist, it's created with the delta as value, " +
+        "otherwise it keeps its description and expiration date."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Count the executions of the day.",
+            full = true,
+            code = """
+                id: kv_store_increment
+                namespace: company.team
+
+                tasks:
+                  - id: counter
+                    type: io.kestra.plugin.core.kv.Increment
+                    key: "executions_{{ now() | date('yyyy-MM-dd') }}"
+                    ttl: P1D
+
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "Execution number {{ outputs.counter.value }} of the day"
+                """
+        )
+    }
+)
+public class Increment extends Task implements RunnableTask<Increment.Output> {
+    @NotNull
+    @Schema(
+        title = "The key of the value to increment"
+    )
+    private Property<String> key;
+
+    @NotNull
+    @Schema(
+        title = "The delta to add to the value, it can be negative."
+    )
+    @Builder.Default
+    private Property<Number> delta = Property.ofValue(1);
+
+    @Schema(
+        title = "The description of the KV pair if it's created"
+    )
+    private Property<String> kvDescription;
+
+    @NotNull
+    @Schema(
+        title = "The namespace in which the KV pair will be stored – by default, Kestra will use the namespace of the flow."
+    )
+    @Builder.Default
+    private Property<String> namespace = Property.ofExpression("{{ flow.namespace }}");
+
+    @Schema(
+        title = "Optional Time-To-Live (TTL) duration for the key-value pair if it's created. If not set, the KV pair will never be deleted from internal storage."
+    )
+    private Property<Duration> ttl;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String renderedNamespace = runContext.render(this.namespace).as(String.class).orElse(null);
+        String renderedKey = runContext.render(this.key).as(String.class).orElse(null);
+        Number renderedDelta = runContext.render(this.delta).as(Number.class).orElseThrow();
+
+        Number value = runContext.namespaceKv(renderedNamespace).increment(renderedKey, renderedDelta, new KVMetadata(
+            runContext.render(kvDescription).as(String.class).orElse(null),
+            runContext.render(ttl).as(Duration.class).orElse(null)
+        ));
+
+        return Output.builder()
+            .value(value)
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The value after the increment"
+        )
+        private final Number value;
+    }
+}
@@ -13,6 +13,7 @@ import io.kestra.core.storages.kv.KVMetadata;
 import io.kestra.core.storages.kv.KVStore;
 import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
@@ -99,10 +100,27 @@ public class Set extends Task implements RunnableTask<VoidOutput> {
 
         String renderedKey = runContext.render(this.key).as(String.class).orElse(null);
 
-        Object renderedValue = runContext.renderTyped(this.value.toString());
+        Object renderedValue = renderValue(runContext, this.value, this.kvType);
 
         KVStore kvStore = runContext.namespaceKv(renderedNamespace);
 
+        kvStore.put(renderedKey, new KVValueAndMetadata(
+            new KVMetadata(
+                runContext.render(kvDescription).as(String.class).orElse(null),
+                runContext.render(ttl).as(Duration.class).orElse(null)
+            ), renderedValue),
+            runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
+        );
+
+        return null;
+    }
+
+    /**
+     * Renders the value and converts it to the given KV type, shared with the other tasks that set a value.
+     */
+    static Object renderValue(RunContext runContext, Property<String> value, @Nullable Property<KVType> kvType) throws Exception {
+        Object renderedValue = runContext.renderTyped(value.toString());
+
         if (kvType != null){
             KVType renderedKvType = runContext.render(kvType).as(KVType.class).orElseThrow();
             if (renderedValue instanceof String renderedValueStr) {
@@ -123,14 +141,6 @@ public class Set extends Task implements RunnableTask<VoidOutput> {
             }
         }
 
-        kvStore.put(renderedKey, new KVValueAndMetadata(
-            new KVMetadata(
-                runContext.render(kvDescription).as(String.class).orElse(null),
-                runContext.render(ttl).as(Duration.class).orElse(null)
-            ), renderedValue),
-            runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
-        );
-
-        return null;
+        return renderedValue;
     }
 }
@@ -0,0 +1,120 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.kv.KVType;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVEntry;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@SuperBuilder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Create a Key-Value pair only if it doesn't exist.",
+    description = "The check and the write are atomic: when concurrent executions try to create the same KV pair, only one of them succeeds. " +
+        "Deleted and expired KV pairs are considered as absent."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Process an order only once, even if several executions receive it.",
+            full = true,
+            code = """
+                id: kv_store_set_if_absent
+                namespace: company.team
+
+                inputs:
+                  - id: order_id
+                    type: STRING
+
+                tasks:
+                  - id: dedupe
+                    type: io.kestra.plugin.core.kv.SetIfAbsent
+                    key: "order_{{ inputs.order_id }}"
+                    value: "{{ execution.id }}"
+                    ttl: P1D
+
+                  - id: process
+                    type: io.kestra.plugin.core.flow.If
+                    condition: "{{ outputs.dedupe.updated }}"
+                    then:
+                      - id: log
+                        type: io.kestra.plugin.core.log.Log
+                        message: "Processing order {{ inputs.order_id }}"
+                """
+        )
+    }
+)
+public class SetIfAbsent extends Task implements RunnableTask<SetIfVersion.Output> {
+    @NotNull
+    @Schema(
+        title = "The key to set the value for"
+    )
+    private Property<String> key;
+
+    @Schema(
+        title = "The description of the KV pair"
+    )
+    private Property<String> kvDescription;
+
+    @NotNull
+    @Schema(
+        title = "The value to map to the key"
+    )
+    private Property<String> value;
+
+    @NotNull
+    @Schema(
+        title = "The namespace in which the KV pair will be stored – by default, Kestra will use the namespace of the flow."
+    )
+    @Builder.Default
+    private Property<String> namespace = Property.ofExpression("{{ flow.namespace }}");
+
+    @NotNull
+    @Schema(
+        title = "Flag specifying whether to fail if the KV pair already exists."
+    )
+    @Builder.Default
+    private Property<Boolean> errorOnConflict = Property.ofValue(false);
+
+    @Schema(
+        title = "Optional Time-To-Live (TTL) duration for the key-value pair. If not set, the KV pair will never be deleted from internal storage."
+    )
+    private Property<Duration> ttl;
+
+    @Schema(
+        title = "Enum representing the data type of the KV pair. If not set, the value will be stored as a string."
+    )
+    private Property<KVType> kvType;
+
+    @Override
+    public SetIfVersion.Output run(RunContext runContext) throws Exception {
+        String renderedNamespace = runContext.render(this.namespace).as(String.class).orElse(null);
+        String renderedKey = runContext.render(this.key).as(String.class).orElse(null);
+
+        Object renderedValue = Set.renderValue(runContext, this.value, this.kvType);
+
+        Optional<KVEntry> entry = runContext.namespaceKv(renderedNamespace).putIfAbsent(renderedKey, new KVValueAndMetadata(
+            new KVMetadata(
+                runContext.render(kvDescription).as(String.class).orElse(null),
+                runContext.render(ttl).as(Duration.class).orElse(null)
+            ), renderedValue)
+        );
+
+        return SetIfVersion.output(runContext, this.errorOnConflict, renderedKey, entry, "absence");
+    }
+}
@@ -0,0 +1,147 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.kv.KVType;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVEntry;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStoreException;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@SuperBuilder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Modify a Key-Value pair only if it still has the expected version.",
+    description = "The check and the write are atomic: when concurrent executions read the same version and try to modify the KV pair, only one of them succeeds. " +
+        "Use the `version` of a previously read KV pair, or `0` to only create the KV pair if it doesn't exist."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Move a cursor forward only if no other execution moved it since it was read.",
+            full = true,
+            code = """
+                id: kv_store_set_if_version
+                namespace: company.team
+
+                inputs:
+                  - id: cursor_version
+                    type: INT
+
+                tasks:
+                  - id: kv_set_if_version
+                    type: io.kestra.plugin.core.kv.SetIfVersion
+                    key: cursor
+                    value: "{{ execution.startDate }}"
+                    expectedVersion: "{{ inputs.cursor_version }}"
+                    errorOnConflict: true
+                """
+        )
+    }
+)
+public class SetIfVersion extends Task implements RunnableTask<SetIfVersion.Output> {
+    @NotNull
+    @Schema(
+        title = "The key to set the value for"
+    )
+    private Property<String> key;
+
+    @Schema(
+        title = "The description of the KV pair"
+    )
+    private Property<String> kvDescription;
+
+    @NotNull
+    @Schema(
+        title = "The value to map to the key"
+    )
+    private Property<String> value;
+
+    @NotNull
+    @Schema(
+        title = "The namespace in which the KV pair will be stored – by default, Kestra will use the namespace of the flow."
+    )
+    @Builder.Default
+    private Property<String> namespace = Property.ofExpression("{{ flow.namespace }}");
+
+    @NotNull
+    @Schema(
+        title = "The version that the KV pair must have to be modified, `0` if it must not exist."
+    )
+    private Property<Integer> expectedVersion;
+
+    @NotNull
+    @Schema(
+        title = "Flag specifying whether to fail if the KV pair doesn't have the expected version."
+    )
+    @Builder.Default
+    private Property<Boolean> errorOnConflict = Property.ofValue(false);
+
+    @Schema(
+        title = "Optional Time-To-Live (TTL) duration for the key-value pair. If not set, the KV pair will never be deleted from internal storage."
+    )
+    private Property<Duration> ttl;
+
+    @Schema(
+        title = "Enum representing the data type of the KV pair. If not set, the value will be stored as a string."
+    )
+    private Property<KVType> kvType;
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String renderedNamespace = runContext.render(this.namespace).as(String.class).orElse(null);
+        String renderedKey = runContext.render(this.key).as(String.class).orElse(null);
+        int renderedExpectedVersion = runContext.render(this.expectedVersion).as(Integer.class).orElseThrow();
+
+        Object renderedValue = Set.renderValue(runContext, this.value, this.kvType);
+
+        Optional<KVEntry> entry = runContext.namespaceKv(renderedNamespace).putIfVersion(renderedKey, new KVValueAndMetadata(
+            new KVMetadata(
+                runContext.render(kvDescription).as(String.class).orElse(null),
+                runContext.render(ttl).as(Duration.class).orElse(null)
+            ), renderedValue),
+            renderedExpectedVersion
+        );
+
+        return output(runContext, this.errorOnConflict, renderedKey, entry, "version " + renderedExpectedVersion);
+    }
+
+    static Output output(RunContext runContext, Property<Boolean> errorOnConflict, String key, Optional<KVEntry> entry, String expected) throws Exception {
+        if (entry.isEmpty() && Boolean.TRUE.equals(runContext.render(errorOnConflict).as(Boolean.class).orElseThrow())) {
+            throw new KVStoreException("Cannot set value for key '" + key + "', it doesn't match the expected " + expected + " and `errorOnConflict` is set to true");
+        }
+
+        return Output.builder()
+            .updated(entry.isPresent())
+            .version(entry.map(KVEntry::version).orElse(null))
+            .build();
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "Whether the value was set"
+        )
+        private final Boolean updated;
+
+        @Schema(
+            title = "The new version of the KV pair, null if the value was not set"
+        )
+        private final Integer version;
+    }
+}
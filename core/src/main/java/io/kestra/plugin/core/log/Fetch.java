@@ -1,5 +1,6 @@
 package io.kestra.plugin.core.log;
 
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
@@ -15,9 +16,9 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.slf4j.event.Level;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.OutputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
@@ -96,7 +97,7 @@ public class Fetch extends Task implements RunnableTask<Fetch.Output> {
         File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
         AtomicLong count = new AtomicLong();
 
-        try (OutputStream output = new FileOutputStream(tempFile)) {
+        try (SequenceWriter output = FileSerde.createSequenceWriter(new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE), false)) {
             var renderedTaskId = runContext.render(this.tasksId).asList(String.class);
             var logLevel = runContext.render(this.level).as(Level.class).orElseThrow();
             if (!renderedTaskId.isEmpty()) {
@@ -105,7 +106,7 @@ public class Fetch extends Task implements RunnableTask<Fetch.Output> {
                         .findByExecutionIdAndTaskId(executionInfo.tenantId(), executionInfo.namespace(), executionInfo.flowId(), executionInfo.id(), taskId, logLevel)
                         .forEach(throwConsumer(log -> {
                             count.incrementAndGet();
-                            FileSerde.write(output, log);
+                            output.write(log);
                         }));
                 }
             } else {
@@ -113,7 +114,7 @@ public class Fetch extends Task implements RunnableTask<Fetch.Output> {
                     .findByExecutionId(executionInfo.tenantId(), executionInfo.namespace(), executionInfo.flowId(), executionInfo.id(), logLevel)
                     .forEach(throwConsumer(log -> {
                         count.incrementAndGet();
-                        FileSerde.write(output, log);
+                        output.write(log);
                     }));
             }
         }
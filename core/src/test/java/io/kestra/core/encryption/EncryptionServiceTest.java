@@ -2,9 +2,17 @@ package io.kestra.core.encryption;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class EncryptionServiceTest {
     private static final String KEY = "I6EGNzRESu3X3pKZidrqCGOHQFUFC0yK";
@@ -34,4 +42,61 @@ public class EncryptionServiceTest {
         assertThat(EncryptionService.encrypt(KEY, "")).isEqualTo("");
         assertThat(EncryptionService.decrypt(KEY, "")).isEqualTo("");
     }
+
+    @Test
+    void instanceAndStaticAreCompatible() throws GeneralSecurityException {
+        EncryptionService service = EncryptionService.of(KEY);
+        assertThat(EncryptionService.of(KEY)).isSameAs(service);
+
+        assertThat(EncryptionService.decrypt(KEY, service.encrypt("Hello World!"))).isEqualTo("Hello World!");
+        assertThat(service.decrypt(EncryptionService.encrypt(KEY, "Hello World!"))).isEqualTo("Hello World!");
+    }
+
+    @Test
+    void encryptAndDecryptStream() throws IOException {
+        EncryptionService service = EncryptionService.of(KEY);
+        byte[] data = new byte[1024 * 1024 + 17];
+        new Random(42).nextBytes(data);
+
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        try (OutputStream output = service.encrypt(encrypted)) {
+            output.write(data, 0, 1000);
+            output.write(data, 1000, data.length - 1000);
+        }
+
+        try (InputStream input = service.decrypt(new ByteArrayInputStream(encrypted.toByteArray()))) {
+            assertThat(input.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void encryptAndDecryptEmptyStream() throws IOException {
+        EncryptionService service = EncryptionService.of(KEY);
+
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        service.encrypt(encrypted).close();
+
+        try (InputStream input = service.decrypt(new ByteArrayInputStream(encrypted.toByteArray()))) {
+            assertThat(input.readAllBytes()).isEmpty();
+        }
+    }
+
+    @Test
+    void detectTamperedOrTruncatedStream() throws IOException {
+        EncryptionService service = EncryptionService.of(KEY);
+        byte[] data = new byte[200 * 1024];
+
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        try (OutputStream output = service.encrypt(encrypted)) {
+            output.write(data);
+        }
+        byte[] bytes = encrypted.toByteArray();
+
+        byte[] tampered = bytes.clone();
+        tampered[tampered.length - 1] ^= 1;
+        assertThrows(IOException.class, () -> service.decrypt(new ByteArrayInputStream(tampered)).readAllBytes());
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertThrows(IOException.class, () -> service.decrypt(new ByteArrayInputStream(truncated)).readAllBytes());
+    }
 }
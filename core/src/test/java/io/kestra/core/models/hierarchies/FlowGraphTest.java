@@ -7,7 +7,9 @@ import io.kestra.core.junit.annotations.ExecuteFlow;
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.junit.annotations.LoadFlows;
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.repositories.TriggerRepositoryInterface;
@@ -215,6 +217,27 @@ class FlowGraphTest {
         assertThat(edge(flowGraph, ".*failed_value 1", ".*1-2_value 1").getTarget()).matches(".*1-2_value 1");
     }
 
+    @Test
+    @ExecuteFlow("flows/valids/parallel.yaml")
+    void executionGraphCached(Execution execution) throws IllegalVariableEvaluationException, IOException, InternalException, FlowProcessingException {
+        FlowWithSource flow = this.parse("flows/valids/parallel.yaml");
+        FlowGraph flowGraph = graphService.executionGraph(flow, null, execution);
+
+        assertThat(flowGraph.getNodes().stream().map(AbstractGraph::getUid).toList())
+            .isEqualTo(GraphUtils.flowGraph(flow, execution).getNodes().stream().map(AbstractGraph::getUid).toList());
+        assertThat(((AbstractGraphTask) node(flowGraph, "t1")).getTaskRun().getState().getCurrent()).isEqualTo(State.Type.SUCCESS);
+
+        // the same task runs with another state are served from the cache with the new state
+        TaskRun taskRun = execution.findTaskRunsByTaskId("t1").getFirst();
+        Execution updated = execution.withTaskRun(taskRun.withState(State.Type.FAILED));
+        FlowGraph updatedGraph = graphService.executionGraph(flow, null, updated);
+
+        assertThat(updatedGraph.getNodes().size()).isEqualTo(flowGraph.getNodes().size());
+        assertThat(((AbstractGraphTask) node(updatedGraph, "t1")).getTaskRun().getState().getCurrent()).isEqualTo(State.Type.FAILED);
+        assertThat(((AbstractGraphTask) node(updatedGraph, "t4")).getTaskRun().getState().getCurrent()).isEqualTo(State.Type.SUCCESS);
+        assertThat(((AbstractGraphTask) node(flowGraph, "t1")).getTaskRun().getState().getCurrent()).isEqualTo(State.Type.SUCCESS);
+    }
+
     @Test
     void trigger() throws IllegalVariableEvaluationException, IOException, FlowProcessingException {
         FlowWithSource flow = this.parse("flows/valids/trigger-flow-listener.yaml");
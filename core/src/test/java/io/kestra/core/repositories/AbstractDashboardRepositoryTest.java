@@ -0,0 +1,80 @@
+package io.kestra.core.repositories;
+
+import io.kestra.core.models.dashboards.Dashboard;
+import io.kestra.core.models.dashboards.charts.DataChart;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.serializers.YamlParser;
+import io.kestra.core.utils.TestsUtils;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@MicronautTest
+public abstract class AbstractDashboardRepositoryTest {
+    private static final String PERCENTILES_DASHBOARD = """
+        id: percentiles
+        title: Execution durations
+        charts:
+          - id: durations
+            type: io.kestra.plugin.core.dashboard.chart.Table
+            data:
+              type: io.kestra.plugin.core.dashboard.data.Executions
+              columns:
+                namespace:
+                  field: NAMESPACE
+                p95:
+                  field: DURATION
+                  agg: P95""";
+
+    @Inject
+    protected DashboardRepositoryInterface dashboardRepository;
+
+    @Inject
+    protected ExecutionRepositoryInterface executionRepository;
+
+    /**
+     * Whether the database computes the percentile aggregations.
+     */
+    protected boolean supportsPercentiles() {
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void percentiles() throws IOException {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Dashboard dashboard = YamlParser.parse(PERCENTILES_DASHBOARD, Dashboard.class).toBuilder().tenantId(tenant).build();
+
+        if (!supportsPercentiles()) {
+            assertThatThrownBy(() -> dashboardRepository.save(dashboard, PERCENTILES_DASHBOARD))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("P95");
+            assertThat(dashboardRepository.get(tenant, dashboard.getId())).isEmpty();
+
+            // dashboards saved before the validation existed are rejected when generated instead of failing in the database
+            DataChart chart = (DataChart) dashboard.getCharts().getFirst();
+            assertThatThrownBy(() -> dashboardRepository.generate(tenant, chart, ZonedDateTime.now().minusDays(1), ZonedDateTime.now(), Pageable.from(1, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("P95");
+            return;
+        }
+
+        executionRepository.save(AbstractExecutionRepositoryTest.builder(tenant, State.Type.SUCCESS, null).build());
+        Dashboard saved = dashboardRepository.save(dashboard, PERCENTILES_DASHBOARD);
+
+        DataChart chart = (DataChart) saved.getCharts().getFirst();
+        ArrayListTotal<Map<String, Object>> data = dashboardRepository.generate(tenant, chart, ZonedDateTime.now().minusDays(1), ZonedDateTime.now().plusMinutes(1), Pageable.from(1, 10));
+        assertThat(data).hasSize(1);
+        assertThat(data.getFirst().get("namespace")).isEqualTo(AbstractExecutionRepositoryTest.NAMESPACE);
+        assertThat(((Number) data.getFirst().get("p95")).doubleValue()).isNotNegative();
+    }
+}
@@ -394,6 +394,90 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(executions.getTotal()).isEqualTo(8L);
     }
 
+    @Test
+    protected void findWithContinuationToken() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        inject(tenant);
+
+        Pageable pageable = Pageable.from(1, 10, Sort.of(Sort.Order.desc("start_date")));
+        List<String> ids = new ArrayList<>();
+        String continuationToken = null;
+        int pages = 0;
+        do {
+            ArrayListTotal<Execution> executions = executionRepository.find(pageable, continuationToken, pages == 0, tenant, null);
+            assertThat(executions.getTotal()).isEqualTo(pages == 0 ? 29L : -1L);
+            executions.forEach(execution -> ids.add(execution.getId()));
+            continuationToken = executions.getContinuationToken();
+            pages++;
+        } while (continuationToken != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).hasSize(29).doesNotHaveDuplicates();
+
+        // a token is only valid for the sort it was created with
+        String firstToken = executionRepository.find(pageable, null, false, tenant, null).getContinuationToken();
+        assertThrows(IllegalArgumentException.class, () -> executionRepository.find(Pageable.from(1, 10), firstToken, false, tenant, null));
+    }
+
+    @Test
+    protected void findWithContinuationTokenOnNullableColumn() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        List<String> withDuration = new ArrayList<>();
+        List<String> withoutDuration = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            withDuration.add(executionRepository.save(builder(tenant, State.Type.SUCCESS, null).build()).getId());
+            // not terminated, so the state duration is null
+            withoutDuration.add(executionRepository.save(Execution.builder()
+                .id(FriendlyId.createFriendlyId())
+                .namespace(NAMESPACE)
+                .tenantId(tenant)
+                .flowId(FLOW)
+                .flowRevision(1)
+                .kind(ExecutionKind.NORMAL)
+                .state(new State())
+                .build()
+            ).getId());
+        }
+
+        for (Sort.Order order : List.of(Sort.Order.asc("state_duration"), Sort.Order.desc("state_duration"))) {
+            List<String> ids = new ArrayList<>();
+            String continuationToken = null;
+            do {
+                ArrayListTotal<Execution> executions = executionRepository.find(Pageable.from(1, 3, Sort.of(order)), continuationToken, false, tenant, null);
+                executions.forEach(execution -> ids.add(execution.getId()));
+                continuationToken = executions.getContinuationToken();
+            } while (continuationToken != null);
+
+            // null durations are neither skipped nor repeated, and come last whatever the direction
+            assertThat(ids).hasSize(10).doesNotHaveDuplicates();
+            assertThat(ids.subList(0, 5)).containsExactlyInAnyOrderElementsOf(withDuration);
+            assertThat(ids.subList(5, 10)).containsExactlyInAnyOrderElementsOf(withoutDuration);
+        }
+    }
+
+    @Test
+    protected void findWithContinuationTokenAfterLastItemPurged() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        inject(tenant);
+
+        Pageable pageable = Pageable.from(1, 10, Sort.of(Sort.Order.desc("start_date")));
+        ArrayListTotal<Execution> first = executionRepository.find(pageable, null, false, tenant, null);
+        assertThat(first).hasSize(10);
+
+        // the token carries the sort value of the last item, so the next page doesn't need it anymore
+        executionRepository.purge(first.getLast());
+
+        List<String> ids = new ArrayList<>(first.stream().map(Execution::getId).toList());
+        String continuationToken = first.getContinuationToken();
+        while (continuationToken != null) {
+            ArrayListTotal<Execution> executions = executionRepository.find(pageable, continuationToken, false, tenant, null);
+            executions.forEach(execution -> ids.add(execution.getId()));
+            continuationToken = executions.getContinuationToken();
+        }
+
+        assertThat(ids).hasSize(29).doesNotHaveDuplicates();
+    }
+
     @Test
     protected void findById() {
         var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
@@ -452,6 +536,33 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(executionRepository.findById(tenant, execution2.getId())).isEmpty();
     }
 
+    @Test
+    protected void findPurgeablePage() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        var execution1 = ExecutionFixture.EXECUTION_1(tenant);
+        executionRepository.save(execution1);
+        var execution2 = ExecutionFixture.EXECUTION_2(tenant);
+        executionRepository.save(execution2);
+        var execution3 = ExecutionFixture.EXECUTION_1(tenant);
+        executionRepository.save(execution3);
+        executionRepository.delete(execution3);
+        List<String> ids = Stream.of(execution1, execution2, execution3).map(Execution::getId).sorted().toList();
+
+        List<Execution> page = executionRepository.findPurgeablePage(tenant, "io.kestra.unittest", "full", null, null, null, null, 2);
+        assertThat(page).extracting(Execution::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(page.getFirst().getTenantId()).isEqualTo(tenant);
+        assertThat(page.getFirst().getNamespace()).isEqualTo("io.kestra.unittest");
+        assertThat(page.getFirst().getFlowId()).isEqualTo("full");
+        assertThat(page.getFirst().getState().getCurrent()).isEqualTo(State.Type.CREATED);
+        assertThat(page.getFirst().getState().getStartDate()).isNotNull();
+
+        page = executionRepository.findPurgeablePage(tenant, "io.kestra.unittest", "full", null, null, null, ids.get(1), 2);
+        assertThat(page).extracting(Execution::getId).containsExactly(ids.get(2));
+
+        page = executionRepository.findPurgeablePage(tenant, "io.kestra.unittest", "full", null, null, List.of(State.Type.SUCCESS), null, 2);
+        assertThat(page).isEmpty();
+    }
+
     @Test
     protected void delete() {
         var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
@@ -12,11 +12,13 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @MicronautTest
 public abstract class AbstractKvMetadataRepositoryTest {
@@ -236,4 +238,80 @@ public abstract class AbstractKvMetadataRepositoryTest {
 
         assertThat(kvMetadataRepositoryInterface.findByName(tenantId, namespace, key).isPresent()).isFalse();
     }
+
+    @Test
+    void saveIfVersion() throws IOException {
+        String tenantId = TestsUtils.randomTenant();
+        String namespace = TestsUtils.randomNamespace();
+        String key = "test-kv";
+        PersistedKvMetadata metadata = PersistedKvMetadata.builder()
+            .tenantId(tenantId)
+            .namespace(namespace)
+            .name(key)
+            .build();
+
+        assertThat(kvMetadataRepositoryInterface.saveIfVersion(metadata, null)).map(PersistedKvMetadata::getVersion).contains(1);
+        // the key already exists
+        assertThat(kvMetadataRepositoryInterface.saveIfVersion(metadata, null)).isEmpty();
+        // stale or future versions
+        assertThat(kvMetadataRepositoryInterface.saveIfVersion(metadata, 0)).isEmpty();
+        assertThat(kvMetadataRepositoryInterface.saveIfVersion(metadata, 2)).isEmpty();
+
+        Optional<PersistedKvMetadata> saved = kvMetadataRepositoryInterface.saveIfVersion(metadata.toBuilder().description("Changed description").build(), 1);
+        assertThat(saved).map(PersistedKvMetadata::getVersion).contains(2);
+        assertThat(kvMetadataRepositoryInterface.saveIfVersion(metadata, 1)).isEmpty();
+
+        Optional<PersistedKvMetadata> found = kvMetadataRepositoryInterface.findByName(tenantId, namespace, key);
+        assertThat(found).isPresent();
+        assertThat(found.get().getVersion()).isEqualTo(2);
+        assertThat(found.get().getDescription()).isEqualTo("Changed description");
+
+        // the previous version is kept but no longer the last one
+        List<PersistedKvMetadata> versions = kvMetadataRepositoryInterface.find(Pageable.UNPAGED, tenantId, Collections.emptyList(), false, false, FetchVersion.ALL);
+        assertThat(versions).extracting(PersistedKvMetadata::getVersion, PersistedKvMetadata::isLast)
+            .containsExactlyInAnyOrder(tuple(1, false), tuple(2, true));
+    }
+
+    @Test
+    void purgeExpired() throws IOException {
+        String tenantId = TestsUtils.randomTenant();
+        String namespace = TestsUtils.randomNamespace();
+        Instant now = Instant.now();
+        PersistedKvMetadata expired = PersistedKvMetadata.builder()
+            .tenantId(tenantId)
+            .namespace(namespace)
+            .name("expired")
+            .expirationDate(now.minus(1, ChronoUnit.HOURS))
+            .build();
+        kvMetadataRepositoryInterface.save(expired.toBuilder().expirationDate(null).build());
+        kvMetadataRepositoryInterface.save(expired);
+        // only the last version is considered, the key was expired but was set again since
+        PersistedKvMetadata renewed = expired.toBuilder().name("renewed").build();
+        kvMetadataRepositoryInterface.save(renewed);
+        kvMetadataRepositoryInterface.save(renewed.toBuilder().expirationDate(now.plus(1, ChronoUnit.HOURS)).build());
+        kvMetadataRepositoryInterface.save(expired.toBuilder().name("never-expires").expirationDate(null).build());
+
+        assertThat(kvMetadataRepositoryInterface.findOldestExpirationDate(now)).isPresent();
+
+        List<PersistedKvMetadata> deleted = new ArrayList<>();
+        List<PersistedKvMetadata> purged;
+        do {
+            purged = kvMetadataRepositoryInterface.purgeExpired(now, 10);
+            deleted.addAll(purged);
+        } while (!purged.isEmpty());
+
+        assertThat(deleted).filteredOn(kvMetadata -> tenantId.equals(kvMetadata.getTenantId()))
+            .extracting(PersistedKvMetadata::getName, PersistedKvMetadata::getVersion)
+            .containsExactlyInAnyOrder(tuple("expired", 1), tuple("expired", 2));
+        // the last version is kept as deleted, so the next version doesn't restart from 1
+        assertThat(kvMetadataRepositoryInterface.findByName(tenantId, namespace, "expired"))
+            .hasValueSatisfying(kvMetadata -> {
+                assertThat(kvMetadata.isDeleted()).isTrue();
+                assertThat(kvMetadata.getVersion()).isEqualTo(2);
+                assertThat(kvMetadata.getExpirationDate()).isNull();
+            });
+        assertThat(kvMetadataRepositoryInterface.save(expired.toBuilder().expirationDate(null).build()).getVersion()).isEqualTo(3);
+        assertThat(kvMetadataRepositoryInterface.findByName(tenantId, namespace, "renewed")).isPresent();
+        assertThat(kvMetadataRepositoryInterface.findByName(tenantId, namespace, "never-expires")).isPresent();
+    }
 }
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -287,6 +288,60 @@ public abstract class AbstractLogRepositoryTest {
         assertThat(find.size()).isZero();
     }
 
+    @Test
+    void findPageByExecutionId() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String executionId = IdUtils.create();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < 25; i++) {
+            logRepository.save(logEntry(tenant, Level.INFO, executionId).taskId("taskId").timestamp(now.plusMillis(i)).message("message " + i).build());
+        }
+        for (int i = 0; i < 5; i++) {
+            logRepository.save(logEntry(tenant, Level.DEBUG, executionId).taskId("taskId2").timestamp(now.plusMillis(i)).build());
+        }
+        logRepository.save(logEntry(tenant, Level.INFO).build());
+
+        List<String> messages = new ArrayList<>();
+        String continuationToken = null;
+        int pages = 0;
+        do {
+            ArrayListTotal<LogEntry> page = logRepository.findPageByExecutionId(tenant, executionId, Level.INFO, null, null, null, 10, continuationToken, true);
+            page.forEach(logEntry -> messages.add(logEntry.getMessage()));
+            continuationToken = page.getContinuationToken();
+            pages++;
+        } while (continuationToken != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(messages).hasSize(25);
+        assertThat(messages.getFirst()).isEqualTo("message 0");
+        assertThat(messages.getLast()).isEqualTo("message 24");
+
+        ArrayListTotal<LogEntry> page = logRepository.findPageByExecutionId(tenant, executionId, null, null, List.of("taskId2"), 0, 10, null, true);
+        assertThat(page).hasSize(5);
+        assertThat(page.getContinuationToken()).isNull();
+    }
+
+    @Test
+    void findByExecutionIdAfterSequence() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String executionId = IdUtils.create();
+        Instant now = Instant.now();
+        for (long sequence = 1; sequence <= 10; sequence++) {
+            logRepository.save(logEntry(tenant, sequence % 2 == 0 ? Level.INFO : Level.DEBUG, executionId).sequence(sequence).timestamp(now.minusSeconds(sequence)).build());
+        }
+        logRepository.save(logEntry(tenant, Level.INFO, executionId).message("without sequence").build());
+
+        List<LogEntry> logs = logRepository.findByExecutionIdAfterSequence(tenant, executionId, null, 3L, 4);
+        assertThat(logs).extracting(LogEntry::getSequence).containsExactly(4L, 5L, 6L, 7L);
+
+        logs = logRepository.findByExecutionIdAfterSequence(tenant, executionId, Level.INFO, 3L, 10);
+        assertThat(logs).extracting(LogEntry::getSequence).containsExactly(4L, 6L, 8L, 10L);
+
+        logs = logRepository.findByExecutionIdWithoutSequence(tenant, executionId, null);
+        assertThat(logs).hasSize(1);
+        assertThat(logs.getFirst().getMessage()).isEqualTo("without sequence");
+    }
+
     @Test
     void shouldFindByExecutionIdTestLogs() {
         String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
@@ -17,8 +17,10 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @MicronautTest
 public abstract class AbstractMetricRepositoryTest {
@@ -122,6 +124,40 @@ public abstract class AbstractMetricRepositoryTest {
         assertThat(results).hasSize(3);
     }
 
+    @Test
+    void percentiles() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String executionId = FriendlyId.createFriendlyId();
+        for (int i = 1; i <= 100; i++) {
+            metricRepository.save(MetricEntry.of(taskRun(tenant, executionId, "task"), Timer.of("duration", Duration.ofSeconds(i)), null));
+        }
+
+        // timers are stored in milliseconds, PostgreSQL interpolates the exact percentile while the other databases estimate it with a relative error of 1%
+        assertThat(percentile(tenant, "p50")).isCloseTo(50_500.0, within(1_000.0));
+        assertThat(percentile(tenant, "p90")).isCloseTo(90_100.0, within(1_500.0));
+        assertThat(percentile(tenant, "p99")).isCloseTo(99_010.0, within(1_500.0));
+    }
+
+    private Double percentile(String tenant, String aggregation) {
+        MetricAggregations aggregations = metricRepository.aggregateByFlowId(
+            tenant,
+            "namespace",
+            "flow",
+            "task",
+            "duration",
+            // grouped by month so all the values are in the same group
+            ZonedDateTime.now().minusYears(1),
+            ZonedDateTime.now().plusHours(1),
+            aggregation
+        );
+
+        return aggregations.getAggregations().stream()
+            .map(metricAggregation -> metricAggregation.value)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElseThrow();
+    }
+
     @Test
     void purge() {
         String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
@@ -3,15 +3,29 @@ package io.kestra.core.runners;
 import io.kestra.core.context.TestRunContextFactory;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.property.DynamicPropertyExampleTask;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.utils.TestsUtils;
 import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @KestraTest
 class RunContextPropertyTest {
@@ -85,13 +99,84 @@ class RunContextPropertyTest {
     }
 
     @Test
-    void asShouldReturnCachedRenderedProperty() throws IllegalVariableEvaluationException {
+    void asShouldRenderWithTheGivenVariables() throws IllegalVariableEvaluationException {
         var runContext = runContextFactory.of();
 
         var runContextProperty = new RunContextProperty<>(Property.<String>builder().expression("{{ variable }}").build(), runContext);
 
-        assertThat(runContextProperty.as(String.class, Map.of("variable", "value1"))).isEqualTo(Optional.of("value1"));
-        assertThat(runContextProperty.as(String.class, Map.of("variable", "value2"))).isEqualTo(Optional.of("value1"));
+        Map<String, Object> variables = new HashMap<>(Map.of("variable", "value1"));
+        assertThat(runContextProperty.as(String.class, variables)).isEqualTo(Optional.of("value1"));
+        variables.put("variable", "value2");
+        assertThat(runContextProperty.as(String.class, variables)).isEqualTo(Optional.of("value2"));
+        assertThat(runContextProperty.as(String.class, Map.of("variable", "value3"))).isEqualTo(Optional.of("value3"));
+    }
+
+    @Test
+    void asShouldNotReturnCachedRenderedPropertyFromAnotherRunContext() throws IllegalVariableEvaluationException {
+        var property = Property.<String>builder().expression("{{ variable }}").build();
+
+        assertThat(new RunContextProperty<>(property, runContextFactory.of(Map.of("variable", "value1"))).as(String.class)).isEqualTo(Optional.of("value1"));
+        assertThat(new RunContextProperty<>(property, runContextFactory.of(Map.of("variable", "value2"))).as(String.class)).isEqualTo(Optional.of("value2"));
+    }
+
+    @Test
+    void asShouldConvertLiteralOnce() throws IllegalVariableEvaluationException {
+        var property = Property.<Duration>builder().expression("PT1M").build();
+
+        Duration first = new RunContextProperty<>(property, runContextFactory.of()).as(Duration.class).orElseThrow();
+        Duration second = new RunContextProperty<>(property, runContextFactory.of(Map.of("variable", "value"))).as(Duration.class).orElseThrow();
+        assertThat(first).isEqualTo(Duration.ofMinutes(1));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void literalShouldNotBeAlteredByARun() throws IllegalVariableEvaluationException {
+        var list = Property.<List<String>>builder().expression("[\"a\", \"b\"]").build();
+        List<String> rendered = new RunContextProperty<>(list, runContextFactory.of()).asList(String.class);
+        assertThatThrownBy(() -> rendered.add("c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(new RunContextProperty<>(list, runContextFactory.of()).asList(String.class)).containsExactly("a", "b");
+
+        var map = Property.<Map<String, String>>builder().expression("{\"key\": \"value\"}").build();
+        Map<String, String> renderedMap = new RunContextProperty<>(map, runContextFactory.of()).asMap(String.class, String.class);
+        assertThatThrownBy(() -> renderedMap.put("other", "value")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(new RunContextProperty<>(map, runContextFactory.of()).asMap(String.class, String.class)).containsExactly(Map.entry("key", "value"));
+    }
+
+    @Test
+    void asShouldNotLeakBetweenConcurrentRuns() throws Exception {
+        var property = Property.<String>builder().expression("{{ variable }}-{{ index }}").build();
+        List<RunContext> runContexts = IntStream.range(0, 8)
+            .mapToObj(i -> (RunContext) runContextFactory.of(Map.of("variable", "run" + i)))
+            .toList();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int run = 0; run < runContexts.size(); run++) {
+                RunContext runContext = runContexts.get(run);
+                futures.add(executorService.submit(() -> {
+                    List<String> errors = new ArrayList<>();
+                    for (int index = 0; index < 200; index++) {
+                        // the same variables are rendered twice, so the second time may come from the cache
+                        Map<String, Object> variables = Map.of("index", index);
+                        for (int i = 0; i < 2; i++) {
+                            String rendered = runContext.render(property).as(String.class, variables).orElseThrow();
+                            String expected = runContext.render("{{ variable }}") + "-" + index;
+                            if (!rendered.equals(expected)) {
+                                errors.add(rendered + " != " + expected);
+                            }
+                        }
+                    }
+                    return errors;
+                }));
+            }
+
+            for (Future<List<String>> future : futures) {
+                assertThat(future.get(1, TimeUnit.MINUTES)).isEmpty();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
     }
 
     @Test
@@ -116,4 +201,22 @@ class RunContextPropertyTest {
         assertThat(runContextProperty.as(String.class, Map.of("variable", "value1"))).isEqualTo(Optional.of("value1"));
         assertThat(runContextProperty.as(String.class, Map.of("variable", "value2"))).isEqualTo(Optional.of("value2"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void asShouldValidateTheValueRenderedWithTheGivenVariables() throws IllegalVariableEvaluationException {
+        var task = DynamicPropertyExampleTask.builder()
+            .id("dynamic")
+            .type(DynamicPropertyExampleTask.class.getName())
+            .number(Property.ofExpression("{{ number }}"))
+            .build();
+        Flow flow = TestsUtils.mockFlow();
+        Execution execution = TestsUtils.mockExecution(flow, Map.of());
+        RunContext runContext = runContextFactory.of(flow, task, execution, TestsUtils.mockTaskRun(execution, task));
+
+        // only the rendered property is validated, not the other required properties of the task
+        assertThat(runContext.render(task.getNumber()).as(Integer.class, Map.of("number", 1))).isEqualTo(Optional.of(1));
+        assertThatThrownBy(() -> runContext.render(task.getNumber()).as(Integer.class, Map.of("number", -1)))
+            .isInstanceOf(ConstraintViolationException.class);
+        assertThat(runContext.render(task.getNumber()).as(Integer.class, Map.of("number", 2))).isEqualTo(Optional.of(2));
+    }
+}
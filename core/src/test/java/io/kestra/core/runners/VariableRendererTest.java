@@ -73,6 +73,35 @@ class VariableRendererTest {
         }
     }
 
+    @Test
+    void shouldRenderVariablePathLikePebble() throws IllegalVariableEvaluationException {
+        Map<String, Object> outputs = new LinkedHashMap<>();
+        outputs.put("string", "hello");
+        outputs.put("number", 42);
+        outputs.put("decimal", 3.14);
+        outputs.put("bool", true);
+        outputs.put("list", List.of(1, "two"));
+        outputs.put("map", Map.of("a", 1));
+        outputs.put("raw", "{% raw %}{{ not rendered }}{% endraw %}");
+        Map<String, Object> variables = Map.of("outputs", Map.of("task", outputs));
+
+        for (String key : outputs.keySet()) {
+            // the trailing expression prevents the variable path fast path, so it's rendered by Pebble
+            assertThat(variableRenderer.render("{{ outputs.task." + key + " }}", variables))
+                .isEqualTo(variableRenderer.render("{{ outputs.task." + key + " }}{{ '' }}", variables));
+            assertThat(variableRenderer.renderTyped("{{outputs.task." + key + "}}", variables)).isEqualTo(outputs.get(key));
+        }
+
+        // not resolvable directly, so rendered by Pebble
+        assertThat(variableRenderer.render("{{ outputs.task.list[0] }}", variables)).isEqualTo("1");
+        assertThat(variableRenderer.render("{{ true }}", Map.of("true", false))).isEqualTo("true");
+        Assertions.assertThrows(IllegalVariableEvaluationException.class, () -> variableRenderer.render("{{ outputs.missing }}", variables));
+
+        // literals
+        assertThat(variableRenderer.render("{\"json\": true}", variables)).isEqualTo("{\"json\": true}");
+        assertThat(variableRenderer.render("{# comment #}text", variables)).isEqualTo("text");
+    }
+
     @Test
     void shouldKeepKeyOrderWhenRenderingMap() throws IllegalVariableEvaluationException {
         final Map<String, Object> input = new LinkedHashMap<>();
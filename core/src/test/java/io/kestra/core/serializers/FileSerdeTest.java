@@ -1,6 +1,8 @@
 package io.kestra.core.serializers;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.kestra.core.utils.Await;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -13,6 +15,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -69,6 +73,30 @@ class FileSerdeTest {
         }
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @ParameterizedTest
+    @MethodSource("source")
+    void ionBinary(Object value, Object resultValue) throws IOException {
+        Map<String, Object> object = new HashMap<>();
+        object.put("key", value);
+
+        File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(new FileOutputStream(tempFile), true)) {
+            writer.write(object);
+        }
+
+        Map<String, Object> result = FileSerde.readAllPrefetched(new BufferedInputStream(new FileInputStream(tempFile)))
+            .map(o -> (Map<String, Object>) o)
+            .blockFirst();
+
+        if (value instanceof Map) {
+            assertThat(((Map) object.get("key")).entrySet(), everyItem(in(((Map) result.get("key")).entrySet())));
+            assertThat(((Map) result.get("key")).entrySet(), everyItem(in(((Map) object.get("key")).entrySet())));
+        } else {
+            assertThat(result.get("key")).isEqualTo(resultValue != null ? resultValue : object.get("key"));
+        }
+    }
+
     @Test
     void readMax() throws IOException {
         File tempFile = File.createTempFile(this.getClass().getSimpleName().toLowerCase() + "_", ".ion");
@@ -172,6 +200,95 @@ class FileSerdeTest {
         assertThat(outputLines).isEqualTo(inputLines);
     }
 
+    @Test
+    void reader_multiValuedSource() throws IOException {
+        final Path inputTempFilePath = createTempFile();
+
+        final List<String> inputLines = List.of("{id:1,value:\"value1\"}", "{id:2,value:\"value2\"}", "{id:3,value:\"value3\"}");
+        Files.write(inputTempFilePath, inputLines);
+
+        final List<Object> outputValues = new ArrayList<>();
+        FileSerde.reader(Files.newBufferedReader(inputTempFilePath), outputValues::add);
+        assertThat(outputValues).containsExactly(
+            Map.of("id", 1, "value", "value1"),
+            Map.of("id", 2, "value", "value2"),
+            Map.of("id", 3, "value", "value3")
+        );
+    }
+
+    @Test
+    void readAllPrefetched_fromTextSource() throws IOException {
+        final Path inputTempFilePath = createTempFile();
+
+        final List<String> inputLines = List.of("{id:1,value:\"value1\"}", "{id:2,value:\"value2\"}", "{id:3,value:\"value3\"}");
+        Files.write(inputTempFilePath, inputLines);
+
+        final List<SimpleEntry> outputValues = FileSerde.readAllPrefetched(Files.newInputStream(inputTempFilePath), SimpleEntry.class).collectList().block();
+        assertThat(outputValues).containsExactly(new SimpleEntry(1, "value1"), new SimpleEntry(2, "value2"), new SimpleEntry(3, "value3"));
+    }
+
+    @Test
+    void readAllPrefetched_fromBinarySource() throws IOException {
+        final Path tempFilePath = createTempFile();
+
+        final List<SimpleEntry> inputValues = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            inputValues.add(new SimpleEntry(i, "value" + i));
+        }
+
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(new BufferedOutputStream(Files.newOutputStream(tempFilePath)), true)) {
+            writer.writeAll(inputValues);
+        }
+
+        final List<SimpleEntry> outputValues = FileSerde.readAllPrefetched(
+            new BufferedInputStream(Files.newInputStream(tempFilePath)),
+            new TypeReference<SimpleEntry>() {}
+        ).collectList().block();
+        assertThat(outputValues).isEqualTo(inputValues);
+    }
+
+    @Test
+    void readAllPrefetched_cancelledShouldCloseTheInput() throws IOException, TimeoutException {
+        final Path tempFilePath = createTempFile();
+
+        final List<SimpleEntry> inputValues = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            inputValues.add(new SimpleEntry(i, "value" + i));
+        }
+
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(new BufferedOutputStream(Files.newOutputStream(tempFilePath)), true)) {
+            writer.writeAll(inputValues);
+        }
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        InputStream input = new FilterInputStream(new BufferedInputStream(Files.newInputStream(tempFilePath))) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+
+        // cancelled while values are still being decoded ahead of the consumer
+        final SimpleEntry first = FileSerde.readAllPrefetched(input, SimpleEntry.class).blockFirst();
+
+        assertThat(first).isEqualTo(new SimpleEntry(0, "value0"));
+        Await.until(closed::get, Duration.ofMillis(10), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void createSequenceWriter_textOutput() throws IOException {
+        final Path outputTempFilePath = createTempFile();
+
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(Files.newOutputStream(outputTempFilePath), false)) {
+            writer.write(new SimpleEntry(1, "value1"));
+            writer.write(new SimpleEntry(2, "value2"));
+        }
+
+        final List<String> outputLines = Files.readAllLines(outputTempFilePath);
+        assertThat(outputLines).containsExactly("{id:1,value:\"value1\"}", "{id:2,value:\"value2\"}");
+    }
+
     private static Path createTempFile() throws IOException {
         return Files.createTempFile(FileSerdeTest.class.getSimpleName().toLowerCase() + "_", ".ion");
     }
@@ -0,0 +1,122 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.repositories.ArrayListTotal;
+import io.kestra.core.repositories.LogRepositoryInterface;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExecutionLogServiceTest {
+    private static final Instant TIMESTAMP = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void shouldDownloadMillionsOfLogsInBoundedMemory() throws IOException {
+        int pageCount = 3_000;
+        AtomicInteger fetched = new AtomicInteger();
+        ExecutionLogService service = new ExecutionLogService(repository(pageCount, 1_000, fetched));
+
+        try (InputStream inputStream = service.getExecutionLogsAsStream("main", "execution", null, null, null, null, true)) {
+            // the pages are only fetched while reading
+            assertThat(fetched.get()).isEqualTo(1);
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            assertThat(reader.readLine()).isEqualTo(TIMESTAMP + " INFO message 0");
+            assertThat(fetched.get()).isEqualTo(1);
+
+            long lines = 1;
+            while (reader.readLine() != null) {
+                lines++;
+                // the whole download is more than 100 MB, only the page being read must be in memory
+                if (lines % 1_000 == 0) {
+                    assertThat(fetched.get()).isLessThanOrEqualTo((int) (lines / 1_000) + 1);
+                }
+            }
+
+            assertThat(lines).isEqualTo(3_000_000L);
+            assertThat(fetched.get()).isEqualTo(pageCount);
+        }
+    }
+
+    @Test
+    void shouldDownloadGzipLogs() throws IOException {
+        ExecutionLogService service = new ExecutionLogService(repository(3, 10, new AtomicInteger()));
+
+        try (InputStream inputStream = new GZIPInputStream(service.getExecutionLogsAsStream("main", "execution", null, null, null, null, true, true))) {
+            List<String> lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)).lines().toList();
+
+            assertThat(lines).hasSize(30);
+            assertThat(lines.getFirst()).isEqualTo(TIMESTAMP + " INFO message 0");
+            assertThat(lines.getLast()).isEqualTo(TIMESTAMP + " INFO message 29");
+        }
+    }
+
+    @Test
+    void shouldStreamLogsOnePageAtATime() {
+        AtomicInteger fetched = new AtomicInteger();
+        ExecutionLogService service = new ExecutionLogService(repository(5, 10, fetched));
+
+        List<LogEntry> first = service.streamExecutionLogs("main", "execution", null, null, null, null, true)
+            .take(5)
+            .collectList()
+            .block();
+        assertThat(first).hasSize(5);
+        assertThat(fetched.get()).isLessThanOrEqualTo(2);
+
+        Long count = service.streamExecutionLogs("main", "execution", Level.INFO, null, null, null, true).count().block();
+        assertThat(count).isEqualTo(50L);
+    }
+
+    @Test
+    void shouldReturnEmptyStreamWithoutLogs() throws IOException {
+        ExecutionLogService service = new ExecutionLogService(repository(0, 10, new AtomicInteger()));
+
+        try (InputStream inputStream = service.getExecutionLogsAsStream("main", "execution", null, null, null, null, true)) {
+            assertThat(inputStream.readAllBytes()).isEmpty();
+        }
+    }
+
+    private static LogRepositoryInterface repository(int pageCount, int pageSize, AtomicInteger fetched) {
+        LogRepositoryInterface repository = mock(LogRepositoryInterface.class);
+        when(repository.findPageByExecutionId(any(), any(), any(), any(), any(), any(), anyInt(), any(), anyBoolean()))
+            .thenAnswer(invocation -> {
+                fetched.incrementAndGet();
+                String continuationToken = invocation.getArgument(7);
+                int page = continuationToken == null ? 0 : Integer.parseInt(continuationToken);
+                if (page >= pageCount) {
+                    return new ArrayListTotal<>(List.of(), -1, null);
+                }
+
+                List<LogEntry> logs = new ArrayList<>(pageSize);
+                for (int i = 0; i < pageSize; i++) {
+                    logs.add(LogEntry.builder()
+                        .executionId("execution")
+                        .timestamp(TIMESTAMP)
+                        .level(Level.INFO)
+                        .message("message " + (page * pageSize + i))
+                        .build()
+                    );
+                }
+
+                return new ArrayListTotal<>(logs, -1, page + 1 < pageCount ? String.valueOf(page + 1) : null);
+            });
+        return repository;
+    }
+}
@@ -0,0 +1,143 @@
+package io.kestra.core.services;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueException;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.http.sse.Event;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class LogStreamingServiceTest {
+    private static final List<String> ALL_LEVELS = LogEntry.findLevelsByMin(null).stream().map(Enum::name).toList();
+
+    @Inject
+    private LogStreamingService logStreamingService;
+
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    private QueueInterface<LogEntry> logQueue;
+
+    @Test
+    void shouldNotLoseNorDuplicateLogsReceivedDuringReplay() throws QueueException, TimeoutException {
+        String executionId = IdUtils.create();
+        Subscription live = subscribe();
+        Subscription replaying = subscribe();
+        logStreamingService.registerSubscriber(executionId, "live", live.sink(), ALL_LEVELS);
+        LogStreamingService.Replay replay = logStreamingService.registerReplayingSubscriber(executionId, "replaying", replaying.sink(), ALL_LEVELS, null);
+
+        try {
+            // logs emitted while the stored logs are being read
+            for (int i = 0; i < 3; i++) {
+                logQueue.emit(logEntry(executionId, "live " + i));
+            }
+            Await.until(() -> live.events().size() == 3, Duration.ofMillis(10), Duration.ofSeconds(10));
+            List<LogEntry> received = live.events().stream().map(Event::getData).toList();
+            assertThat(received).allMatch(logEntry -> logEntry.getSequence() != null);
+            assertThat(replaying.events()).isEmpty();
+
+            // the replay overlaps with the logs received from the queue: the first ones were indexed before the read
+            LogEntry stored = logEntry(executionId, "stored").toBuilder().sequence(received.getFirst().getSequence() - 1).build();
+            replay.send(stored);
+            replay.send(received.get(0));
+            replay.send(received.get(1));
+            replay.complete();
+
+            Await.until(() -> replaying.events().size() == 4, Duration.ofMillis(10), Duration.ofSeconds(10));
+            assertThat(replaying.events()).extracting(event -> event.getData().getMessage())
+                .containsExactly("stored", "live 0", "live 1", "live 2");
+            assertThat(replaying.events()).extracting(Event::getId)
+                .containsExactly(
+                    String.valueOf(stored.getSequence()),
+                    String.valueOf(received.get(0).getSequence()),
+                    String.valueOf(received.get(1).getSequence()),
+                    String.valueOf(received.get(2).getSequence())
+                );
+
+            // once replayed, the logs are sent directly
+            logQueue.emit(logEntry(executionId, "after"));
+            Await.until(() -> replaying.events().size() == 5, Duration.ofMillis(10), Duration.ofSeconds(10));
+            assertThat(replaying.events().getLast().getData().getMessage()).isEqualTo("after");
+        } finally {
+            logStreamingService.unregisterSubscriber(executionId, "live");
+            logStreamingService.unregisterSubscriber(executionId, "replaying");
+        }
+    }
+
+    @Test
+    void shouldNotSkipLogsReceivedOutOfSequenceOrder() throws QueueException, TimeoutException {
+        String executionId = IdUtils.create();
+        Subscription subscription = subscribe();
+        LogStreamingService.Replay replay = logStreamingService.registerReplayingSubscriber(executionId, "unordered", subscription.sink(), ALL_LEVELS, null);
+
+        try {
+            // a stored log with a higher sequence than the next log received from the queue
+            replay.send(logEntry(executionId, "stored").toBuilder().sequence(Long.MAX_VALUE).build());
+            replay.complete();
+
+            logQueue.emit(logEntry(executionId, "late"));
+            Await.until(() -> subscription.events().size() == 2, Duration.ofMillis(10), Duration.ofSeconds(10));
+            assertThat(subscription.events()).extracting(event -> event.getData().getMessage())
+                .containsExactly("stored", "late");
+        } finally {
+            logStreamingService.unregisterSubscriber(executionId, "unordered");
+        }
+    }
+
+    @Test
+    void shouldResumeFromLastSequence() {
+        String executionId = IdUtils.create();
+        Subscription subscription = subscribe();
+        LogStreamingService.Replay replay = logStreamingService.registerReplayingSubscriber(executionId, "resume", subscription.sink(), ALL_LEVELS, 2L);
+
+        try {
+            for (long sequence = 1; sequence <= 4; sequence++) {
+                replay.send(logEntry(executionId, "stored " + sequence).toBuilder().sequence(sequence).build());
+            }
+            replay.complete();
+
+            assertThat(subscription.events()).extracting(Event::getId).containsExactly("3", "4");
+        } finally {
+            logStreamingService.unregisterSubscriber(executionId, "resume");
+        }
+    }
+
+    private static Subscription subscribe() {
+        AtomicReference<FluxSink<Event<LogEntry>>> sink = new AtomicReference<>();
+        List<Event<LogEntry>> events = new CopyOnWriteArrayList<>();
+        Flux.<Event<LogEntry>>create(sink::set, FluxSink.OverflowStrategy.BUFFER).subscribe(events::add);
+        return new Subscription(sink.get(), events);
+    }
+
+    private static LogEntry logEntry(String executionId, String message) {
+        return LogEntry.builder()
+            .tenantId("main")
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .executionId(executionId)
+            .timestamp(Instant.now())
+            .level(Level.INFO)
+            .message(message)
+            .build();
+    }
+
+    private record Subscription(FluxSink<Event<LogEntry>> sink, List<Event<LogEntry>> events) {
+    }
+}
@@ -0,0 +1,126 @@
+package io.kestra.core.services;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.core.storage.Split;
+import jakarta.inject.Inject;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class StorageServiceTest {
+    @Inject
+    TestRunContextFactory runContextFactory;
+
+    @Inject
+    StorageInterface storageInterface;
+
+    static Stream<Arguments> contents() {
+        return Stream.of(
+            Arguments.of("empty", new byte[0]),
+            Arguments.of("lf", rows(500, "\n", true, false)),
+            Arguments.of("no trailing terminator", rows(500, "\n", false, false)),
+            Arguments.of("crlf", rows(500, "\r\n", true, false)),
+            Arguments.of("cr", rows(500, "\r", true, false)),
+            Arguments.of("mixed terminators and empty rows", rows(500, null, true, false)),
+            Arguments.of("multibyte characters", rows(500, "\n", true, true)),
+            Arguments.of("single row", "x".repeat(1000).getBytes(StandardCharsets.UTF_8)),
+            Arguments.of("malformed characters", malformed())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("contents")
+    void parallelSplitIsSequentialSplit(String name, byte[] content) throws Exception {
+        RunContext runContext = runContextFactory.of();
+        URI from = storageInterface.put(
+            MAIN_TENANT,
+            null,
+            URI.create("/file/storage/%s/split.txt".formatted(IdUtils.create())),
+            new ByteArrayInputStream(content)
+        );
+
+        List<Split> splits = List.of(
+            Split.builder().from(Property.ofValue(from.toString())).rows(Property.ofValue(1)).build(),
+            Split.builder().from(Property.ofValue(from.toString())).rows(Property.ofValue(7)).build(),
+            Split.builder().from(Property.ofValue(from.toString())).rows(Property.ofValue(7)).separator(Property.ofValue("\r\n")).build(),
+            Split.builder().from(Property.ofValue(from.toString())).bytes(Property.ofValue("1")).build(),
+            Split.builder().from(Property.ofValue(from.toString())).bytes(Property.ofValue("100")).build(),
+            Split.builder().from(Property.ofValue(from.toString())).partitions(Property.ofValue(1)).build(),
+            Split.builder().from(Property.ofValue(from.toString())).partitions(Property.ofValue(3)).build(),
+            Split.builder().from(Property.ofValue(from.toString())).regexPattern(Property.ofValue("^(\\w)")).build(),
+            Split.builder().from(Property.ofValue(from.toString())).regexPattern(Property.ofValue("(a)?")).build()
+        );
+
+        for (Split split : splits) {
+            List<String> sequential = read(StorageService.split(runContext, split, from, 1, content.length));
+            for (long segmentSize : List.of(1L, 13L, 256L, 100_000L)) {
+                assertThat(read(StorageService.split(runContext, split, from, 4, segmentSize)))
+                    .as("%s with segments of %s bytes", split, segmentSize)
+                    .isEqualTo(sequential);
+            }
+        }
+    }
+
+    private List<String> read(List<URI> uris) throws IOException {
+        List<String> files = new ArrayList<>();
+        for (URI uri : uris) {
+            try (InputStream inputStream = storageInterface.get(MAIN_TENANT, null, uri)) {
+                // compare the bytes, whatever their encoding
+                files.add(new String(inputStream.readAllBytes(), StandardCharsets.ISO_8859_1));
+            }
+        }
+
+        return files;
+    }
+
+    private static byte[] rows(int count, String terminator, boolean trailingTerminator, boolean multibyte) {
+        Random random = new Random(42);
+        String[] terminators = {"\n", "\r\n", "\r"};
+        String[] words = multibyte ? new String[]{"été", "☃", "😀", "a", "b"} : new String[]{"a", "b", "c", "de", "fgh"};
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                content.append(words[random.nextInt(words.length)]);
+            }
+
+            if (i < count - 1 || trailingTerminator) {
+                content.append(terminator != null ? terminator : terminators[random.nextInt(terminators.length)]);
+            }
+        }
+
+        return content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] malformed() {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] valid = rows(200, "\n", true, false);
+        content.write(valid, 0, valid.length / 2);
+        // a lone continuation byte, then a truncated sequence
+        content.write(new byte[]{'a', (byte) 0x80, 'b', '\n', (byte) 0xE2, (byte) 0x82, '\n'}, 0, 7);
+        content.write(valid, valid.length / 2, valid.length - valid.length / 2);
+
+        return content.toByteArray();
+    }
+}
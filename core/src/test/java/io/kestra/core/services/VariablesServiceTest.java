@@ -0,0 +1,50 @@
+package io.kestra.core.services;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Variables;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.StorageContext;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+@Property(name = "kestra.variables.outputs-storage.enabled", value = "true")
+@Property(name = "kestra.variables.outputs-storage.threshold", value = "64")
+class VariablesServiceTest {
+    private static final StorageContext CONTEXT = StorageContext.forTask(MAIN_TENANT, "namespace", "flow", "execution", "task", "taskRun", null);
+
+    @Inject
+    private VariablesService variablesService;
+
+    @Test
+    void shouldKeepSmallOutputsInMemory() {
+        Variables variables = variablesService.of(CONTEXT, Map.of("key", "value"));
+
+        assertThat(variables).isInstanceOf(Variables.InMemoryVariables.class);
+        assertThat(variables.get("key")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldStoreLargeOutputsInStorage() throws Exception {
+        String large = "a".repeat(1024);
+        Variables variables = variablesService.of(CONTEXT, Map.of("key", large));
+
+        assertThat(variables).isInstanceOf(Variables.InStorageVariables.class);
+        assertThat(variables.get("key")).isEqualTo(large);
+
+        // only the reference is serialized inside the execution
+        String json = JacksonMapper.ofJson().writeValueAsString(variables);
+        assertThat(json).contains(Variables.TYPE);
+        assertThat(json).doesNotContain(large);
+
+        // and it is lazily resolved once deserialized
+        Variables deserialized = JacksonMapper.ofJson().readValue(json, Variables.class);
+        assertThat(deserialized.get("key")).isEqualTo(large);
+    }
+}
@@ -7,6 +7,7 @@ import io.kestra.core.storages.kv.InternalKVStore;
 import io.kestra.core.storages.kv.KVEntry;
 import io.kestra.core.storages.kv.KVMetadata;
 import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreException;
 import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.kestra.core.storages.kv.KVValue;
 import io.kestra.core.tenant.TenantService;
@@ -18,13 +19,20 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -250,6 +258,75 @@ class InternalKVStoreTest {
         assertThat(result.get().value()).isEqualTo(value);
     }
 
+    @Test
+    void putIfVersion() throws IOException, ResourceExpiredException {
+        final InternalKVStore kv = kv();
+
+        Optional<KVEntry> created = kv.putIfAbsent(TEST_KV_KEY, new KVValueAndMetadata(null, "first"));
+        assertThat(created).isPresent();
+        assertThat(created.get().version()).isEqualTo(1);
+        assertThat(kv.putIfAbsent(TEST_KV_KEY, new KVValueAndMetadata(null, "other"))).isEmpty();
+
+        assertThat(kv.putIfVersion(TEST_KV_KEY, new KVValueAndMetadata(null, "stale"), 2)).isEmpty();
+        Optional<KVEntry> updated = kv.putIfVersion(TEST_KV_KEY, new KVValueAndMetadata(null, "second"), 1);
+        assertThat(updated).isPresent();
+        assertThat(updated.get().version()).isEqualTo(2);
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("second"));
+
+        // a deleted entry is absent
+        kv.delete(TEST_KV_KEY);
+        assertThat(kv.putIfVersion(TEST_KV_KEY, new KVValueAndMetadata(null, "stale"), 2)).isEmpty();
+        Optional<KVEntry> recreated = kv.putIfAbsent(TEST_KV_KEY, new KVValueAndMetadata(null, "third"));
+        assertThat(recreated).isPresent();
+        assertThat(recreated.get().version()).isEqualTo(3);
+        assertThat(kv.getValue(TEST_KV_KEY)).contains(new KVValue("third"));
+    }
+
+    @Test
+    void putIfAbsentShouldOnlySucceedOnceConcurrently() throws Exception {
+        final InternalKVStore kv = kv();
+        int threads = 16;
+
+        List<Optional<KVEntry>> results = concurrently(threads, i -> kv.putIfAbsent(TEST_KV_KEY, new KVValueAndMetadata(null, "writer-" + i)));
+
+        List<KVEntry> created = results.stream().flatMap(Optional::stream).toList();
+        assertThat(created).hasSize(1);
+        assertThat(kv.get(TEST_KV_KEY).map(KVEntry::version)).contains(1);
+    }
+
+    @Test
+    void incrementShouldNotLoseConcurrentUpdates() throws Exception {
+        final InternalKVStore kv = kv();
+        int threads = 8;
+        int incrementsPerThread = 25;
+
+        List<List<Number>> results = concurrently(threads, i -> {
+            List<Number> values = new ArrayList<>();
+            for (int j = 0; j < incrementsPerThread; j++) {
+                values.add(kv.increment(TEST_KV_KEY, 1, new KVMetadata("counter", Duration.ofMinutes(5))));
+            }
+            return values;
+        });
+
+        // each increment saw a distinct value, so none was lost
+        List<Long> values = results.stream().flatMap(List::stream).map(Number::longValue).toList();
+        assertThat(values).doesNotHaveDuplicates().hasSize(threads * incrementsPerThread);
+        assertThat(kv.getValue(TEST_KV_KEY).map(KVValue::value)).contains(threads * incrementsPerThread);
+        assertThat(kv.get(TEST_KV_KEY).map(KVEntry::description)).contains("counter");
+    }
+
+    @Test
+    void increment() throws IOException, ResourceExpiredException {
+        final InternalKVStore kv = kv();
+
+        assertThat(kv.increment(TEST_KV_KEY, 5, null)).isEqualTo(5L);
+        assertThat(kv.increment(TEST_KV_KEY, -2, null)).isEqualTo(3L);
+        assertThat(kv.increment(TEST_KV_KEY, 0.5, null)).isEqualTo(new BigDecimal("3.5"));
+
+        kv.put("not-a-number", new KVValueAndMetadata(null, "value"));
+        Assertions.assertThrows(KVStoreException.class, () -> kv.increment("not-a-number", 1, null));
+    }
+
     @Test
     void illegalKey() {
         InternalKVStore kv = kv();
@@ -267,6 +344,35 @@ class InternalKVStoreTest {
         Assertions.assertDoesNotThrow(() -> KVStore.validateKey("AN_UPPER.CASE-key"));
     }
 
+    private static <T> List<T> concurrently(int threads, ThrowingFunction<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.apply(index);
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingFunction<T> {
+        T apply(int index) throws Exception;
+    }
+
     private InternalKVStore kv() {
         final String namespaceId = "io.kestra." + IdUtils.create();
         return new InternalKVStore(MAIN_TENANT, namespaceId, storageInterface, kvMetadataRepository);
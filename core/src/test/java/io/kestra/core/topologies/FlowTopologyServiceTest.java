@@ -1,12 +1,18 @@
 package io.kestra.core.topologies;
 
+import io.kestra.core.models.conditions.Condition;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.models.topologies.FlowTopology;
+import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.serializers.YamlParser;
 import io.kestra.plugin.core.condition.ExecutionFlow;
+import io.kestra.plugin.core.condition.ExecutionNamespace;
 import io.kestra.plugin.core.condition.ExecutionStatus;
 import io.kestra.plugin.core.condition.MultipleCondition;
 import io.kestra.plugin.core.condition.Expression;
+import io.kestra.plugin.core.condition.FlowNamespaceCondition;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.topologies.FlowRelation;
@@ -22,8 +28,9 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -232,6 +239,143 @@ class FlowTopologyServiceTest {
         assertThat(flowTopologyService.isChild(flow, flow)).isNull();
     }
 
+    @Test
+    void indexMatchesAllFlows() {
+        Random random = new Random(42);
+
+        for (int iteration = 0; iteration < 20; iteration++) {
+            Map<String, FlowWithSource> flows = new LinkedHashMap<>();
+            for (int i = 0; i < 40; i++) {
+                FlowWithSource flow = randomFlow(random);
+                flows.put(flow.getNamespace() + "." + flow.getId(), flow);
+            }
+
+            FlowTopologyIndex index = FlowTopologyIndex.of(flows.values());
+            assertSameTopology(flows.values(), index);
+
+            // incremental updates
+            for (int i = 0; i < 10; i++) {
+                FlowWithSource flow = randomFlow(random);
+                String key = flow.getNamespace() + "." + flow.getId();
+                if (random.nextBoolean() && flows.containsKey(key)) {
+                    index.remove(flows.remove(key));
+                } else {
+                    flows.put(key, flow);
+                    index.upsert(flow);
+                }
+            }
+            assertSameTopology(flows.values(), index);
+        }
+    }
+
+    private void assertSameTopology(Collection<FlowWithSource> flows, FlowTopologyIndex index) {
+        List<FlowWithSource> allFlows = List.copyOf(flows);
+        allFlows.forEach(flow -> assertThat(topologyUids(flowTopologyService.topology(flow, index)))
+            .as(flow.getNamespace() + "." + flow.getId())
+            .isEqualTo(topologyUids(flowTopologyService.topology(flow, allFlows)))
+        );
+    }
+
+    private static Set<String> topologyUids(Stream<FlowTopology> topologies) {
+        return topologies
+            .map(topology -> topology.uid() + "|" + topology.getRelation())
+            .collect(Collectors.toSet());
+    }
+
+    private static final List<String> NAMESPACES = List.of("io.kestra.a", "io.kestra.a.b", "io.kestra.ab", "io.kestra.b", "com.other.b");
+
+    private FlowWithSource randomFlow(Random random) {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(returnTask());
+        for (int i = 0; i < random.nextInt(3); i++) {
+            tasks.add(Subflow.builder()
+                .id("launch" + i)
+                .type(Subflow.class.getName())
+                .namespace(randomNamespace(random))
+                .flowId(randomFlowId(random))
+                .build()
+            );
+        }
+
+        List<AbstractTrigger> triggers = new ArrayList<>();
+        for (int i = 0; i < random.nextInt(3); i++) {
+            var trigger = io.kestra.plugin.core.trigger.Flow.builder()
+                .id("trigger" + i)
+                .type(io.kestra.plugin.core.trigger.Flow.class.getName());
+
+            List<Condition> conditions = new ArrayList<>();
+            for (int j = 0; j < random.nextInt(3); j++) {
+                conditions.add(randomCondition(random));
+            }
+            trigger.conditions(conditions);
+
+            if (random.nextInt(3) == 0) {
+                List<io.kestra.plugin.core.trigger.Flow.UpstreamFlow> upstreamFlows = new ArrayList<>();
+                for (int j = 0; j < random.nextInt(3); j++) {
+                    upstreamFlows.add(io.kestra.plugin.core.trigger.Flow.UpstreamFlow.builder()
+                        .namespace(randomNamespace(random))
+                        .flowId(random.nextBoolean() ? randomFlowId(random) : null)
+                        .states(List.of(State.Type.SUCCESS))
+                        .build()
+                    );
+                }
+                trigger.preconditions(io.kestra.plugin.core.trigger.Flow.Preconditions.builder()
+                    .id("preconditions")
+                    .flows(upstreamFlows)
+                    .build()
+                );
+            }
+
+            triggers.add(trigger.build());
+        }
+
+        return FlowWithSource.builder()
+            .namespace(randomNamespace(random))
+            .id(randomFlowId(random))
+            .revision(1)
+            .tasks(tasks)
+            .triggers(triggers.isEmpty() ? null : triggers)
+            .build();
+    }
+
+    private static Condition randomCondition(Random random) {
+        return switch (random.nextInt(7)) {
+            case 0 -> ExecutionFlow.builder()
+                .namespace(Property.ofValue(randomNamespace(random)))
+                .flowId(Property.ofValue(randomFlowId(random)))
+                .build();
+            case 1 -> ExecutionNamespace.builder()
+                .namespace(Property.ofValue(randomNamespace(random).substring(0, 6 + random.nextInt(5))))
+                .comparison(Property.ofValue(ExecutionNamespace.Comparison.values()[random.nextInt(3)]))
+                .build();
+            case 2 -> ExecutionNamespace.builder()
+                .namespace(Property.ofValue(randomNamespace(random)))
+                .prefix(Property.ofValue(random.nextBoolean()))
+                .build();
+            case 3 -> FlowNamespaceCondition.builder()
+                .namespace(randomNamespace(random))
+                .prefix(random.nextBoolean())
+                .build();
+            case 4 -> ExecutionNamespace.builder()
+                .namespace(Property.ofExpression("{{ 'io.kestra.a' }}"))
+                .build();
+            case 5 -> Expression.builder()
+                .expression(Property.ofExpression("{{ true }}"))
+                .build();
+            default -> ExecutionStatus.builder()
+                .in(Property.ofValue(List.of(State.Type.SUCCESS)))
+                .build();
+        };
+    }
+
+    private static String randomNamespace(Random random) {
+        return NAMESPACES.get(random.nextInt(NAMESPACES.size()));
+    }
+
+    private static String randomFlowId(Random random) {
+        return "flow" + random.nextInt(6);
+    }
+
     private Return returnTask() {
         return Return.builder()
             .id("return")
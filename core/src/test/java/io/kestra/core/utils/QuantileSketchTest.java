@@ -0,0 +1,92 @@
+package io.kestra.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+    private static final double[] QUANTILES = {0.0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1.0};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"uniform", "exponential", "lognormal", "gaussian"})
+    void shouldEstimateQuantilesWithinRelativeAccuracy(String distribution) {
+        Random random = new Random(42);
+        DoubleSupplier supplier = switch (distribution) {
+            case "uniform" -> () -> random.nextDouble() * 1000;
+            case "exponential" -> () -> -Math.log(1 - random.nextDouble()) * 100;
+            case "lognormal" -> () -> Math.exp(random.nextGaussian() * 2 + 5);
+            case "gaussian" -> () -> random.nextGaussian() * 100;
+            default -> throw new IllegalArgumentException(distribution);
+        };
+
+        double[] values = new double[100_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = supplier.getAsDouble();
+            sketch.add(values[i]);
+        }
+
+        assertAccurate(sketch, values, QuantileSketch.DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void shouldMergeSketches() {
+        Random random = new Random(42);
+        double[] values = new double[30_000];
+        QuantileSketch[] sketches = {new QuantileSketch(0.02), new QuantileSketch(0.02), new QuantileSketch(0.02)};
+        for (int i = 0; i < values.length; i++) {
+            // each sketch receives a different range of durations
+            values[i] = (i % 3 + 1) * 1000 + random.nextDouble() * 500;
+            sketches[i % 3].add(values[i]);
+        }
+
+        QuantileSketch merged = new QuantileSketch(0.02);
+        Arrays.stream(sketches).forEach(merged::merge);
+
+        assertThat(merged.count()).isEqualTo(values.length);
+        assertAccurate(merged, values, 0.02);
+    }
+
+    @Test
+    void shouldHandleZerosAndSmallCounts() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertThat(sketch.quantile(0.5)).isNull();
+
+        sketch.add(0);
+        assertThat(sketch.quantile(0.5)).isEqualTo(0.0);
+
+        sketch.add(10);
+        sketch.add(-10);
+        assertThat(sketch.quantile(0.0)).isCloseTo(-10.0, within(0.1));
+        assertThat(sketch.quantile(0.5)).isEqualTo(0.0);
+        assertThat(sketch.quantile(1.0)).isCloseTo(10.0, within(0.1));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> new QuantileSketch(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuantileSketch().add(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuantileSketch().quantile(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuantileSketch(0.01).merge(new QuantileSketch(0.02))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertAccurate(QuantileSketch sketch, double[] values, double relativeAccuracy) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (double quantile : QUANTILES) {
+            double exact = sorted[(int) Math.floor(quantile * (sorted.length - 1))];
+            assertThat(sketch.quantile(quantile))
+                .as("quantile %s", quantile)
+                .isCloseTo(exact, within(Math.abs(exact) * relativeAccuracy * (1 + 1e-9) + 1e-9));
+        }
+    }
+}
@@ -6,12 +6,17 @@ import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.kestra.core.utils.IdUtils;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -75,4 +80,118 @@ class PurgeExecutionsTest {
 
         assertThat(output.getExecutionsCount()).isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void batches() throws Exception {
+        String namespace = "batches.namespace";
+        String flowId = "batches-flow-id";
+        for (int i = 0; i < 5; i++) {
+            executionRepository.save(execution(namespace, flowId));
+        }
+
+        var purge = PurgeExecutions.builder()
+            .namespace(Property.ofValue(namespace))
+            .flowId(Property.ofValue(flowId))
+            .endDate(Property.ofValue(ZonedDateTime.now().plusMinutes(1).format(DateTimeFormatter.ISO_ZONED_DATE_TIME)))
+            .batchSize(Property.ofValue(2))
+            .build();
+        var runContext = runContextFactory.of(flowId, namespace);
+        var output = purge.run(runContext);
+
+        assertThat(output.getExecutionsCount()).isEqualTo(5);
+        assertThat(runContext.namespaceKv(namespace).list()).isEmpty();
+    }
+
+    @Test
+    void resume() throws Exception {
+        String namespace = "resume.namespace";
+        String flowId = "resume-flow-id";
+        List<Execution> executions = Stream.generate(() -> execution(namespace, flowId))
+            .limit(3)
+            .map(executionRepository::save)
+            .sorted(Comparator.comparing(Execution::getId))
+            .toList();
+
+        String endDate = ZonedDateTime.now().plusMinutes(1).format(DateTimeFormatter.ISO_ZONED_DATE_TIME);
+        var purge = PurgeExecutions.builder()
+            .id("purge")
+            .namespace(Property.ofValue(namespace))
+            .flowId(Property.ofValue(flowId))
+            .endDate(Property.ofValue(endDate))
+            .purgeLog(Property.ofValue(false))
+            .purgeMetric(Property.ofValue(false))
+            .purgeStorage(Property.ofValue(false))
+            .build();
+        var runContext = runContextFactory.of(flowId, namespace);
+
+        // a previous run was interrupted after purging the first execution
+        var filters = new PurgeExecutions.Filters(true, false, false, false, namespace, flowId, null, endDate, null);
+        runContext.namespaceKv(namespace).put(
+            "purge_executions." + flowId + ".purge",
+            new KVValueAndMetadata(null, JacksonMapper.toMap(new PurgeExecutions.Checkpoint(filters, executions.getFirst().getId(), 1, 0, 0, 0, null)))
+        );
+
+        var output = purge.run(runContext);
+
+        assertThat(output.getExecutionsCount()).isEqualTo(3);
+        assertThat(executionRepository.findById(MAIN_TENANT, executions.getFirst().getId())).isPresent();
+        assertThat(executionRepository.findById(MAIN_TENANT, executions.get(1).getId())).isEmpty();
+        assertThat(executionRepository.findById(MAIN_TENANT, executions.get(2).getId())).isEmpty();
+        assertThat(runContext.namespaceKv(namespace).list()).isEmpty();
+    }
+
+    @Test
+    void skipWhenARunningExecutionIsPurging() throws Exception {
+        String namespace = "concurrent.namespace";
+        String flowId = "concurrent-flow-id";
+        Execution execution = executionRepository.save(execution(namespace, flowId));
+        Execution running = executionRepository.save(execution(namespace, flowId, State.Type.RUNNING));
+
+        String endDate = ZonedDateTime.now().plusMinutes(1).format(DateTimeFormatter.ISO_ZONED_DATE_TIME);
+        var purge = PurgeExecutions.builder()
+            .id("purge")
+            .namespace(Property.ofValue(namespace))
+            .flowId(Property.ofValue(flowId))
+            .endDate(Property.ofValue(endDate))
+            .states(Property.ofValue(List.of(State.Type.SUCCESS)))
+            .build();
+        var runContext = runContextFactory.of(flowId, namespace);
+
+        // the running execution is purging with the same task
+        var filters = new PurgeExecutions.Filters(true, true, true, true, namespace, flowId, null, endDate, List.of(State.Type.SUCCESS));
+        String checkpointKey = "purge_executions." + flowId + ".purge";
+        runContext.namespaceKv(namespace).put(
+            checkpointKey,
+            new KVValueAndMetadata(null, JacksonMapper.toMap(new PurgeExecutions.Checkpoint(filters, null, 0, 0, 0, 0, running.getId())))
+        );
+
+        var output = purge.run(runContext);
+
+        assertThat(output.getExecutionsCount()).isZero();
+        assertThat(executionRepository.findById(MAIN_TENANT, execution.getId())).isPresent();
+        assertThat(runContext.namespaceKv(namespace).get(checkpointKey)).isPresent();
+
+        // once it's terminated, its checkpoint is taken over
+        executionRepository.save(running.withState(State.Type.KILLED));
+
+        output = purge.run(runContext);
+
+        assertThat(output.getExecutionsCount()).isEqualTo(1);
+        assertThat(executionRepository.findById(MAIN_TENANT, execution.getId())).isEmpty();
+        assertThat(runContext.namespaceKv(namespace).list()).isEmpty();
+    }
+
+    private static Execution execution(String namespace, String flowId) {
+        return execution(namespace, flowId, State.Type.SUCCESS);
+    }
+
+    private static Execution execution(String namespace, String flowId, State.Type state) {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace(namespace)
+            .flowId(flowId)
+            .tenantId(MAIN_TENANT)
+            .state(new State().withState(state))
+            .build();
+    }
+}
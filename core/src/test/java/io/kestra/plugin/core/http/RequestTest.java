@@ -29,18 +29,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
 
 import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -735,6 +741,20 @@ class RequestTest {
         HttpResponse<String> large() {
             return HttpResponse.ok(LARGE_BODY);
         }
+
+        @Get("/gzip-chunked")
+        HttpResponse<Flux<byte[]>> gzipChunked() throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+            }
+
+            byte[] bytes = compressed.toByteArray();
+            return HttpResponse.ok(Flux.range(0, (bytes.length + 1023) / 1024)
+                    .map(i -> Arrays.copyOfRange(bytes, i * 1024, Math.min(bytes.length, (i + 1) * 1024))))
+                .header("Content-Encoding", "gzip")
+                .contentType(MediaType.TEXT_PLAIN_TYPE);
+        }
     }
 
     @Test
@@ -761,4 +781,57 @@ class RequestTest {
                 .contains("Download");
         }
     }
+
+    @Test
+    void storeBody() throws Exception {
+        try (
+            ApplicationContext applicationContext = ApplicationContext.run();
+            EmbeddedServer server = applicationContext.getBean(EmbeddedServer.class).start();
+        ) {
+            Request task = Request.builder()
+                .id(RequestTest.class.getSimpleName())
+                .type(RequestTest.class.getName())
+                .uri(Property.ofValue(server.getURL().toString() + "/gzip-chunked"))
+                .storeBody(Property.ofValue(true))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, task, ImmutableMap.of());
+
+            Request.Output output = task.run(runContext);
+
+            assertThat(output.getCode()).isEqualTo(200);
+            assertThat(output.getBody()).isNull();
+            assertThat(output.getBodyUri()).isNotNull();
+            try (InputStream stored = storageInterface.get(MAIN_TENANT, null, output.getBodyUri())) {
+                assertThat(IOUtils.contentEquals(stored, new ByteArrayInputStream(MockController.LARGE_BODY.getBytes(StandardCharsets.UTF_8)))).isTrue();
+            }
+            assertThat(runContext.metrics()).anyMatch(metric -> metric.getName().equals("response.length") &&
+                ((Number) metric.getValue()).longValue() == MockController.LARGE_BODY_SIZE);
+        }
+    }
+
+    @Test
+    void storeBodyTooLarge() {
+        try (
+            ApplicationContext applicationContext = ApplicationContext.run();
+            EmbeddedServer server = applicationContext.getBean(EmbeddedServer.class).start();
+        ) {
+            Request task = Request.builder()
+                .id(RequestTest.class.getSimpleName())
+                .type(RequestTest.class.getName())
+                .uri(Property.ofValue(server.getURL().toString() + "/gzip-chunked"))
+                .storeBody(Property.ofValue(true))
+                .maxBodySize(Property.ofValue(1024L * 1024))
+                .build();
+
+            RunContext runContext = TestsUtils.mockRunContext(this.runContextFactory, task, ImmutableMap.of());
+
+            HttpClientResponseException exception = assertThrows(
+                HttpClientResponseException.class,
+                () -> task.run(runContext)
+            );
+
+            assertThat(exception.getMessage()).contains("larger than the maximum size of 1048576 bytes");
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVEntry;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class IncrementTest {
+    @Inject
+    TestRunContextFactory runContextFactory;
+
+    @Test
+    void shouldCreateThenIncrementValue() throws Exception {
+        // Given
+        String key = "counter_" + IdUtils.create().toLowerCase();
+        RunContext runContext = this.runContextFactory.of("io.kestra.test", Map.of(
+            "inputs", Map.of("key", key)
+        ));
+        Increment increment = Increment.builder()
+            .id(Increment.class.getSimpleName())
+            .type(Increment.class.getName())
+            .key(Property.ofExpression("{{ inputs.key }}"))
+            .kvDescription(Property.ofValue("my counter"))
+            .ttl(Property.ofValue(Duration.ofMinutes(5)))
+            .build();
+
+        // When
+        Increment.Output first = increment.run(runContext);
+        Increment.Output second = increment.toBuilder().delta(Property.ofValue(10)).build().run(runContext);
+
+        // Then
+        assertThat(first.getValue()).isEqualTo(1L);
+        assertThat(second.getValue()).isEqualTo(11L);
+
+        KVStore kv = runContext.namespaceKv("io.kestra.test");
+        assertThat(kv.getValue(key)).contains(new KVValue(11));
+        Optional<KVEntry> entry = kv.get(key);
+        assertThat(entry).isPresent();
+        assertThat(entry.get().description()).isEqualTo("my counter");
+        assertThat(entry.get().expirationDate()).isNotNull();
+    }
+
+    @Test
+    void shouldNotLoseConcurrentIncrements() throws Exception {
+        // Given
+        String key = "counter_" + IdUtils.create().toLowerCase();
+        RunContext runContext = this.runContextFactory.of("io.kestra.test", Map.of());
+        Increment increment = Increment.builder()
+            .id(Increment.class.getSimpleName())
+            .type(Increment.class.getName())
+            .key(Property.ofValue(key))
+            .build();
+        int threads = 10;
+        int runsPerThread = 10;
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < runsPerThread; j++) {
+                        increment.run(runContext);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(runContext.namespaceKv("io.kestra.test").getValue(key)).contains(new KVValue(threads * runsPerThread));
+    }
+}
@@ -0,0 +1,45 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class SetIfAbsentTest {
+    @Inject
+    TestRunContextFactory runContextFactory;
+
+    @Test
+    void shouldOnlySetOnce() throws Exception {
+        // Given
+        String key = "order_" + IdUtils.create().toLowerCase();
+        RunContext runContext = this.runContextFactory.of("io.kestra.test", Map.of(
+            "inputs", Map.of("key", key)
+        ));
+        SetIfAbsent setIfAbsent = SetIfAbsent.builder()
+            .id(SetIfAbsent.class.getSimpleName())
+            .type(SetIfAbsent.class.getName())
+            .key(Property.ofExpression("{{ inputs.key }}"))
+            .value(Property.ofValue("first"))
+            .build();
+
+        // When
+        SetIfVersion.Output first = setIfAbsent.run(runContext);
+        SetIfVersion.Output second = setIfAbsent.toBuilder().value(Property.ofValue("second")).build().run(runContext);
+
+        // Then
+        assertThat(first.getUpdated()).isTrue();
+        assertThat(first.getVersion()).isEqualTo(1);
+        assertThat(second.getUpdated()).isFalse();
+        assertThat(runContext.namespaceKv("io.kestra.test").getValue(key)).contains(new KVValue("first"));
+    }
+}
@@ -0,0 +1,74 @@
+package io.kestra.plugin.core.kv;
+
+import io.kestra.core.context.TestRunContextFactory;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreException;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+class SetIfVersionTest {
+    @Inject
+    TestRunContextFactory runContextFactory;
+
+    @Test
+    void shouldOnlySetGivenExpectedVersion() throws Exception {
+        // Given
+        String key = "cursor_" + IdUtils.create().toLowerCase();
+        RunContext runContext = this.runContextFactory.of("io.kestra.test", Map.of());
+        KVStore kv = runContext.namespaceKv("io.kestra.test");
+        kv.put(key, new KVValueAndMetadata(null, "initial"));
+
+        SetIfVersion setIfVersion = SetIfVersion.builder()
+            .id(SetIfVersion.class.getSimpleName())
+            .type(SetIfVersion.class.getName())
+            .key(Property.ofValue(key))
+            .value(Property.ofValue("moved"))
+            .expectedVersion(Property.ofValue(1))
+            .build();
+
+        // When
+        SetIfVersion.Output updated = setIfVersion.run(runContext);
+        SetIfVersion.Output conflict = setIfVersion.toBuilder().value(Property.ofValue("stale")).build().run(runContext);
+
+        // Then
+        assertThat(updated.getUpdated()).isTrue();
+        assertThat(updated.getVersion()).isEqualTo(2);
+        assertThat(conflict.getUpdated()).isFalse();
+        assertThat(conflict.getVersion()).isNull();
+        assertThat(kv.getValue(key)).contains(new KVValue("moved"));
+    }
+
+    @Test
+    void shouldFailOnConflictGivenErrorOnConflict() throws Exception {
+        // Given
+        String key = "cursor_" + IdUtils.create().toLowerCase();
+        RunContext runContext = this.runContextFactory.of("io.kestra.test", Map.of());
+
+        SetIfVersion setIfVersion = SetIfVersion.builder()
+            .id(SetIfVersion.class.getSimpleName())
+            .type(SetIfVersion.class.getName())
+            .key(Property.ofValue(key))
+            .value(Property.ofValue("value"))
+            .expectedVersion(Property.ofValue(3))
+            .errorOnConflict(Property.ofValue(true))
+            .build();
+
+        // When
+        KVStoreException exception = Assertions.assertThrows(KVStoreException.class, () -> setIfVersion.run(runContext));
+
+        // Then
+        assertThat(exception.getMessage()).contains("expected version 3");
+    }
+}
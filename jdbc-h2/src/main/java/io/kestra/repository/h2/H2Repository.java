@@ -64,14 +64,11 @@ public class H2Repository<T> extends io.kestra.jdbc.AbstractJdbcRepository<T> {
     }
 
     @Override
-    public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            return items.stream()
-                .map(item -> this.persistInternal(item, dslContext, this.persistFields(item)))
-                .mapToInt(i -> i)
-                .sum();
-        });
+    public int persistBatch(DSLContext dslContext, List<T> items) {
+        return items.stream()
+            .map(item -> this.persistInternal(item, dslContext, this.persistFields(item)))
+            .mapToInt(i -> i)
+            .sum();
     }
 
     public Condition fullTextCondition(List<String> fields, String query) {
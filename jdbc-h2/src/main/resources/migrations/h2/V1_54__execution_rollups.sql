@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS execution_rollups (
+    "tenant_id" VARCHAR(250),
+    "namespace" VARCHAR(150) NOT NULL,
+    "flow_id" VARCHAR(150) NOT NULL,
+    "state_current" VARCHAR(50) NOT NULL,
+    "start_date" TIMESTAMP NOT NULL,
+    "count" BIGINT NOT NULL,
+    "duration_sum" BIGINT,
+    "duration_min" BIGINT,
+    "duration_max" BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS execution_rollups__start_date ON execution_rollups ("start_date", "tenant_id");
+
+CREATE TABLE IF NOT EXISTS execution_rollups_dirty (
+    "bucket" BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS execution_rollups_dirty__bucket ON execution_rollups_dirty ("bucket");
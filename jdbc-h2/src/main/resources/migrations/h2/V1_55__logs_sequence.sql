@@ -0,0 +1,2 @@
+alter table logs add "seq" BIGINT GENERATED ALWAYS AS (JQ_LONG("value", '.sequence'));
+CREATE INDEX IF NOT EXISTS logs_execution_id__seq ON logs ("deleted", "execution_id", "seq");
@@ -0,0 +1,8 @@
+-- durations are stored as fractional seconds on H2
+ALTER TABLE execution_rollups ALTER COLUMN "duration_sum" DOUBLE PRECISION;
+ALTER TABLE execution_rollups ALTER COLUMN "duration_min" DOUBLE PRECISION;
+ALTER TABLE execution_rollups ALTER COLUMN "duration_max" DOUBLE PRECISION;
+
+CREATE TABLE IF NOT EXISTS execution_rollups_buckets (
+    "bucket" BIGINT NOT NULL PRIMARY KEY
+);
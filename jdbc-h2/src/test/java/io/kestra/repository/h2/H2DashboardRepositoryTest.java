@@ -0,0 +1,6 @@
+package io.kestra.repository.h2;
+
+import io.kestra.core.repositories.AbstractDashboardRepositoryTest;
+
+public class H2DashboardRepositoryTest extends AbstractDashboardRepositoryTest {
+}
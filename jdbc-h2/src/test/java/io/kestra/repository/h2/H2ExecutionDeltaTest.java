@@ -0,0 +1,6 @@
+package io.kestra.repository.h2;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionDeltaTest;
+
+public class H2ExecutionDeltaTest extends AbstractJdbcExecutionDeltaTest {
+}
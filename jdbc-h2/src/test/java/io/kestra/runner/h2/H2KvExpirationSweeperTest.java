@@ -0,0 +1,7 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.JdbcKvExpirationSweeperTest;
+
+class H2KvExpirationSweeperTest extends JdbcKvExpirationSweeperTest {
+
+}
@@ -1,6 +1,7 @@
 package io.kestra.repository.mysql;
 
 import io.kestra.core.events.CrudEvent;
+import io.kestra.core.models.dashboards.AggregationType;
 import io.kestra.core.models.dashboards.Dashboard;
 import io.kestra.core.queues.QueueService;
 import io.kestra.core.repositories.QueryBuilderInterface;
@@ -28,4 +29,10 @@ public class MysqlDashboardRepository extends AbstractJdbcDashboardRepository {
     protected Condition findCondition(String query) {
         return MysqlDashboardRepositoryService.findCondition(this.jdbcRepository, query);
     }
+
+    @Override
+    protected boolean isSupported(AggregationType aggregation) {
+        // MySQL has no ordered-set aggregate like percentile_cont to compute percentiles
+        return aggregation.getPercentile() == null;
+    }
 }
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS execution_taskrun_deltas (
+    `seq` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    `execution_id` VARCHAR(150) NOT NULL,
+    `value` LONGTEXT NOT NULL,
+    INDEX ix_execution_id_seq (`execution_id`, `seq`)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS execution_rollups (
+    `tenant_id` VARCHAR(250),
+    `namespace` VARCHAR(150) NOT NULL,
+    `flow_id` VARCHAR(150) NOT NULL,
+    `state_current` VARCHAR(50) NOT NULL,
+    `start_date` DATETIME(6) NOT NULL,
+    `count` BIGINT NOT NULL,
+    `duration_sum` BIGINT,
+    `duration_min` BIGINT,
+    `duration_max` BIGINT,
+    INDEX ix_start_date (`start_date`, `tenant_id`)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS execution_rollups_dirty (
+    `bucket` BIGINT NOT NULL,
+    INDEX ix_bucket (`bucket`)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
@@ -0,0 +1,2 @@
+alter table logs add `seq` BIGINT GENERATED ALWAYS AS (IF(value ->> '$.sequence' = 'null', NULL, value ->> '$.sequence')) STORED;
+CREATE INDEX ix_execution_id__seq ON logs (`deleted`, `execution_id`, `seq`);
@@ -0,0 +1 @@
+CREATE INDEX ix_last_expiration_date ON `kv_metadata` (`last`, `expiration_date`);
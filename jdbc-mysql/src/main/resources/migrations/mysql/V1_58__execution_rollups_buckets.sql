@@ -0,0 +1,3 @@
+CREATE TABLE IF NOT EXISTS execution_rollups_buckets (
+    `bucket` BIGINT NOT NULL PRIMARY KEY
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
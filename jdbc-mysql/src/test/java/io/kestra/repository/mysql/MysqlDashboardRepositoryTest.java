@@ -0,0 +1,10 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.core.repositories.AbstractDashboardRepositoryTest;
+
+public class MysqlDashboardRepositoryTest extends AbstractDashboardRepositoryTest {
+    @Override
+    protected boolean supportsPercentiles() {
+        return false;
+    }
+}
@@ -15,6 +15,7 @@ import lombok.SneakyThrows;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
@@ -22,8 +23,8 @@ import org.jooq.Result;
 import org.jooq.SelectConditionStep;
 import org.jooq.impl.DSL;
 
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import jakarta.annotation.Nullable;
@@ -76,25 +77,42 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
             .execute();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * It uses a single multi-rows <code>INSERT ... ON CONFLICT DO UPDATE</code> statement.
+     */
     @Override
-    public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            var inserts = items.stream().map(item -> {
-                    Map<Field<Object>, Object> finalFields = this.persistFields(item);
-
-                    return dslContext
-                        .insertInto(table)
-                        .set(AbstractJdbcRepository.field("key"), key(item))
-                        .set(finalFields)
-                        .onConflict(AbstractJdbcRepository.field("key"))
-                        .doUpdate()
-                        .set(finalFields);
-                })
-                .toList();
-
-            return Arrays.stream(dslContext.batch(inserts).execute()).sum();
+    public int persistBatch(DSLContext dslContext, List<T> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+
+        // the same row cannot be updated twice by the same statement so we only keep the last item for each key
+        Map<String, Map<Field<Object>, Object>> rows = new LinkedHashMap<>();
+        items.forEach(item -> {
+            String key = key(item);
+            Map<Field<Object>, Object> fields = this.persistFields(item);
+            fields.put(AbstractJdbcRepository.field("key"), key);
+            rows.put(key, fields);
         });
+
+        InsertSetMoreStep<Record> insert = null;
+        for (Map<Field<Object>, Object> fields : rows.values()) {
+            insert = insert == null ? dslContext.insertInto(table).set(fields) : insert.newRecord().set(fields);
+        }
+
+        Map<Field<Object>, Object> updates = new HashMap<>();
+        rows.values().iterator().next().keySet()
+            .stream()
+            .filter(field -> !field.getName().equals("key"))
+            .forEach(field -> updates.put(field, DSL.excluded(field)));
+
+        return insert
+            .onConflict(AbstractJdbcRepository.field("key"))
+            .doUpdate()
+            .set(updates)
+            .execute();
     }
 
     @SuppressWarnings("unchecked")
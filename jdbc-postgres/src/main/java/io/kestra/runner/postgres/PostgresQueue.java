@@ -103,7 +103,8 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         return fetch
             .map(record -> {
                 try {
-                    return Either.left(MAPPER.readValue(record.get("value", JSONB.class).data(), cls));
+                    T message = MAPPER.readValue(record.get("value", JSONB.class).data(), cls);
+                    return Either.left(queueService.withOffset(message, record.get("offset", Long.class)));
                 } catch (JsonProcessingException e) {
                     return Either.right(new DeserializationException(e, record.get("value", String.class)));
                 }
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS execution_taskrun_deltas (
+    "seq" BIGSERIAL NOT NULL PRIMARY KEY,
+    "execution_id" VARCHAR(150) NOT NULL,
+    "value" TEXT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS execution_taskrun_deltas__execution_id_seq ON execution_taskrun_deltas ("execution_id", "seq");
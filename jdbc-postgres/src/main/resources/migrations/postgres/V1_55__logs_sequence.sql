@@ -0,0 +1,2 @@
+alter table logs add seq BIGINT GENERATED ALWAYS AS (CAST(value ->> 'sequence' AS BIGINT)) STORED;
+CREATE INDEX IF NOT EXISTS logs_execution_id__seq ON logs (deleted, execution_id, seq);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS ix_last_expiration_date ON kv_metadata ("last", "expiration_date") WHERE expiration_date IS NOT NULL;
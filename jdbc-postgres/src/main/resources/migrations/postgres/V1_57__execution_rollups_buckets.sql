@@ -0,0 +1,3 @@
+CREATE TABLE IF NOT EXISTS execution_rollups_buckets (
+    "bucket" BIGINT NOT NULL PRIMARY KEY
+);
@@ -0,0 +1,6 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.repositories.AbstractDashboardRepositoryTest;
+
+public class PostgresDashboardRepositoryTest extends AbstractDashboardRepositoryTest {
+}
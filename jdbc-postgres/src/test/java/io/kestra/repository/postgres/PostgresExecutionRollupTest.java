@@ -0,0 +1,6 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRollupTest;
+
+public class PostgresExecutionRollupTest extends AbstractJdbcExecutionRollupTest {
+}
@@ -7,33 +7,61 @@ import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.UnsupportedMessageException;
 import io.kestra.core.runners.WorkerTaskResult;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
 import io.kestra.jdbc.runner.JdbcQueueTest;
 import org.jooq.exception.DataException;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PostgresQueueTest extends JdbcQueueTest {
     @Test
     void invalidWorkerTaskShouldThrowDataException() throws QueueException {
-        var workerTaskResult = WorkerTaskResult.builder()
+        var workerTaskResult = workerTaskResult("\u0000");
+
+        var exception = assertThrows(QueueException.class, () -> workerTaskResultQueue.emit(workerTaskResult));
+        assertThat(exception).isInstanceOf(UnsupportedMessageException.class);
+        assertThat(exception.getMessage()).contains("ERROR: unsupported Unicode escape sequence");
+        assertThat(exception.getCause()).isInstanceOf(DataException.class);
+    }
+
+    @Test
+    void invalidMessageShouldNotDropTheOthersOfAnAsyncBatch() throws QueueException, InterruptedException {
+        String consumerGroup = IdUtils.create();
+        var valid = workerTaskResult("value");
+        var invalid = workerTaskResult("\u0000");
+
+        CountDownLatch countDownLatch = new CountDownLatch(2);
+        Flux<WorkerTaskResult> receive = TestsUtils.receive(workerTaskResultQueue, consumerGroup, either -> countDownLatch.countDown());
+
+        // the batch insert fails because of the invalid message, the messages are then sent one by one
+        workerTaskResultQueue.emitAsync(consumerGroup, List.of(valid, invalid, workerTaskResult("other")));
+
+        assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        assertThat(receive.collectList().block())
+            .extracting(workerTaskResult -> workerTaskResult.getTaskRun().getOutputs().get("value"))
+            .containsExactly("value", "other");
+    }
+
+    private static WorkerTaskResult workerTaskResult(String value) {
+        return WorkerTaskResult.builder()
             .taskRun(TaskRun.builder()
                 .taskId("taskId")
                 .id(IdUtils.create())
                 .namespace("namespace")
                 .flowId("flowId")
                 .state(new State().withState(State.Type.SUCCESS))
-                .outputs(Variables.inMemory(Map.of("value", "\u0000")))
+                .outputs(Variables.inMemory(Map.of("value", value)))
                 .build()
             )
             .build();
-
-        var exception = assertThrows(QueueException.class, () -> workerTaskResultQueue.emit(workerTaskResult));
-        assertThat(exception).isInstanceOf(UnsupportedMessageException.class);
-        assertThat(exception.getMessage()).contains("ERROR: unsupported Unicode escape sequence");
-        assertThat(exception.getCause()).isInstanceOf(DataException.class);
     }
-}
\ No newline at end of file
+}
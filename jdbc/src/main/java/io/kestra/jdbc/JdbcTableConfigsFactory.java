@@ -5,6 +5,8 @@ import io.kestra.core.models.dashboards.Dashboard;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.models.executions.MetricEntry;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.executions.statistics.ExecutionStatistics;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.sla.SLAMonitor;
 import io.kestra.core.models.kv.PersistedKvMetadata;
@@ -79,6 +81,30 @@ public class JdbcTableConfigsFactory {
         return new InstantiableJdbcTableConfig("executorstate", ExecutorState.class, "executorstate");
     }
 
+    @Bean
+    @Named("executiondeltas")
+    public InstantiableJdbcTableConfig executionDeltas() {
+        return new InstantiableJdbcTableConfig("executiondeltas", TaskRun.class, "execution_taskrun_deltas");
+    }
+
+    @Bean
+    @Named("executionrollups")
+    public InstantiableJdbcTableConfig executionRollups() {
+        return new InstantiableJdbcTableConfig("executionrollups", ExecutionStatistics.class, "execution_rollups");
+    }
+
+    @Bean
+    @Named("executionrollupsdirty")
+    public InstantiableJdbcTableConfig executionRollupsDirty() {
+        return new InstantiableJdbcTableConfig("executionrollupsdirty", ExecutionStatistics.class, "execution_rollups_dirty");
+    }
+
+    @Bean
+    @Named("executionrollupsbuckets")
+    public InstantiableJdbcTableConfig executionRollupsBuckets() {
+        return new InstantiableJdbcTableConfig("executionrollupsbuckets", ExecutionStatistics.class, "execution_rollups_buckets");
+    }
+
     @Bean
     @Named("executordelayed")
     public InstantiableJdbcTableConfig executorDelayed() {
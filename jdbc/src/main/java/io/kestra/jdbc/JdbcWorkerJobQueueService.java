@@ -1,16 +1,21 @@
 package io.kestra.jdbc;
 
 import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.runners.*;
 import io.kestra.core.utils.Either;
 import io.kestra.jdbc.repository.AbstractJdbcWorkerJobRunningRepository;
 import io.kestra.jdbc.runner.JdbcQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.micronaut.context.ApplicationContext;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -19,17 +24,24 @@ import java.util.function.Consumer;
 @Singleton
 public class JdbcWorkerJobQueueService implements Closeable {
     private final AbstractJdbcWorkerJobRunningRepository jdbcWorkerJobRunningRepository;
+    private final MetricRegistry metricRegistry;
     private final AtomicReference<Runnable> disposable = new AtomicReference<>();
     private final AtomicBoolean isStopped = new AtomicBoolean(false);
     
     @Inject
     public JdbcWorkerJobQueueService(ApplicationContext applicationContext) {
         this.jdbcWorkerJobRunningRepository = applicationContext.getBean(AbstractJdbcWorkerJobRunningRepository.class);
+        this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
     }
 
     public Runnable subscribe(JdbcQueue<WorkerJob> workerJobQueue, String workerId, String workerGroup, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        String[] tags = workerGroup == null ? new String[0] : new String[] { MetricRegistry.TAG_WORKER_GROUP, workerGroup };
+        Timer claimTimer = metricRegistry.timer(MetricRegistry.METRIC_WORKER_JOB_CLAIM_DURATION, MetricRegistry.METRIC_WORKER_JOB_CLAIM_DURATION_DESCRIPTION, tags);
+        Counter claimCounter = metricRegistry.counter(MetricRegistry.METRIC_WORKER_JOB_CLAIM_COUNT, MetricRegistry.METRIC_WORKER_JOB_CLAIM_COUNT_DESCRIPTION, tags);
+
         this.disposable.set(workerJobQueue.receiveTransaction(workerGroup, Worker.class, (dslContext, eithers) -> {
             final WorkerInstance workerInstance = new WorkerInstance(workerId, workerGroup);
+            final List<WorkerJobRunning> workerJobRunnings = new ArrayList<>(eithers.size());
 
             eithers.forEach(either -> {
                 if (either.isRight()) {
@@ -55,14 +67,18 @@ public class JdbcWorkerJobQueueService implements Closeable {
                 } else {
                     throw new IllegalArgumentException("Message is of type " + workerJob.getClass() + " which should never occurs");
                 }
-                
-                jdbcWorkerJobRunningRepository.save(workerJobRunning, dslContext);
+
+                workerJobRunnings.add(workerJobRunning);
 
                 if (log.isTraceEnabled()) {
                     log.trace("Sending a workerJobRunning: {}", workerJobRunning);
                 }
             });
 
+            // claim all the jobs of the poll at once to keep the queue rows locked as short as possible
+            claimTimer.record(() -> jdbcWorkerJobRunningRepository.saveBatch(workerJobRunnings, dslContext));
+            claimCounter.increment(workerJobRunnings.size());
+
             eithers.forEach(consumer);
         }));
 
@@ -4,12 +4,22 @@ import io.kestra.core.models.tasks.retrys.Random;
 import io.kestra.core.utils.RetryUtils;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.jooq.ConnectionProvider;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.TransactionalCallable;
 import org.jooq.TransactionalRunnable;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConnectionProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 @Singleton
@@ -64,4 +74,56 @@ public class JooqDSLContextWrapper {
             () -> dslContext.transactionResult(transactional)
         );
     }
+
+    /**
+     * Lazily fetches the records of a query with a database cursor inside a dedicated read-only transaction.
+     * <p>
+     * Unlike a <code>Flux.create()</code> inside a transaction, records are only read from the cursor when requested
+     * by the subscriber, so the memory used is bounded by the fetch size whatever the number of records.
+     * The connection is held until the flux completes or is cancelled.
+     */
+    public <R extends Record> Flux<R> stream(Function<DSLContext, ResultQuery<R>> query, int fetchSize) {
+        return Flux.<R, StreamState<R>>generate(
+                () -> StreamState.open(dslContext, query, fetchSize),
+                (state, sink) -> {
+                    if (state.cursor().hasNext()) {
+                        sink.next(state.cursor().fetchNext());
+                    } else {
+                        sink.complete();
+                    }
+                    return state;
+                },
+                StreamState::close
+            )
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private record StreamState<R extends Record>(ConnectionProvider connectionProvider, Connection connection, Cursor<R> cursor) {
+        static <R extends Record> StreamState<R> open(DSLContext dslContext, Function<DSLContext, ResultQuery<R>> query, int fetchSize) throws SQLException {
+            ConnectionProvider connectionProvider = dslContext.configuration().connectionProvider();
+            Connection connection = connectionProvider.acquire();
+            try {
+                // some drivers (ex: Postgres) only use a cursor when the auto-commit is disabled
+                connection.setAutoCommit(false);
+                DSLContext context = DSL.using(dslContext.configuration().derive(new DefaultConnectionProvider(connection)));
+
+                return new StreamState<>(connectionProvider, connection, query.apply(context).fetchSize(fetchSize).fetchLazy());
+            } catch (RuntimeException | SQLException e) {
+                connectionProvider.release(connection);
+                throw e;
+            }
+        }
+
+        void close() {
+            try {
+                cursor.close();
+                connection.rollback();
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Unable to close the streamed query", e);
+            } finally {
+                connectionProvider.release(connection);
+            }
+        }
+    }
 }
@@ -2,17 +2,24 @@ package io.kestra.jdbc.repository;
 
 import io.kestra.core.queues.QueueService;
 import io.kestra.core.repositories.ArrayListTotal;
+import io.kestra.core.repositories.ContinuationToken;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.utils.ListUtils;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
 import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -163,10 +170,19 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
 
                 select.limit(1);
 
-                return this.jdbcRepository.fetchOne(select);
+                return this.jdbcRepository.fetchOne(select).map(item -> this.fetched(DSL.using(configuration), List.of(item)).getFirst());
             });
     }
 
+    /**
+     * Completes the items read by {@link #findOne(Condition, Condition, OrderField...)}, {@link #findPage(Pageable, Condition, Condition, OrderField...)}
+     * and {@link #findSeekPage(Pageable, String, boolean, Condition, Condition)}, inside the transaction they were read in,
+     * so the data of an item stored outside its row is read along with it.
+     */
+    protected List<T> fetched(DSLContext context, List<T> items) {
+        return items;
+    }
+
     /**
      * List all items that match the condition.
      *
@@ -320,10 +336,149 @@ public abstract class AbstractJdbcCrudRepository<T> extends AbstractJdbcReposito
                     select.orderBy(orderByFields);
                 }
 
-                return this.jdbcRepository.fetchPage(context, select, pageable);
+                ArrayListTotal<T> page = this.jdbcRepository.fetchPage(context, select, pageable);
+                return new ArrayListTotal<>(this.fetched(context, page), page.getTotal());
+            });
+    }
+
+    /**
+     * Find a page of items that match the condition using keyset (seek) pagination.
+     * <p>
+     * Instead of an <code>OFFSET</code>, the next page is fetched with <code>WHERE (sort, key) > (?, ?)</code> relative to the last item
+     * of the previous page, so deep pages are as fast as the first one. The page number of the pageable is ignored,
+     * only a single sort order on the key or on one of the {@link #seekableColumns()} is supported.
+     *
+     * @param continuationToken the continuation token of the previous page, <code>null</code> for the first page.
+     * @param withTotal         whether to count all items that match the condition, otherwise the total is <code>-1</code>.
+     */
+    protected final ArrayListTotal<T> findSeekPage(Pageable pageable, @Nullable String continuationToken, boolean withTotal, Condition defaultFilter, Condition condition) {
+        if (pageable.getSize() < 1) {
+            throw new IllegalArgumentException("Unpaged data are not supported with continuation tokens");
+        }
+
+        List<Sort.Order> orders = pageable.getSort().getOrderBy();
+        if (orders.size() > 1) {
+            throw new IllegalArgumentException("Only a single sort is supported with continuation tokens");
+        }
+
+        String sort = orders.isEmpty() || orders.getFirst().getProperty().equals(KEY_FIELD.getName()) ? null : orders.getFirst().getProperty();
+        boolean descending = !orders.isEmpty() && orders.getFirst().getDirection() == Sort.Order.Direction.DESC;
+        if (sort != null && !seekableColumns().containsKey(sort)) {
+            throw new IllegalArgumentException("Sorting on '" + sort + "' is not supported with continuation tokens");
+        }
+
+        ContinuationToken previous = continuationToken != null ? ContinuationToken.decode(continuationToken) : null;
+        if (previous != null && (!Objects.equals(previous.sort(), sort) || previous.descending() != descending)) {
+            throw new IllegalArgumentException("The continuation token doesn't match the sort of the page");
+        }
+
+        Class<?> sortType = sort != null ? seekableColumns().get(sort) : null;
+        Object previousValue;
+        try {
+            previousValue = sortType != null && previous != null && previous.value() != null ? JacksonMapper.ofJson().convertValue(previous.value(), sortType) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token '" + continuationToken + "'", e);
+        }
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                @SuppressWarnings("unchecked")
+                Field<Object> sortField = sort != null ? field(sort, (Class<Object>) sortType) : null;
+
+                long total = -1;
+                if (withTotal) {
+                    total = context.fetchCount(
+                        context.select(KEY_FIELD)
+                            .from(this.jdbcRepository.getTable())
+                            .where(defaultFilter)
+                            .and(condition)
+                    );
+                }
+
+                List<Field<?>> fields = new ArrayList<>(List.of(VALUE_FIELD, KEY_FIELD));
+                if (sortField != null) {
+                    fields.add(sortField);
+                }
+
+                var select = context
+                    .select(fields)
+                    .from(this.jdbcRepository.getTable())
+                    .where(defaultFilter)
+                    .and(condition);
+
+                boolean nullable = sort != null && nullableSeekableColumns().contains(sort);
+                if (previous != null) {
+                    select = select.and(seekCondition(sortField, nullable, descending, previousValue, previous.key()));
+                }
+
+                // nullable sort columns have their null values last whatever the direction, so the seek condition knows where they are,
+                // the other ones keep the default null ordering so the order matches their index
+                SortField<?> keyOrder = descending ? KEY_FIELD.desc() : KEY_FIELD.asc();
+                List<SortField<?>> orderBy;
+                if (sortField == null) {
+                    orderBy = List.of(keyOrder);
+                } else if (nullable) {
+                    orderBy = List.of((descending ? sortField.desc() : sortField.asc()).nullsLast(), keyOrder);
+                } else {
+                    orderBy = List.of(descending ? sortField.desc() : sortField.asc(), keyOrder);
+                }
+
+                // fetch one more item to know if there is a next page
+                Result<Record> records = select
+                    .orderBy(orderBy)
+                    .limit(pageable.getSize() + 1)
+                    .fetch();
+
+                boolean hasNext = records.size() > pageable.getSize();
+                List<Record> page = hasNext ? records.subList(0, pageable.getSize()) : records;
+                String next = null;
+                if (hasNext) {
+                    Record last = page.getLast();
+                    next = new ContinuationToken(sort, descending, sortField != null ? last.get(sortField) : null, last.get(KEY_FIELD)).encode();
+                }
+
+                return new ArrayListTotal<>(this.fetched(context, page.stream().map(r -> jdbcRepository.map(r)).toList()), total, next);
             });
     }
 
+    /**
+     * The columns that can be used to sort a page fetched with keyset pagination, on top of the key, with the type of their values.
+     * They should be indexed and <code>NOT NULL</code>, unless they are listed in {@link #nullableSeekableColumns()}.
+     */
+    protected Map<String, Class<?>> seekableColumns() {
+        return Map.of();
+    }
+
+    /**
+     * The {@link #seekableColumns()} that are nullable, their null values are returned last.
+     * The next page of a nullable column can't be fetched with a row value comparison, so it may not use the index as well.
+     */
+    protected Set<String> nullableSeekableColumns() {
+        return Set.of();
+    }
+
+    private Condition seekCondition(@Nullable Field<Object> sortField, boolean nullable, boolean descending, @Nullable Object value, String key) {
+        Condition afterKey = descending ? KEY_FIELD.lt(key) : KEY_FIELD.gt(key);
+        if (sortField == null) {
+            return afterKey;
+        }
+
+        // the sort value of the last item comes from the token, so the next page doesn't depend on that item still being there
+        if (!nullable && value != null) {
+            return descending ? DSL.row(sortField, KEY_FIELD).lt(value, key) : DSL.row(sortField, KEY_FIELD).gt(value, key);
+        }
+
+        if (value == null) {
+            return sortField.isNull().and(afterKey);
+        }
+
+        return (descending ? sortField.lt(value) : sortField.gt(value))
+            .or(sortField.eq(value).and(afterKey))
+            .or(sortField.isNull());
+    }
+
     /**
      * Find all items.
      *
@@ -1,12 +1,15 @@
 package io.kestra.jdbc.repository;
 
 import io.kestra.core.events.CrudEvent;
+import io.kestra.core.models.dashboards.AggregationType;
 import io.kestra.core.models.dashboards.ColumnDescriptor;
 import io.kestra.core.models.dashboards.Dashboard;
 import io.kestra.core.models.dashboards.DataFilter;
 import io.kestra.core.models.dashboards.DataFilterKPI;
+import io.kestra.core.models.dashboards.charts.Chart;
 import io.kestra.core.models.dashboards.charts.DataChart;
 import io.kestra.core.models.dashboards.charts.DataChartKPI;
+import io.kestra.core.models.validations.ManualConstraintViolation;
 import io.kestra.core.queues.QueueService;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.DashboardRepositoryInterface;
@@ -14,18 +17,23 @@ import io.kestra.core.repositories.QueryBuilderInterface;
 import io.kestra.plugin.core.dashboard.chart.kpis.KpiOption;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.data.model.Pageable;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.*;
 import org.jooq.impl.DSL;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.kestra.core.utils.MathUtils.roundDouble;
 
@@ -85,6 +93,8 @@ public abstract class AbstractJdbcDashboardRepository extends AbstractJdbcCrudRe
 
     @Override
     public Dashboard save(Dashboard previousDashboard, Dashboard dashboard, String source) throws ConstraintViolationException {
+        this.validate(dashboard);
+
         dashboard = dashboard.toBuilder().sourceCode(source).build();
         if (previousDashboard != null && previousDashboard.equals(dashboard)) {
             return previousDashboard;
@@ -106,6 +116,60 @@ public abstract class AbstractJdbcDashboardRepository extends AbstractJdbcCrudRe
         return dashboard;
     }
 
+    @Override
+    public void validate(Dashboard dashboard) throws ConstraintViolationException {
+        if (dashboard.getCharts() == null) {
+            return;
+        }
+
+        Set<ConstraintViolation<Dashboard>> violations = new HashSet<>();
+        for (int i = 0; i < dashboard.getCharts().size(); i++) {
+            String chartPath = "dashboard.charts[" + i + "].";
+            this.unsupportedAggregations(dashboard.getCharts().get(i)).forEach((column, agg) -> violations.add(ManualConstraintViolation.of(
+                "Aggregation " + agg + " is not supported by this database",
+                dashboard,
+                Dashboard.class,
+                chartPath + column,
+                agg
+            )));
+        }
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    /**
+     * Whether the database can compute the given aggregation, all of them are by default.
+     */
+    protected boolean isSupported(AggregationType aggregation) {
+        return true;
+    }
+
+    private Map<String, AggregationType> unsupportedAggregations(Chart<?> chart) {
+        Map<String, ColumnDescriptor<?>> columns = new LinkedHashMap<>();
+        if (chart instanceof DataChart<?, ?> dataChart && dataChart.getData() != null && dataChart.getData().getColumns() != null) {
+            dataChart.getData().getColumns().forEach((name, column) -> columns.put("data.columns." + name + ".agg", column));
+        } else if (chart instanceof DataChartKPI<?, ?> dataChartKPI && dataChartKPI.getData() != null && dataChartKPI.getData().getColumns() != null) {
+            columns.put("data.columns.agg", dataChartKPI.getData().getColumns());
+        }
+
+        Map<String, AggregationType> unsupported = new LinkedHashMap<>();
+        columns.forEach((path, column) -> {
+            if (column != null && column.getAgg() != null && !this.isSupported(column.getAgg())) {
+                unsupported.put(path, column.getAgg());
+            }
+        });
+        return unsupported;
+    }
+
+    private void checkAggregations(Chart<?> chart) {
+        Map<String, AggregationType> unsupported = this.unsupportedAggregations(chart);
+        if (!unsupported.isEmpty()) {
+            throw new IllegalArgumentException("Aggregations " + unsupported.values() + " of chart '" + chart.getId() + "' are not supported by this database");
+        }
+    }
+
     @Override
     public Dashboard delete(String tenantId, String id) {
         Optional<Dashboard> dashboard = this.get(tenantId, id);
@@ -127,23 +191,32 @@ public abstract class AbstractJdbcDashboardRepository extends AbstractJdbcCrudRe
 
     @Override
     public <F extends Enum<F>> ArrayListTotal<Map<String, Object>> generate(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, Pageable pageable) throws IOException {
-        Map<Class<? extends QueryBuilderInterface<?>>, QueryBuilderInterface<?>> queryBuilderByHandledFields = new HashMap<>();
-
-        @SuppressWarnings("unchecked")
-        QueryBuilderInterface<F> queryBuilder = (QueryBuilderInterface<F>) queryBuilderByHandledFields.computeIfAbsent(
-            dataChart.getData().repositoryClass(),
-            clazz -> queryBuilders
-                .stream()
-                .filter(b -> clazz.isAssignableFrom(b.getClass()))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedOperationException("No query builder found for " + clazz))
-        );
+        this.checkAggregations(dataChart);
+        QueryBuilderInterface<F> queryBuilder = this.queryBuilder(dataChart.getData().repositoryClass());
 
         return queryBuilder.fetchData(tenantId, dataChart.getData(), startDate, endDate, pageable);
     }
 
+    @Override
+    public <F extends Enum<F>> Flux<Map<String, Object>> generateAsync(String tenantId, DataChart<?, DataFilter<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate, int maxRows) throws IOException {
+        this.checkAggregations(dataChart);
+        QueryBuilderInterface<F> queryBuilder = this.queryBuilder(dataChart.getData().repositoryClass());
+
+        return queryBuilder.fetchDataAsync(tenantId, dataChart.getData(), startDate, endDate, maxRows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F extends Enum<F>> QueryBuilderInterface<F> queryBuilder(Class<? extends QueryBuilderInterface<F>> clazz) {
+        return (QueryBuilderInterface<F>) queryBuilders
+            .stream()
+            .filter(b -> clazz.isAssignableFrom(b.getClass()))
+            .findFirst()
+            .orElseThrow(() -> new UnsupportedOperationException("No query builder found for " + clazz));
+    }
+
     @Override
     public <F extends Enum<F>> List<Map<String, Object>> generateKPI(String tenantId, DataChartKPI<?, DataFilterKPI<F, ? extends ColumnDescriptor<F>>> dataChart, ZonedDateTime startDate, ZonedDateTime endDate) throws IOException {
+        this.checkAggregations(dataChart);
         Map<Class<? extends QueryBuilderInterface<?>>, QueryBuilderInterface<?>> queryBuilderByHandledFields = new HashMap<>();
 
         @SuppressWarnings("unchecked")
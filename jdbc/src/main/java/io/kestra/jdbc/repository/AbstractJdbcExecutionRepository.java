@@ -10,6 +10,7 @@ import io.kestra.core.models.dashboards.DataFilterKPI;
 import io.kestra.core.models.dashboards.filters.*;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.ExecutionKind;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
 import io.kestra.core.models.executions.statistics.ExecutionCount;
 import io.kestra.core.models.executions.statistics.ExecutionStatistics;
@@ -28,6 +29,8 @@ import io.kestra.core.utils.Either;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.core.utils.NamespaceUtils;
 import io.kestra.jdbc.runner.AbstractJdbcExecutorStateStorage;
+import io.kestra.jdbc.runner.JdbcExecutionDeltaStorage;
+import io.kestra.jdbc.runner.JdbcExecutionRollupStorage;
 import io.kestra.jdbc.runner.JdbcQueueIndexerInterface;
 import io.kestra.jdbc.services.JdbcFilterService;
 import io.kestra.plugin.core.dashboard.data.Executions;
@@ -47,6 +50,7 @@ import reactor.core.publisher.FluxSink;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -69,6 +73,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     private final ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
     private final ApplicationContext applicationContext;
     protected final AbstractJdbcExecutorStateStorage executorStateStorage;
+    protected final JdbcExecutionDeltaStorage executionDeltaStorage;
+    protected final JdbcExecutionRollupStorage executionRollupStorage;
 
     private QueueInterface<Execution> executionQueue;
     private final NamespaceUtils namespaceUtils;
@@ -108,6 +114,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     ) {
         super(jdbcRepository, queueService);
         this.executorStateStorage = executorStateStorage;
+        this.executionDeltaStorage = applicationContext.getBean(JdbcExecutionDeltaStorage.class);
+        this.executionRollupStorage = applicationContext.getBean(JdbcExecutionRollupStorage.class);
         this.eventPublisher = applicationContext.getBean(ApplicationEventPublisher.class);
         this.namespaceUtils = applicationContext.getBean(NamespaceUtils.class);
 
@@ -133,7 +141,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     public Flux<Execution> findAllByTriggerExecutionId(String tenantId,
                                                        String triggerExecutionId) {
         var condition = field("trigger_execution_id").eq(triggerExecutionId);
-        return findAsync(tenantId, condition);
+        return this.withDeltas(findAsync(tenantId, condition));
     }
 
     /**
@@ -187,6 +195,35 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         return findPage(pageable, tenantId, this.computeFindCondition(filters));
     }
 
+    @Override
+    public ArrayListTotal<Execution> find(
+        Pageable pageable,
+        @Nullable String continuationToken,
+        boolean withTotal,
+        @Nullable String tenantId,
+        @Nullable List<QueryFilter> filters
+    ) {
+        return findSeekPage(pageable, continuationToken, withTotal, defaultFilter(tenantId), this.computeFindCondition(filters));
+    }
+
+    @Override
+    protected Map<String, Class<?>> seekableColumns() {
+        return Map.of(
+            "id", String.class,
+            "start_date", OffsetDateTime.class,
+            "state_duration", Double.class,
+            "namespace", String.class,
+            "flow_id", String.class,
+            "state_current", String.class
+        );
+    }
+
+    @Override
+    protected Set<String> nullableSeekableColumns() {
+        // not set until the execution is terminated
+        return Set.of("state_duration");
+    }
+
     @Override
     public Flux<Execution> find(
         @Nullable String query,
@@ -202,7 +239,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         @Nullable ChildFilter childFilter,
         boolean deleted
     ) {
-        return Flux.create(
+        return this.withDeltas(Flux.create(
             emitter -> this.jdbcRepository
                 .getDslContextWrapper()
                 .transaction(configuration -> {
@@ -233,7 +270,73 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                     }
                 }),
             FluxSink.OverflowStrategy.BUFFER
-        );
+        ));
+    }
+
+    @Override
+    public List<Execution> findPurgeablePage(
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable String afterId,
+        int size
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                SelectConditionStep<Record7<String, String, String, String, String, String, Instant>> select = context
+                    .select(
+                        field("key", String.class),
+                        field("tenant_id", String.class),
+                        NAMESPACE_FIELD,
+                        field("flow_id", String.class),
+                        field("kind", String.class),
+                        STATE_CURRENT_FIELD,
+                        field("start_date", Instant.class)
+                    )
+                    .from(this.jdbcRepository.getTable())
+                    .where(this.defaultFilter(tenantId, true));
+
+                select = filteringQuery(select, null, namespace, flowId, null, null, null, null, null);
+
+                if (startDate != null) {
+                    select = select.and(START_DATE_FIELD.greaterOrEqual(startDate.toOffsetDateTime()));
+                }
+
+                if (endDate != null) {
+                    select = select.and(field("end_date").lessOrEqual(endDate.toOffsetDateTime()));
+                }
+
+                if (state != null) {
+                    select = select.and(this.statesFilter(state));
+                }
+
+                // seek on the id rather than on an offset, so the pages stay stable while the previous ones are deleted
+                if (afterId != null) {
+                    select = select.and(field("key", String.class).greaterThan(afterId));
+                }
+
+                return select
+                    .orderBy(field("key").asc())
+                    .limit(size)
+                    .fetch(record -> Execution.builder()
+                        .id(record.value1())
+                        .tenantId(record.value2())
+                        .namespace(record.value3())
+                        .flowId(record.value4())
+                        .kind(record.value5() == null ? null : ExecutionKind.valueOf(record.value5()))
+                        .state(record.value7() == null ? null : new State(
+                            State.Type.valueOf(record.value6()),
+                            new ArrayList<>(List.of(new State.History(State.Type.CREATED, record.value7())))
+                        ))
+                        .build()
+                    );
+            });
     }
 
     private Condition computeFindCondition(@Nullable List<QueryFilter> filters) {
@@ -291,10 +394,10 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     @Override
     public Flux<Execution> findAsync(String tenantId, List<QueryFilter> filters) {
         if (filters == null || filters.isEmpty()) {
-            return findAllAsync(tenantId);
+            return this.withDeltas(findAllAsync(tenantId));
         }
         Condition condition = this.filter(filters, fieldsMapping.get(dateFilterField()) , Resource.EXECUTION);
-        return findAsync(defaultFilter(tenantId), condition);
+        return this.withDeltas(findAsync(defaultFilter(tenantId), condition));
     }
 
     @Override
@@ -309,7 +412,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
-        Results results = dailyStatisticsQueryForAllTenants(
+        List<Record> records = dailyStatisticsQueryForAllTenants(
             List.of(
                 STATE_CURRENT_FIELD
             ),
@@ -324,9 +427,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         );
 
         return dailyStatisticsQueryMapRecord(
-            results.resultsOrRows()
-                .getFirst()
-                .result(),
+            records,
             finalStartDate,
             finalEndDate,
             groupBy
@@ -348,7 +449,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
         ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
 
-        Results results = dailyStatisticsQuery(
+        List<Record> records = dailyStatisticsQuery(
             List.of(
                 STATE_CURRENT_FIELD
             ),
@@ -365,9 +466,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         );
 
         return dailyStatisticsQueryMapRecord(
-            results.resultsOrRows()
-                .getFirst()
-                .result(),
+            records,
             finalStartDate,
             finalEndDate,
             groupBy
@@ -375,7 +474,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     }
 
     private List<DailyExecutionStatistics> dailyStatisticsQueryMapRecord(
-        Result<Record> records,
+        List<Record> records,
         ZonedDateTime startDate,
         ZonedDateTime endDate,
         @Nullable DateUtils.GroupType groupType
@@ -394,7 +493,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                     .count(record.get("count", Long.class))
                     .build()
             )
-            .collect(Collectors.groupingBy(ExecutionStatistics::getDate))
+            // rows from the rollups and the executions table can exist for the same date and state
+            .collect(Collectors.groupingBy(ExecutionStatistics::getDate, Collectors.collectingAndThen(Collectors.toList(), AbstractJdbcExecutionRepository::mergeByState)))
             .entrySet()
             .stream()
             .map(dateResultEntry -> dailyExecutionStatisticsMap(dateResultEntry.getKey(), dateResultEntry.getValue(), groupByType.val()))
@@ -402,7 +502,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             .toList(), startDate, endDate);
     }
 
-    private Results dailyStatisticsQueryForAllTenants(
+    private List<Record> dailyStatisticsQueryForAllTenants(
         List<Field<?>> fields,
         @Nullable String query,
         @Nullable String namespace,
@@ -415,6 +515,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     ) {
         return dailyStatisticsQuery(
             this.defaultFilter(),
+            DSL.noCondition(),
             fields,
             query,
             null,
@@ -428,7 +529,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         );
     }
 
-    private Results dailyStatisticsQuery(
+    private List<Record> dailyStatisticsQuery(
         List<Field<?>> fields,
         @Nullable String query,
         @Nullable String tenantId,
@@ -443,6 +544,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     ) {
         return dailyStatisticsQuery(
             this.defaultFilter(tenantId),
+            this.buildTenantCondition(tenantId),
             fields,
             query,
             scope,
@@ -456,8 +558,9 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         );
     }
 
-    private Results dailyStatisticsQuery(
+    private List<Record> dailyStatisticsQuery(
         Condition defaultFilter,
+        Condition rollupFilter,
         List<Field<?>> fields,
         @Nullable String query,
         @Nullable List<FlowScope> scope,
@@ -469,7 +572,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         @Nullable DateUtils.GroupType groupBy,
         @Nullable List<State.Type> state
     ) {
-        List<Field<?>> dateFields = new ArrayList<>(groupByFields(Duration.between(startDate, endDate), fieldsMapping.get(dateFilterField()), groupBy));
+        Duration duration = Duration.between(startDate, endDate);
+        List<Field<?>> dateFields = new ArrayList<>(groupByFields(duration, fieldsMapping.get(dateFilterField()), groupBy));
         List<Field<?>> selectFields = new ArrayList<>(fields);
         selectFields.addAll(List.of(
             DSL.count().as("count"),
@@ -477,12 +581,28 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             DSL.max(field("state_duration", Long.class)).as("duration_max"),
             DSL.sum(field("state_duration", Long.class)).as("duration_sum")
         ));
-        selectFields.addAll(groupByFields(Duration.between(startDate, endDate), fieldsMapping.get(dateFilterField()), groupBy, true));
+        selectFields.addAll(groupByFields(duration, fieldsMapping.get(dateFilterField()), groupBy, true));
+
+        List<Field<?>> groupFields = new ArrayList<>(fields);
+        groupFields.addAll(dateFields);
+
+        // the complete hours of the window can be read from the rollups, they are only grouped by namespace, flow and state
+        Instant rollupStartDate = startDate.toInstant().truncatedTo(ChronoUnit.HOURS);
+        if (rollupStartDate.isBefore(startDate.toInstant())) {
+            rollupStartDate = rollupStartDate.plus(1, ChronoUnit.HOURS);
+        }
+        Instant rollupEndDate = endDate.toInstant().truncatedTo(ChronoUnit.HOURS);
+        boolean useRollups = executionRollupStorage.isEnabled() &&
+            query == null &&
+            rollupStartDate.isBefore(rollupEndDate) &&
+            !isGroupedByMinute(duration, groupBy);
+        Instant finalRollupStartDate = rollupStartDate;
 
         return jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
+                List<Record> records = new ArrayList<>();
 
                 SelectConditionStep<?> select = context
                     .select(selectFields)
@@ -492,23 +612,82 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                     .and(START_DATE_FIELD.greaterOrEqual(startDate.toOffsetDateTime()))
                     .and(START_DATE_FIELD.lessOrEqual(endDate.toOffsetDateTime()));
 
+                Set<Long> rolledUpBuckets = useRollups ?
+                    executionRollupStorage.rolledUpBuckets(context, finalRollupStartDate, rollupEndDate) :
+                    Set.of();
+                if (!rolledUpBuckets.isEmpty()) {
+                    // dirty hours have changed since their last refresh, and hours not yet backfilled have no rollups,
+                    // they are read from the executions table
+                    Condition rolledUp = JdbcExecutionRollupStorage.bucketsCondition(rolledUpBuckets);
+
+                    List<Field<?>> rollupSelectFields = new ArrayList<>(fields);
+                    rollupSelectFields.addAll(List.of(
+                        DSL.sum(field("count", Long.class)).as("count"),
+                        DSL.min(field("duration_min", Long.class)).as("duration_min"),
+                        DSL.max(field("duration_max", Long.class)).as("duration_max"),
+                        DSL.sum(field("duration_sum", Long.class)).as("duration_sum")
+                    ));
+                    rollupSelectFields.addAll(groupByFields(duration, fieldsMapping.get(dateFilterField()), groupBy, true));
+
+                    SelectConditionStep<?> rollupSelect = context
+                        .select(rollupSelectFields)
+                        .from(executionRollupStorage.getTable())
+                        .where(rollupFilter)
+                        .and(rolledUp);
+
+                    rollupSelect = filteringQuery(rollupSelect, scope, namespace, flowId, flows, null, null, null, null);
+
+                    if (state != null) {
+                        rollupSelect = rollupSelect.and(this.statesFilter(state));
+                    }
+
+                    records.addAll(rollupSelect.groupBy(groupFields).fetch());
+
+                    select = select.andNot(rolledUp);
+                }
+
                 select = filteringQuery(select, scope, namespace, flowId, flows, query, null, null, null);
 
                 if (state != null) {
                     select = select.and(this.statesFilter(state));
                 }
 
-                List<Field<?>> groupFields = new ArrayList<>(fields);
-
-                groupFields.addAll(dateFields);
-
                 SelectHavingStep<?> finalQuery = select
                     .groupBy(groupFields);
 
-                return finalQuery.fetchMany();
+                records.addAll(finalQuery.fetchMany().resultsOrRows().getFirst().result());
+
+                return records;
             });
     }
 
+    private static boolean isGroupedByMinute(Duration duration, @Nullable DateUtils.GroupType groupBy) {
+        return groupBy != DateUtils.GroupType.MONTH &&
+            groupBy != DateUtils.GroupType.WEEK &&
+            groupBy != DateUtils.GroupType.DAY &&
+            groupBy != DateUtils.GroupType.HOUR &&
+            duration.toHours() <= DateUtils.GroupValue.HOUR.getValue();
+    }
+
+    private static List<ExecutionStatistics> mergeByState(List<ExecutionStatistics> statistics) {
+        return new ArrayList<>(statistics
+            .stream()
+            .collect(Collectors.toMap(
+                ExecutionStatistics::getStateCurrent,
+                Function.identity(),
+                (a, b) -> ExecutionStatistics.builder()
+                    .stateCurrent(a.getStateCurrent())
+                    .date(a.getDate())
+                    .count(a.getCount() + b.getCount())
+                    .durationMin(a.getDurationMin() == null ? b.getDurationMin() : b.getDurationMin() == null ? a.getDurationMin() : Math.min(a.getDurationMin(), b.getDurationMin()))
+                    .durationMax(a.getDurationMax() == null ? b.getDurationMax() : b.getDurationMax() == null ? a.getDurationMax() : Math.max(a.getDurationMax(), b.getDurationMax()))
+                    .durationSum(a.getDurationSum() == null ? b.getDurationSum() : b.getDurationSum() == null ? a.getDurationSum() : a.getDurationSum() + b.getDurationSum())
+                    .build(),
+                LinkedHashMap::new
+            ))
+            .values());
+    }
+
     private <T extends Record> SelectConditionStep<T> filteringQuery(
         SelectConditionStep<T> select,
         @Nullable List<FlowScope> scope,
@@ -762,7 +941,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
         String tenantId,
         @Nullable List<FlowFilter> flows
     ) {
-        return this.jdbcRepository
+        List<Execution> executions = this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
@@ -801,8 +980,10 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                     .select(cte.field("value"))
                     .from(cte)
                     .where(field("row_num").eq(1));
-                return mainQuery.fetch().map(this.jdbcRepository::map);
+                return this.fetched(context, mainQuery.fetch().map(this.jdbcRepository::map));
             });
+
+        return executions;
     }
 
     @SneakyThrows
@@ -813,10 +994,19 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             throw new IllegalStateException("Execution " + execution.getId() + " doesn't exists");
         }
 
-        Execution deleted = execution.toDeleted();
+        Execution deleted = this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                // compact the pending task run deltas into the deleted execution, they would never be compacted otherwise
+                Execution compacted = JdbcExecutionDeltaStorage.apply(execution, this.executionDeltaStorage.find(context, execution.getId())).toDeleted();
+                this.jdbcRepository.persist(compacted, context, this.jdbcRepository.persistFields(compacted));
+                this.executionDeltaStorage.delete(context, execution.getId());
+                this.executionRollupStorage.markDirty(context, compacted);
 
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted);
-        this.jdbcRepository.persist(deleted, fields);
+                return compacted;
+            });
 
         executionQueue().emit(deleted);
 
@@ -827,11 +1017,39 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
 
     @Override
     public Integer purge(Execution execution) {
-        int delete = this.jdbcRepository.delete(execution);
+        int delete = this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                this.executionDeltaStorage.delete(context, execution.getId());
+                this.executionRollupStorage.markDirty(context, execution);
+                return this.jdbcRepository.delete(context, execution);
+            });
         eventPublisher.publishEvent(CrudEvent.delete(execution));
         return delete;
     }
 
+    @Override
+    public Execution save(Execution execution) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> this.save(DSL.using(configuration), execution));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Persisting the full execution document compacts the pending task run deltas and marks its rollups as dirty if needed.
+     */
+    @Override
+    public Execution save(DSLContext context, Execution execution) {
+        this.executionRollupStorage.markDirtyBeforePersist(context, execution);
+        super.save(context, execution);
+        this.executionDeltaStorage.delete(context, execution.getId());
+
+        return execution;
+    }
+
     @Override
     public Integer purge(List<Execution> executions) {
         return this.jdbcRepository
@@ -842,8 +1060,12 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                 // we send the event before to be sure that if sending the event crash, we would not delete the exec
                 executions.forEach(execution -> eventPublisher.publishEvent(CrudEvent.delete(execution)));
 
+                List<String> ids = executions.stream().map(Execution::getId).toList();
+                this.executionDeltaStorage.delete(context, ids);
+                this.executionRollupStorage.markDirty(context, executions);
+
                 return context.delete(this.jdbcRepository.getTable())
-                    .where(field("key", String.class).in(executions.stream().map(Execution::getId).toList()))
+                    .where(field("key", String.class).in(ids))
                     .execute();
             });
     }
@@ -868,11 +1090,24 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
                     return null;
                 }
 
-                ExecutorState executorState = executorStateStorage.get(context, execution.get());
-                Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
+                // read the pending task run deltas under the same lock to work on the complete execution
+                List<TaskRun> deltas = executionDeltaStorage.find(context, executionId);
+                Execution current = JdbcExecutionDeltaStorage.apply(execution.get(), deltas);
+
+                ExecutorState executorState = executorStateStorage.get(context, current);
+                Pair<Executor, ExecutorState> pair = function.apply(Pair.of(current, executorState));
 
                 if (pair != null) {
-                    this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
+                    Execution updated = pair.getKey().getExecution();
+
+                    // only append the changed task runs if possible, otherwise compact the deltas into the execution document
+                    if (!executionDeltaStorage.append(context, current, updated, deltas.size())) {
+                        this.jdbcRepository.persist(updated, context, null);
+                        this.executionRollupStorage.markDirty(context, current, updated);
+                        if (!deltas.isEmpty()) {
+                            executionDeltaStorage.delete(context, executionId);
+                        }
+                    }
                     this.executorStateStorage.save(context, pair.getRight());
 
                     return pair.getKey();
@@ -882,6 +1117,37 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
             });
     }
 
+    /**
+     * Merges the deltas of the executions read in the same transaction, so a compaction can't happen between the two reads.
+     */
+    @Override
+    protected List<Execution> fetched(DSLContext context, List<Execution> executions) {
+        if (!this.executionDeltaStorage.isEnabled() || executions.isEmpty()) {
+            return executions;
+        }
+
+        // fetch the deltas of the whole page at once
+        Map<String, List<TaskRun>> deltas = this.executionDeltaStorage.find(context, executions.stream().map(Execution::getId).toList());
+
+        return executions.stream()
+            .map(execution -> JdbcExecutionDeltaStorage.apply(execution, deltas.get(execution.getId())))
+            .toList();
+    }
+
+    private Flux<Execution> withDeltas(Flux<Execution> executions) {
+        if (!this.executionDeltaStorage.isEnabled()) {
+            return executions;
+        }
+
+        // streamed executions are read lazily, so their deltas are fetched by batches of executions in their own transaction
+        return executions
+            .buffer(FETCH_SIZE)
+            .concatMapIterable(batch -> this.jdbcRepository
+                .getDslContextWrapper()
+                .transactionResult(configuration -> this.fetched(DSL.using(configuration), batch))
+            );
+    }
+
     @Override
     public Function<String, String> sortMapping() throws IllegalArgumentException {
         Map<String, String> mapper = Map.of(
@@ -907,50 +1173,70 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcCrudRe
     ) {
         return this.jdbcRepository
             .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+            .transactionResult(configuration -> fetchSeekStep(
+                this.fetchDataSelect(DSL.using(configuration), tenantId, descriptors, startDate, endDate),
+                pageable
+            ));
+    }
 
-                Map<String, ? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
-                    .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
-                // Generate custom fields for date as they probably need formatting
-                // If they don't have aggs, we format datetime to minutes
-                List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
-
-                // Init request
-                SelectConditionStep<Record> selectConditionStep = select(
-                    context,
-                    filterService,
-                    columnsWithoutDate,
-                    dateFields,
-                    this.getFieldsMapping(),
-                    this.jdbcRepository.getTable(),
-                    tenantId
-                );
+    @Override
+    public Flux<Map<String, Object>> fetchDataAsync(
+        String tenantId,
+        DataFilter<Executions.Fields, ? extends ColumnDescriptor<Executions.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        int maxRows
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .stream(context -> this.fetchDataSelect(context, tenantId, descriptors, startDate, endDate).limit(maxRows), FETCH_SIZE)
+            .map(Record::intoMap);
+    }
 
-                // Apply Where filter
-                selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping);
+    private SelectSeekStepN<Record> fetchDataSelect(
+        DSLContext context,
+        String tenantId,
+        DataFilter<Executions.Fields, ? extends ColumnDescriptor<Executions.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate
+    ) {
+        Map<String, ? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
+            .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
+        // Generate custom fields for date as they probably need formatting
+        // If they don't have aggs, we format datetime to minutes
+        List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
+
+        // Init request
+        SelectConditionStep<Record> selectConditionStep = select(
+            context,
+            filterService,
+            columnsWithoutDate,
+            dateFields,
+            this.getFieldsMapping(),
+            this.jdbcRepository.getTable(),
+            tenantId
+        );
 
-                List<? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
-                    .filter(column -> column.getAgg() == null)
-                    .toList();
+        // Apply Where filter
+        selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping);
 
-                // Apply GroupBy for aggregation
-                SelectHavingStep<Record> selectHavingStep = groupBy(
-                    selectConditionStep,
-                    columnsWithoutDateWithOutAggs,
-                    dateFields,
-                    fieldsMapping
-                );
+        List<? extends ColumnDescriptor<Executions.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
+            .filter(column -> column.getAgg() == null)
+            .toList();
 
-                // Apply OrderBy
-                SelectSeekStepN<Record> selectSeekStep = orderBy(selectHavingStep, descriptors);
+        // Apply GroupBy for aggregation
+        SelectHavingStep<Record> selectHavingStep = groupBy(
+            selectConditionStep,
+            columnsWithoutDateWithOutAggs,
+            dateFields,
+            fieldsMapping
+        );
 
-                // Fetch and paginate if provided
-                return fetchSeekStep(selectSeekStep, pageable);
-            });
+        // Apply OrderBy
+        return orderBy(selectHavingStep, descriptors);
     }
 
     public Double fetchValue(String tenantId, DataFilterKPI<Executions.Fields, ? extends ColumnDescriptor<Executions.Fields>> dataFilter, ZonedDateTime startDate, ZonedDateTime endDate, boolean numeratorFilter) {
@@ -11,6 +11,8 @@ import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
 import org.jooq.*;
 import org.jooq.Record;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.SQLStateClass;
 import org.jooq.impl.DSL;
 
 import java.time.Instant;
@@ -137,4 +139,140 @@ public abstract class AbstractJdbcKvMetadataRepository extends AbstractJdbcCrudR
                 return kvMetadataToPersist;
             });
     }
+
+    @Override
+    public Optional<PersistedKvMetadata> saveIfVersion(PersistedKvMetadata kvMetadata, @Nullable Integer expectedVersion) {
+        try {
+            return this.jdbcRepository
+                .getDslContextWrapper()
+                .transactionResult(configuration -> {
+                    DSLContext context = DSL.using(configuration);
+                    Table<Record> table = this.jdbcRepository.getTable();
+
+                    if (expectedVersion != null) {
+                        var select = context
+                            .select(VALUE_FIELD)
+                            .from(table)
+                            .where(this.defaultFilter(kvMetadata.getTenantId(), true))
+                            .and(field("namespace").eq(kvMetadata.getNamespace()))
+                            .and(field("name").eq(kvMetadata.getName()))
+                            .and(field("version").eq(expectedVersion))
+                            .and(lastCondition());
+                        Optional<PersistedKvMetadata> maybePrevious = this.jdbcRepository.fetchOne(select);
+                        if (maybePrevious.isEmpty()) {
+                            return Optional.empty();
+                        }
+
+                        // compare-and-set on the last flag: the row is locked until the end of the transaction,
+                        // and a concurrent writer that expected the same version updates no rows
+                        PersistedKvMetadata previous = maybePrevious.get();
+                        PersistedKvMetadata previousAsNotLast = previous.toBuilder().last(false).build();
+                        int updated = context
+                            .update(table)
+                            .set(this.jdbcRepository.persistFields(previousAsNotLast))
+                            .where(field("key").eq(this.jdbcRepository.key(previous)))
+                            .and(field("deleted").eq(previous.isDeleted()))
+                            .and(lastCondition())
+                            .execute();
+                        if (updated == 0) {
+                            return Optional.empty();
+                        }
+                    }
+
+                    // a plain insert and not an upsert, so a concurrent writer that created the same version makes it fail
+                    PersistedKvMetadata kvMetadataToPersist = kvMetadata.asLast().toBuilder()
+                        .version(expectedVersion == null ? 1 : expectedVersion + 1)
+                        .build();
+                    context
+                        .insertInto(table)
+                        .set(field("key"), this.jdbcRepository.key(kvMetadataToPersist))
+                        .set(this.jdbcRepository.persistFields(kvMetadataToPersist))
+                        .execute();
+
+                    return Optional.of(kvMetadataToPersist);
+                });
+        } catch (DataAccessException e) {
+            if (isConcurrentWriteConflict(e)) {
+                return Optional.empty();
+            }
+
+            throw e;
+        }
+    }
+
+    @Override
+    public List<PersistedKvMetadata> purgeExpired(Instant expiredBefore, int batchSize) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                Table<Record> table = this.jdbcRepository.getTable();
+
+                // the locked rows are skipped, so concurrent sweepers claim different keys
+                var select = context
+                    .select(VALUE_FIELD)
+                    .from(table)
+                    .where(lastCondition())
+                    .and(field("expiration_date").lessOrEqual(expiredBefore))
+                    .orderBy(field("expiration_date"))
+                    .limit(batchSize)
+                    .forUpdate()
+                    .skipLocked();
+                List<PersistedKvMetadata> expired = this.jdbcRepository.fetch(select);
+                if (expired.isEmpty()) {
+                    return List.of();
+                }
+
+                var versionsSelect = context
+                    .select(VALUE_FIELD)
+                    .from(table)
+                    .where(field("last").in(true, false))
+                    .and(DSL.or(expired.stream()
+                        .map(kvMetadata -> this.buildTenantCondition(kvMetadata.getTenantId())
+                            .and(field("namespace").eq(kvMetadata.getNamespace()))
+                            .and(field("name").eq(kvMetadata.getName()))
+                        )
+                        .toList()
+                    ));
+                List<PersistedKvMetadata> versions = this.jdbcRepository.fetch(versionsSelect);
+
+                context
+                    .delete(table)
+                    .where(field("key").in(versions.stream().filter(kvMetadata -> !kvMetadata.isLast()).map(this.jdbcRepository::key).toList()))
+                    .execute();
+
+                // the last version is kept as a deleted entry, so the next version of the key never reuses the storage
+                // location of a purged value, which is deleted after this transaction
+                for (PersistedKvMetadata kvMetadata : expired) {
+                    PersistedKvMetadata tombstone = kvMetadata.toBuilder().deleted(true).expirationDate(null).updated(Instant.now()).build();
+                    this.jdbcRepository.persist(tombstone, context, this.jdbcRepository.persistFields(tombstone));
+                }
+
+                return versions;
+            });
+    }
+
+    @Override
+    public Optional<Instant> findOldestExpirationDate(Instant expiredBefore) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                var select = DSL
+                    .using(configuration)
+                    .select(VALUE_FIELD)
+                    .from(this.jdbcRepository.getTable())
+                    .where(lastCondition())
+                    .and(field("expiration_date").lessOrEqual(expiredBefore))
+                    .orderBy(field("expiration_date"))
+                    .limit(1);
+
+                return this.jdbcRepository.fetchOne(select).map(PersistedKvMetadata::getExpirationDate);
+            });
+    }
+
+    private static boolean isConcurrentWriteConflict(DataAccessException e) {
+        return e.sqlStateClass() == SQLStateClass.C23_INTEGRITY_CONSTRAINT_VIOLATION ||
+            // H2 concurrent update of the same row
+            "90131".equals(e.sqlState());
+    }
 }
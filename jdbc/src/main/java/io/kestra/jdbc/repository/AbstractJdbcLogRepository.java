@@ -17,6 +17,7 @@ import io.kestra.core.utils.ListUtils;
 import io.kestra.jdbc.services.JdbcFilterService;
 import io.kestra.plugin.core.dashboard.data.Logs;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
 import jakarta.annotation.Nullable;
 import lombok.Getter;
 import org.jooq.*;
@@ -25,6 +26,7 @@ import org.jooq.impl.DSL;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
 
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -33,6 +35,7 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
 
     private static final Condition NORMAL_KIND_CONDITION = field("execution_kind").isNull().or(field("execution_kind").eq(ExecutionKind.NORMAL.name()));
     private static final String DATE_COLUMN = "timestamp";
+    private static final String SEQUENCE_COLUMN = "seq";
 
     public AbstractJdbcLogRepository(io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository,
                                      QueueService queueService,
@@ -90,6 +93,35 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
         return findPage(pageable, tenantId, condition);
     }
 
+    @Override
+    public ArrayListTotal<LogEntry> find(
+        Pageable pageable,
+        @Nullable String continuationToken,
+        boolean withTotal,
+        @Nullable String tenantId,
+        @Nullable List<QueryFilter> filters
+    ) {
+        var condition = NORMAL_KIND_CONDITION.and(this.filter(filters, DATE_COLUMN, Resource.LOG));
+        return findSeekPage(pageable, continuationToken, withTotal, defaultFilter(tenantId), condition);
+    }
+
+    @Override
+    protected Map<String, Class<?>> seekableColumns() {
+        return Map.of(
+            DATE_COLUMN, OffsetDateTime.class,
+            "namespace", String.class,
+            "flow_id", String.class,
+            "execution_id", String.class,
+            "level", String.class
+        );
+    }
+
+    @Override
+    protected Set<String> nullableSeekableColumns() {
+        // some logs are not about any execution
+        return Set.of("execution_id");
+    }
+
     @Override
     public Flux<LogEntry> findAsync(
         @Nullable String tenantId,
@@ -249,6 +281,68 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
         );
     }
 
+    @Override
+    public List<LogEntry> findByExecutionIdAfterSequence(String tenantId, String executionId, @Nullable Level minLevel, long afterSequence, int limit) {
+        Condition condition = field("execution_id").eq(executionId)
+            .and(field(SEQUENCE_COLUMN, Long.class).gt(afterSequence));
+        Condition theCondition = minLevel != null ? condition.and(minLevel(minLevel)) : condition;
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                var select = DSL
+                    .using(configuration)
+                    .select(VALUE_FIELD)
+                    .from(this.jdbcRepository.getTable())
+                    .where(this.defaultFilter(tenantId))
+                    .and(theCondition)
+                    .orderBy(field(SEQUENCE_COLUMN).asc())
+                    .limit(limit);
+
+                return this.jdbcRepository.fetch(select);
+            });
+    }
+
+    @Override
+    public List<LogEntry> findByExecutionIdWithoutSequence(String tenantId, String executionId, @Nullable Level minLevel) {
+        return this.query(
+            tenantId,
+            field("execution_id").eq(executionId).and(field(SEQUENCE_COLUMN).isNull()),
+            minLevel,
+            true
+        );
+    }
+
+    @Override
+    public ArrayListTotal<LogEntry> findPageByExecutionId(
+        String tenantId,
+        String executionId,
+        @Nullable Level minLevel,
+        @Nullable String taskRunId,
+        @Nullable List<String> taskIds,
+        @Nullable Integer attempt,
+        int size,
+        @Nullable String continuationToken,
+        boolean withAccessControl
+    ) {
+        Condition condition = field("execution_id").eq(executionId);
+        if (taskRunId != null) {
+            condition = condition.and(field("taskrun_id").eq(taskRunId));
+        }
+        if (taskIds != null && !taskIds.isEmpty()) {
+            condition = condition.and(field("task_id").in(taskIds));
+        }
+        if (attempt != null) {
+            condition = condition.and(field("attempt_number").eq(attempt));
+        }
+        if (minLevel != null) {
+            condition = condition.and(minLevel(minLevel));
+        }
+
+        var defaultFilter = withAccessControl ? this.defaultFilter(tenantId) : this.defaultFilterWithNoACL(tenantId);
+        return findSeekPage(Pageable.from(1, size, Sort.of(Sort.Order.asc(DATE_COLUMN))), continuationToken, false, defaultFilter, condition);
+    }
+
     @Override
     public Integer purge(Execution execution) {
         return this.jdbcRepository
@@ -450,50 +544,70 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcCrudReposito
     ) {
         return this.jdbcRepository
             .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+            .transactionResult(configuration -> fetchSeekStep(
+                this.fetchDataSelect(DSL.using(configuration), tenantId, descriptors, startDate, endDate),
+                pageable
+            ));
+    }
 
-                Map<String, ? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
-                    .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
-                // Generate custom fields for date as they probably need formatting
-                // If they don't have aggs, we format datetime to minutes
-                List<Field<Date>> dateFields = generateDateFields(descriptors, getFieldsMapping(), startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
-
-                // Init request
-                SelectConditionStep<Record> selectConditionStep = select(
-                    context,
-                    filterService,
-                    columnsWithoutDate,
-                    dateFields,
-                    this.getFieldsMapping(),
-                    this.jdbcRepository.getTable(),
-                    tenantId
-                );
-
-                // Apply Where filter
-                selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), getWhereMapping());
-
-                List<? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
-                    .filter(column -> column.getAgg() == null)
-                    .toList();
-
-                // Apply GroupBy for aggregation
-                SelectHavingStep<Record> selectHavingStep = groupBy(
-                    selectConditionStep,
-                    columnsWithoutDateWithOutAggs,
-                    dateFields,
-                    getFieldsMapping()
-                );
-
-                // Apply OrderBy
-                SelectSeekStepN<Record> selectSeekStep = orderBy(selectHavingStep, descriptors);
-
-                // Fetch and paginate if provided
-                return fetchSeekStep(selectSeekStep, pageable);
-            });
+    @Override
+    public Flux<Map<String, Object>> fetchDataAsync(
+        String tenantId,
+        DataFilter<Logs.Fields, ? extends ColumnDescriptor<Logs.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        int maxRows
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .stream(context -> this.fetchDataSelect(context, tenantId, descriptors, startDate, endDate).limit(maxRows), FETCH_SIZE)
+            .map(Record::intoMap);
+    }
+
+    private SelectSeekStepN<Record> fetchDataSelect(
+        DSLContext context,
+        String tenantId,
+        DataFilter<Logs.Fields, ? extends ColumnDescriptor<Logs.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate
+    ) {
+        Map<String, ? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
+            .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
+        // Generate custom fields for date as they probably need formatting
+        // If they don't have aggs, we format datetime to minutes
+        List<Field<Date>> dateFields = generateDateFields(descriptors, getFieldsMapping(), startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
+
+        // Init request
+        SelectConditionStep<Record> selectConditionStep = select(
+            context,
+            filterService,
+            columnsWithoutDate,
+            dateFields,
+            this.getFieldsMapping(),
+            this.jdbcRepository.getTable(),
+            tenantId
+        );
+
+        // Apply Where filter
+        selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), getWhereMapping());
+
+        List<? extends ColumnDescriptor<Logs.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
+            .filter(column -> column.getAgg() == null)
+            .toList();
+
+        // Apply GroupBy for aggregation
+        SelectHavingStep<Record> selectHavingStep = groupBy(
+            selectConditionStep,
+            columnsWithoutDateWithOutAggs,
+            dateFields,
+            getFieldsMapping()
+        );
+
+        // Apply OrderBy
+        return orderBy(selectHavingStep, descriptors);
     }
 
     abstract protected Field<Date> formatDateField(String dateField, DateUtils.GroupType groupType);
@@ -1,5 +1,6 @@
 package io.kestra.jdbc.repository;
 
+import io.kestra.core.models.dashboards.AggregationType;
 import io.kestra.core.models.dashboards.ColumnDescriptor;
 import io.kestra.core.models.dashboards.DataFilter;
 import io.kestra.core.models.dashboards.DataFilterKPI;
@@ -14,16 +15,20 @@ import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.MetricRepositoryInterface;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.core.utils.ListUtils;
+import io.kestra.core.utils.QuantileSketch;
 import io.kestra.jdbc.services.JdbcFilterService;
 import io.kestra.plugin.core.dashboard.data.Metrics;
 import io.micrometer.common.lang.Nullable;
 import io.micronaut.data.model.Pageable;
 import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
+import reactor.core.publisher.Flux;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -233,15 +238,19 @@ public abstract class AbstractJdbcMetricRepository extends AbstractJdbcCrudRepos
         String aggregation
     ) {
         List<Field<?>> dateFields = new ArrayList<>(groupByFields(Duration.between(startDate, endDate), true));
+        Double percentile = percentile(aggregation);
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
+                // only PostgreSQL computes percentiles in the database, the other databases stream the values into sketches
+                boolean sketch = percentile != null && !configuration.dialect().supports(SQLDialect.POSTGRES);
+
                 var select = DSL
                     .using(configuration)
                     .select(dateFields)
                     .select(
                         field("metric_name"),
-                        aggregate(aggregation)
+                        sketch ? field("metric_value") : aggregate(aggregation)
                     )
                     .from(this.jdbcRepository.getTable())
                     .where(this.defaultFilter(tenantId));
@@ -256,6 +265,11 @@ public abstract class AbstractJdbcMetricRepository extends AbstractJdbcCrudRepos
                     select = select.and(field("timestamp").lessOrEqual(endDate.toOffsetDateTime()));
                 }
 
+                String groupByType = DateUtils.groupByType(Duration.between(startDate, endDate)).val();
+                if (sketch) {
+                    return fillDate(this.sketchPercentile(select, groupByType, percentile), startDate, endDate);
+                }
+
                 dateFields.add(field("metric_name"));
 
                 List<Field<?>> groupByFields = new ArrayList<>(groupByFields(Duration.between(startDate, endDate)));
@@ -263,7 +277,7 @@ public abstract class AbstractJdbcMetricRepository extends AbstractJdbcCrudRepos
                 var selectGroup = select.groupBy(groupByFields);
 
                 List<MetricAggregation> result = this.jdbcRepository
-                    .fetchMetricStat(selectGroup, DateUtils.groupByType(Duration.between(startDate, endDate)).val());
+                    .fetchMetricStat(selectGroup, groupByType);
 
                 List<MetricAggregation> fillResult = fillDate(result, startDate, endDate);
 
@@ -271,7 +285,31 @@ public abstract class AbstractJdbcMetricRepository extends AbstractJdbcCrudRepos
             });
     }
 
+    private List<MetricAggregation> sketchPercentile(Select<Record> select, String groupByType, double percentile) {
+        Map<Pair<Instant, String>, QuantileSketch> sketches = new LinkedHashMap<>();
+        try (var stream = select.fetchSize(FETCH_SIZE).stream()) {
+            stream
+                .map(record -> this.jdbcRepository.mapMetricAggregation(record, groupByType))
+                .filter(metric -> metric.value != null)
+                .forEach(metric -> sketches.computeIfAbsent(Pair.of(metric.date, metric.name), key -> new QuantileSketch()).add(metric.value));
+        }
+
+        return sketches.entrySet().stream()
+            .map(entry -> MetricAggregation.builder()
+                .date(entry.getKey().getLeft())
+                .name(entry.getKey().getRight())
+                .value(entry.getValue().quantile(percentile))
+                .build()
+            )
+            .toList();
+    }
+
     private Field<?> aggregate(String aggregation) {
+        Double percentile = percentile(aggregation);
+        if (percentile != null) {
+            return DSL.percentileCont(percentile).withinGroupOrderBy(field("metric_value", Double.class)).as("metric_value");
+        }
+
         return switch (aggregation) {
             case "avg" -> DSL.avg(field("metric_value", Double.class)).as("metric_value");
             case "sum" -> DSL.sum(field("metric_value", Double.class)).as("metric_value");
@@ -281,6 +319,14 @@ public abstract class AbstractJdbcMetricRepository extends AbstractJdbcCrudRepos
         };
     }
 
+    private static Double percentile(String aggregation) {
+        return Arrays.stream(AggregationType.values())
+            .filter(type -> type.getPercentile() != null && type.name().equalsIgnoreCase(aggregation))
+            .findFirst()
+            .map(AggregationType::getPercentile)
+            .orElse(null);
+    }
+
     private List<MetricAggregation> fillDate(List<MetricAggregation> result, ZonedDateTime startDate, ZonedDateTime endDate) {
         DateUtils.GroupType groupByType = DateUtils.groupByType(Duration.between(startDate, endDate));
 
@@ -383,50 +429,70 @@ public abstract class AbstractJdbcMetricRepository extends AbstractJdbcCrudRepos
     ) {
         return this.jdbcRepository
             .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+            .transactionResult(configuration -> fetchSeekStep(
+                this.fetchDataSelect(DSL.using(configuration), tenantId, descriptors, startDate, endDate),
+                pageable
+            ));
+    }
 
-                Map<String, ? extends ColumnDescriptor<Metrics.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
-                    .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
-                // Generate custom fields for date as they probably need formatting
-                // If they don't have aggs, we format datetime to minutes
-                List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
-
-                // Init request
-                SelectConditionStep<Record> selectConditionStep = select(
-                    context,
-                    filterService,
-                    columnsWithoutDate,
-                    dateFields,
-                    this.getFieldsMapping(),
-                    this.jdbcRepository.getTable(),
-                    tenantId
-                );
-
-                // Apply Where filter
-                selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping);
-
-                List<? extends ColumnDescriptor<Metrics.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
-                    .filter(column -> column.getAgg() == null)
-                    .toList();
-
-                // Apply GroupBy for aggregation
-                SelectHavingStep<Record> selectHavingStep = groupBy(
-                    selectConditionStep,
-                    columnsWithoutDateWithOutAggs,
-                    dateFields,
-                    fieldsMapping
-                );
-
-                // Apply OrderBy
-                SelectSeekStepN<Record> selectSeekStep = orderBy(selectHavingStep, descriptors);
-
-                // Fetch and paginate if provided
-                return fetchSeekStep(selectSeekStep, pageable);
-            });
+    @Override
+    public Flux<Map<String, Object>> fetchDataAsync(
+        String tenantId,
+        DataFilter<Metrics.Fields, ? extends ColumnDescriptor<Metrics.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        int maxRows
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .stream(context -> this.fetchDataSelect(context, tenantId, descriptors, startDate, endDate).limit(maxRows), FETCH_SIZE)
+            .map(Record::intoMap);
+    }
+
+    private SelectSeekStepN<Record> fetchDataSelect(
+        DSLContext context,
+        String tenantId,
+        DataFilter<Metrics.Fields, ? extends ColumnDescriptor<Metrics.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate
+    ) {
+        Map<String, ? extends ColumnDescriptor<Metrics.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
+            .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
+        // Generate custom fields for date as they probably need formatting
+        // If they don't have aggs, we format datetime to minutes
+        List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
+
+        // Init request
+        SelectConditionStep<Record> selectConditionStep = select(
+            context,
+            filterService,
+            columnsWithoutDate,
+            dateFields,
+            this.getFieldsMapping(),
+            this.jdbcRepository.getTable(),
+            tenantId
+        );
+
+        // Apply Where filter
+        selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping);
+
+        List<? extends ColumnDescriptor<Metrics.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
+            .filter(column -> column.getAgg() == null)
+            .toList();
+
+        // Apply GroupBy for aggregation
+        SelectHavingStep<Record> selectHavingStep = groupBy(
+            selectConditionStep,
+            columnsWithoutDateWithOutAggs,
+            dateFields,
+            fieldsMapping
+        );
+
+        // Apply OrderBy
+        return orderBy(selectHavingStep, descriptors);
     }
 
     abstract protected Field<Date> formatDateField(String dateField, DateUtils.GroupType groupType);
@@ -273,50 +273,70 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcCrudRepo
     ) {
         return this.jdbcRepository
             .getDslContextWrapper()
-            .transactionResult(configuration -> {
-                DSLContext context = DSL.using(configuration);
+            .transactionResult(configuration -> fetchSeekStep(
+                this.fetchDataSelect(DSL.using(configuration), tenantId, descriptors, startDate, endDate),
+                pageable
+            ));
+    }
 
-                Map<String, ? extends ColumnDescriptor<Triggers.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
-                    .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-                boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
-                // Generate custom fields for date as they probably need formatting
-                // If they don't have aggs, we format datetime to minutes
-                List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
-
-                // Init request
-                SelectConditionStep<Record> selectConditionStep = select(
-                    context,
-                    filterService,
-                    columnsWithoutDate,
-                    dateFields,
-                    this.getFieldsMapping(),
-                    this.jdbcRepository.getTable(),
-                    tenantId
-                );
+    @Override
+    public Flux<Map<String, Object>> fetchDataAsync(
+        String tenantId,
+        DataFilter<Triggers.Fields, ? extends ColumnDescriptor<Triggers.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        int maxRows
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .stream(context -> this.fetchDataSelect(context, tenantId, descriptors, startDate, endDate).limit(maxRows), FETCH_SIZE)
+            .map(Record::intoMap);
+    }
 
-                // Apply Where filter
-                selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping);
+    private SelectSeekStepN<Record> fetchDataSelect(
+        DSLContext context,
+        String tenantId,
+        DataFilter<Triggers.Fields, ? extends ColumnDescriptor<Triggers.Fields>> descriptors,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate
+    ) {
+        Map<String, ? extends ColumnDescriptor<Triggers.Fields>> columnsWithoutDate = descriptors.getColumns().entrySet().stream()
+            .filter(entry -> entry.getValue().getField() == null || !dateFields().contains(entry.getValue().getField()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        boolean hasAgg = descriptors.getColumns().entrySet().stream().anyMatch(col -> col.getValue().getAgg() != null);
+        // Generate custom fields for date as they probably need formatting
+        // If they don't have aggs, we format datetime to minutes
+        List<Field<Date>> dateFields = generateDateFields(descriptors, fieldsMapping, startDate, endDate, dateFields(), hasAgg ? null : DateUtils.GroupType.MINUTE);
+
+        // Init request
+        SelectConditionStep<Record> selectConditionStep = select(
+            context,
+            filterService,
+            columnsWithoutDate,
+            dateFields,
+            this.getFieldsMapping(),
+            this.jdbcRepository.getTable(),
+            tenantId
+        );
 
-                List<? extends ColumnDescriptor<Triggers.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
-                    .filter(column -> column.getAgg() == null)
-                    .toList();
+        // Apply Where filter
+        selectConditionStep = where(selectConditionStep, filterService, descriptors.getWhere(), fieldsMapping);
 
-                // Apply GroupBy for aggregation
-                SelectHavingStep<Record> selectHavingStep = groupBy(
-                    selectConditionStep,
-                    columnsWithoutDateWithOutAggs,
-                    dateFields,
-                    fieldsMapping
-                );
+        List<? extends ColumnDescriptor<Triggers.Fields>> columnsWithoutDateWithOutAggs = columnsWithoutDate.values().stream()
+            .filter(column -> column.getAgg() == null)
+            .toList();
 
-                // Apply OrderBy
-                SelectSeekStepN<Record> selectSeekStep = orderBy(selectHavingStep, descriptors);
+        // Apply GroupBy for aggregation
+        SelectHavingStep<Record> selectHavingStep = groupBy(
+            selectConditionStep,
+            columnsWithoutDateWithOutAggs,
+            dateFields,
+            fieldsMapping
+        );
 
-                // Fetch and paginate if provided
-                return fetchSeekStep(selectSeekStep, pageable);
-            });
+        // Apply OrderBy
+        return orderBy(selectHavingStep, descriptors);
     }
 
 
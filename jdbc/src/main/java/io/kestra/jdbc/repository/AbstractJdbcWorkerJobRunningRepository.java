@@ -26,6 +26,18 @@ public abstract class AbstractJdbcWorkerJobRunningRepository extends AbstractJdb
         return workerJobRunning;
     }
 
+    /**
+     * Save all the worker jobs running claimed by a single queue poll in one batched statement.
+     * It must be called with the queue receive transaction context so the claim is atomic with the queue offsets update.
+     */
+    public int saveBatch(List<WorkerJobRunning> workerJobRunnings, DSLContext context) {
+        if (workerJobRunnings.isEmpty()) {
+            return 0;
+        }
+
+        return this.jdbcRepository.persistBatch(context, workerJobRunnings);
+    }
+
     @Override
     public void deleteByKey(String key) {
         this.jdbcRepository.getDslContextWrapper()
@@ -0,0 +1,207 @@
+package io.kestra.jdbc.runner;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.utils.ListUtils;
+import io.kestra.jdbc.JdbcMapper;
+import io.kestra.jdbc.JdbcTableConfigs;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep2;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only storage of the {@link TaskRun} changes of an execution.
+ * <p>
+ * When enabled, the executor only appends the task runs that changed during a transition instead of rewriting the full
+ * execution document. The deltas are compacted back into the execution document when the execution itself changes
+ * (state, outputs, labels, ...), when a task run is removed, or when the number of pending deltas reaches the
+ * configured threshold.
+ * <p>
+ * Deltas must always be read under the execution lock, or merged into the execution when reading it, so that
+ * callers always see a complete {@link Execution}.
+ */
+@Singleton
+public class JdbcExecutionDeltaStorage {
+    private static final ObjectMapper MAPPER = JdbcMapper.of();
+
+    private static final Field<String> EXECUTION_ID_FIELD = AbstractJdbcRepository.field("execution_id", String.class);
+    private static final Field<Long> SEQ_FIELD = AbstractJdbcRepository.field("seq", Long.class);
+    private static final Field<String> VALUE_FIELD = AbstractJdbcRepository.field("value", String.class);
+
+    @Getter
+    @Value("${kestra.jdbc.executor.delta-persistence.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kestra.jdbc.executor.delta-persistence.compaction-threshold:100}")
+    private int compactionThreshold;
+
+    private final Table<Record> table;
+
+    @Inject
+    public JdbcExecutionDeltaStorage(JdbcTableConfigs jdbcTableConfigs) {
+        this.table = DSL.table(jdbcTableConfigs.tableConfig("executiondeltas").table());
+    }
+
+    /**
+     * Returns the pending task run deltas of an execution, in the order they were appended.
+     */
+    public List<TaskRun> find(DSLContext context, String executionId) {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+
+        return context
+            .select(VALUE_FIELD)
+            .from(table)
+            .where(EXECUTION_ID_FIELD.eq(executionId))
+            .orderBy(SEQ_FIELD.asc())
+            .fetch()
+            .map(r -> deserialize(r.value1()));
+    }
+
+    /**
+     * Returns the pending task run deltas of several executions, in the order they were appended.
+     */
+    public Map<String, List<TaskRun>> find(DSLContext context, Collection<String> executionIds) {
+        if (!enabled || executionIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return context
+            .select(EXECUTION_ID_FIELD, VALUE_FIELD)
+            .from(table)
+            .where(EXECUTION_ID_FIELD.in(executionIds))
+            .orderBy(SEQ_FIELD.asc())
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                r -> r.value1(),
+                Collectors.mapping(r -> deserialize(r.value2()), Collectors.toList())
+            ));
+    }
+
+    /**
+     * Applies the task run deltas on a base execution.
+     * A delta replaces the task run with the same id or is appended if it's a new one.
+     */
+    public static Execution apply(Execution base, List<TaskRun> deltas) {
+        if (ListUtils.isEmpty(deltas)) {
+            return base;
+        }
+
+        LinkedHashMap<String, TaskRun> taskRuns = new LinkedHashMap<>();
+        ListUtils.emptyOnNull(base.getTaskRunList()).forEach(taskRun -> taskRuns.put(taskRun.getId(), taskRun));
+        deltas.forEach(taskRun -> taskRuns.put(taskRun.getId(), taskRun));
+
+        return base.withTaskRunList(new ArrayList<>(taskRuns.values()));
+    }
+
+    /**
+     * Persists the changes between the current and the updated execution as deltas if possible.
+     *
+     * @param pendingDeltas the number of deltas already pending for this execution
+     * @return <code>false</code> if the changes cannot be expressed as deltas and the execution must be compacted.
+     */
+    public boolean append(DSLContext context, Execution current, Execution updated, int pendingDeltas) {
+        if (!enabled) {
+            return false;
+        }
+
+        List<TaskRun> changed = changedTaskRuns(current, updated);
+        if (changed == null || pendingDeltas + changed.size() > compactionThreshold) {
+            return false;
+        }
+
+        if (changed.isEmpty()) {
+            return true;
+        }
+
+        InsertValuesStep2<Record, String, String> insert = context.insertInto(table, EXECUTION_ID_FIELD, VALUE_FIELD);
+        for (TaskRun taskRun : changed) {
+            insert = insert.values(updated.getId(), serialize(taskRun));
+        }
+        insert.execute();
+
+        return true;
+    }
+
+    /**
+     * Deletes all deltas of an execution, it must be done each time the full execution document is persisted.
+     */
+    public void delete(DSLContext context, String executionId) {
+        if (!enabled) {
+            return;
+        }
+
+        context.delete(table)
+            .where(EXECUTION_ID_FIELD.eq(executionId))
+            .execute();
+    }
+
+    /**
+     * Deletes all deltas of a list of executions.
+     */
+    public void delete(DSLContext context, Collection<String> executionIds) {
+        if (!enabled || executionIds.isEmpty()) {
+            return;
+        }
+
+        context.delete(table)
+            .where(EXECUTION_ID_FIELD.in(executionIds))
+            .execute();
+    }
+
+    /**
+     * Returns the task runs added or updated, or <code>null</code> if anything else than task runs changed.
+     */
+    private static List<TaskRun> changedTaskRuns(Execution current, Execution updated) {
+        if (!current.withTaskRunList(null).equals(updated.withTaskRunList(null))) {
+            return null;
+        }
+
+        Map<String, TaskRun> currentTaskRuns = ListUtils.emptyOnNull(current.getTaskRunList())
+            .stream()
+            .collect(Collectors.toMap(TaskRun::getId, taskRun -> taskRun));
+        List<TaskRun> updatedTaskRuns = ListUtils.emptyOnNull(updated.getTaskRunList());
+
+        // a removed task run (restart, replay, ...) cannot be expressed as a delta
+        Set<String> updatedIds = updatedTaskRuns.stream().map(TaskRun::getId).collect(Collectors.toSet());
+        if (!updatedIds.containsAll(currentTaskRuns.keySet())) {
+            return null;
+        }
+
+        return updatedTaskRuns.stream()
+            .filter(taskRun -> !taskRun.equals(currentTaskRuns.get(taskRun.getId())))
+            .toList();
+    }
+
+    private static String serialize(TaskRun taskRun) {
+        try {
+            return MAPPER.writeValueAsString(taskRun);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize the task run '" + taskRun.getId() + "'", e);
+        }
+    }
+
+    private static TaskRun deserialize(String value) {
+        try {
+            return MAPPER.readValue(value, TaskRun.class);
+        } catch (JsonProcessingException e) {
+            throw new DeserializationException(e, value);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.kestra.jdbc.runner;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically recomputes the dirty buckets of the execution rollups, see {@link JdbcExecutionRollupStorage}.
+ * The first run also backfills the hours that were never computed.
+ */
+@Singleton
+@JdbcRunnerEnabled
+@Slf4j
+@Requires(property = "kestra.jdbc.rollups.enabled", value = "true")
+public class JdbcExecutionRollupRefresher {
+    private final JdbcExecutionRollupStorage executionRollupStorage;
+    private boolean backfilled = false;
+
+    @Inject
+    public JdbcExecutionRollupRefresher(JdbcExecutionRollupStorage executionRollupStorage) {
+        this.executionRollupStorage = executionRollupStorage;
+    }
+
+    @Scheduled(initialDelay = "${kestra.jdbc.rollups.initial-delay:1m}", fixedDelay = "${kestra.jdbc.rollups.fixed-delay:1m}")
+    public void refresh() {
+        if (!backfilled) {
+            int backfill = executionRollupStorage.backfill();
+            if (backfill > 0) {
+                log.info("Backfilling {} execution rollup buckets", backfill);
+            }
+            backfilled = true;
+        }
+
+        int refreshed = executionRollupStorage.refresh();
+        if (refreshed > 0) {
+            log.debug("Refreshed {} execution rollup buckets", refreshed);
+        }
+    }
+}
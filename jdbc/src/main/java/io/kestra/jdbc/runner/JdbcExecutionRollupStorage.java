@@ -0,0 +1,408 @@
+package io.kestra.jdbc.runner;
+
+import com.google.common.collect.Iterables;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.ExecutionKind;
+import io.kestra.core.models.flows.State;
+import io.kestra.jdbc.JdbcTableConfigs;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep1;
+import org.jooq.Record;
+import org.jooq.Record3;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * Hourly pre-aggregated execution statistics, maintained incrementally.
+ * <p>
+ * Each time an execution is persisted with a change of its start date, state or deleted flag, the hour buckets of its
+ * start dates are marked as dirty with an append-only insert (no unique key, so concurrent writers never contend on it).
+ * Other changes don't alter the rollups, except the duration of a running execution which is refreshed when it ends.
+ * The dirty buckets are then recomputed in the background from the executions table, one transaction per bucket.
+ * <p>
+ * Readers must only use the rollups for complete hours that were computed and are not dirty, everything else must be
+ * read from the executions table, see {@link #rolledUpBuckets(DSLContext, Instant, Instant)}. The hours older than the
+ * activation of the rollups are computed by {@link #backfill()}, until then they are read from the executions table.
+ */
+@Singleton
+public class JdbcExecutionRollupStorage {
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+
+    private static final Field<Long> BUCKET_FIELD = AbstractJdbcRepository.field("bucket", Long.class);
+    private static final Field<Object> START_DATE_FIELD = AbstractJdbcRepository.field("start_date");
+    private static final Field<OffsetDateTime> TYPED_START_DATE_FIELD = AbstractJdbcRepository.field("start_date", OffsetDateTime.class);
+    private static final Field<String> STATE_FIELD = AbstractJdbcRepository.field("state_current", String.class);
+    private static final Field<Boolean> DELETED_FIELD = AbstractJdbcRepository.field("deleted", Boolean.class);
+    private static final Field<Long> DURATION_FIELD = AbstractJdbcRepository.field("state_duration", Long.class);
+    private static final List<Field<Object>> GROUP_FIELDS = List.of(
+        AbstractJdbcRepository.field("tenant_id"),
+        AbstractJdbcRepository.field("namespace"),
+        AbstractJdbcRepository.field("flow_id"),
+        AbstractJdbcRepository.field("state_current")
+    );
+    private static final Condition NORMAL_KIND_CONDITION = AbstractJdbcRepository.field("kind").isNull()
+        .or(AbstractJdbcRepository.field("kind").eq(ExecutionKind.NORMAL.name()));
+
+    @Getter
+    @Value("${kestra.jdbc.rollups.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kestra.jdbc.rollups.batch-size:100}")
+    private int batchSize;
+
+    @Getter
+    private final Table<Record> table;
+    private final Table<Record> dirtyTable;
+    private final Table<Record> bucketsTable;
+    private final Table<Record> executionTable;
+    private final JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    public JdbcExecutionRollupStorage(JdbcTableConfigs jdbcTableConfigs, JooqDSLContextWrapper dslContextWrapper) {
+        this.table = DSL.table(jdbcTableConfigs.tableConfig("executionrollups").table());
+        this.dirtyTable = DSL.table(jdbcTableConfigs.tableConfig("executionrollupsdirty").table());
+        this.bucketsTable = DSL.table(jdbcTableConfigs.tableConfig("executionrollupsbuckets").table());
+        this.executionTable = DSL.table(jdbcTableConfigs.tableConfig("executions").table());
+        this.dslContextWrapper = dslContextWrapper;
+    }
+
+    /**
+     * Returns the hour bucket of a date, as a number of hours since the epoch.
+     */
+    public static long bucket(Instant date) {
+        return Math.floorDiv(date.toEpochMilli(), BUCKET_MILLIS);
+    }
+
+    /**
+     * Returns the first instant of an hour bucket.
+     */
+    public static OffsetDateTime bucketStart(long bucket) {
+        return Instant.ofEpochMilli(bucket * BUCKET_MILLIS).atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the condition matching the dates inside an hour bucket.
+     */
+    public static Condition bucketCondition(long bucket) {
+        return START_DATE_FIELD.greaterOrEqual(bucketStart(bucket))
+            .and(START_DATE_FIELD.lessThan(bucketStart(bucket + 1)));
+    }
+
+    /**
+     * Returns the condition matching the dates inside a set of hour buckets, contiguous buckets are matched as a single range.
+     */
+    public static Condition bucketsCondition(Collection<Long> buckets) {
+        List<Long> sorted = buckets.stream().sorted().toList();
+        Condition condition = DSL.falseCondition();
+        int i = 0;
+        while (i < sorted.size()) {
+            long first = sorted.get(i);
+            long last = first;
+            while (i + 1 < sorted.size() && sorted.get(i + 1) == last + 1) {
+                last = sorted.get(++i);
+            }
+            condition = condition.or(START_DATE_FIELD.greaterOrEqual(bucketStart(first)).and(START_DATE_FIELD.lessThan(bucketStart(last + 1))));
+            i++;
+        }
+
+        return condition;
+    }
+
+    /**
+     * Marks the hour bucket of an execution as dirty, it must be done each time an execution is removed.
+     */
+    public void markDirty(DSLContext context, Execution execution) {
+        this.markDirty(context, List.of(execution));
+    }
+
+    /**
+     * Marks the hour buckets of an execution as dirty if it changed a field used by the rollups since its previous version.
+     *
+     * @param previous the previous version of the execution, <code>null</code> for a new execution.
+     */
+    public void markDirty(DSLContext context, @Nullable Execution previous, Execution execution) {
+        if (!enabled) {
+            return;
+        }
+
+        if (previous == null) {
+            this.markDirty(context, execution);
+        } else {
+            this.markDirty(
+                context,
+                startDate(previous).orElse(null),
+                previous.getState() == null ? null : previous.getState().getCurrent().name(),
+                previous.isDeleted(),
+                execution
+            );
+        }
+    }
+
+    /**
+     * Marks the hour buckets of an execution as dirty if it changed a field used by the rollups since its persisted version,
+     * it must be called before the execution is persisted.
+     * <p>
+     * Only the columns used by the rollups are read, not the execution document.
+     */
+    public void markDirtyBeforePersist(DSLContext context, Execution execution) {
+        if (!enabled) {
+            return;
+        }
+
+        Record3<OffsetDateTime, String, Boolean> persisted = context
+            .select(TYPED_START_DATE_FIELD, STATE_FIELD, DELETED_FIELD)
+            .from(executionTable)
+            .where(AbstractJdbcRepository.field("key").eq(execution.getId()))
+            .fetchOne();
+
+        if (persisted == null) {
+            this.markDirty(context, execution);
+        } else {
+            this.markDirty(
+                context,
+                Optional.ofNullable(persisted.value1()).map(OffsetDateTime::toInstant).orElse(null),
+                persisted.value2(),
+                Boolean.TRUE.equals(persisted.value3()),
+                execution
+            );
+        }
+    }
+
+    private void markDirty(DSLContext context, @Nullable Instant previousStartDate, @Nullable String previousState, boolean previousDeleted, Execution execution) {
+        if (!isRolledUp(execution)) {
+            return;
+        }
+
+        Long previousBucket = previousStartDate == null ? null : bucket(previousStartDate);
+        Long bucket = startDate(execution).map(JdbcExecutionRollupStorage::bucket).orElse(null);
+        String state = execution.getState() == null ? null : execution.getState().getCurrent().name();
+
+        if (Objects.equals(previousBucket, bucket) && Objects.equals(previousState, state) && previousDeleted == execution.isDeleted()) {
+            return;
+        }
+
+        // an execution that moved to another hour must be removed from the rollups of the previous one
+        Set<Long> buckets = new HashSet<>();
+        if (previousBucket != null) {
+            buckets.add(previousBucket);
+        }
+        if (bucket != null) {
+            buckets.add(bucket);
+        }
+        this.markDirty(context, buckets);
+    }
+
+    /**
+     * Marks the hour buckets of a list of executions as dirty.
+     */
+    public void markDirty(DSLContext context, Collection<Execution> executions) {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Long> buckets = new HashSet<>();
+        executions.stream()
+            .filter(JdbcExecutionRollupStorage::isRolledUp)
+            .map(JdbcExecutionRollupStorage::startDate)
+            .flatMap(Optional::stream)
+            .forEach(startDate -> buckets.add(bucket(startDate)));
+
+        this.markDirty(context, buckets);
+    }
+
+    private void markDirty(DSLContext context, Set<Long> buckets) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        InsertValuesStep1<Record, Long> insert = context.insertInto(dirtyTable, BUCKET_FIELD);
+        for (Long bucket : buckets) {
+            insert = insert.values(bucket);
+        }
+        insert.execute();
+    }
+
+    private static boolean isRolledUp(Execution execution) {
+        return execution.getKind() == null || execution.getKind() == ExecutionKind.NORMAL;
+    }
+
+    private static Optional<Instant> startDate(Execution execution) {
+        return Optional.ofNullable(execution.getState()).map(State::getStartDate);
+    }
+
+    /**
+     * Returns the dirty hour buckets between two dates, the rollups of these buckets must not be used.
+     */
+    public Set<Long> dirtyBuckets(DSLContext context, Instant startDate, Instant endDate) {
+        return new HashSet<>(context
+            .selectDistinct(BUCKET_FIELD)
+            .from(dirtyTable)
+            .where(BUCKET_FIELD.greaterOrEqual(bucket(startDate)))
+            .and(BUCKET_FIELD.lessOrEqual(bucket(endDate)))
+            .fetch(BUCKET_FIELD));
+    }
+
+    /**
+     * Returns the hour buckets from a start date inclusive to an end date exclusive whose rollups can be used:
+     * the ones that were computed and are not dirty.
+     */
+    public Set<Long> rolledUpBuckets(DSLContext context, Instant startDate, Instant endDate) {
+        long first = bucket(startDate);
+        long last = bucket(endDate.minusMillis(1));
+        if (last < first) {
+            return Set.of();
+        }
+
+        Set<Long> buckets = new HashSet<>(context
+            .select(BUCKET_FIELD)
+            .from(bucketsTable)
+            .where(BUCKET_FIELD.between(first, last))
+            .fetch(BUCKET_FIELD));
+        buckets.removeAll(dirtyBuckets(context, startDate, endDate));
+
+        return buckets;
+    }
+
+    /**
+     * Marks as dirty the hour buckets from the oldest execution to now that were never computed, so the refresh
+     * computes them. It's needed for the executions persisted before the rollups were enabled.
+     *
+     * @return the number of buckets marked.
+     */
+    public int backfill() {
+        return dslContextWrapper.transactionResult(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            OffsetDateTime oldest = context
+                .select(DSL.min(TYPED_START_DATE_FIELD))
+                .from(executionTable)
+                .fetchOne(0, OffsetDateTime.class);
+            if (oldest == null) {
+                return 0;
+            }
+
+            long first = bucket(oldest.toInstant());
+            long last = bucket(Instant.now());
+            Set<Long> known = new HashSet<>(context
+                .select(BUCKET_FIELD)
+                .from(bucketsTable)
+                .where(BUCKET_FIELD.between(first, last))
+                .fetch(BUCKET_FIELD));
+            known.addAll(dirtyBuckets(context, bucketStart(first).toInstant(), bucketStart(last).toInstant()));
+
+            // empty hours are computed too, so the computed buckets stay contiguous
+            List<Long> missing = LongStream.rangeClosed(first, last)
+                .filter(bucket -> !known.contains(bucket))
+                .boxed()
+                .toList();
+            Iterables.partition(missing, batchSize).forEach(batch -> this.markDirty(context, new HashSet<>(batch)));
+
+            return missing.size();
+        });
+    }
+
+    /**
+     * Recomputes the oldest dirty buckets.
+     *
+     * @return the number of buckets recomputed.
+     */
+    public int refresh() {
+        List<Long> buckets = dslContextWrapper.transactionResult(configuration -> DSL.using(configuration)
+            .selectDistinct(BUCKET_FIELD)
+            .from(dirtyTable)
+            .orderBy(BUCKET_FIELD.asc())
+            .limit(batchSize)
+            .fetch(BUCKET_FIELD)
+        );
+
+        return (int) buckets.stream()
+            .filter(bucket -> dslContextWrapper.transactionResult(configuration -> this.recompute(DSL.using(configuration), bucket)))
+            .count();
+    }
+
+    /**
+     * Recomputes the rollups of an hour bucket from the executions table, then records it as computed.
+     * <p>
+     * The dirty marks are deleted first: it claims the bucket against a concurrent refresh (which will block on them,
+     * then find nothing to do), and any execution persisted after that point marks the bucket dirty again.
+     *
+     * @return <code>false</code> if the bucket was already recomputed by someone else.
+     */
+    public boolean recompute(DSLContext context, long bucket) {
+        int claimed = context.delete(dirtyTable)
+            .where(BUCKET_FIELD.eq(bucket))
+            .execute();
+
+        if (claimed == 0) {
+            return false;
+        }
+
+        context.delete(table)
+            .where(bucketCondition(bucket))
+            .execute();
+
+        List<Field<?>> columns = List.of(
+            GROUP_FIELDS.get(0),
+            GROUP_FIELDS.get(1),
+            GROUP_FIELDS.get(2),
+            GROUP_FIELDS.get(3),
+            START_DATE_FIELD,
+            AbstractJdbcRepository.field("count"),
+            AbstractJdbcRepository.field("duration_sum"),
+            AbstractJdbcRepository.field("duration_min"),
+            AbstractJdbcRepository.field("duration_max")
+        );
+
+        List<Field<?>> aggregates = List.of(
+            GROUP_FIELDS.get(0),
+            GROUP_FIELDS.get(1),
+            GROUP_FIELDS.get(2),
+            GROUP_FIELDS.get(3),
+            DSL.val(bucketStart(bucket)),
+            DSL.count(),
+            DSL.sum(DURATION_FIELD),
+            DSL.min(DURATION_FIELD),
+            DSL.max(DURATION_FIELD)
+        );
+
+        context.insertInto(table, columns)
+            .select(context
+                .select(aggregates)
+                .from(executionTable)
+                .where(AbstractJdbcRepository.field("deleted", Boolean.class).eq(false))
+                .and(NORMAL_KIND_CONDITION)
+                .and(bucketCondition(bucket))
+                .groupBy(GROUP_FIELDS)
+            )
+            .execute();
+
+        if (!context.fetchExists(bucketsTable, BUCKET_FIELD.eq(bucket))) {
+            context.insertInto(bucketsTable, BUCKET_FIELD)
+                .values(bucket)
+                .execute();
+        }
+
+        return true;
+    }
+}
@@ -29,6 +29,7 @@ import io.kestra.core.server.ServiceStateChangeEvent;
 import io.kestra.core.server.ServiceType;
 import io.kestra.core.services.*;
 import io.kestra.core.storages.StorageContext;
+import io.kestra.core.topologies.FlowTopologyIndex;
 import io.kestra.core.topologies.FlowTopologyService;
 import io.kestra.core.trace.Tracer;
 import io.kestra.core.trace.TracerFactory;
@@ -170,6 +171,8 @@ public class JdbcExecutor implements ExecutorInterface {
 
     protected List<FlowWithSource> allFlows;
 
+    private final FlowTopologyIndex flowTopologyIndex = new FlowTopologyIndex();
+
     @Inject
     private WorkerGroupService workerGroupService;
 
@@ -291,7 +294,20 @@ public class JdbcExecutor implements ExecutorInterface {
             serviceLivenessCoordinator.setExecutor(this);
         }
         flowListeners.run();
-        flowListeners.listen(flows -> this.allFlows = flows);
+        flowListeners.listen((flow, previous) -> {
+            if (flow.isDeleted()) {
+                flowTopologyIndex.remove(flow);
+            } else {
+                flowTopologyIndex.upsert(flow);
+            }
+        });
+        flowListeners.listen(flows -> {
+            // the index is built from the first list, then maintained from each flow change
+            if (this.allFlows == null) {
+                flows.forEach(flowTopologyIndex::upsert);
+            }
+            this.allFlows = flows;
+        });
 
         Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
 
@@ -299,13 +315,20 @@ public class JdbcExecutor implements ExecutorInterface {
             Executor.class,
             executions -> {
                 // process execution message grouped by executionId to avoid concurrency as the execution level as it would
+                // as the execution is always read from the database under lock, all the messages of the same execution
+                // are coalesced into a single lock/persist cycle using the last message
                 List<CompletableFuture<Void>> perExecutionFutures = executions.stream()
                     .filter(Either::isLeft)
                     .collect(Collectors.groupingBy(either -> either.getLeft().getId()))
                     .values()
                     .stream()
                     .map(eithers -> CompletableFuture.runAsync(() -> {
-                        eithers.forEach(this::executionQueue);
+                        if (eithers.size() > 1) {
+                            metricRegistry
+                                .counter(MetricRegistry.METRIC_EXECUTOR_EXECUTION_COALESCED_COUNT, MetricRegistry.METRIC_EXECUTOR_EXECUTION_COALESCED_COUNT_DESCRIPTION)
+                                .increment(eithers.size() - 1);
+                        }
+                        executionQueue(eithers.getLast());
                     }, executionExecutorService))
                     .toList();
 
@@ -320,10 +343,23 @@ public class JdbcExecutor implements ExecutorInterface {
         this.receiveCancellations.addFirst(((JdbcQueue<WorkerTaskResult>) this.workerTaskResultQueue).receiveBatch(
             Executor.class,
             workerTaskResults -> {
-                List<CompletableFuture<Void>> futures = workerTaskResults.stream()
-                    .map(workerTaskResult -> CompletableFuture.runAsync(() -> workerTaskResultQueue(workerTaskResult), workerTaskResultExecutorService))
+                // process worker task results grouped by executionId so all results of the same execution
+                // are applied together in a single lock/persist cycle
+                List<CompletableFuture<Void>> perExecutionFutures = workerTaskResults.stream()
+                    .filter(Either::isLeft)
+                    .map(Either::getLeft)
+                    .collect(Collectors.groupingBy(workerTaskResult -> workerTaskResult.getTaskRun().getExecutionId()))
+                    .values()
+                    .stream()
+                    .map(results -> CompletableFuture.runAsync(() -> workerTaskResultQueue(results), workerTaskResultExecutorService))
                     .toList();
-                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+                // directly process deserialization issues as most of the time there will be none
+                workerTaskResults.stream()
+                    .filter(Either::isRight)
+                    .forEach(either -> log.error("Unable to deserialize a worker task result: {}", either.getRight().getMessage(), either.getRight()));
+
+                CompletableFuture.allOf(perExecutionFutures.toArray(CompletableFuture[]::new)).join();
             }
         ));
         this.receiveCancellations.addFirst(this.killQueue.receive(Executor.class, this::killQueue));
@@ -410,7 +446,7 @@ public class JdbcExecutor implements ExecutorInterface {
                             flowTopologyService
                                 .topology(
                                     pluginDefaultService.injectVersionDefaults(flow, true),
-                                    this.allFlows.stream().filter(f -> Objects.equals(f.getTenantId(), flow.getTenantId())).toList()
+                                    flowTopologyIndex
                                 )
                         )
                             .distinct()
@@ -787,52 +823,63 @@ public class JdbcExecutor implements ExecutorInterface {
         return failedExecution.getExecution().getState().isFailed() ? failedExecution.getExecution() : failedExecution.getExecution().withState(State.Type.FAILED);
     }
 
-    private void workerTaskResultQueue(Either<WorkerTaskResult, DeserializationException> either) {
-        if (either.isRight()) {
-            log.error("Unable to deserialize a worker task result: {}", either.getRight().getMessage(), either.getRight());
-            return;
-        }
+    private void workerTaskResultQueue(List<WorkerTaskResult> messages) {
+        List<WorkerTaskResult> results = messages.stream()
+            .filter(message -> {
+                if (skipExecutionService.skipExecution(message.getTaskRun())) {
+                    log.warn("Skipping execution {}", message.getTaskRun().getExecutionId());
+                    return false;
+                }
+
+                if (log.isDebugEnabled()) {
+                    executorService.log(log, true, message);
+                }
+
+                return true;
+            })
+            .toList();
 
-        WorkerTaskResult message = either.getLeft();
-        if (skipExecutionService.skipExecution(message.getTaskRun())) {
-            log.warn("Skipping execution {}", message.getTaskRun().getExecutionId());
+        if (results.isEmpty()) {
             return;
         }
 
-        if (log.isDebugEnabled()) {
-            executorService.log(log, true, message);
+        if (results.size() > 1) {
+            metricRegistry
+                .counter(MetricRegistry.METRIC_EXECUTOR_WORKER_TASK_RESULT_COALESCED_COUNT, MetricRegistry.METRIC_EXECUTOR_WORKER_TASK_RESULT_COALESCED_COUNT_DESCRIPTION)
+                .increment(results.size() - 1);
         }
 
-        Executor executor = executionRepository.lock(message.getTaskRun().getExecutionId(), pair -> {
+        String executionId = results.getFirst().getTaskRun().getExecutionId();
+        Executor executor = executionRepository.lock(executionId, pair -> {
             Execution execution = pair.getLeft();
             Executor current = new Executor(execution, null);
 
             if (execution == null) {
-                throw new IllegalStateException("Execution state don't exist for " + message.getTaskRun().getExecutionId() + ", receive " + message);
+                throw new IllegalStateException("Execution state don't exist for " + executionId + ", receive " + results);
             }
 
-            if (execution.hasTaskRunJoinable(message.getTaskRun())) {
-                try {
-                    // process worker task result
-                    executorService.addWorkerTaskResult(current, throwSupplier(() -> findFlowOrThrow(execution)), message);
-                    // join worker result
-                    return Pair.of(
-                        current,
-                        pair.getRight()
-                    );
-                } catch (InternalException e) {
+            // joinability is checked on the updated execution so results of the same task run are applied in order
+            List<WorkerTaskResult> joinables = new ArrayList<>();
+            try {
+                for (WorkerTaskResult message : results) {
+                    if (current.getExecution().hasTaskRunJoinable(message.getTaskRun())) {
+                        // process worker task result
+                        executorService.addWorkerTaskResult(current, throwSupplier(() -> findFlowOrThrow(execution)), message);
+                        joinables.add(message);
+                    }
+                }
+            } catch (InternalException e) {
+                return Pair.of(
+                    handleFailedExecutionFromExecutor(current, e),
+                    pair.getRight()
+                );
+            } catch (FlowNotFoundException e) {
+                // avoid infinite loop
+                if (!current.getExecution().getState().getCurrent().isFailed()) {
                     return Pair.of(
                         handleFailedExecutionFromExecutor(current, e),
                         pair.getRight()
                     );
-                } catch (FlowNotFoundException e) {
-                    // avoid infinite loop
-                    if (!current.getExecution().getState().getCurrent().isFailed()) {
-                        return Pair.of(
-                            handleFailedExecutionFromExecutor(current, e),
-                            pair.getRight()
-                        );
-                    }
                 }
 
                 return Pair.of(
@@ -841,7 +888,8 @@ public class JdbcExecutor implements ExecutorInterface {
                 );
             }
 
-            return null;
+            // join worker results
+            return joinables.isEmpty() ? null : Pair.of(current, pair.getRight());
         });
 
         if (executor != null) {
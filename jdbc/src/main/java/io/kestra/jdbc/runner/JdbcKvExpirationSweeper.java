@@ -0,0 +1,136 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.TenantAndNamespace;
+import io.kestra.core.models.kv.PersistedKvMetadata;
+import io.kestra.core.models.tasks.retrys.Exponential;
+import io.kestra.core.repositories.KvMetadataRepositoryInterface;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.kv.InternalKVStore;
+import io.kestra.core.utils.RetryUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically purges the KV entries whose TTL expired, with their values in the storage.
+ * <p>
+ * Expired entries are otherwise only deleted when they are read. Each batch claims its keys with row locks,
+ * so the sweeper can run on every instance at the same time. The values are deleted from the storage once the
+ * batch is committed, so a slow storage never holds the locks; a value that can't be deleted is left in the storage.
+ * The last version of a purged key is kept as deleted, so a key set again meanwhile gets a new version and a new storage location.
+ */
+@Singleton
+@JdbcRunnerEnabled
+@Slf4j
+@Requires(property = "kestra.jdbc.kv-sweeper.enabled", value = "true", defaultValue = "true")
+public class JdbcKvExpirationSweeper {
+    private final KvMetadataRepositoryInterface kvMetadataRepository;
+    private final StorageInterface storageInterface;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final RetryUtils.Instance<Long, IOException> retry = RetryUtils.of(
+        Exponential.builder()
+            .delayFactor(2.0)
+            .interval(Duration.ofMillis(100))
+            .maxInterval(Duration.ofSeconds(1))
+            .maxAttempts(3)
+            .build(),
+        retryFailed -> new IOException("Unable to delete the values after " + retryFailed.getAttemptCount() + " attempts", retryFailed)
+    );
+
+    private final Counter sweptCounter;
+    private final Counter storageErrorCounter;
+    private final Timer sweepTimer;
+    private final AtomicLong lag;
+
+    @Inject
+    public JdbcKvExpirationSweeper(
+        KvMetadataRepositoryInterface kvMetadataRepository,
+        StorageInterface storageInterface,
+        MetricRegistry metricRegistry,
+        @Value("${kestra.jdbc.kv-sweeper.batch-size:500}") int batchSize,
+        @Value("${kestra.jdbc.kv-sweeper.max-batches:100}") int maxBatches
+    ) {
+        this.kvMetadataRepository = kvMetadataRepository;
+        this.storageInterface = storageInterface;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+
+        this.sweptCounter = metricRegistry.counter(MetricRegistry.METRIC_KV_SWEEPER_SWEPT_COUNT, MetricRegistry.METRIC_KV_SWEEPER_SWEPT_COUNT_DESCRIPTION);
+        this.storageErrorCounter = metricRegistry.counter(MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT, MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT_DESCRIPTION);
+        this.sweepTimer = metricRegistry.timer(MetricRegistry.METRIC_KV_SWEEPER_DURATION, MetricRegistry.METRIC_KV_SWEEPER_DURATION_DESCRIPTION);
+        this.lag = metricRegistry.gauge(MetricRegistry.METRIC_KV_SWEEPER_LAG, MetricRegistry.METRIC_KV_SWEEPER_LAG_DESCRIPTION, new AtomicLong());
+    }
+
+    @Scheduled(initialDelay = "${kestra.jdbc.kv-sweeper.initial-delay:5m}", fixedDelay = "${kestra.jdbc.kv-sweeper.fixed-delay:5m}")
+    public void run() {
+        sweepTimer.record(() -> this.sweep(Instant.now()));
+    }
+
+    /**
+     * Purges the entries expired before the given date, by batches, and returns the number of purged entries.
+     * It stops after the configured number of batches, the remaining entries are purged by the next runs.
+     */
+    public int sweep(Instant now) {
+        int total = 0;
+        int batches = 0;
+        int swept;
+        do {
+            List<PersistedKvMetadata> versions = kvMetadataRepository.purgeExpired(now, batchSize);
+            this.deleteValues(versions);
+
+            swept = (int) versions.stream().filter(PersistedKvMetadata::isLast).count();
+            sweptCounter.increment(swept);
+            total += swept;
+            batches++;
+        } while (swept == batchSize && batches < maxBatches);
+
+        lag.set(kvMetadataRepository.findOldestExpirationDate(now)
+            .map(oldest -> Duration.between(oldest, now).toSeconds())
+            .orElse(0L)
+        );
+
+        if (total > 0) {
+            log.info("Swept {} expired KV entries", total);
+        }
+
+        return total;
+    }
+
+    private void deleteValues(List<PersistedKvMetadata> versions) {
+        Map<TenantAndNamespace, List<PersistedKvMetadata>> byTenantNamespace = versions.stream().collect(Collectors.groupingBy(
+            kvMetadata -> new TenantAndNamespace(kvMetadata.getTenantId(), kvMetadata.getNamespace())
+        ));
+
+        byTenantNamespace.forEach((tenantAndNamespace, kvMetadata) -> {
+            InternalKVStore kvStore = new InternalKVStore(tenantAndNamespace.tenantId(), tenantAndNamespace.namespace(), storageInterface, kvMetadataRepository);
+            try {
+                // the values already deleted by a previous attempt are missing and ignored
+                retry.run(IOException.class, () -> kvStore.deleteValues(kvMetadata));
+            } catch (IOException e) {
+                storageErrorCounter.increment(kvMetadata.size());
+                log.warn(
+                    "Unable to delete the values of {} purged KV entries of namespace '{}' from the storage",
+                    kvMetadata.size(),
+                    tenantAndNamespace.namespace(),
+                    e
+                );
+            }
+        });
+    }
+}
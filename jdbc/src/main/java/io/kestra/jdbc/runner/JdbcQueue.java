@@ -34,18 +34,20 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static io.kestra.core.utils.Rethrow.throwConsumer;
-import static io.kestra.core.utils.Rethrow.throwRunnable;
-
 @Slf4j
 public abstract class JdbcQueue<T> implements QueueInterface<T> {
     private static final int MAX_ASYNC_THREADS = Runtime.getRuntime().availableProcessors();
+    // async emits waiting for a thread, the ones submitted when it's full are dropped so they can't exhaust the memory
+    private static final int MAX_ASYNC_QUEUED = 1000;
+    // rows of a multi-rows insert, each row has up to 4 bind values so it stays far below the 65535 bind values of Postgres
+    private static final int MAX_BATCH_ROWS = 1000;
     protected static final ObjectMapper MAPPER = JdbcMapper.of();
 
     private final ExecutorService poolExecutor;
@@ -73,11 +75,12 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
     private final AtomicBoolean isPaused = new AtomicBoolean(false);
 
     private final Counter bigMessageCounter;
+    private final Counter asyncDroppedCounter;
 
     public JdbcQueue(Class<T> cls, ApplicationContext applicationContext) {
         ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
         this.poolExecutor = executorsUtils.cachedThreadPool("jdbc-queue-" + cls.getSimpleName());
-        this.asyncPoolExecutor = executorsUtils.maxCachedThreadPool(MAX_ASYNC_THREADS, "jdbc-queue-async-" + cls.getSimpleName());
+        this.asyncPoolExecutor = executorsUtils.maxCachedThreadPool(MAX_ASYNC_THREADS, MAX_ASYNC_QUEUED, "jdbc-queue-async-" + cls.getSimpleName());
 
         this.queueService = applicationContext.getBean(QueueService.class);
         this.cls = cls;
@@ -97,6 +100,8 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         // init metrics we can at post construct to avoid costly Metric.Id computation
         this.bigMessageCounter = metricRegistry
             .counter(MetricRegistry.METRIC_QUEUE_BIG_MESSAGE_COUNT, MetricRegistry.METRIC_QUEUE_BIG_MESSAGE_COUNT_DESCRIPTION, MetricRegistry.TAG_CLASS_NAME, queueType());
+        this.asyncDroppedCounter = metricRegistry
+            .counter(MetricRegistry.METRIC_QUEUE_ASYNC_DROPPED_COUNT, MetricRegistry.METRIC_QUEUE_ASYNC_DROPPED_COUNT_DESCRIPTION, MetricRegistry.TAG_CLASS_NAME, queueType());
     }
 
     protected Map<Field<Object>, Object> produceFields(String consumerGroup, String key, T message) throws QueueException {
@@ -149,20 +154,60 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                     .set(fields)
                     .execute();
             });
-        } catch (DataException e) { // The exception is from the data itself, not the database/network/driver so instead of fail fast, we throw a recoverable QueueException
-            // Postgres refuses to store JSONB with the '\0000' codepoint as it has no textual representation.
-            // We try to detect that and fail with a specific exception so the Worker can recover from it.
-            if (e.getMessage() != null && e.getMessage().contains("ERROR: unsupported Unicode escape sequence")) {
-                throw new UnsupportedMessageException(e.getMessage(), e);
-            }
-            throw new QueueException("Unable to emit a message to the queue", e);
+        } catch (DataException e) {
+            throw this.produceException(e);
+        }
+
+        this.produceCounter(consumerGroup).increment();
+    }
+
+    private void produceBatch(String consumerGroup, List<T> messages) throws QueueException {
+        if (log.isTraceEnabled()) {
+            log.trace("New messages: topic '{}', count {}", queueType(), messages.size());
+        }
+
+        List<Map<Field<Object>, Object>> rows = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            rows.add(this.produceFields(consumerGroup, queueService.key(message), message));
+        }
+
+        try {
+            dslContextWrapper.transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                messages.forEach(message -> jdbcQueueIndexer.accept(context, message));
+
+                // multi-rows inserts, chunked to stay under the bind values limit of the database
+                for (List<Map<Field<Object>, Object>> chunk : Iterables.partition(rows, MAX_BATCH_ROWS)) {
+                    InsertSetMoreStep<Record> insert = null;
+                    for (Map<Field<Object>, Object> fields : chunk) {
+                        insert = insert == null ? context.insertInto(table).set(fields) : insert.newRecord().set(fields);
+                    }
+                    insert.execute();
+                }
+            });
+        } catch (DataException e) {
+            throw this.produceException(e);
         }
 
+        this.produceCounter(consumerGroup).increment(messages.size());
+    }
+
+    // The exception is from the data itself, not the database/network/driver so instead of fail fast, we throw a recoverable QueueException
+    private QueueException produceException(DataException e) {
+        // Postgres refuses to store JSONB with the '\0000' codepoint as it has no textual representation.
+        // We try to detect that and fail with a specific exception so the Worker can recover from it.
+        if (e.getMessage() != null && e.getMessage().contains("ERROR: unsupported Unicode escape sequence")) {
+            return new UnsupportedMessageException(e.getMessage(), e);
+        }
+        return new QueueException("Unable to emit a message to the queue", e);
+    }
+
+    private Counter produceCounter(String consumerGroup) {
         String[] tags = consumerGroup == null ? new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType() } :
             new String [] { MetricRegistry.TAG_QUEUE_TYPE, queueType(), MetricRegistry.TAG_QUEUE_CONSUMER_GROUP, consumerGroup };
-        metricRegistry
-            .counter(MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT, MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT_DESCRIPTION, tags)
-            .increment();
+        return metricRegistry
+            .counter(MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT, MetricRegistry.METRIC_QUEUE_PRODUCE_COUNT_DESCRIPTION, tags);
     }
 
     public void emitOnly(String consumerGroup, T message) throws QueueException{
@@ -174,9 +219,53 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.produce(consumerGroup, queueService.key(message), message, false);
     }
 
+    @Override
+    public void emit(String consumerGroup, List<T> messages) throws QueueException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        this.produceBatch(consumerGroup, messages);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The messages are sent in a single batch, if the batch fails they are sent one by one so a single invalid message
+     * doesn't prevent the others to be emitted. Messages that still fail, or that are emitted while too many messages
+     * are waiting to be sent, are dropped and counted.
+     */
     @Override
     public void emitAsync(String consumerGroup, List<T> messages) throws QueueException {
-        this.asyncPoolExecutor.submit(throwRunnable(() -> messages.forEach(throwConsumer(message -> this.emit(consumerGroup, message)))));
+        try {
+            this.asyncPoolExecutor.submit(() -> {
+                try {
+                    this.emit(consumerGroup, messages);
+                } catch (Exception e) {
+                    if (messages.size() == 1) {
+                        this.asyncDropped(1, e);
+                        return;
+                    }
+
+                    log.debug("Unable to emit {} message(s) in batch to the queue '{}', sending them one by one", messages.size(), queueType(), e);
+                    for (T message : messages) {
+                        try {
+                            this.emit(consumerGroup, message);
+                        } catch (Exception ex) {
+                            this.asyncDropped(1, ex);
+                        }
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.asyncDropped(messages.size(), e);
+        }
+    }
+
+    private void asyncDropped(int count, Exception e) {
+        // nobody waits for async messages, so we count them instead of failing
+        this.asyncDroppedCounter.increment(count);
+        log.warn("Unable to emit {} message(s) asynchronously to the queue '{}'", count, queueType(), e);
     }
 
     @Override
@@ -487,7 +576,8 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         return fetch
             .map(record -> {
                 try {
-                    return Either.left(MAPPER.readValue(record.get("value", String.class), cls));
+                    T message = MAPPER.readValue(record.get("value", String.class), cls);
+                    return Either.left(queueService.withOffset(message, record.get("offset", Long.class)));
                 } catch (JsonProcessingException e) {
                     return Either.right(new DeserializationException(e, record.get("value", String.class)));
                 }
@@ -17,7 +17,7 @@ import static io.kestra.jdbc.repository.AbstractJdbcRepository.field;
 @Singleton
 @Requires(bean = AbstractJdbcDashboardRepository.class)
 public class JdbcFilterService extends AbstractFilterService<SelectConditionStep<Record>> {
-    public AggregateFunction<?> buildAggregation(Field<?> field, AggregationType agg) {
+    public Field<?> buildAggregation(Field<?> field, AggregationType agg) {
 
         return switch (agg) {
             case AVG -> avg(field.cast(Double.class));
@@ -25,6 +25,9 @@ public class JdbcFilterService extends AbstractFilterService<SelectConditionStep
             case MIN -> min(field.cast(Double.class));
             case SUM -> sum(field.cast(Double.class));
             case COUNT -> field != null ? count(field) : count();
+            // computed by the database, only available on the ones supporting ordered-set aggregates like PostgreSQL and H2,
+            // the dashboard repositories of the other databases reject them
+            case P50, P90, P95, P99 -> percentileCont(agg.getPercentile()).withinGroupOrderBy(field.cast(Double.class));
         };
     }
 
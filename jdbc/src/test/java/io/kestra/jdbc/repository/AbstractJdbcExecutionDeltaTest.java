@@ -0,0 +1,197 @@
+package io.kestra.jdbc.repository;
+
+import com.devskiller.friendly_id.FriendlyId;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.ExecutionKind;
+import io.kestra.core.models.executions.ExecutionTrigger;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.Executor;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.jdbc.runner.JdbcExecutionDeltaStorage;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.data.model.Pageable;
+import jakarta.inject.Inject;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static io.kestra.jdbc.repository.AbstractJdbcRepository.field;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+@Property(name = "kestra.jdbc.executor.delta-persistence.enabled", value = "true")
+@Property(name = "kestra.jdbc.executor.delta-persistence.compaction-threshold", value = "3")
+public abstract class AbstractJdbcExecutionDeltaTest {
+    private static final String NAMESPACE = "io.kestra.unittest.deltas";
+    private static final String FLOW = "deltas";
+
+    @Inject
+    protected AbstractJdbcExecutionRepository executionRepository;
+
+    @Inject
+    protected JdbcExecutionDeltaStorage executionDeltaStorage;
+
+    @Test
+    void lockAppendsTaskRunChangesAsDeltas() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        String triggerExecutionId = FriendlyId.createFriendlyId();
+        Execution execution = executionRepository.save(execution(tenant, triggerExecutionId));
+
+        transition(execution.getId(), current -> current.withTaskRunList(List.of(
+            taskRun(current, "first", State.Type.SUCCESS),
+            taskRun(current, "second", State.Type.RUNNING)
+        )));
+
+        // only the task runs are appended, the execution document is left untouched
+        assertThat(pendingDeltas(execution.getId())).extracting(TaskRun::getTaskId).containsExactly("first", "second");
+        assertThat(stored(execution.getId()).getTaskRunList()).extracting(taskRun -> taskRun.getState().getCurrent()).containsExactly(State.Type.RUNNING);
+
+        // all the read paths merge the pending deltas
+        Pageable pageable = Pageable.from(1, 10);
+        assertComplete(executionRepository.findById(tenant, execution.getId()).orElseThrow());
+        assertComplete(executionRepository.findByIdWithoutAcl(tenant, execution.getId()).orElseThrow());
+        assertComplete(executionRepository.find(pageable, tenant, null).getFirst());
+        assertComplete(executionRepository.find(pageable, null, false, tenant, null).getFirst());
+        assertComplete(executionRepository.findByFlowId(tenant, NAMESPACE, FLOW, pageable).getFirst());
+        assertComplete(executionRepository.findAsync(tenant, null).blockFirst());
+        assertComplete(executionRepository.find(null, tenant, null, NAMESPACE, FLOW, null, null, null, null, null, null, false).blockFirst());
+        assertComplete(executionRepository.findAllByTriggerExecutionId(tenant, triggerExecutionId).blockFirst());
+        assertComplete(executionRepository.findLatestForStates(tenant, NAMESPACE, FLOW, List.of(State.Type.RUNNING)).orElseThrow());
+        assertComplete(executionRepository.lastExecutions(tenant, null).getFirst());
+    }
+
+    @Test
+    void executionChangeCompactsDeltas() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Execution execution = executionRepository.save(execution(tenant, null));
+
+        transition(execution.getId(), current -> current.withTaskRunList(List.of(
+            taskRun(current, "first", State.Type.SUCCESS),
+            taskRun(current, "second", State.Type.RUNNING)
+        )));
+        assertThat(pendingDeltas(execution.getId())).hasSize(2);
+
+        transition(execution.getId(), current -> current.withState(State.Type.KILLING));
+
+        assertThat(pendingDeltas(execution.getId())).isEmpty();
+        Execution stored = stored(execution.getId());
+        assertThat(stored.getState().getCurrent()).isEqualTo(State.Type.KILLING);
+        assertComplete(stored);
+    }
+
+    @Test
+    void thresholdCompactsDeltas() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Execution execution = executionRepository.save(execution(tenant, null));
+
+        List<String> taskIds = new ArrayList<>(List.of("first"));
+        for (String taskId : List.of("second", "third", "fourth")) {
+            taskIds.add(taskId);
+            transition(execution.getId(), current -> current.withTaskRunList(
+                taskIds.stream().map(id -> taskRun(current, id, State.Type.RUNNING)).toList()
+            ));
+        }
+
+        // the compaction threshold is 3: the first transition appended 2 deltas, the next ones changed too many task runs and compacted them
+        assertThat(pendingDeltas(execution.getId())).isEmpty();
+        assertThat(stored(execution.getId()).getTaskRunList()).extracting(TaskRun::getTaskId).containsExactly("first", "second", "third", "fourth");
+
+        transition(execution.getId(), current -> current.withTaskRunList(
+            taskIds.stream().map(id -> taskRun(current, id, State.Type.SUCCESS)).toList()
+        ));
+        assertThat(pendingDeltas(execution.getId())).isEmpty();
+        assertThat(stored(execution.getId()).getTaskRunList()).extracting(taskRun -> taskRun.getState().getCurrent()).containsOnly(State.Type.SUCCESS);
+    }
+
+    @Test
+    void deleteCompactsDeltas() {
+        String tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Execution execution = executionRepository.save(execution(tenant, null));
+
+        transition(execution.getId(), current -> current.withTaskRunList(List.of(
+            taskRun(current, "first", State.Type.SUCCESS),
+            taskRun(current, "second", State.Type.RUNNING)
+        )));
+        assertThat(pendingDeltas(execution.getId())).hasSize(2);
+
+        executionRepository.delete(executionRepository.findById(tenant, execution.getId()).orElseThrow());
+
+        assertThat(pendingDeltas(execution.getId())).isEmpty();
+        Execution stored = stored(execution.getId());
+        assertThat(stored.isDeleted()).isTrue();
+        assertComplete(stored);
+        assertComplete(executionRepository.findById(tenant, execution.getId(), true).orElseThrow());
+
+        executionRepository.purge(stored);
+        assertThat(executionRepository.findById(tenant, execution.getId(), true)).isEmpty();
+    }
+
+    private void transition(String executionId, UnaryOperator<Execution> transition) {
+        executionRepository.lock(executionId, pair -> Pair.of(new Executor(transition.apply(pair.getLeft()), null), pair.getRight()));
+    }
+
+    private List<TaskRun> pendingDeltas(String executionId) {
+        return executionRepository.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> executionDeltaStorage.find(DSL.using(configuration), executionId));
+    }
+
+    /**
+     * The execution document as stored, without its pending deltas.
+     */
+    private Execution stored(String executionId) {
+        return executionRepository.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> executionRepository.jdbcRepository.fetchOne(
+                DSL.using(configuration)
+                    .select(field("value"))
+                    .from(executionRepository.jdbcRepository.getTable())
+                    .where(field("key").eq(executionId))
+            ))
+            .orElseThrow();
+    }
+
+    private static void assertComplete(Execution execution) {
+        assertThat(execution.getTaskRunList()).extracting(TaskRun::getTaskId).containsExactly("first", "second");
+        assertThat(execution.getTaskRunList()).extracting(taskRun -> taskRun.getState().getCurrent())
+            .containsExactly(State.Type.SUCCESS, State.Type.RUNNING);
+    }
+
+    private static Execution execution(String tenant, String triggerExecutionId) {
+        Execution execution = Execution.builder()
+            .id(FriendlyId.createFriendlyId())
+            .namespace(NAMESPACE)
+            .tenantId(tenant)
+            .flowId(FLOW)
+            .flowRevision(1)
+            .kind(ExecutionKind.NORMAL)
+            .state(new State(State.Type.RUNNING))
+            .trigger(triggerExecutionId == null ? null : ExecutionTrigger.builder()
+                .variables(Map.of("executionId", triggerExecutionId))
+                .build()
+            )
+            .build();
+
+        return execution.withTaskRunList(List.of(taskRun(execution, "first", State.Type.RUNNING)));
+    }
+
+    private static TaskRun taskRun(Execution execution, String taskId, State.Type state) {
+        // the task run id is derived from the task id, so a task run keeps its id across the transitions
+        return TaskRun.builder()
+            .id(execution.getId() + "-" + taskId)
+            .tenantId(execution.getTenantId())
+            .executionId(execution.getId())
+            .namespace(execution.getNamespace())
+            .flowId(execution.getFlowId())
+            .taskId(taskId)
+            .state(new State(state))
+            .build();
+    }
+}
@@ -0,0 +1,181 @@
+package io.kestra.jdbc.repository;
+
+import com.devskiller.friendly_id.FriendlyId;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.ExecutionKind;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.Executor;
+import io.kestra.core.utils.DateUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.jdbc.AbstractJdbcRepository;
+import io.kestra.jdbc.runner.JdbcExecutionRollupStorage;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@KestraTest
+@Property(name = "kestra.jdbc.rollups.enabled", value = "true")
+public abstract class AbstractJdbcExecutionRollupTest {
+    private static final String NAMESPACE = "io.kestra.unittest.rollups";
+    private static final String FLOW = "rollups";
+
+    @Inject
+    protected AbstractJdbcExecutionRepository executionRepository;
+
+    @Inject
+    protected JdbcExecutionRollupStorage executionRollupStorage;
+
+    @Test
+    void dailyStatisticsWithRollups() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Instant base = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(2, ChronoUnit.DAYS);
+        for (int i = 0; i < 30; i++) {
+            executionRepository.save(execution(
+                tenant,
+                i % 3 == 0 ? State.Type.FAILED : State.Type.SUCCESS,
+                base.plus(i * 7L, ChronoUnit.MINUTES),
+                Duration.ofSeconds(i + 1)
+            ));
+        }
+
+        // before any refresh, every hour is dirty so everything is read from the executions table
+        List<DailyExecutionStatistics> raw = dailyStatistics(tenant, base);
+
+        refresh();
+
+        // after the refresh, the complete hours are read from the rollups and the edges from the executions table
+        List<DailyExecutionStatistics> rolledUp = dailyStatistics(tenant, base);
+        assertThat(rolledUp).isEqualTo(raw);
+
+        // a new execution in a rolled up hour makes it dirty, so it's immediately visible
+        executionRepository.save(execution(tenant, State.Type.WARNING, base.plus(10, ChronoUnit.MINUTES), Duration.ofSeconds(1)));
+        List<DailyExecutionStatistics> dirty = dailyStatistics(tenant, base);
+        assertThat(dirty.stream().mapToLong(daily -> daily.getDuration().getCount()).sum())
+            .isEqualTo(raw.stream().mapToLong(daily -> daily.getDuration().getCount()).sum() + 1);
+
+        refresh();
+        assertThat(dailyStatistics(tenant, base)).isEqualTo(dirty);
+    }
+
+    @Test
+    void onlyRollupChangesMarkTheBucketDirty() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Instant startDate = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(10, ChronoUnit.DAYS).plus(10, ChronoUnit.MINUTES);
+        long bucket = JdbcExecutionRollupStorage.bucket(startDate);
+        Execution execution = executionRepository.save(execution(tenant, State.Type.RUNNING, startDate, Duration.ofSeconds(1)));
+        assertThat(dirtyBuckets(startDate)).containsExactly(bucket);
+        refresh();
+
+        // a task run change doesn't alter the rollups, neither when saved nor when persisted under the execution lock
+        execution = executionRepository.save(execution.withTaskRunList(List.of(taskRun(execution, "first"))));
+        assertThat(dirtyBuckets(startDate)).isEmpty();
+
+        Execution current = execution;
+        executionRepository.lock(execution.getId(), pair -> Pair.of(new Executor(current.withTaskRunList(List.of(taskRun(current, "first"), taskRun(current, "second"))), null), pair.getRight()));
+        assertThat(dirtyBuckets(startDate)).isEmpty();
+
+        // a state change does
+        executionRepository.lock(execution.getId(), pair -> Pair.of(new Executor(pair.getLeft().withState(State.Type.SUCCESS), null), pair.getRight()));
+        assertThat(dirtyBuckets(startDate)).containsExactly(bucket);
+        refresh();
+
+        // a move to another hour marks both hours
+        Instant movedStartDate = startDate.plus(1, ChronoUnit.HOURS);
+        executionRepository.save(execution(tenant, State.Type.SUCCESS, movedStartDate, Duration.ofSeconds(1)).toBuilder().id(execution.getId()).build());
+        assertThat(dirtyBuckets(startDate)).containsExactlyInAnyOrder(bucket, bucket + 1);
+        refresh();
+    }
+
+    @Test
+    void hoursNotYetBackfilledAreReadFromTheExecutions() {
+        var tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        Instant base = Instant.now().truncatedTo(ChronoUnit.HOURS).minus(20, ChronoUnit.DAYS);
+        for (int i = 0; i < 6; i++) {
+            executionRepository.save(execution(tenant, State.Type.SUCCESS, base.plus(i * 20L, ChronoUnit.MINUTES), Duration.ofSeconds(i + 1)));
+        }
+        List<DailyExecutionStatistics> raw = dailyStatistics(tenant, base);
+
+        // executions persisted before the rollups were enabled left no dirty mark
+        executionRepository.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> DSL.using(configuration)
+                .deleteFrom(DSL.table("execution_rollups_dirty"))
+                .where(AbstractJdbcRepository.field("bucket", Long.class).in(JdbcExecutionRollupStorage.bucket(base), JdbcExecutionRollupStorage.bucket(base) + 1))
+                .execute()
+            );
+
+        assertThat(dailyStatistics(tenant, base)).isEqualTo(raw);
+    }
+
+    private void refresh() {
+        while (executionRollupStorage.refresh() > 0) {
+            // drain all dirty buckets
+        }
+    }
+
+    private Set<Long> dirtyBuckets(Instant startDate) {
+        return executionRepository.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> executionRollupStorage.dirtyBuckets(
+                DSL.using(configuration),
+                startDate.minus(1, ChronoUnit.HOURS),
+                startDate.plus(2, ChronoUnit.HOURS)
+            ));
+    }
+
+    private List<DailyExecutionStatistics> dailyStatistics(String tenant, Instant base) {
+        return executionRepository.dailyStatistics(
+            null,
+            tenant,
+            null,
+            null,
+            null,
+            ZonedDateTime.ofInstant(base.minus(30, ChronoUnit.MINUTES), ZoneId.systemDefault()),
+            ZonedDateTime.ofInstant(base.plus(4, ChronoUnit.HOURS).plus(15, ChronoUnit.MINUTES), ZoneId.systemDefault()),
+            DateUtils.GroupType.HOUR,
+            null
+        );
+    }
+
+    private static Execution execution(String tenant, State.Type type, Instant startDate, Duration duration) {
+        return Execution.builder()
+            .id(FriendlyId.createFriendlyId())
+            .namespace(NAMESPACE)
+            .tenantId(tenant)
+            .flowId(FLOW)
+            .flowRevision(1)
+            .kind(ExecutionKind.NORMAL)
+            .state(new State(type, List.of(
+                new State.History(State.Type.CREATED, startDate),
+                new State.History(type, startDate.plus(duration))
+            )))
+            .build();
+    }
+
+    private static TaskRun taskRun(Execution execution, String taskId) {
+        return TaskRun.builder()
+            .id(execution.getId() + "-" + taskId)
+            .tenantId(execution.getTenantId())
+            .executionId(execution.getId())
+            .namespace(execution.getNamespace())
+            .flowId(execution.getFlowId())
+            .taskId(taskId)
+            .state(new State(State.Type.RUNNING))
+            .build();
+    }
+}
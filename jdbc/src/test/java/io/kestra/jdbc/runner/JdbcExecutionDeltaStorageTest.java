@@ -0,0 +1,60 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcExecutionDeltaStorageTest {
+    @Test
+    void shouldApplyDeltasInOrder() {
+        TaskRun first = taskRun("first", State.Type.RUNNING);
+        TaskRun second = taskRun("second", State.Type.CREATED);
+        Execution base = Execution.builder()
+            .id("execution")
+            .namespace("io.kestra.tests")
+            .flowId("flow")
+            .state(new State())
+            .taskRunList(List.of(first, second))
+            .build();
+
+        Execution merged = JdbcExecutionDeltaStorage.apply(base, List.of(
+            taskRun("first", State.Type.SUCCESS),
+            taskRun("third", State.Type.CREATED),
+            taskRun("third", State.Type.RUNNING)
+        ));
+
+        assertThat(merged.getTaskRunList()).extracting(TaskRun::getId).containsExactly("first", "second", "third");
+        assertThat(merged.getTaskRunList()).extracting(taskRun -> taskRun.getState().getCurrent())
+            .containsExactly(State.Type.SUCCESS, State.Type.CREATED, State.Type.RUNNING);
+        assertThat(merged.withTaskRunList(null)).isEqualTo(base.withTaskRunList(null));
+    }
+
+    @Test
+    void shouldReturnBaseWithoutDeltas() {
+        Execution base = Execution.builder()
+            .id("execution")
+            .namespace("io.kestra.tests")
+            .flowId("flow")
+            .state(new State())
+            .build();
+
+        assertThat(JdbcExecutionDeltaStorage.apply(base, List.of())).isSameAs(base);
+        assertThat(JdbcExecutionDeltaStorage.apply(base, null)).isSameAs(base);
+    }
+
+    private static TaskRun taskRun(String id, State.Type state) {
+        return TaskRun.builder()
+            .id(id)
+            .executionId("execution")
+            .namespace("io.kestra.tests")
+            .flowId("flow")
+            .taskId(id)
+            .state(new State(state))
+            .build();
+    }
+}
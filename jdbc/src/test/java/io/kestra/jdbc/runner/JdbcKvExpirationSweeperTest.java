@@ -0,0 +1,163 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.repositories.KvMetadataRepositoryInterface;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.kv.InternalKVStore;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+import io.kestra.core.utils.TestsUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+@KestraTest
+public abstract class JdbcKvExpirationSweeperTest {
+    // far in the past so only the entries of these tests are swept
+    private static final Instant NOW = Instant.parse("2000-01-01T00:00:00Z");
+
+    @Inject
+    private KvMetadataRepositoryInterface kvMetadataRepository;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    private String tenant;
+    private String namespace;
+    private InternalKVStore kvStore;
+
+    @BeforeEach
+    void setUp() {
+        tenant = TestsUtils.randomTenant(this.getClass().getSimpleName());
+        namespace = TestsUtils.randomNamespace();
+        kvStore = new InternalKVStore(tenant, namespace, storageInterface, kvMetadataRepository);
+    }
+
+    @Test
+    void shouldDeleteExpiredEntriesWithTheirValues() throws IOException {
+        put("expired", NOW.minus(1, ChronoUnit.HOURS));
+        put("expired", NOW.minus(1, ChronoUnit.HOURS));
+        put("missing", NOW.minus(1, ChronoUnit.HOURS));
+        // an already deleted value is ignored
+        storageInterface.delete(tenant, namespace, kvStore.storageUri("missing", 1));
+        JdbcKvExpirationSweeper sweeper = sweeper(storageInterface, 500, 100);
+        double swept = counter(MetricRegistry.METRIC_KV_SWEEPER_SWEPT_COUNT);
+        double errors = counter(MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT);
+
+        int total = sweeper.sweep(NOW);
+
+        assertThat(total).isEqualTo(2);
+        assertThat(counter(MetricRegistry.METRIC_KV_SWEEPER_SWEPT_COUNT)).isEqualTo(swept + 2);
+        assertThat(counter(MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT)).isEqualTo(errors);
+        assertThat(kvStore.get("expired")).isEmpty();
+        assertThat(kvStore.get("missing")).isEmpty();
+        assertThat(exists(kvStore.storageUri("expired", 1))).isFalse();
+        assertThat(exists(kvStore.storageUri("expired", 2))).isFalse();
+    }
+
+    @Test
+    void shouldNotDeleteTheValueOfAKeySetAgain() throws IOException {
+        put("expired", NOW.minus(1, ChronoUnit.HOURS));
+        // the key is set again while its expired value is being deleted
+        StorageInterface slowStorage = Mockito.mock(StorageInterface.class, AdditionalAnswers.delegatesTo(storageInterface));
+        AtomicBoolean setAgain = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            if (!setAgain.getAndSet(true)) {
+                put("expired", null);
+            }
+            return storageInterface.delete(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+        }).when(slowStorage).delete(any(), any(), any());
+        JdbcKvExpirationSweeper sweeper = sweeper(slowStorage, 500, 100);
+
+        assertThat(sweeper.sweep(NOW)).isEqualTo(1);
+
+        assertThat(kvStore.get("expired")).hasValueSatisfying(entry -> assertThat(entry.version()).isEqualTo(2));
+        assertThat(kvStore.getValue("expired")).isPresent();
+        assertThat(exists(kvStore.storageUri("expired", 1))).isFalse();
+    }
+
+    @Test
+    void shouldKeepTheValuesTheStorageFailedToDelete() throws IOException {
+        put("expired", NOW.minus(1, ChronoUnit.HOURS));
+        StorageInterface failingStorage = Mockito.mock(StorageInterface.class, AdditionalAnswers.delegatesTo(storageInterface));
+        Mockito.doThrow(new IOException("Storage unavailable")).when(failingStorage).delete(any(), any(), any());
+        JdbcKvExpirationSweeper sweeper = sweeper(failingStorage, 500, 100);
+        double errors = counter(MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT);
+
+        int total = sweeper.sweep(NOW);
+
+        // the entry is purged anyway, the deletion was retried then the value was left in the storage
+        assertThat(total).isEqualTo(1);
+        assertThat(kvStore.get("expired")).isEmpty();
+        assertThat(exists(kvStore.storageUri("expired", 1))).isTrue();
+        assertThat(counter(MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT)).isEqualTo(errors + 1);
+        Mockito.verify(failingStorage, Mockito.times(3)).delete(any(), any(), any());
+    }
+
+    @Test
+    void shouldRetryTheStorageDeletion() throws IOException {
+        put("expired", NOW.minus(1, ChronoUnit.HOURS));
+        StorageInterface failingStorage = Mockito.mock(StorageInterface.class, AdditionalAnswers.delegatesTo(storageInterface));
+        Mockito.doThrow(new IOException("Storage unavailable"))
+            .doAnswer(AdditionalAnswers.delegatesTo(storageInterface))
+            .when(failingStorage).delete(any(), any(), any());
+        JdbcKvExpirationSweeper sweeper = sweeper(failingStorage, 500, 100);
+        double errors = counter(MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT);
+
+        int total = sweeper.sweep(NOW);
+
+        assertThat(total).isEqualTo(1);
+        assertThat(exists(kvStore.storageUri("expired", 1))).isFalse();
+        assertThat(counter(MetricRegistry.METRIC_KV_SWEEPER_STORAGE_ERROR_COUNT)).isEqualTo(errors);
+    }
+
+    @Test
+    void shouldStopAfterTheMaximumNumberOfBatches() throws IOException {
+        put("first", NOW.minus(3, ChronoUnit.HOURS));
+        put("second", NOW.minus(2, ChronoUnit.HOURS));
+        put("third", NOW.minus(1, ChronoUnit.HOURS));
+        JdbcKvExpirationSweeper sweeper = sweeper(storageInterface, 2, 1);
+
+        // the oldest entries are swept first, the remaining ones by the next run
+        assertThat(sweeper.sweep(NOW)).isEqualTo(2);
+        assertThat(kvStore.get("first")).isEmpty();
+        assertThat(kvStore.get("second")).isEmpty();
+        assertThat(kvStore.get("third")).isPresent();
+        assertThat(kvMetadataRepository.findOldestExpirationDate(NOW)).contains(NOW.minus(1, ChronoUnit.HOURS));
+
+        assertThat(sweeper.sweep(NOW)).isEqualTo(1);
+        assertThat(kvStore.get("third")).isEmpty();
+        assertThat(kvMetadataRepository.findOldestExpirationDate(NOW)).isEmpty();
+    }
+
+    private JdbcKvExpirationSweeper sweeper(StorageInterface storage, int batchSize, int maxBatches) {
+        return new JdbcKvExpirationSweeper(kvMetadataRepository, storage, metricRegistry, batchSize, maxBatches);
+    }
+
+    private void put(String key, Instant expirationDate) throws IOException {
+        kvStore.put(key, new KVValueAndMetadata(new KVMetadata(null, expirationDate), "value"), true);
+    }
+
+    private boolean exists(URI uri) {
+        return storageInterface.exists(tenant, namespace, uri);
+    }
+
+    private double counter(String name) {
+        return metricRegistry.findCounter(name).count();
+    }
+}
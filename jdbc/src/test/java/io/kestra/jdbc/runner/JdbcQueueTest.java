@@ -1,6 +1,9 @@
 package io.kestra.jdbc.runner;
 
+import io.kestra.core.context.TestRunContextFactory;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.FlowInterface;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.models.property.Property;
@@ -8,18 +11,32 @@ import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.runners.Indexer;
+import io.kestra.core.runners.WorkerInstance;
+import io.kestra.core.runners.WorkerJob;
+import io.kestra.core.runners.WorkerJobRunning;
+import io.kestra.core.runners.WorkerTask;
 import io.kestra.core.runners.WorkerTaskResult;
+import io.kestra.core.runners.WorkerTaskRunning;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.TestsUtils;
+import io.kestra.jdbc.JdbcWorkerJobQueueService;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcWorkerJobRunningRepository;
 import io.kestra.plugin.core.debug.Return;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +52,22 @@ abstract public class JdbcQueueTest {
     @Named(QueueFactoryInterface.WORKERTASKRESULT_NAMED)
     protected QueueInterface<WorkerTaskResult> workerTaskResultQueue;
 
+    @Inject
+    @Named(QueueFactoryInterface.WORKERJOB_NAMED)
+    protected QueueInterface<WorkerJob> workerJobQueue;
+
+    @Inject
+    private JdbcWorkerJobQueueService jdbcWorkerJobQueueService;
+
+    @Inject
+    private AbstractJdbcWorkerJobRunningRepository workerJobRunningRepository;
+
+    @Inject
+    private JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    private TestRunContextFactory runContextFactory;
+
     @Test
     void noGroup() throws InterruptedException, QueueException {
         CountDownLatch countDownLatch = new CountDownLatch(2);
@@ -77,6 +110,25 @@ abstract public class JdbcQueueTest {
         assertThat(countDownLatch.getCount()).isEqualTo(0L);
     }
 
+    @Test
+    void batchLargerThanAnInsertShouldBeEmitted() throws InterruptedException, QueueException {
+        String namespace = "io.kestra." + IdUtils.create().toLowerCase();
+        int count = 2500;
+        CountDownLatch countDownLatch = new CountDownLatch(count);
+
+        Flux<FlowInterface> receive = TestsUtils.receive(flowQueue, either -> {
+            if (either.isLeft() && either.getLeft().getNamespace().equals(namespace)) {
+                countDownLatch.countDown();
+            }
+        });
+
+        // inserted in several statements to stay under the bind values limit of the database
+        flowQueue.emit(IntStream.range(0, count).<FlowInterface>mapToObj(i -> builder(namespace)).toList());
+
+        assertTrue(countDownLatch.await(30, TimeUnit.SECONDS));
+        receive.blockLast();
+    }
+
     @Test
     void withType() throws InterruptedException, QueueException {
         CountDownLatch countDownLatch = new CountDownLatch(2);
@@ -121,6 +173,111 @@ abstract public class JdbcQueueTest {
         assertThat(countDownLatch.getCount()).isEqualTo(0L);
     }
 
+    @Test
+    void workerJobsShouldBeClaimedInTheQueueOrder() throws InterruptedException, QueueException {
+        String workerGroup = IdUtils.create();
+        String workerId = IdUtils.create();
+        List<WorkerTask> workerTasks = List.of(workerTask(), workerTask(), workerTask());
+        for (WorkerTask workerTask : workerTasks) {
+            workerJobQueue.emit(workerGroup, workerTask);
+        }
+
+        List<WorkerJob> received = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(workerTasks.size());
+        Runnable cancel = jdbcWorkerJobQueueService.subscribe((JdbcQueue<WorkerJob>) workerJobQueue, workerId, workerGroup, either -> {
+            received.add(either.getLeft());
+            countDownLatch.countDown();
+        });
+
+        try {
+            assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        } finally {
+            cancel.run();
+        }
+
+        assertThat(received)
+            .extracting(workerJob -> ((WorkerTask) workerJob).getTaskRun().getId())
+            .containsExactlyElementsOf(workerTasks.stream().map(workerTask -> workerTask.getTaskRun().getId()).toList());
+        workerTasks.forEach(workerTask -> assertThat(workerJobRunningRepository.findByKey(workerTask.getTaskRun().getId()))
+            .get()
+            .extracting(workerJobRunning -> workerJobRunning.getWorkerInstance().uid())
+            .isEqualTo(workerId)
+        );
+    }
+
+    @Test
+    void workerJobsShouldBeRedeliveredWhenTheConsumerFails() throws InterruptedException, QueueException {
+        String workerGroup = IdUtils.create();
+        List<WorkerTask> workerTasks = List.of(workerTask(), workerTask(), workerTask());
+        for (WorkerTask workerTask : workerTasks) {
+            workerJobQueue.emit(workerGroup, workerTask);
+        }
+
+        // the consumer fails on the second job of the poll, after the first one was handed over:
+        // the whole poll is rolled back, including the claim of the first job
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch failed = new CountDownLatch(1);
+        Runnable failingCancel = jdbcWorkerJobQueueService.subscribe((JdbcQueue<WorkerJob>) workerJobQueue, IdUtils.create(), workerGroup, either -> {
+            if (count.incrementAndGet() == 2) {
+                failed.countDown();
+                throw new IllegalStateException("Unable to start the job");
+            }
+        });
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        failingCancel.run();
+
+        String workerId = IdUtils.create();
+        List<WorkerJob> received = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(workerTasks.size());
+        Runnable cancel = jdbcWorkerJobQueueService.subscribe((JdbcQueue<WorkerJob>) workerJobQueue, workerId, workerGroup, either -> {
+            received.add(either.getLeft());
+            countDownLatch.countDown();
+        });
+
+        try {
+            assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+        } finally {
+            cancel.run();
+        }
+
+        assertThat(received)
+            .extracting(workerJob -> ((WorkerTask) workerJob).getTaskRun().getId())
+            .containsExactlyElementsOf(workerTasks.stream().map(workerTask -> workerTask.getTaskRun().getId()).toList());
+        workerTasks.forEach(workerTask -> assertThat(workerJobRunningRepository.findByKey(workerTask.getTaskRun().getId()))
+            .get()
+            .extracting(workerJobRunning -> workerJobRunning.getWorkerInstance().uid())
+            .isEqualTo(workerId)
+        );
+    }
+
+    @Test
+    void workerJobsClaimedTwiceInTheSameBatchShouldKeepTheLastClaim() {
+        WorkerTask workerTask = workerTask();
+        WorkerTaskRunning first = WorkerTaskRunning.of(workerTask, new WorkerInstance(IdUtils.create()), 0);
+        WorkerTaskRunning last = WorkerTaskRunning.of(workerTask, new WorkerInstance(IdUtils.create()), 0);
+
+        dslContextWrapper.transaction(configuration ->
+            workerJobRunningRepository.saveBatch(List.of(first, last), DSL.using(configuration))
+        );
+
+        assertThat(workerJobRunningRepository.findByKey(workerTask.getTaskRun().getId()))
+            .get()
+            .extracting(WorkerJobRunning::getWorkerInstance)
+            .isEqualTo(last.getWorkerInstance());
+    }
+
+    private WorkerTask workerTask() {
+        Flow flow = TestsUtils.mockFlow();
+        Return task = Return.builder().id("test").type(Return.class.getName()).format(Property.ofValue("test")).build();
+        Execution execution = TestsUtils.mockExecution(flow, Map.of());
+
+        return WorkerTask.builder()
+            .runContext(runContextFactory.of(flow, execution))
+            .task(task)
+            .taskRun(TestsUtils.mockTaskRun(execution, task))
+            .build();
+    }
+
     private static FlowWithSource builder(String namespace) {
         return FlowWithSource.builder()
             .id(IdUtils.create())
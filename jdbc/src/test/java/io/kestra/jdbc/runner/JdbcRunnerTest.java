@@ -1,6 +1,7 @@
 package io.kestra.jdbc.runner;
 
 import io.kestra.core.junit.annotations.LoadFlows;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.models.flows.State;
@@ -11,6 +12,7 @@ import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.runners.AbstractRunnerTest;
 import io.kestra.core.runners.InputsTest;
 import io.kestra.core.utils.TestsUtils;
+import io.micrometer.core.instrument.Counter;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,9 @@ public abstract class JdbcRunnerTest extends AbstractRunnerTest {
     @Named(QueueFactoryInterface.EXECUTION_NAMED)
     protected QueueInterface<Execution> executionQueue;
 
+    @Inject
+    private MetricRegistry metricRegistry;
+
     public static final String NAMESPACE = "io.kestra.tests";
 
     @Test
@@ -50,6 +55,28 @@ public abstract class JdbcRunnerTest extends AbstractRunnerTest {
         ).hasSize(2);
     }
 
+    @Test
+    void executionMessagesOfABatchAreCoalesced() throws QueueException, InterruptedException {
+        Counter coalesced = metricRegistry.counter(MetricRegistry.METRIC_EXECUTOR_EXECUTION_COALESCED_COUNT, MetricRegistry.METRIC_EXECUTOR_EXECUTION_COALESCED_COUNT_DESCRIPTION);
+        double before = coalesced.count();
+
+        Flux<Execution> executionFlux = TestsUtils.receive(executionQueue);
+        Execution execution = Execution.newExecution(TestsUtils.mockFlow(), Collections.emptyList());
+        // emitted in a single insert, so they are received in the same batch
+        executionQueue.emit(Collections.nCopies(5, execution));
+
+        // Wait some time to ensure all messages are processed
+        Thread.sleep(500);
+
+        // the 5 messages are processed in a single lock, which fails the execution due to missing flow once
+        List<Execution> messages = Objects.requireNonNull(executionFlux.collectList().block()).stream()
+            .filter(e -> e.getId().equals(execution.getId()))
+            .toList();
+        assertThat(messages).hasSize(6);
+        assertThat(messages).filteredOn(e -> e.getState().isFailed()).hasSize(1);
+        assertThat(coalesced.count() - before).isGreaterThanOrEqualTo(4);
+    }
+
     @Test
     @LoadFlows({"flows/valids/waitfor-child-task-warning.yaml"})
     void waitForChildTaskWarning() throws Exception {
@@ -0,0 +1,75 @@
+package io.kestra.core.encryption;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class EncryptionServiceBenchmark {
+    private static final String KEY = "I6EGNzRESu3X3pKZidrqCGOHQFUFC0yK";
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    @Param({"32", "4096"})
+    private int size;
+
+    private String plainText;
+    private byte[] largePayload;
+    private EncryptionService service;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        plainText = "s".repeat(size);
+        largePayload = new byte[16 * 1024 * 1024];
+        service = EncryptionService.of(KEY);
+    }
+
+    /**
+     * The previous implementation: the key is decoded and a cipher is created on each call.
+     */
+    @Benchmark
+    public String encryptPerCall() throws GeneralSecurityException {
+        byte[] keyBytes = Base64.getDecoder().decode(KEY);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        byte[] iv = new byte[12];
+        SECURE_RANDOM.nextBytes(iv);
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(keyBytes, "AES"), new GCMParameterSpec(128, iv));
+        byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        byte[] output = new byte[iv.length + encrypted.length];
+        System.arraycopy(iv, 0, output, 0, iv.length);
+        System.arraycopy(encrypted, 0, output, iv.length, encrypted.length);
+        return Base64.getEncoder().encodeToString(output);
+    }
+
+    @Benchmark
+    public String encryptInstance() throws GeneralSecurityException {
+        return service.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String encryptStatic() throws GeneralSecurityException {
+        return EncryptionService.encrypt(KEY, plainText);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int encryptLargePayloadStream() throws IOException {
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream(largePayload.length + 64 * 1024);
+        try (OutputStream output = service.encrypt(encrypted)) {
+            output.write(largePayload);
+        }
+        return encrypted.size();
+    }
+}
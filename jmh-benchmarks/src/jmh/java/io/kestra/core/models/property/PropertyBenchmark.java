@@ -0,0 +1,103 @@
+package io.kestra.core.models.property;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.VariableRenderer;
+import io.kestra.core.runners.VariableRendererBenchmark;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Renders properties for the same run context, either many times with the same variables or like a task does inside a
+ * loop, with variables that change on each iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PropertyBenchmark {
+    private static final int ITERATIONS = 100;
+
+    private PropertyContext context;
+
+    private Property<Duration> literal;
+    private Property<String> variable;
+    private Property<String> template;
+    private Property<List<String>> list;
+    private Property<String> item;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new RunVariablesContext(VariableRendererBenchmark.variableRenderer(), Map.of(
+            "inputs", Map.of("timeout", "PT5M", "names", List.of("a", "b", "c")),
+            "outputs", Map.of("task", Map.of("value", "hello"))
+        ));
+
+        literal = Property.ofExpression("PT1M");
+        variable = Property.ofExpression("{{ outputs.task.value }}");
+        template = Property.ofExpression("{{ outputs.task.value | upper }}-{{ inputs.timeout }}");
+        list = Property.ofExpression("{{ inputs.names }}");
+        item = Property.ofExpression("{{ outputs.task.value }}-{{ item.name }}-{{ item.index }}");
+    }
+
+    @Benchmark
+    public Duration literal() throws IllegalVariableEvaluationException {
+        return Property.as(literal, context, Duration.class);
+    }
+
+    @Benchmark
+    public String variable() throws IllegalVariableEvaluationException {
+        return Property.as(variable, context, String.class);
+    }
+
+    @Benchmark
+    public String template() throws IllegalVariableEvaluationException {
+        return Property.as(template, context, String.class);
+    }
+
+    @Benchmark
+    public List<String> list() throws IllegalVariableEvaluationException {
+        return Property.asList(list, context, String.class);
+    }
+
+    /**
+     * Renders the same property with the variables of each item of a loop, so each rendering is a cache miss.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ITERATIONS)
+    public void loop(Blackhole blackhole) throws IllegalVariableEvaluationException {
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole.consume(Property.as(item, context, String.class, Map.of("item", Map.of("name", "item", "index", i))));
+        }
+    }
+
+    /**
+     * Like a run context: the additional variables are merged with the variables of the run.
+     */
+    private record RunVariablesContext(VariableRenderer renderer, Map<String, Object> runVariables) implements PropertyContext {
+        @Override
+        public String render(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
+            return renderer.render(inline, merge(variables));
+        }
+
+        @Override
+        public Map<String, Object> render(Map<String, Object> inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
+            return renderer.render(inline, merge(variables));
+        }
+
+        private Map<String, Object> merge(Map<String, Object> variables) {
+            if (variables.isEmpty()) {
+                return runVariables;
+            }
+
+            Map<String, Object> merged = new HashMap<>(runVariables);
+            merged.putAll(variables);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.pebble.Extension;
+import io.kestra.core.runners.pebble.ExtensionCustomizer;
+import io.kestra.core.runners.pebble.PebbleLruCache;
+import io.pebbletemplates.pebble.PebbleEngine;
+import io.pebbletemplates.pebble.extension.Function;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class VariableRendererBenchmark {
+    private static final Map<String, String> TEMPLATES = Map.of(
+        "plain", "a plain string without any expression",
+        "variable", "{{ outputs.task.value }}",
+        "filterChain", "{{ outputs.task.value | upper | trim | default('none') }}",
+        "rawBlock", "{% raw %}{{ not rendered }}{% endraw %} {{ inputs.foo }}"
+    );
+
+    @Param({"plain", "variable", "filterChain", "rawBlock"})
+    private String template;
+
+    private VariableRenderer variableRenderer;
+    private String inline;
+    private Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        variableRenderer = variableRenderer();
+        inline = TEMPLATES.get(template);
+        variables = Map.of(
+            "inputs", Map.of("foo", "bar"),
+            "outputs", Map.of("task", Map.of("value", "hello", "values", List.of(1, 2, 3)))
+        );
+    }
+
+    @Benchmark
+    public String render() throws IllegalVariableEvaluationException {
+        return variableRenderer.render(inline, variables);
+    }
+
+    @Benchmark
+    public Object renderTyped() throws IllegalVariableEvaluationException {
+        return variableRenderer.renderTyped(inline, variables);
+    }
+
+    /**
+     * Creates a renderer configured like the one of the application, without starting an application context: the
+     * functions that need a storage, a repository or any other bean are left out, the other functions and all the
+     * filters are available.
+     */
+    public static VariableRenderer variableRenderer() {
+        VariableRenderer.VariableConfiguration variableConfiguration = new VariableRenderer.VariableConfiguration();
+        PebbleEngine pebbleEngine = new PebbleEngine.Builder()
+            .registerExtensionCustomizer(ExtensionCustomizer::new)
+            .extension(new StandaloneExtension())
+            .strictVariables(true)
+            .cacheActive(true)
+            .templateCache(new PebbleLruCache(1000))
+            .newLineTrimming(false)
+            .autoEscaping(false)
+            .build();
+
+        return new VariableRenderer(pebbleEngine, variableConfiguration);
+    }
+
+    private static class StandaloneExtension extends Extension {
+        @Override
+        public Map<String, Function> getFunctions() {
+            // the injected functions are null outside an application context
+            Map<String, Function> functions = new HashMap<>(super.getFunctions());
+            functions.values().removeIf(Objects::isNull);
+            return functions;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.kestra.core.serializers;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Writes and reads line-delimited ION files of small records, a few fields, or wide records, a hundred fields,
+ * one value at a time or streamed through a single generator or parser, as text or binary ION.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class FileSerdeBenchmark {
+    private static final int RECORDS = 100_000;
+
+    @Param({"small", "wide"})
+    private String workload;
+
+    private List<Map<String, Object>> records;
+    private Path text;
+    private Path binary;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        int fields = workload.equals("wide") ? 100 : 4;
+        records = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("id", i);
+            for (int j = 1; j < fields; j++) {
+                switch (j % 4) {
+                    case 0 -> record.put("int" + j, i * j);
+                    case 1 -> record.put("string" + j, "value-" + i + "-" + j);
+                    case 2 -> record.put("double" + j, i / (double) j);
+                    default -> record.put("date" + j, Instant.ofEpochSecond(1_700_000_000L + i));
+                }
+            }
+            records.add(record);
+        }
+
+        text = Files.createTempFile("file-serde-benchmark", ".ion");
+        binary = Files.createTempFile("file-serde-benchmark", ".ion");
+        output = Files.createTempFile("file-serde-benchmark", ".ion");
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(new BufferedOutputStream(Files.newOutputStream(text), FileSerde.BUFFER_SIZE), false)) {
+            writer.writeAll(records);
+        }
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(new BufferedOutputStream(Files.newOutputStream(binary), FileSerde.BUFFER_SIZE), true)) {
+            writer.writeAll(records);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(text);
+        Files.delete(binary);
+        Files.delete(output);
+    }
+
+    @Benchmark
+    public void writeByRecord() throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(output), FileSerde.BUFFER_SIZE)) {
+            for (Map<String, Object> record : records) {
+                FileSerde.write(outputStream, record);
+            }
+        }
+    }
+
+    @Benchmark
+    public void writeText() throws IOException {
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(new BufferedOutputStream(Files.newOutputStream(output), FileSerde.BUFFER_SIZE), false)) {
+            writer.writeAll(records);
+        }
+    }
+
+    @Benchmark
+    public void writeBinary() throws IOException {
+        try (SequenceWriter writer = FileSerde.createSequenceWriter(new BufferedOutputStream(Files.newOutputStream(output), FileSerde.BUFFER_SIZE), true)) {
+            writer.writeAll(records);
+        }
+    }
+
+    @Benchmark
+    public void readReader(Blackhole blackhole) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(text)) {
+            FileSerde.reader(reader, blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public Long readAllText() throws IOException {
+        return FileSerde.readAll(Files.newBufferedReader(text)).count().block();
+    }
+
+    @Benchmark
+    public Long readAllPrefetchedText() throws IOException {
+        return FileSerde.readAllPrefetched(new BufferedInputStream(Files.newInputStream(text), FileSerde.BUFFER_SIZE)).count().block();
+    }
+
+    @Benchmark
+    public Long readAllPrefetchedBinary() throws IOException {
+        return FileSerde.readAllPrefetched(new BufferedInputStream(Files.newInputStream(binary), FileSerde.BUFFER_SIZE)).count().block();
+    }
+}
@@ -0,0 +1,101 @@
+package io.kestra.core.services;
+
+import org.apache.commons.io.input.BoundedInputStream;
+
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Splits a large line-delimited file, on a single segment or concurrently on line-aligned segments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ParallelFileSplitterBenchmark {
+    private static final long FILE_SIZE = 256L * 1024 * 1024;
+
+    @Param({"1", "8"})
+    private int parallelism;
+
+    private Path file;
+    private Path outputDirectory;
+    private ParallelFileSplitter splitter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("split-benchmark", ".ion");
+        outputDirectory = Files.createTempDirectory("split-benchmark");
+
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            long written = 0;
+            long id = 0;
+            while (written < FILE_SIZE) {
+                String row = "{id:" + id++ + ",name:\"name-" + random.nextInt(1000) + "\",value:" + random.nextDouble() + ",flag:" + random.nextBoolean() + "}\n";
+                writer.write(row);
+                written += row.length();
+            }
+        }
+
+        long size = Files.size(file);
+        splitter = new ParallelFileSplitter(
+            (offset, length) -> {
+                FileInputStream inputStream = new FileInputStream(file.toFile());
+                inputStream.getChannel().position(offset);
+                return BoundedInputStream.builder().setInputStream(inputStream).setMaxCount(length).get();
+            },
+            size,
+            "\n",
+            () -> Files.createTempFile(outputDirectory, "split", ".ion"),
+            parallelism,
+            size / 32
+        );
+    }
+
+    @TearDown(Level.Invocation)
+    public void cleanOutputs() throws IOException {
+        try (var paths = Files.list(outputDirectory)) {
+            for (Path path : paths.toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(outputDirectory);
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public List<Path> rows() throws IOException {
+        return splitter.splitByRows(100_000);
+    }
+
+    @Benchmark
+    public List<Path> bytes() throws IOException {
+        return splitter.splitByBytes(16L * 1024 * 1024);
+    }
+
+    @Benchmark
+    public List<Path> partitions() throws IOException {
+        return splitter.partition(16);
+    }
+
+    @Benchmark
+    public List<Path> regex() throws IOException {
+        return splitter.splitByRegex("name:\"name-(\\d)");
+    }
+}
@@ -12,11 +12,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
@@ -74,6 +78,33 @@ public class LocalStorage implements StorageInterface {
         return new BufferedInputStream(new FileInputStream(getLocalPath(tenantId, uri).toAbsolutePath().toString()));
     }
 
+    @Override
+    public boolean supportsRangedReads() {
+        return true;
+    }
+
+    @Override
+    public InputStream get(String tenantId, @Nullable String namespace, URI uri, long offset, long length) throws IOException {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("The offset and length of a range must be positive, got " + offset + " and " + length);
+        }
+
+        FileInputStream inputStream = new FileInputStream(getLocalPath(tenantId, uri).toAbsolutePath().toString());
+        try {
+            // the stream shares its position with its channel, so the first bytes are never read
+            inputStream.getChannel().position(offset);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+
+        return new BufferedInputStream(BoundedInputStream.builder()
+            .setInputStream(inputStream)
+            .setMaxCount(length)
+            .get()
+        );
+    }
+
     @Override
     public InputStream getInstanceResource(@Nullable String namespace, URI uri) throws IOException {
         return new BufferedInputStream(new FileInputStream(getInstancePath(uri).toAbsolutePath().toString()));
@@ -133,9 +164,15 @@ public class LocalStorage implements StorageInterface {
 
     @Override
     public List<FileAttributes> list(String tenantId, @Nullable String namespace, URI uri) throws IOException {
+        return list(tenantId, namespace, uri, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<FileAttributes> list(String tenantId, @Nullable String namespace, URI uri, int limit) throws IOException {
         try (Stream<Path> stream = Files.list(getLocalPath(tenantId, uri))) {
             return stream
                 .filter(path -> !path.getFileName().toString().endsWith(".metadata"))
+                .limit(limit)
                 .map(throwFunction(file -> {
                     URI relative = URI.create(
                         getLocalPath(tenantId, null).relativize(
@@ -189,11 +226,16 @@ public class LocalStorage implements StorageInterface {
             parent.mkdirs();
         }
 
-        try (InputStream data = storageObject.inputStream(); OutputStream outStream = new FileOutputStream(file)) {
-            byte[] buffer = new byte[8 * 1024];
-            int bytesRead;
-            while ((bytesRead = data.read(buffer)) != -1) {
-                outStream.write(buffer, 0, bytesRead);
+        try (
+            InputStream data = storageObject.inputStream();
+            FileChannel outChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+        ) {
+            // when the data comes from a file, this is its own channel and the bytes are copied by the kernel
+            ReadableByteChannel inChannel = Channels.newChannel(data);
+            long position = 0;
+            long transferred;
+            while ((transferred = outChannel.transferFrom(inChannel, position, Long.MAX_VALUE)) > 0) {
+                position += transferred;
             }
         }
 
@@ -252,10 +294,14 @@ public class LocalStorage implements StorageInterface {
     @Override
     public URI move(String tenantId, @Nullable String namespace, URI from, URI to) throws IOException {
         try {
-            Files.move(
-                getLocalPath(tenantId, from),
-                getLocalPath(tenantId, to),
-                StandardCopyOption.ATOMIC_MOVE);
+            Path source = getLocalPath(tenantId, from);
+            Path target = getLocalPath(tenantId, to);
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+
+            Path metadata = Path.of(source + ".metadata");
+            if (Files.exists(metadata)) {
+                Files.move(metadata, Path.of(target + ".metadata"), StandardCopyOption.ATOMIC_MOVE);
+            }
         } catch (NoSuchFileException e) {
             throw new FileNotFoundException(e.getMessage());
         }
@@ -280,6 +326,7 @@ public class LocalStorage implements StorageInterface {
             return true;
         }
 
+        Files.deleteIfExists(Path.of(path + ".metadata"));
         return Files.deleteIfExists(path);
     }
 
@@ -296,6 +343,7 @@ public class LocalStorage implements StorageInterface {
             return walk.sorted(Comparator.reverseOrder())
                 .map(Path::toFile)
                 .peek(File::delete)
+                .filter(file -> !file.getName().endsWith(".metadata"))
                 .map(r -> getKestraUri(tenantId, r.toPath()))
                 .toList();
         }
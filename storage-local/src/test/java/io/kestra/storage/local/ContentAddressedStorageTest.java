@@ -0,0 +1,228 @@
+package io.kestra.storage.local;
+
+import io.kestra.core.storage.StorageTestSuite;
+import io.kestra.core.storages.ContentAddressedStorage;
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.Rethrow;
+import io.micronaut.context.annotation.Property;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Property(name = "kestra.storage.deduplication.enabled", value = "true")
+class ContentAddressedStorageTest extends StorageTestSuite {
+    // Also launch all the tests from StorageTestSuite through the deduplication
+
+    @Test
+    void concurrentWritersOfIdenticalContent() throws Exception {
+        String tenantId = IdUtils.create();
+        String prefix = IdUtils.create();
+        String content = RandomStringUtils.insecure().nextAlphanumeric(100_000);
+
+        List<Callable<URI>> writers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            URI uri = URI.create("/" + prefix + "/" + i + ".txt");
+            writers.add(() -> storageInterface.put(tenantId, null, uri, new ByteArrayInputStream(content.getBytes())));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<URI> uris = new ArrayList<>();
+        try {
+            for (Future<URI> future : executorService.invokeAll(writers)) {
+                uris.add(future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        for (URI uri : uris) {
+            assertThat(read(tenantId, uri)).isEqualTo(content);
+            assertThat(storageInterface.getAttributes(tenantId, null, uri).getSize()).isEqualTo(content.length());
+        }
+        assertThat(blobs(tenantId)).hasSize(1);
+        assertThat(references(tenantId)).hasSize(16);
+    }
+
+    @Test
+    void deleteReleasesBlobWithLastReference() throws Exception {
+        String tenantId = IdUtils.create();
+        String prefix = IdUtils.create();
+        URI first = URI.create("/" + prefix + "/first/file.txt");
+        URI second = URI.create("/" + prefix + "/second/file.txt");
+
+        storageInterface.put(tenantId, null, first, new ByteArrayInputStream("Hello World".getBytes()));
+        storageInterface.put(tenantId, null, second, new ByteArrayInputStream("Hello World".getBytes()));
+        assertThat(blobs(tenantId)).hasSize(1);
+
+        storageInterface.delete(tenantId, null, first);
+        assertThat(blobs(tenantId)).hasSize(1);
+        assertThat(read(tenantId, second)).isEqualTo("Hello World");
+
+        URI moved = URI.create("/" + prefix + "/moved/file.txt");
+        storageInterface.move(tenantId, null, URI.create("/" + prefix + "/second"), URI.create("/" + prefix + "/moved"));
+        assertThat(read(tenantId, moved)).isEqualTo("Hello World");
+        assertThat(references(tenantId)).hasSize(1);
+
+        storageInterface.deleteByPrefix(tenantId, null, URI.create("/" + prefix + "/"));
+        assertThat(blobs(tenantId)).isEmpty();
+        assertThat(references(tenantId)).isEmpty();
+    }
+
+    @Test
+    void overwriteReleasesPreviousBlob() throws Exception {
+        String tenantId = IdUtils.create();
+        URI uri = URI.create("/" + IdUtils.create() + "/file.txt");
+
+        storageInterface.put(tenantId, null, uri, new ByteArrayInputStream("Hello".getBytes()));
+        storageInterface.put(tenantId, null, uri, new ByteArrayInputStream("World".getBytes()));
+
+        assertThat(read(tenantId, uri)).isEqualTo("World");
+        assertThat(blobs(tenantId)).hasSize(1);
+        assertThat(references(tenantId)).hasSize(1);
+    }
+
+    @Test
+    void blobsAreHidden() throws Exception {
+        String tenantId = IdUtils.create();
+        storageInterface.put(tenantId, null, URI.create("/root.txt"), new ByteArrayInputStream("Hello World".getBytes()));
+
+        assertThat(storageInterface.list(tenantId, null, URI.create("/")).stream().map(FileAttributes::getFileName).toList())
+            .containsExactly("root.txt");
+        assertThat(storageInterface.allByPrefix(tenantId, null, URI.create("/"), true).stream().map(URI::getPath).toList())
+            .containsExactly("/root.txt");
+        assertThrows(IllegalArgumentException.class, () -> storageInterface.put(
+            tenantId,
+            null,
+            URI.create("/" + ContentAddressedStorage.BLOBS_DIRECTORY + "/file.txt"),
+            new ByteArrayInputStream("Hello World".getBytes())
+        ));
+    }
+
+    @Test
+    void garbageCollectUnreferencedBlobs() throws Exception {
+        ContentAddressedStorage storage = (ContentAddressedStorage) storageInterface;
+        String tenantId = IdUtils.create();
+        String prefix = IdUtils.create();
+        URI kept = URI.create("/" + prefix + "/kept.txt");
+        URI lost = URI.create("/" + prefix + "/lost.txt");
+
+        storage.put(tenantId, null, kept, new ByteArrayInputStream("kept".getBytes()));
+        storage.put(tenantId, null, lost, new ByteArrayInputStream("lost".getBytes()));
+
+        // deleting the record without the decorator leaves its blob and its reference behind
+        storage.getDelegate().delete(tenantId, null, lost);
+        assertThat(blobs(tenantId)).hasSize(2);
+
+        // the reference is too recent, it may belong to a record being written
+        assertThat(storage.garbageCollect(tenantId)).isEmpty();
+
+        List<URI> deleted = storage.garbageCollect(tenantId, Duration.ZERO);
+
+        assertThat(deleted).hasSize(1);
+        assertThat(blobs(tenantId)).hasSize(1);
+        assertThat(references(tenantId)).hasSize(1);
+        assertThat(read(tenantId, kept)).isEqualTo("kept");
+        assertThat(storage.garbageCollect(tenantId, Duration.ZERO)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"beforeTombstone", "afterTombstone", "beforeTombstoneDeletion"})
+    void instancesSharingStorageNeverLoseReferencedBlob(String interleaving) throws Exception {
+        String tenantId = IdUtils.create();
+        String prefix = IdUtils.create();
+        URI deleted = URI.create("/" + prefix + "/deleted.txt");
+        URI written = URI.create("/" + prefix + "/written.txt");
+        StorageInterface shared = ((ContentAddressedStorage) storageInterface).getDelegate();
+
+        // another instance writes the same content while the first one deletes the last record of this content
+        ContentAddressedStorage writer = new ContentAddressedStorage(shared);
+        Rethrow.RunnableChecked<IOException> write = () -> writer.put(tenantId, null, written, new ByteArrayInputStream("Hello World".getBytes()));
+        ContentAddressedStorage deleter = new ContentAddressedStorage(interleaved(shared, interleaving, write));
+
+        deleter.put(tenantId, null, deleted, new ByteArrayInputStream("Hello World".getBytes()));
+        deleter.delete(tenantId, null, deleted);
+
+        assertThat(writer.exists(tenantId, null, written)).isTrue();
+        assertThat(read(tenantId, written)).isEqualTo("Hello World");
+        assertThat(blobs(tenantId)).hasSize(1);
+        assertThat(references(tenantId)).hasSize(1);
+
+        assertThat(deleter.garbageCollect(tenantId, Duration.ZERO)).isEmpty();
+        assertThat(read(tenantId, written)).isEqualTo("Hello World");
+    }
+
+    /**
+     * Runs the action once, at the given step of the deletion of a blob: before or after it is moved to a tombstone,
+     * or before the tombstone is deleted.
+     */
+    private static StorageInterface interleaved(StorageInterface storage, String interleaving, Rethrow.RunnableChecked<IOException> action) {
+        boolean[] done = {false};
+        return (StorageInterface) Proxy.newProxyInstance(
+            StorageInterface.class.getClassLoader(),
+            new Class<?>[]{StorageInterface.class},
+            (proxy, method, args) -> {
+                boolean tombstone = args != null && args.length == 4 && args[3] instanceof URI to && to.getPath().contains(".deleted-");
+                boolean tombstoneDeletion = method.getName().equals("delete") && args.length == 3 && ((URI) args[2]).getPath().contains(".deleted-");
+                boolean move = method.getName().equals("move") && tombstone;
+
+                if (!done[0] && ((move && interleaving.equals("beforeTombstone")) || (tombstoneDeletion && interleaving.equals("beforeTombstoneDeletion")))) {
+                    done[0] = true;
+                    action.run();
+                }
+
+                Object result;
+                try {
+                    result = method.invoke(storage, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+                if (!done[0] && move && interleaving.equals("afterTombstone")) {
+                    done[0] = true;
+                    action.run();
+                }
+
+                return result;
+            }
+        );
+    }
+
+    private String read(String tenantId, URI uri) throws IOException {
+        try (InputStream inputStream = storageInterface.get(tenantId, null, uri)) {
+            return new String(inputStream.readAllBytes());
+        }
+    }
+
+    private List<URI> blobs(String tenantId) throws IOException {
+        return blobEntries(tenantId).stream().filter(uri -> !uri.getPath().contains(".refs/")).toList();
+    }
+
+    private List<URI> references(String tenantId) throws IOException {
+        return blobEntries(tenantId).stream().filter(uri -> uri.getPath().contains(".refs/")).toList();
+    }
+
+    private List<URI> blobEntries(String tenantId) throws IOException {
+        return ((ContentAddressedStorage) storageInterface).getDelegate()
+            .allByPrefix(tenantId, null, URI.create("/" + ContentAddressedStorage.BLOBS_DIRECTORY + "/"), false);
+    }
+}
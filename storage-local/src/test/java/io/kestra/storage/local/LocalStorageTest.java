@@ -6,11 +6,16 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,4 +37,28 @@ class LocalStorageTest extends StorageTestSuite {
         String suffix = put.getPath().substring(7); // we remove the random 5 char + '-'
         assertTrue(longObjectName.endsWith(suffix));
     }
+
+    @Test
+    void putOverwriteFromFile() throws Exception {
+        String tenantId = IdUtils.create();
+        URI uri = new URI("/" + IdUtils.create() + "/overwrite.txt");
+        String content = RandomStringUtils.insecure().nextAlphanumeric(100_000);
+
+        Path source = Files.createTempFile("local-storage", ".txt");
+        Files.writeString(source, content);
+        try (InputStream data = new FileInputStream(source.toFile())) {
+            storageInterface.put(tenantId, null, uri, data);
+        }
+        try (InputStream get = storageInterface.get(tenantId, null, uri)) {
+            assertThat(new String(get.readAllBytes()), is(content));
+        }
+
+        // a shorter content must not leave the end of the previous one
+        storageInterface.put(tenantId, null, uri, new ByteArrayInputStream("Hello World".getBytes()));
+        try (InputStream get = storageInterface.get(tenantId, null, uri)) {
+            assertThat(new String(get.readAllBytes()), is("Hello World"));
+        }
+
+        Files.delete(source);
+    }
 }
@@ -125,6 +125,32 @@ public abstract class StorageTestSuite {
             storageInterface.get(tenantId, prefix, new URI("/" + prefix + "/storage/missing.yml"));
         });
     }
+
+    @Test
+    void getRange() throws Exception {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        URI item = new URI("/" + prefix + "/storage/get.yml");
+        putFile(tenantId, item.getPath());
+
+        try (InputStream get = storageInterface.get(tenantId, prefix, item, 1, 3)) {
+            assertThat(CharStreams.toString(new InputStreamReader(get))).isEqualTo("ont");
+        }
+        try (InputStream get = storageInterface.get(tenantId, prefix, item, 4, 100)) {
+            assertThat(CharStreams.toString(new InputStreamReader(get))).isEqualTo("ent");
+        }
+        try (InputStream get = storageInterface.get(tenantId, prefix, item, 100, 10)) {
+            assertThat(CharStreams.toString(new InputStreamReader(get))).isEmpty();
+        }
+
+        assertThrows(FileNotFoundException.class, () -> {
+            storageInterface.get(tenantId, prefix, new URI("/" + prefix + "/storage/missing.yml"), 0, 10);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            storageInterface.get(tenantId, prefix, item, -1, 10);
+        });
+    }
     //endregion
 
     @Test
@@ -193,6 +219,22 @@ public abstract class StorageTestSuite {
         list(prefix, tenantId);
     }
 
+    @Test
+    void listWithLimit() throws Exception {
+        String prefix = IdUtils.create();
+        String tenantId = IdUtils.create();
+
+        List<String> path = Arrays.asList(
+            "/" + prefix + "/storage/1.yml",
+            "/" + prefix + "/storage/2.yml",
+            "/" + prefix + "/storage/3.yml"
+        );
+        path.forEach(throwConsumer(s -> putFile(tenantId, s)));
+
+        assertThat(storageInterface.list(tenantId, prefix, new URI("/" + prefix + "/storage"), 1)).hasSize(1);
+        assertThat(storageInterface.list(tenantId, prefix, new URI("/" + prefix + "/storage"), 10)).hasSize(3);
+    }
+
     @Test
     void listNoTraversal() throws Exception {
         String prefix = IdUtils.create();
@@ -101,7 +101,7 @@ export function useValues(label: string | undefined, t?: ReturnType<typeof useI1
             LOGOUT: "LOGOUT",
         }),
         STATUSES: buildFromArray(["PENDING", "ACCEPTED", "EXPIRED"]),
-        AGGREGATIONS: buildFromArray(["SUM", "AVG", "MIN", "MAX"]),
+        AGGREGATIONS: buildFromArray(["SUM", "AVG", "MIN", "MAX", "P50", "P90", "P95", "P99"]),
         RELATIVE_DATE,
         TRIGGER_STATES:[
         {label: t("filter.triggerState.enabled"), value: "enabled"},
@@ -24,9 +24,11 @@ import io.kestra.webserver.responses.PagedResults;
 import io.kestra.webserver.utils.CSVUtils;
 import io.kestra.webserver.utils.PageableUtils;
 import io.kestra.webserver.utils.TimeLineSearch;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
@@ -43,10 +45,9 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -73,6 +74,9 @@ public class DashboardController {
     @Inject
     protected ModelValidator modelValidator;
 
+    @Value("${kestra.server.dashboards.export.max-rows:100000}")
+    protected int exportMaxRows;
+
     @ExecuteOn(TaskExecutors.IO)
     @Get
     @Operation(tags = {"Dashboards"}, summary = "Search for dashboards")
@@ -139,6 +143,7 @@ public class DashboardController {
             Dashboard parsed = YamlParser.parse(dashboard, Dashboard.class).toBuilder().deleted(false).build();
 
             modelValidator.validate(parsed);
+            dashboardRepository.validate(parsed);
         } catch (ConstraintViolationException e) {
             validateConstraintViolationBuilder.constraints(e.getMessage());
         } catch (RuntimeException re) {
@@ -369,7 +374,7 @@ public class DashboardController {
     @ExecuteOn(TaskExecutors.IO)
     @Post(uri = "{id}/charts/{chartId}/export/to-csv", produces = MediaType.APPLICATION_OCTET_STREAM)
     @Operation(tags = {"Dashboards"}, summary = "Export a dashboard chart data to CSV")
-    public HttpResponse<byte[]> exportDashboardChartDataToCSV(
+    public HttpResponse<Flux<String>> exportDashboardChartDataToCSV(
         @Parameter(description = "The dashboard id") @PathVariable String id,
         @Parameter(description = "The chart id") @PathVariable String chartId,
         @RequestBody(description = "The filters to apply, some can override chart definition like labels & namespace") @Body ChartFiltersOverrides globalFilter
@@ -378,37 +383,45 @@ public class DashboardController {
         if (fetchChartDataQuery == null) {
             return null;
         }
-        if (!(fetchChartDataQuery.chart instanceof Table)) {
-            throw new IllegalArgumentException("Only Table data charts can be exported.");
-        }
-        var fetchedData = fetchChartData(fetchChartDataQuery);
-
-        var byteArrayOutputStream = new ByteArrayOutputStream();
-        var outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream);
-        CSVUtils.toCSV(outputStreamWriter, fetchedData.getResults());
 
         var filename = "%s_%s_export.csv".formatted(id, chartId);
-        return HttpResponse.ok(byteArrayOutputStream.toByteArray()).header("Content-Disposition", "attachment; filename=\"%s\"".formatted(filename));
+        return HttpResponse.ok(streamChartDataToCSV(fetchChartDataQuery))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"%s\"".formatted(filename));
     }
 
     @ExecuteOn(TaskExecutors.IO)
     @Post(uri = "charts/export/to-csv", produces = MediaType.APPLICATION_OCTET_STREAM)
     @Operation(tags = {"Dashboards"}, summary = "Export a table chart data to CSV")
-    public HttpResponse<byte[]> exportChartToCsv(
+    public HttpResponse<Flux<String>> exportChartToCsv(
         @Parameter(description = "The chart") @Body @Valid PreviewRequest previewRequest
     ) throws IOException {
         var fetchChartDataQuery = buildChartPreviewDataQuery(previewRequest);
-        if (!(fetchChartDataQuery.chart instanceof Table)) {
+
+        var filename = "%s_%s_export.csv".formatted("default-dashboard", fetchChartDataQuery.chart().getId());
+        return HttpResponse.ok(streamChartDataToCSV(fetchChartDataQuery))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"%s\"".formatted(filename));
+    }
+
+    /**
+     * Stream the data of a table chart as CSV lines directly from the database, the pagination of the query is ignored,
+     * and the number of exported rows is capped by <code>kestra.server.dashboards.export.max-rows</code>.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Flux<String> streamChartDataToCSV(FetchChartDataQuery fetchChartDataQuery) throws IOException {
+        if (!(fetchChartDataQuery.chart() instanceof Table table)) {
             throw new IllegalArgumentException("Only Table data charts can be exported.");
         }
-        var fetchedData = fetchChartData(fetchChartDataQuery);
 
-        var byteArrayOutputStream = new ByteArrayOutputStream();
-        var outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream);
-        CSVUtils.toCSV(outputStreamWriter, fetchedData.getResults());
+        DataFilter<?, ?> dataChartDatas = table.getData();
+        dataChartDatas.updateWhereWithGlobalFilters(fetchChartDataQuery.filters(), fetchChartDataQuery.startDate(), fetchChartDataQuery.endDate());
 
-        var filename = "%s_%s_export.csv".formatted("default-dashboard", fetchChartDataQuery.chart().getId());
-        return HttpResponse.ok(byteArrayOutputStream.toByteArray()).header("Content-Disposition", "attachment; filename=\"%s\"".formatted(filename));
+        return CSVUtils.toCSVLines(this.dashboardRepository.generateAsync(
+            fetchChartDataQuery.tenantId(),
+            (DataChart) table,
+            fetchChartDataQuery.startDate(),
+            fetchChartDataQuery.endDate(),
+            exportMaxRows
+        ));
     }
 
     @Introspected
@@ -44,6 +44,7 @@ import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
 import io.kestra.webserver.services.ExecutionDependenciesStreamingService;
 import io.kestra.webserver.services.ExecutionStreamingService;
+import io.kestra.webserver.utils.ByteRange;
 import io.kestra.webserver.utils.CSVUtils;
 import io.kestra.webserver.utils.PageableUtils;
 import io.kestra.webserver.utils.QueryFilterUtils;
@@ -91,6 +92,7 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.reactivestreams.Publisher;
 import org.slf4j.event.Level;
@@ -219,6 +221,9 @@ public class ExecutionController {
         @Parameter(description = "The current page size") @QueryValue(defaultValue = "10") @Min(1) int size,
         @Parameter(description = "The sort of current page") @Nullable @QueryValue List<String> sort,
         @Parameter(description = "Filters", in = ParameterIn.QUERY) @QueryFilterFormat List<QueryFilter> filters,
+        @Parameter(description = "Use keyset pagination: the page is ignored, and the next page is fetched with the returned continuation token") @QueryValue(defaultValue = "false") boolean keyset,
+        @Parameter(description = "The continuation token of the previous page, implies keyset pagination") @Nullable @QueryValue String continuationToken,
+        @Parameter(description = "Whether to count the total with keyset pagination, otherwise the total is -1") @QueryValue(defaultValue = "true") boolean withTotal,
         //Deprecated params
         @Parameter(description = "A string filter", deprecated = true) @Nullable @QueryValue(value = "q") String query,
         @Parameter(description = "The scope of the executions to include", deprecated = true) @Nullable @QueryValue(value = "scope") List<FlowScope> scope,
@@ -253,6 +258,16 @@ public class ExecutionController {
             null,
             triggerExecutionId);
 
+        if (keyset || continuationToken != null) {
+            return PagedResults.of(executionRepository.find(
+                PageableUtils.from(1, size, sort, executionRepository.sortMapping()),
+                continuationToken,
+                withTotal,
+                tenantService.resolveTenant(),
+                filters
+            ));
+        }
+
         return PagedResults.of(executionRepository.find(
             PageableUtils.from(page, size, sort, executionRepository.sortMapping()),
             tenantService.resolveTenant(),
@@ -938,7 +953,8 @@ public class ExecutionController {
     @Operation(tags = {"Executions"}, summary = "Download file for an execution")
     public HttpResponse<StreamedFile> downloadFileFromExecution(
         @Parameter(description = "The execution id") @PathVariable String executionId,
-        @Parameter(description = "The internal storage uri") @QueryValue URI path
+        @Parameter(description = "The internal storage uri") @QueryValue URI path,
+        @Parameter(description = "A byte range to download, as `bytes=first-last`, `bytes=first-` or `bytes=-suffix`, the whole file when missing") @Nullable @Header(HttpHeaders.RANGE) String range
     ) throws IOException, URISyntaxException {
         Optional<Execution> execution = executionRepository.findById(tenantService.resolveTenant(), executionId);
         if (execution.isEmpty()) {
@@ -950,19 +966,65 @@ public class ExecutionController {
             return httpResponse;
         }
 
+        Optional<ByteRange> byteRange = ByteRange.parse(range);
+        if (byteRange.isEmpty()) {
+            InputStream fileHandler = switch (path.getScheme()) {
+                case StorageContext.KESTRA_SCHEME ->
+                    storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), path);
+                case LocalPath.FILE_SCHEME -> localPathFactory.createLocalPath().get(path);
+                case Namespace.NAMESPACE_FILE_SCHEME -> {
+                    URI uri = nsFileToInternalStorageURI(path, execution.get());
+                    yield storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), uri);
+                }
+                default -> throw new IllegalArgumentException("Scheme not supported: " + path.getScheme());
+            };
+            return HttpResponse.ok(new StreamedFile(fileHandler, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                    .attach(FilenameUtils.getName(path.toString()))
+                )
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+
+        long size = fileSize(execution.get(), path);
+        if (!byteRange.get().isSatisfiable(size)) {
+            return HttpResponse.<StreamedFile>status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        }
+
+        long offset = byteRange.get().start(size);
+        long length = byteRange.get().end(size) - offset + 1;
         InputStream fileHandler = switch (path.getScheme()) {
             case StorageContext.KESTRA_SCHEME ->
-                storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), path);
-            case LocalPath.FILE_SCHEME -> localPathFactory.createLocalPath().get(path);
+                storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), path, offset, length);
+            case LocalPath.FILE_SCHEME -> {
+                InputStream inputStream = localPathFactory.createLocalPath().get(path);
+                inputStream.skipNBytes(offset);
+                yield BoundedInputStream.builder().setInputStream(inputStream).setMaxCount(length).get();
+            }
             case Namespace.NAMESPACE_FILE_SCHEME -> {
                 URI uri = nsFileToInternalStorageURI(path, execution.get());
-                yield storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), uri);
+                yield storageInterface.get(execution.get().getTenantId(), execution.get().getNamespace(), uri, offset, length);
+            }
+            default -> throw new IllegalArgumentException("Scheme not supported: " + path.getScheme());
+        };
+        return HttpResponse.<StreamedFile>status(HttpStatus.PARTIAL_CONTENT)
+            .body(new StreamedFile(fileHandler, MediaType.APPLICATION_OCTET_STREAM_TYPE, Instant.now().toEpochMilli(), length)
+                .attach(FilenameUtils.getName(path.toString()))
+            )
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .header(HttpHeaders.CONTENT_RANGE, byteRange.get().contentRange(size));
+    }
+
+    private long fileSize(Execution execution, URI path) throws IOException {
+        return switch (path.getScheme()) {
+            case StorageContext.KESTRA_SCHEME ->
+                storageInterface.getAttributes(execution.getTenantId(), execution.getNamespace(), path).getSize();
+            case LocalPath.FILE_SCHEME -> localPathFactory.createLocalPath().getAttributes(path).size();
+            case Namespace.NAMESPACE_FILE_SCHEME -> {
+                URI uri = nsFileToInternalStorageURI(path, execution);
+                yield storageInterface.getAttributes(execution.getTenantId(), execution.getNamespace(), uri).getSize();
             }
             default -> throw new IllegalArgumentException("Scheme not supported: " + path.getScheme());
         };
-        return HttpResponse.ok(new StreamedFile(fileHandler, MediaType.APPLICATION_OCTET_STREAM_TYPE)
-            .attach(FilenameUtils.getName(path.toString()))
-        );
     }
 
     private URI nsFileToInternalStorageURI(URI path, Execution execution) throws IOException {
@@ -987,16 +1049,7 @@ public class ExecutionController {
             return httpResponse;
         }
 
-        long size = switch (path.getScheme()) {
-            case StorageContext.KESTRA_SCHEME ->
-                storageInterface.getAttributes(execution.get().getTenantId(), execution.get().getNamespace(), path).getSize();
-            case LocalPath.FILE_SCHEME -> localPathFactory.createLocalPath().getAttributes(path).size();
-            case Namespace.NAMESPACE_FILE_SCHEME -> {
-                URI uri = nsFileToInternalStorageURI(path, execution.get());
-                yield storageInterface.getAttributes(execution.get().getTenantId(), execution.get().getNamespace(), uri).getSize();
-            }
-            default -> throw new IllegalArgumentException("Scheme not supported: " + path.getScheme());
-        };
+        long size = fileSize(execution.get(), path);
 
         return HttpResponse.ok(FileMetas.builder()
             .size(size)
@@ -2004,6 +2057,55 @@ public class ExecutionController {
             .doFinally(ignored -> streamingService.unregisterSubscriber(executionId, subscriberId));
     }
 
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/{executionId}/follow-delta", produces = MediaType.TEXT_EVENT_STREAM)
+    @Operation(
+        tags = {"Executions"},
+        summary = "Follow an execution with deltas",
+        description = "Send a 'snapshot' event with the full execution, then 'delta' events with only the state, the changed task runs, " +
+            "and the outputs and labels if they changed. The last event is an 'end' delta.",
+        extensions = @Extension(
+            name = "x-sdk-customization",
+            properties = {
+                @ExtensionProperty(name = "x-skipped", value = "true")
+            }
+        )
+    )
+    public Flux<Event<String>> followExecutionDelta(
+        @Parameter(description = "The execution id") @PathVariable String executionId
+    ) {
+        String subscriberId = UUID.randomUUID().toString();
+        return Flux.<Event<String>>create(emitter -> {
+                try {
+                    Execution execution = Await.until(
+                        () -> executionRepository.findById(tenantService.resolveTenant(), executionId).orElse(null),
+                        Duration.ofMillis(500),
+                        Duration.ofSeconds(10)
+                    );
+
+                    Flow flow = flowRepository.findByExecutionWithoutAcl(execution);
+
+                    // Register for updates, the snapshot is sent on registration
+                    streamingService.registerDeltaSubscriber(execution, subscriberId, emitter, flow);
+
+                    // Fetch again the execution to avoid race when execution is ended before we are subscribed
+                    executionRepository.findById(tenantService.resolveTenant(), executionId)
+                        .filter(current -> streamingService.isStopFollow(flow, current))
+                        .ifPresent(streamingService::notifyDeltaSubscribers);
+                } catch (IllegalStateException e) {
+                    log.error(e.getMessage(), e);
+                    emitter.error(new HttpStatusException(HttpStatus.NOT_FOUND,
+                        "Unable to find flow for execution " + executionId));
+                } catch (Exception e) {
+                    log.error(e.getMessage(), e);
+                    emitter.error(new HttpStatusException(HttpStatus.NOT_FOUND,
+                        "Unable to find execution " + executionId));
+                }
+            }, FluxSink.OverflowStrategy.BUFFER)
+            .timeout(Duration.ofHours(1)) // avoid idle SSE sockets by setting a between-item timeout
+            .doFinally(ignored -> streamingService.unregisterDeltaSubscriber(executionId, subscriberId));
+    }
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "/{executionId}/file/preview")
     @Operation(tags = {"Executions"}, summary = "Get file preview for an execution")
@@ -30,6 +30,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import jakarta.inject.Inject;
 import jakarta.validation.constraints.Min;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
@@ -46,6 +47,8 @@ import java.util.UUID;
 @Controller("/api/v1/{tenant}/logs")
 @Requires(beans = LogRepositoryInterface.class)
 public class LogController {
+    private static final String APPLICATION_GZIP = "application/gzip";
+
     @Inject
     private LogRepositoryInterface logRepository;
 
@@ -68,6 +71,9 @@ public class LogController {
         @Parameter(description = "The current page size") @QueryValue(defaultValue = "10") @Min(1) int size,
         @Parameter(description = "The sort of current page") @Nullable @QueryValue List<String> sort,
         @Parameter(description = "Filters", in = ParameterIn.QUERY) @Nullable @QueryFilterFormat List<QueryFilter> filters,
+        @Parameter(description = "Use keyset pagination: the page is ignored, and the next page is fetched with the returned continuation token") @QueryValue(defaultValue = "false") boolean keyset,
+        @Parameter(description = "The continuation token of the previous page, implies keyset pagination") @Nullable @QueryValue String continuationToken,
+        @Parameter(description = "Whether to count the total with keyset pagination, otherwise the total is -1") @QueryValue(defaultValue = "true") boolean withTotal,
         // Deprecated params
         @Parameter(description = "A string filter", deprecated = true) @Nullable @QueryValue(value = "q") String query,
         @Parameter(description = "A namespace filter prefix",deprecated = true) @Nullable @QueryValue String namespace,
@@ -94,6 +100,16 @@ public class LogController {
             null,
             null);
 
+        if (keyset || continuationToken != null) {
+            return PagedResults.of(logRepository.find(
+                PageableUtils.from(1, size, sort),
+                continuationToken,
+                withTotal,
+                tenantService.resolveTenant(),
+                filters
+            ));
+        }
+
         return PagedResults.of(logRepository.find(
             PageableUtils.from(page, size, sort),
             tenantService.resolveTenant(),
@@ -104,14 +120,14 @@ public class LogController {
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "/{executionId}")
     @Operation(tags = {"Logs"}, summary = "Get logs for a specific execution, taskrun or task")
-    public List<LogEntry> listLogsFromExecution(
+    public Flux<LogEntry> listLogsFromExecution(
         @Parameter(description = "The execution id") @PathVariable String executionId,
         @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
         @Parameter(description = "The taskrun id") @Nullable @QueryValue String taskRunId,
         @Parameter(description = "The task id") @Nullable @QueryValue String taskId,
         @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt
     ) {
-        return logService.getExecutionLogs(
+        return logService.streamExecutionLogs(
             tenantService.resolveTenant(),
             executionId,
             minLevel,
@@ -123,14 +139,40 @@ public class LogController {
     }
 
     @ExecuteOn(TaskExecutors.IO)
-    @Get(uri = "/{executionId}/download", produces = MediaType.TEXT_PLAIN)
+    @Get(uri = "/{executionId}/pages")
+    @Operation(tags = {"Logs"}, summary = "Get a page of logs for a specific execution, taskrun or task, the next page is fetched with the returned continuation token")
+    public PagedResults<LogEntry> pageLogsFromExecution(
+        @Parameter(description = "The execution id") @PathVariable String executionId,
+        @Parameter(description = "The current page size") @QueryValue(defaultValue = "1000") @Min(1) int size,
+        @Parameter(description = "The continuation token of the previous page") @Nullable @QueryValue String continuationToken,
+        @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
+        @Parameter(description = "The taskrun id") @Nullable @QueryValue String taskRunId,
+        @Parameter(description = "The task id") @Nullable @QueryValue String taskId,
+        @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt
+    ) {
+        return PagedResults.of(logService.getExecutionLogsPage(
+            tenantService.resolveTenant(),
+            executionId,
+            minLevel,
+            taskRunId,
+            Optional.ofNullable(taskId).map(List::of).orElse(null),
+            attempt,
+            size,
+            continuationToken,
+            true
+        ));
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/{executionId}/download", produces = {MediaType.TEXT_PLAIN, APPLICATION_GZIP})
     @Operation(tags = {"Logs"}, summary = "Download logs for a specific execution, taskrun or task")
     public HttpResponse<StreamedFile> downloadLogsFromExecution(
         @Parameter(description = "The execution id") @PathVariable String executionId,
         @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
         @Parameter(description = "The taskrun id") @Nullable @QueryValue String taskRunId,
         @Parameter(description = "The task id") @Nullable @QueryValue String taskId,
-        @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt
+        @Parameter(description = "The attempt number") @Nullable @QueryValue Integer attempt,
+        @Parameter(description = "Whether to compress the logs with gzip") @QueryValue(defaultValue = "false") boolean gzip
     ) {
         InputStream inputStream = logService.getExecutionLogsAsStream(
             tenantService.resolveTenant(),
@@ -139,10 +181,14 @@ public class LogController {
             taskRunId,
             Optional.ofNullable(taskId).map(List::of).orElse(null),
             attempt,
-            true
+            true,
+            gzip
         );
 
-        MutableHttpResponse<StreamedFile> response = HttpResponse.ok(new StreamedFile(inputStream, MediaType.TEXT_PLAIN_TYPE).attach(executionId + ".log"));
+        StreamedFile file = gzip ?
+            new StreamedFile(inputStream, MediaType.of(APPLICATION_GZIP)).attach(executionId + ".log.gz") :
+            new StreamedFile(inputStream, MediaType.TEXT_PLAIN_TYPE).attach(executionId + ".log");
+        MutableHttpResponse<StreamedFile> response = HttpResponse.ok(file);
         if (!executionService.getExecution(tenantService.resolveTenant(), executionId, false).getState().getCurrent().isTerminated()) {
             return response.header(HttpHeaders.CACHE_CONTROL, "no-cache");
         }
@@ -155,26 +201,39 @@ public class LogController {
     @Operation(tags = {"Logs"}, summary = "Follow logs for a specific execution")
     public Flux<Event<LogEntry>> followLogsFromExecution(
         @Parameter(description = "The execution id") @PathVariable String executionId,
-        @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel
+        @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
+        @Parameter(description = "The id of the last event received, to resume following from it", in = ParameterIn.HEADER) @Nullable @Header("Last-Event-ID") String lastEventId
     ) {
         String subscriberId = UUID.randomUUID().toString();
         final List<String> levels = LogEntry.findLevelsByMin(minLevel).stream().map(Enum::name).toList();
+        final Long lastSequence = lastSequence(lastEventId);
 
         return Flux.<Event<LogEntry>>create(emitter -> {
                 // send a first "empty" event so the SSE is correctly initialized in the frontend in case there are no logs
                 emitter.next(Event.of(LogEntry.builder().build()).id("start"));
 
-                // fetch repository first
-                logService.getExecutionLogs(tenantService.resolveTenant(), executionId, minLevel, List.of(), true)
-                    .forEach(logEntry -> emitter.next(Event.of(logEntry).id("progress")));
+                // subscribe first so no log is lost between the end of the replay and the subscription,
+                // the logs received in the meantime are buffered and deduplicated by sequence
+                LogStreamingService.Replay replay = logStreamingService.registerReplayingSubscriber(executionId, subscriberId, emitter, levels, lastSequence);
 
-                // consume in realtime
-                logStreamingService.registerSubscriber(executionId, subscriberId, emitter, levels);
+                // then replay the stored logs, and read again the recent ones as they may have been indexed in the meantime
+                logService.replayExecutionLogs(tenantService.resolveTenant(), executionId, minLevel, replay.replayAfter(), replay::send);
+                logService.replayExecutionLogs(tenantService.resolveTenant(), executionId, minLevel, replay.recheckAfter(), replay::send);
+                replay.complete();
             }, FluxSink.OverflowStrategy.BUFFER)
             .timeout(Duration.ofHours(1)) // avoid idle SSE sockets by setting a between-item timeout
             .doFinally(ignored -> logStreamingService.unregisterSubscriber(executionId, subscriberId));
     }
 
+    private static Long lastSequence(@Nullable String lastEventId) {
+        // only the events of logs with a sequence have a numeric id
+        if (lastEventId == null || !StringUtils.isNumeric(lastEventId) || lastEventId.length() > 18) {
+            return null;
+        }
+
+        return Long.parseLong(lastEventId);
+    }
+
     @ExecuteOn(TaskExecutors.IO)
     @Delete(uri = "/{executionId}")
     @Operation(tags = {"Logs"}, summary = "Delete logs for a specific execution, taskrun or task")
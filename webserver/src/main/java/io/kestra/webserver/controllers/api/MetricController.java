@@ -104,7 +104,7 @@ public class MetricController {
         @Parameter(description = "The metric name") @PathVariable String metric,
         @Parameter(description = "The start datetime, default to now - 30 days") @Nullable @QueryValue @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") ZonedDateTime startDate,
         @Parameter(description = "The end datetime, default to now") @Nullable @QueryValue @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") ZonedDateTime endDate,
-        @Parameter(description = "The type of aggregation: avg, sum, min or max") @QueryValue(defaultValue = "sum") String aggregation
+        @Parameter(description = "The type of aggregation: avg, sum, min, max or a percentile: p50, p90, p95 or p99") @QueryValue(defaultValue = "sum") String aggregation
     ) {
         validateTimeline(startDate, endDate);
 
@@ -130,7 +130,7 @@ public class MetricController {
         @Parameter(description = "The metric name") @PathVariable String metric,
         @Parameter(description = "The start datetime, default to now - 30 days") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") ZonedDateTime startDate,
         @Parameter(description = "The end datetime, default to now") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") ZonedDateTime endDate,
-        @Parameter(description = "The type of aggregation: avg, sum, min or max") @QueryValue(defaultValue = "sum") String aggregation
+        @Parameter(description = "The type of aggregation: avg, sum, min, max or a percentile: p50, p90, p95 or p99") @QueryValue(defaultValue = "sum") String aggregation
     ) {
         validateTimeline(startDate, endDate);
 
@@ -0,0 +1,88 @@
+package io.kestra.webserver.models;
+
+import io.kestra.core.models.Label;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.ListUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The changes between two versions of an execution, sent by the delta 'follow' endpoint after an initial snapshot.
+ * <p>
+ * Only the task runs that were added or updated are sent, with the ids of the removed ones (restart, replay, ...).
+ * The state is always sent, outputs and labels only when they changed.
+ */
+@Value
+@Builder
+public class ExecutionDelta {
+    @NotNull
+    String id;
+
+    @NotNull
+    State state;
+
+    List<TaskRun> taskRuns;
+
+    List<String> removedTaskRunIds;
+
+    Map<String, Object> outputs;
+
+    List<Label> labels;
+
+    /**
+     * Computes the delta from a previous version of an execution, or a delta containing all task runs if there is none.
+     */
+    public static ExecutionDelta of(Execution previous, Execution current) {
+        List<TaskRun> previousTaskRuns = previous == null ? List.of() : ListUtils.emptyOnNull(previous.getTaskRunList());
+        List<TaskRun> currentTaskRuns = ListUtils.emptyOnNull(current.getTaskRunList());
+
+        Map<String, TaskRun> previousById = previousTaskRuns.stream()
+            .collect(Collectors.toMap(TaskRun::getId, Function.identity(), (a, b) -> b));
+        Set<String> currentIds = currentTaskRuns.stream().map(TaskRun::getId).collect(Collectors.toSet());
+
+        List<TaskRun> changed = currentTaskRuns.stream()
+            .filter(taskRun -> !taskRun.equals(previousById.get(taskRun.getId())))
+            .toList();
+        List<String> removed = previousById.keySet().stream()
+            .filter(id -> !currentIds.contains(id))
+            .toList();
+
+        return ExecutionDelta.builder()
+            .id(current.getId())
+            .state(current.getState())
+            .taskRuns(changed.isEmpty() ? null : changed)
+            .removedTaskRunIds(removed.isEmpty() ? null : removed)
+            .outputs(previous == null || !Objects.equals(previous.getOutputs(), current.getOutputs()) ? current.getOutputs() : null)
+            .labels(previous == null || !Objects.equals(previous.getLabels(), current.getLabels()) ? current.getLabels() : null)
+            .build();
+    }
+
+    /**
+     * Applies this delta on an execution, this is what a client must do for each delta received after the snapshot.
+     */
+    public Execution apply(Execution execution) {
+        LinkedHashMap<String, TaskRun> merged = new LinkedHashMap<>();
+        ListUtils.emptyOnNull(execution.getTaskRunList()).forEach(taskRun -> merged.put(taskRun.getId(), taskRun));
+        ListUtils.emptyOnNull(removedTaskRunIds).forEach(merged::remove);
+        ListUtils.emptyOnNull(taskRuns).forEach(taskRun -> merged.put(taskRun.getId(), taskRun));
+
+        return execution.toBuilder()
+            .state(state)
+            .taskRunList(new ArrayList<>(merged.values()))
+            .outputs(outputs != null ? outputs : execution.getOutputs())
+            .labels(labels != null ? labels : execution.getLabels())
+            .build();
+    }
+}
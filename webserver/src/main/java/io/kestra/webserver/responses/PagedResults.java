@@ -19,9 +19,15 @@ public class PagedResults<T> {
     @NotNull
     private long total;
 
+    /**
+     * The continuation token to fetch the next page when using keyset pagination.
+     */
+    private String continuationToken;
+
     private PagedResults(ArrayListTotal<T> results) {
         this.results = results;
         this.total = results.getTotal();
+        this.continuationToken = results.getContinuationToken();
     }
 
     public static <T> PagedResults<T> of(ArrayListTotal<T> results) {
@@ -1,12 +1,17 @@
 package io.kestra.webserver.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.services.ExecutionService;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.core.utils.MapUtils;
+import io.kestra.webserver.models.ExecutionDelta;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.http.sse.Event;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -16,9 +21,17 @@ import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This service offers a fanout mechanism so a single consumer of the execution queue can dispatch execution
@@ -27,25 +40,39 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>
  * Consumers need first to register themselves via {@link #registerSubscriber(String, String, FluxSink, Flow)},
  * then unregister (ideally in a finally block to avoid any memory leak) via {@link #unregisterSubscriber(String, String)}.
+ * <p>
+ * Delta consumers registered via {@link #registerDeltaSubscriber(Execution, String, FluxSink, Flow)} receive a snapshot
+ * of the execution then only {@link ExecutionDelta}.
+ * Each delta is computed and serialized once per execution update and shared by all the delta consumers of the execution,
+ * and updates are coalesced so that consumers receive at most one delta per <code>kestra.server.executions.follow.min-interval</code>.
  */
 @Slf4j
 @Singleton
 public class ExecutionStreamingService {
     private final Map<String, Map<String, Pair<FluxSink<Event<Execution>>, Flow>>> subscribers = new ConcurrentHashMap<>();
     private final Object subscriberLock = new Object();
+    private final Map<String, DeltaStream> deltaStreams = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
 
     private final QueueInterface<Execution> executionQueue;
     private final ExecutionService executionService;
 
+    private final Duration deltaMinInterval;
+    private final Scheduler deltaScheduler;
+
     private Runnable queueConsumer;
 
     @Inject
     public ExecutionStreamingService(
         @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
-        ExecutionService executionService
+        ExecutionService executionService,
+        @Value("${kestra.server.executions.follow.min-interval:250ms}") Duration deltaMinInterval
     ) {
         this.executionQueue = executionQueue;
         this.executionService = executionService;
+        this.deltaMinInterval = deltaMinInterval;
+        this.deltaScheduler = Schedulers.newSingle("execution-delta-streaming", true);
     }
 
     @PostConstruct
@@ -80,9 +107,22 @@ public class ExecutionStreamingService {
                     }
                 });
             }
+
+            notifyDeltaSubscribers(execution);
         });
     }
 
+    /**
+     * Send an execution to the delta subscribers of this execution, this is done for each execution message
+     * but can also be used when an execution is known to be more recent than the last one sent.
+     */
+    public void notifyDeltaSubscribers(Execution execution) {
+        DeltaStream deltaStream = deltaStreams.get(execution.getId());
+        if (deltaStream != null) {
+            deltaStream.offer(execution);
+        }
+    }
+
     /**
      * Register a subscriber to an execution.
      * All subscribers must ensure to call {@link #unregisterSubscriber(String, String)} to avoid any memory leak.
@@ -112,6 +152,47 @@ public class ExecutionStreamingService {
         }
     }
 
+    /**
+     * Register a delta subscriber to an execution, the snapshot event is sent to the sink before returning.
+     * All subscribers must ensure to call {@link #unregisterDeltaSubscriber(String, String)} to avoid any memory leak.
+     *
+     * @param execution the current execution, used as the snapshot if nobody else is following this execution
+     */
+    public void registerDeltaSubscriber(Execution execution, String subscriberId, FluxSink<Event<String>> sink, Flow flow) {
+        DeltaStream deltaStream;
+        synchronized (subscriberLock) {
+            deltaStream = deltaStreams.computeIfAbsent(execution.getId(), k -> new DeltaStream(flow));
+            deltaStream.register(execution, subscriberId, sink);
+        }
+
+        // outside the lock, completing the sink unregisters the subscriber
+        deltaStream.drain();
+    }
+
+    /**
+     * Unregister a delta subscriber.
+     * This is advised to do it in a finally block to be sure to free resources.
+     */
+    public void unregisterDeltaSubscriber(String executionId, String subscriberId) {
+        synchronized (subscriberLock) {
+            DeltaStream deltaStream = deltaStreams.get(executionId);
+            if (deltaStream != null && deltaStream.unregister(subscriberId)) {
+                deltaStreams.remove(executionId);
+            }
+        }
+    }
+
+    /**
+     * Serialize an event data once so the same event can be sent to multiple consumers.
+     */
+    public static Event<String> serializedEvent(Object data, String id) {
+        try {
+            return Event.of(MAPPER.writeValueAsString(data)).id(id);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize the execution event", e);
+        }
+    }
+
     /**
      * Utility method to know if following an execution can be stopped.
      */
@@ -125,5 +206,142 @@ public class ExecutionStreamingService {
         if (queueConsumer != null) {
             queueConsumer.run();
         }
+        deltaScheduler.dispose();
+    }
+
+    /**
+     * The shared state of all delta subscribers of an execution: the last execution sent to them
+     * and the pending one waiting for the minimal interval to be elapsed.
+     * <p>
+     * The state is guarded by the stream monitor, but the events are sent outside of it: completing a sink unregisters
+     * its subscriber, which takes the subscriber lock, while registering takes the subscriber lock then the monitor.
+     * The events are queued under the monitor and sent by a single thread at a time, so each sink receives them in order.
+     */
+    private class DeltaStream {
+        private final Flow flow;
+        private final Map<String, FluxSink<Event<String>>> sinks = new ConcurrentHashMap<>();
+        private final Queue<Runnable> emissions = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger emitting = new AtomicInteger();
+
+        private Execution last;
+        private Execution pending;
+        private long lastFlush;
+        private boolean flushScheduled;
+
+        private DeltaStream(Flow flow) {
+            this.flow = flow;
+        }
+
+        private synchronized void register(Execution execution, String subscriberId, FluxSink<Event<String>> sink) {
+            // flush first, so the snapshot is the base of all the next deltas
+            flush();
+            if (last == null) {
+                last = execution;
+            }
+
+            Event<String> snapshot = serializedEvent(last, "snapshot");
+            if (isStopFollow(flow, last)) {
+                Event<String> end = serializedEvent(ExecutionDelta.of(last, last), "end");
+                emissions.add(() -> {
+                    sink.next(snapshot);
+                    sink.next(end);
+                    sink.complete();
+                });
+                return;
+            }
+
+            emissions.add(() -> sink.next(snapshot));
+            sinks.put(subscriberId, sink);
+        }
+
+        /**
+         * @return <code>true</code> if there is no more subscriber.
+         */
+        private synchronized boolean unregister(String subscriberId) {
+            sinks.remove(subscriberId);
+            return sinks.isEmpty();
+        }
+
+        private void offer(Execution execution) {
+            synchronized (this) {
+                pending = execution;
+
+                long wait = lastFlush + deltaMinInterval.toMillis() - System.currentTimeMillis();
+                if (wait <= 0 || isStopFollow(flow, execution)) {
+                    flush();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    deltaScheduler.schedule(this::scheduledFlush, wait, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            drain();
+        }
+
+        private void scheduledFlush() {
+            synchronized (this) {
+                flushScheduled = false;
+                flush();
+            }
+
+            drain();
+        }
+
+        /**
+         * Sends the queued events, must be called without holding the monitor nor the subscriber lock.
+         * If another thread is already sending, it sends these events too.
+         */
+        private void drain() {
+            if (emitting.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                Runnable emission;
+                while ((emission = emissions.poll()) != null) {
+                    try {
+                        emission.run();
+                    } catch (Exception e) {
+                        log.error("Error sending execution delta", e);
+                    }
+                }
+                missed = emitting.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private synchronized void flush() {
+            if (pending == null) {
+                return;
+            }
+
+            Execution execution = pending;
+            ExecutionDelta delta = ExecutionDelta.of(last, execution);
+            boolean end = isStopFollow(flow, execution);
+            pending = null;
+            last = execution;
+            lastFlush = System.currentTimeMillis();
+
+            if (sinks.isEmpty()) {
+                return;
+            }
+
+            List<FluxSink<Event<String>>> targets = List.copyOf(sinks.values());
+            Event<String> event;
+            try {
+                event = serializedEvent(delta, end ? "end" : "delta");
+            } catch (Exception e) {
+                log.error("Error serializing execution delta", e);
+                emissions.add(() -> targets.forEach(sink -> sink.error(e)));
+                return;
+            }
+
+            emissions.add(() -> targets.forEach(sink -> {
+                sink.next(event);
+                if (end) {
+                    sink.complete();
+                }
+            }));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package io.kestra.webserver.utils;
+
+import jakarta.annotation.Nullable;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single byte range of an HTTP <code>Range</code> header, as <code>bytes=first-last</code>, <code>bytes=first-</code> or <code>bytes=-suffix</code>.
+ *
+ * @param first the position of the first byte, or <code>null</code> for a suffix range.
+ * @param last  the position of the last byte included, or the length of a suffix range, or <code>null</code> to read until the end.
+ */
+public record ByteRange(@Nullable Long first, @Nullable Long last) {
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^\\s*bytes\\s*=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Parses a <code>Range</code> header.
+     *
+     * @return the range, or empty when the header is missing, invalid or asks for several ranges, in which case it must be ignored.
+     */
+    public static Optional<ByteRange> parse(@Nullable String header) {
+        if (header == null) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = RANGE_PATTERN.matcher(header);
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return Optional.empty();
+        }
+
+        try {
+            Long first = matcher.group(1).isEmpty() ? null : Long.parseLong(matcher.group(1));
+            Long last = matcher.group(2).isEmpty() ? null : Long.parseLong(matcher.group(2));
+            if (first != null && last != null && first > last) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new ByteRange(first, last));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return whether at least one byte of the range is inside a file of the given size.
+     */
+    public boolean isSatisfiable(long size) {
+        if (first == null) {
+            return last > 0 && size > 0;
+        }
+
+        return first < size;
+    }
+
+    /**
+     * @return the position of the first byte of the range in a file of the given size.
+     */
+    public long start(long size) {
+        return first == null ? Math.max(0, size - last) : first;
+    }
+
+    /**
+     * @return the position of the last byte of the range in a file of the given size, included.
+     */
+    public long end(long size) {
+        return first == null || last == null ? size - 1 : Math.min(last, size - 1);
+    }
+
+    /**
+     * @return the value of the <code>Content-Range</code> header of the response for a file of the given size.
+     */
+    public String contentRange(long size) {
+        return "bytes " + start(size) + "-" + end(size) + "/" + size;
+    }
+}
@@ -4,7 +4,9 @@ import io.kestra.core.exceptions.KestraRuntimeException;
 import reactor.core.publisher.Flux;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -48,6 +50,36 @@ public class CSVUtils {
         });
     }
 
+    /**
+     * Converts records to CSV lines one by one, in the same format as {@link #toCSV(Writer, List)}.
+     * Records are only requested when lines are consumed, so it can be used to stream any number of records.
+     */
+    public static Flux<String> toCSVLines(Flux<Map<String, Object>> records) {
+        return records.switchOnFirst((signal, flux) -> {
+            if (!signal.hasValue()) {
+                return Flux.empty();
+            }
+
+            String header = csvLine(signal.get().keySet());
+            return Flux.just(header).concatWith(flux.map(record -> csvLine(
+                record.values().stream()
+                    .map(value -> value != null ? value.toString() : "")
+                    .toList()
+            )));
+        });
+    }
+
+    private static String csvLine(Collection<String> values) {
+        StringWriter writer = new StringWriter();
+        try (var csvWriter = de.siegmar.fastcsv.writer.CsvWriter.builder().build(writer)) {
+            csvWriter.writeRecord(values);
+        } catch (IOException e) {
+            throw new KestraRuntimeException("could not convert to CSV", e);
+        }
+
+        return writer.toString();
+    }
+
     private static String escapeCsv(String value) {
         if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
             value = value.replace("\"", "\"\"");
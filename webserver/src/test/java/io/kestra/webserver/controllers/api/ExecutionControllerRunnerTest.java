@@ -33,6 +33,7 @@ import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.jdbc.JdbcTestUtils;
 import io.kestra.plugin.core.trigger.Webhook;
+import io.kestra.webserver.models.ExecutionDelta;
 import io.kestra.webserver.responses.BulkErrorResponse;
 import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
@@ -325,6 +326,32 @@ class ExecutionControllerRunnerTest {
         assertThat(results.getLast().getId()).isEqualTo("end");
     }
 
+    @Test
+    @LoadFlows({"flows/valids/inputs.yaml"})
+    void triggerExecutionAndFollowExecutionDelta() throws JsonProcessingException {
+        Execution result = triggerExecutionInputsFlowExecution(false);
+
+        List<Event<String>> results = sseClient
+            .eventStream("/api/v1/main/executions/" + result.getId() + "/follow-delta", String.class)
+            .collectList()
+            .block();
+
+        assertThat(results).isNotNull();
+        assertThat(results.size()).isGreaterThan(1);
+        assertThat(results.getFirst().getId()).isEqualTo("snapshot");
+        assertThat(results.getLast().getId()).isEqualTo("end");
+
+        // applying all deltas on the snapshot must give the terminated execution
+        Execution followed = JacksonMapper.ofJson().readValue(results.getFirst().getData(), Execution.class);
+        for (Event<String> event : results.subList(1, results.size())) {
+            followed = JacksonMapper.ofJson().readValue(event.getData(), ExecutionDelta.class).apply(followed);
+        }
+
+        Execution terminated = executionRepositoryInterface.findById(TENANT_ID, result.getId()).orElseThrow();
+        assertThat(followed.getState().getCurrent()).isEqualTo(State.Type.SUCCESS);
+        assertThat(followed.getTaskRunList()).containsExactlyElementsOf(terminated.getTaskRunList());
+    }
+
     @Test
     @LoadFlows({"flows/valids/each-sequential-nested.yaml"})
     void evalTaskRunExpression() throws TimeoutException, QueueException {
@@ -736,6 +763,28 @@ class ExecutionControllerRunnerTest {
 
         assertThat(file).isEqualTo("hello");
 
+        HttpResponse<String> partial = client.toBlocking().exchange(
+            GET("/api/v1/main/executions/" + execution.getId() + "/file?path=" + path).header(HttpHeaders.RANGE, "bytes=1-3"),
+            String.class
+        );
+        assertThat(partial.getStatus().getCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT.getCode());
+        assertThat(partial.header(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 1-3/5");
+        assertThat(partial.body()).isEqualTo("ell");
+
+        partial = client.toBlocking().exchange(
+            GET("/api/v1/main/executions/" + execution.getId() + "/file?path=" + path).header(HttpHeaders.RANGE, "bytes=-2"),
+            String.class
+        );
+        assertThat(partial.header(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 3-4/5");
+        assertThat(partial.body()).isEqualTo("lo");
+
+        HttpClientResponseException unsatisfiable = assertThrows(HttpClientResponseException.class, () -> client.toBlocking().exchange(
+            GET("/api/v1/main/executions/" + execution.getId() + "/file?path=" + path).header(HttpHeaders.RANGE, "bytes=5-"),
+            String.class
+        ));
+        assertThat(unsatisfiable.getStatus().getCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.getCode());
+        assertThat(unsatisfiable.getResponse().header(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */5");
+
         FileMetas metas = client.retrieve(
             GET("/api/v1/main/executions/" + execution.getId() + "/file/metas?path=" + path),
             FileMetas.class
@@ -848,6 +897,13 @@ class ExecutionControllerRunnerTest {
             String.class
         );
         assertThat(content).isEqualTo("Hello World");
+
+        // download a range of the file
+        content = client.toBlocking().retrieve(
+            GET("/api/v1/main/executions/" + execution.getId() + "/file?path=" + file).header(HttpHeaders.RANGE, "bytes=6-"),
+            String.class
+        );
+        assertThat(content).isEqualTo("World");
     }
 
     @Test
@@ -14,16 +14,24 @@ import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.annotation.Client;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.sse.Event;
 import io.micronaut.reactor.http.client.ReactorHttpClient;
+import io.micronaut.reactor.http.client.ReactorSseClient;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.event.Level;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static io.kestra.core.tenant.TenantService.MAIN_TENANT;
 import static io.micronaut.http.HttpRequest.GET;
@@ -43,6 +51,10 @@ class LogControllerTest {
     @Client("/")
     ReactorHttpClient client;
 
+    @Inject
+    @Client("/")
+    ReactorSseClient sseClient;
+
     @Inject
     private JdbcTestUtils jdbcTestUtils;
 
@@ -153,6 +165,82 @@ class LogControllerTest {
         assertThat(logs).contains("another message");
     }
 
+    @Test
+    void downloadGzipLogsFromExecution() throws IOException {
+        LogEntry log1 = logEntry(Level.INFO);
+        executionRepository.save(Execution.builder()
+            .id(log1.getExecutionId())
+            .namespace("io.kestra.unittest")
+            .tenantId(MAIN_TENANT)
+            .flowId("full")
+            .flowRevision(1)
+            .state(new State().withState(State.Type.RUNNING).withState(State.Type.SUCCESS))
+            .build());
+        logRepository.save(log1);
+        logRepository.save(log1.toBuilder().message("another message").timestamp(log1.getTimestamp().plusMillis(1)).build());
+
+        byte[] gzip = client.toBlocking().retrieve(
+            GET("/api/v1/main/logs/" + log1.getExecutionId() + "/download?gzip=true"),
+            byte[].class
+        );
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            String logs = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(logs.lines().toList()).hasSize(2);
+            assertThat(logs).contains("john doe");
+            assertThat(logs).contains("another message");
+        }
+    }
+
+    @Test
+    void followLogsFromExecution() {
+        LogEntry log = logEntry(Level.INFO);
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            logRepository.save(log.toBuilder().message("message " + sequence).sequence(sequence).build());
+        }
+
+        List<Event<LogEntry>> events = sseClient
+            .eventStream(GET("/api/v1/main/logs/" + log.getExecutionId() + "/follow"), LogEntry.class)
+            .take(6)
+            .collectList()
+            .block(Duration.ofSeconds(10));
+        assertThat(events).extracting(Event::getId).containsExactly("start", "1", "2", "3", "4", "5");
+
+        // resume from the last event received
+        events = sseClient
+            .eventStream(GET("/api/v1/main/logs/" + log.getExecutionId() + "/follow").header("Last-Event-ID", "3"), LogEntry.class)
+            .take(3)
+            .collectList()
+            .block(Duration.ofSeconds(10));
+        assertThat(events).extracting(Event::getId).containsExactly("start", "4", "5");
+        assertThat(events.getLast().getData().getMessage()).isEqualTo("message 5");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void pageLogsFromExecution() {
+        LogEntry log1 = logEntry(Level.INFO);
+        for (int i = 0; i < 5; i++) {
+            logRepository.save(log1.toBuilder().message("message " + i).timestamp(log1.getTimestamp().plusMillis(i)).build());
+        }
+        logRepository.save(logEntry(Level.INFO));
+
+        PagedResults<LogEntry> page = client.toBlocking().retrieve(
+            GET("/api/v1/main/logs/" + log1.getExecutionId() + "/pages?size=3"),
+            Argument.of(PagedResults.class, LogEntry.class)
+        );
+        assertThat(page.getResults()).hasSize(3);
+        assertThat(page.getResults().getFirst().getMessage()).isEqualTo("message 0");
+        assertThat(page.getContinuationToken()).isNotNull();
+
+        page = client.toBlocking().retrieve(
+            GET("/api/v1/main/logs/" + log1.getExecutionId() + "/pages?size=3&continuationToken=" + page.getContinuationToken()),
+            Argument.of(PagedResults.class, LogEntry.class)
+        );
+        assertThat(page.getResults()).hasSize(2);
+        assertThat(page.getResults().getLast().getMessage()).isEqualTo("message 4");
+        assertThat(page.getContinuationToken()).isNull();
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void deleteLogsFromExecution() {
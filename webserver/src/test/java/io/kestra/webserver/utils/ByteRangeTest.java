@@ -0,0 +1,43 @@
+package io.kestra.webserver.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+    @ParameterizedTest
+    @CsvSource({
+        "bytes=0-99,0,99,bytes 0-99/1000",
+        "bytes=100-,100,999,bytes 100-999/1000",
+        "bytes=-100,900,999,bytes 900-999/1000",
+        "bytes=900-5000,900,999,bytes 900-999/1000",
+        "bytes=-5000,0,999,bytes 0-999/1000",
+        "BYTES = 10 - 20,10,20,bytes 10-20/1000",
+    })
+    void parse(String header, long start, long end, String contentRange) {
+        ByteRange range = ByteRange.parse(header).orElseThrow();
+
+        assertThat(range.isSatisfiable(1000)).isTrue();
+        assertThat(range.start(1000)).isEqualTo(start);
+        assertThat(range.end(1000)).isEqualTo(end);
+        assertThat(range.contentRange(1000)).isEqualTo(contentRange);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "bytes=", "bytes=-", "bytes=10-5", "bytes=0-10,20-30", "items=0-10", "bytes=a-b", "bytes=99999999999999999999-"})
+    void ignored(String header) {
+        assertThat(ByteRange.parse(header)).isEmpty();
+    }
+
+    @Test
+    void unsatisfiable() {
+        assertThat(ByteRange.parse("bytes=1000-").orElseThrow().isSatisfiable(1000)).isFalse();
+        assertThat(ByteRange.parse("bytes=-0").orElseThrow().isSatisfiable(1000)).isFalse();
+        assertThat(ByteRange.parse("bytes=-10").orElseThrow().isSatisfiable(0)).isFalse();
+        assertThat(ByteRange.parse("bytes=999-").orElseThrow().isSatisfiable(1000)).isTrue();
+        assertThat(ByteRange.parse((String) null)).isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package io.kestra.webserver.utils;
 
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStreamWriter;
@@ -8,8 +9,10 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.kestra.webserver.utils.CSVUtils.toCSV;
+import static io.kestra.webserver.utils.CSVUtils.toCSVLines;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CSVUtilsTest {
@@ -100,5 +103,58 @@ class CSVUtilsTest {
         assertThat(byteArrayOutputStream.toString()).isEqualTo("a-header,b-header\r\na-value-1,b-value-1\r\na-value-2,b-value-2\r\n");
     }
 
+    @Test
+    void toCSVLines_sameFormatAsToCSV() {
+        List<Map<String, Object>> input = List.of(
+            new LinkedHashMap<>() {{
+                put("a-header", "a,value");
+                put("b-header", null);
+            }},
+            new LinkedHashMap<>() {{
+                put("a-header", "a \"quoted\" value");
+                put("b-header", 42);
+            }}
+        );
+
+        var byteArrayOutputStream = new ByteArrayOutputStream();
+        var outputStreamWriter = new OutputStreamWriter(byteArrayOutputStream);
+        toCSV(outputStreamWriter, input);
+
+        String streamed = String.join("", toCSVLines(Flux.fromIterable(input)).collectList().block());
+
+        assertThat(streamed).isEqualTo(byteArrayOutputStream.toString());
+    }
+
+    @Test
+    void toCSVLines_boundedMemory() {
+        int rows = 1_000_000;
+        AtomicLong produced = new AtomicLong();
+        AtomicLong consumed = new AtomicLong();
+        AtomicLong maxInFlight = new AtomicLong();
+
+        // rows are generated lazily like a database cursor does
+        Flux<Map<String, Object>> records = Flux.<Map<String, Object>>generate(sink -> {
+                long index = produced.incrementAndGet();
+                Map<String, Object> record = new LinkedHashMap<>();
+                record.put("id", index);
+                record.put("value", "value-" + index);
+                sink.next(record);
+            })
+            .take(rows);
+
+        Long lines = toCSVLines(records)
+            .doOnNext(line -> {
+                long count = consumed.incrementAndGet();
+                maxInFlight.accumulateAndGet(produced.get() - count, Math::max);
+            })
+            .limitRate(16)
+            .count()
+            .block();
+
+        // the header plus all rows have been written, but only a few rows have been kept in memory at any time
+        assertThat(lines).isEqualTo(rows + 1L);
+        assertThat(maxInFlight.get()).isLessThan(256L);
+    }
+
     // TODO test in prod if missing data is actually a problem or not (next executions sometimes not having 'nextExec' field)
 }
\ No newline at end of file
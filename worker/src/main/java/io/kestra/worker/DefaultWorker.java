@@ -940,14 +940,21 @@ public class DefaultWorker implements Worker {
             .withState(state)
             .withLogFile(runContext.logFileURI());
 
-        // metrics
-        runContext.metrics().forEach(metric -> {
+        // metrics, emitted asynchronously as a single batch to not delay the worker task result
+        List<MetricEntry> metricEntries = runContext.metrics()
+            .stream()
+            .map(metric -> MetricEntry.of(workerTask.getTaskRun(), metric, workerTask.getExecutionKind()))
+            .toList();
+        if (!metricEntries.isEmpty()) {
             try {
-                this.metricEntryQueue.emit(MetricEntry.of(workerTask.getTaskRun(), metric, workerTask.getExecutionKind()));
-            } catch (QueueException e) {
-                // fail silently
+                this.metricEntryQueue.emitAsync(metricEntries);
+            } catch (QueueException | RuntimeException e) {
+                metricRegistry
+                    .counter(MetricRegistry.METRIC_WORKER_METRIC_DROPPED_COUNT, MetricRegistry.METRIC_WORKER_METRIC_DROPPED_COUNT_DESCRIPTION, metricRegistry.tags(workerTask, workerGroup))
+                    .increment(metricEntries.size());
+                log.debug("Unable to emit the metrics of task run {}", workerTask.getTaskRun().getId(), e);
             }
-        });
+        }
 
         // save outputs
         List<TaskRunAttempt> attempts = this.addAttempt(workerTask, taskRunAttempt);